@@ -0,0 +1,6 @@
+package androidx.annotation;
+
+public @interface CheckResult {
+
+    String suggest() default "";
+}
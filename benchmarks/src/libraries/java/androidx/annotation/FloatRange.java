@@ -0,0 +1,8 @@
+package androidx.annotation;
+
+public @interface FloatRange {
+
+    double from() default Double.NEGATIVE_INFINITY;
+
+    double to() default Double.POSITIVE_INFINITY;
+}
@@ -0,0 +1,8 @@
+package androidx.annotation;
+
+public @interface IntRange {
+
+    long from() default Long.MIN_VALUE;
+
+    long to() default Long.MAX_VALUE;
+}
@@ -0,0 +1,11 @@
+package androidx.annotation;
+
+public @interface VisibleForTesting {
+
+    int PRIVATE = 2;
+    int PACKAGE_PRIVATE = 3;
+    int PROTECTED = 4;
+    int NONE = 5;
+
+    int otherwise() default PRIVATE;
+}
@@ -0,0 +1,15 @@
+package androidx.core.content;
+
+import android.content.Context;
+import android.os.Process;
+
+public class ContextCompat {
+
+    public static int getColor(Context context, int id) {
+        return context.getResources().getColor(id, context.getTheme());
+    }
+
+    public static int checkSelfPermission(Context context, String permission) {
+        return context.checkPermission(permission, Process.myPid(), Process.myUid());
+    }
+}
@@ -0,0 +1,10 @@
+package androidx.core.view;
+
+import android.view.View;
+
+public class ViewCompat {
+
+    public static boolean isAttachedToWindow(View view) {
+        return view.isAttachedToWindow();
+    }
+}
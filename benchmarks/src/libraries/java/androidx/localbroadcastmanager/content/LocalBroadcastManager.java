@@ -0,0 +1,28 @@
+package androidx.localbroadcastmanager.content;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+
+/**
+ * Broadcasts are not delivered, nothing benchmarked listens to them.
+ */
+public class LocalBroadcastManager {
+
+    private static final LocalBroadcastManager INSTANCE = new LocalBroadcastManager();
+
+    public static LocalBroadcastManager getInstance(Context context) {
+        return INSTANCE;
+    }
+
+    public void registerReceiver(BroadcastReceiver receiver, IntentFilter filter) {
+    }
+
+    public void unregisterReceiver(BroadcastReceiver receiver) {
+    }
+
+    public boolean sendBroadcast(Intent intent) {
+        return false;
+    }
+}
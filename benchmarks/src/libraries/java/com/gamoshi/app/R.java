@@ -0,0 +1,71 @@
+package com.gamoshi.app;
+
+/**
+ * The resource ids aapt generates for the SDK resources in the app build.
+ */
+public final class R {
+
+    public static final class attr {
+
+        public static final int adHeight = 0x7f010001;
+        public static final int adWidth = 0x7f010002;
+        public static final int configId = 0x7f010003;
+        public static final int refreshIntervalSec = 0x7f010004;
+    }
+
+    public static final class bool {
+
+        public static final int prebid_is_tablet = 0x7f020001;
+    }
+
+    public static final class drawable {
+
+        public static final int ic_volume_off = 0x7f030001;
+        public static final int ic_volume_on = 0x7f030002;
+        public static final int prebid_ic_back_active = 0x7f030003;
+        public static final int prebid_ic_back_inactive = 0x7f030004;
+        public static final int prebid_ic_close_browser = 0x7f030005;
+        public static final int prebid_ic_close_interstitial = 0x7f030006;
+        public static final int prebid_ic_forth_active = 0x7f030007;
+        public static final int prebid_ic_forth_inactive = 0x7f030008;
+        public static final int prebid_ic_open_in_browser = 0x7f030009;
+        public static final int prebid_ic_refresh = 0x7f03000a;
+    }
+
+    public static final class id {
+
+        public static final int Progress = 0x7f040001;
+        public static final int iv_close_interstitial = 0x7f040002;
+        public static final int iv_skip = 0x7f040003;
+        public static final int lblCountdown = 0x7f040004;
+        public static final int rl_count_down = 0x7f040005;
+        public static final int tv_learn_more = 0x7f040006;
+        public static final int web_view_banner = 0x7f040007;
+    }
+
+    public static final class layout {
+
+        public static final int lyt_call_to_action = 0x7f050001;
+        public static final int lyt_close = 0x7f050002;
+        public static final int lyt_countdown_circle_overlay = 0x7f050003;
+        public static final int lyt_skip = 0x7f050004;
+        public static final int lyt_sound = 0x7f050005;
+        public static final int lyt_watch_again = 0x7f050006;
+    }
+
+    public static final class style {
+
+        public static final int FullScreenDialogTheme = 0x7f060001;
+    }
+
+    public static final class styleable {
+
+        public static final int[] BannerView = {
+                attr.adHeight, attr.adWidth, attr.configId, attr.refreshIntervalSec
+        };
+        public static final int BannerView_adHeight = 0;
+        public static final int BannerView_adWidth = 1;
+        public static final int BannerView_configId = 2;
+        public static final int BannerView_refreshIntervalSec = 3;
+    }
+}
@@ -0,0 +1,8 @@
+package com.google.android.exoplayer2;
+
+import com.google.android.exoplayer2.source.MediaSource;
+
+public interface ExoPlayer extends Player {
+
+    void setMediaSource(MediaSource mediaSource, boolean resetPosition);
+}
@@ -0,0 +1,26 @@
+package com.google.android.exoplayer2;
+
+import android.net.Uri;
+
+public final class MediaItem {
+
+    public final Uri uri;
+
+    private MediaItem(Uri uri) {
+        this.uri = uri;
+    }
+
+    public static final class Builder {
+
+        private Uri uri;
+
+        public Builder setUri(Uri uri) {
+            this.uri = uri;
+            return this;
+        }
+
+        public MediaItem build() {
+            return new MediaItem(uri);
+        }
+    }
+}
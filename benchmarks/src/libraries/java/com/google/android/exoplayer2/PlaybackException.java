@@ -0,0 +1,11 @@
+package com.google.android.exoplayer2;
+
+public class PlaybackException extends Exception {
+
+    public final int errorCode;
+
+    public PlaybackException(String message, Throwable cause, int errorCode) {
+        super(message, cause);
+        this.errorCode = errorCode;
+    }
+}
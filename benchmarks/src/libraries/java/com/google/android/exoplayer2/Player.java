@@ -0,0 +1,61 @@
+package com.google.android.exoplayer2;
+
+public interface Player {
+
+    int STATE_IDLE = 1;
+    int STATE_BUFFERING = 2;
+    int STATE_READY = 3;
+    int STATE_ENDED = 4;
+
+    void addListener(Listener listener);
+
+    void removeListener(Listener listener);
+
+    void prepare();
+
+    void setPlayWhenReady(boolean playWhenReady);
+
+    boolean getPlayWhenReady();
+
+    boolean isPlaying();
+
+    void stop();
+
+    void release();
+
+    void clearMediaItems();
+
+    long getDuration();
+
+    long getCurrentPosition();
+
+    long getContentPosition();
+
+    void setVolume(float volume);
+
+    float getVolume();
+
+    interface Listener {
+
+        default void onPlaybackStateChanged(int playbackState) {
+        }
+
+        default void onIsPlayingChanged(boolean isPlaying) {
+        }
+
+        default void onPositionDiscontinuity(PositionInfo oldPosition, PositionInfo newPosition, int reason) {
+        }
+
+        default void onPlayerError(PlaybackException error) {
+        }
+    }
+
+    final class PositionInfo {
+
+        public final long positionMs;
+
+        public PositionInfo(long positionMs) {
+            this.positionMs = positionMs;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.google.android.exoplayer2.source;
+
+import com.google.android.exoplayer2.MediaItem;
+
+public interface MediaSource {
+
+    MediaItem getMediaItem();
+}
@@ -0,0 +1,31 @@
+package com.google.android.exoplayer2.ui;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+import com.google.android.exoplayer2.Player;
+
+public class PlayerView extends FrameLayout {
+
+    private Player player;
+    private boolean useController = true;
+
+    public PlayerView(Context context) {
+        super(context);
+    }
+
+    public void setPlayer(Player player) {
+        this.player = player;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public void setUseController(boolean useController) {
+        this.useController = useController;
+    }
+
+    public boolean getUseController() {
+        return useController;
+    }
+}
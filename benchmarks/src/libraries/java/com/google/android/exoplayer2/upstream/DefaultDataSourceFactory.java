@@ -0,0 +1,14 @@
+package com.google.android.exoplayer2.upstream;
+
+import android.content.Context;
+
+public final class DefaultDataSourceFactory implements DataSource.Factory {
+
+    public DefaultDataSourceFactory(Context context, String userAgent) {
+    }
+
+    @Override
+    public DataSource createDataSource() {
+        throw new IllegalStateException("ExoPlayer is not available");
+    }
+}
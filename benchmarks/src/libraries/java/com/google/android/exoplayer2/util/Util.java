@@ -0,0 +1,13 @@
+package com.google.android.exoplayer2.util;
+
+import android.content.Context;
+
+public final class Util {
+
+    private Util() {
+    }
+
+    public static String getUserAgent(Context context, String applicationName) {
+        return applicationName + " (Linux;Android 13) ExoPlayerLib/2.18.1";
+    }
+}
@@ -0,0 +1,31 @@
+package com.google.android.gms.ads.identifier;
+
+import android.content.Context;
+
+import java.io.IOException;
+
+public class AdvertisingIdClient {
+
+    public static Info getAdvertisingIdInfo(Context context) throws IOException {
+        throw new IOException("Play Services are not available");
+    }
+
+    public static final class Info {
+
+        private final String id;
+        private final boolean limitAdTrackingEnabled;
+
+        public Info(String id, boolean limitAdTrackingEnabled) {
+            this.id = id;
+            this.limitAdTrackingEnabled = limitAdTrackingEnabled;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public boolean isLimitAdTrackingEnabled() {
+            return limitAdTrackingEnabled;
+        }
+    }
+}
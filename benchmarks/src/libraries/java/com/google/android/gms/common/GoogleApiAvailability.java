@@ -0,0 +1,19 @@
+package com.google.android.gms.common;
+
+import android.content.Context;
+
+/**
+ * A JVM has no Play Services.
+ */
+public class GoogleApiAvailability {
+
+    private static final GoogleApiAvailability INSTANCE = new GoogleApiAvailability();
+
+    public static GoogleApiAvailability getInstance() {
+        return INSTANCE;
+    }
+
+    public int isGooglePlayServicesAvailable(Context context) {
+        return ConnectionResult.SERVICE_MISSING;
+    }
+}
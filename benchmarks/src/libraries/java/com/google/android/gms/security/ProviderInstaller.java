@@ -0,0 +1,18 @@
+package com.google.android.gms.security;
+
+import android.content.Context;
+import android.content.Intent;
+
+public class ProviderInstaller {
+
+    public static void installIfNeededAsync(Context context, ProviderInstallListener listener) {
+        listener.onProviderInstallFailed(1, null);
+    }
+
+    public interface ProviderInstallListener {
+
+        void onProviderInstalled();
+
+        void onProviderInstallFailed(int errorCode, Intent recoveryIntent);
+    }
+}
@@ -0,0 +1,16 @@
+package com.iab.omid.library.prebidorg;
+
+import android.content.Context;
+
+/**
+ * The OM SDK is never activated, so the SDK creates no ad sessions.
+ */
+public final class Omid {
+
+    public static void activate(Context context) {
+    }
+
+    public static boolean isActive() {
+        return false;
+    }
+}
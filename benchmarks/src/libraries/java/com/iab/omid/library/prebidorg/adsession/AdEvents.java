@@ -0,0 +1,22 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+import com.iab.omid.library.prebidorg.adsession.media.VastProperties;
+
+public final class AdEvents {
+
+    private AdEvents() {
+    }
+
+    public static AdEvents createAdEvents(AdSession adSession) {
+        throw Unavailable.omSdk();
+    }
+
+    public void impressionOccurred() {
+    }
+
+    public void loaded() {
+    }
+
+    public void loaded(VastProperties vastProperties) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+import android.view.View;
+
+public abstract class AdSession {
+
+    public static AdSession createAdSession(
+            AdSessionConfiguration adSessionConfiguration,
+            AdSessionContext adSessionContext
+    ) {
+        throw Unavailable.omSdk();
+    }
+
+    public abstract void start();
+
+    public abstract void finish();
+
+    public abstract void registerAdView(View adView);
+
+    public abstract void addFriendlyObstruction(
+            View friendlyObstruction,
+            FriendlyObstructionPurpose purpose,
+            String detailedReason
+    );
+}
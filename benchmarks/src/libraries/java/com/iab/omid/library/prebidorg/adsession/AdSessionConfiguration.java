@@ -0,0 +1,17 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+public final class AdSessionConfiguration {
+
+    private AdSessionConfiguration() {
+    }
+
+    public static AdSessionConfiguration createAdSessionConfiguration(
+            CreativeType creativeType,
+            ImpressionType impressionType,
+            Owner impressionOwner,
+            Owner mediaEventsOwner,
+            boolean isolateVerificationScripts
+    ) {
+        throw Unavailable.omSdk();
+    }
+}
@@ -0,0 +1,30 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+import android.webkit.WebView;
+
+import java.util.List;
+
+public final class AdSessionContext {
+
+    private AdSessionContext() {
+    }
+
+    public static AdSessionContext createHtmlAdSessionContext(
+            Partner partner,
+            WebView webView,
+            String contentUrl,
+            String customReferenceData
+    ) {
+        throw Unavailable.omSdk();
+    }
+
+    public static AdSessionContext createNativeAdSessionContext(
+            Partner partner,
+            String omidJsScriptContent,
+            List<VerificationScriptResource> verificationScriptResources,
+            String contentUrl,
+            String customReferenceData
+    ) {
+        throw Unavailable.omSdk();
+    }
+}
@@ -0,0 +1,5 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+public enum CreativeType {
+    HTML_DISPLAY, NATIVE_DISPLAY, VIDEO, AUDIO
+}
@@ -0,0 +1,5 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+public enum FriendlyObstructionPurpose {
+    VIDEO_CONTROLS, CLOSE_AD, NOT_VISIBLE, OTHER
+}
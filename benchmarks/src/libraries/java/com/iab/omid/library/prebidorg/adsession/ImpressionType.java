@@ -0,0 +1,5 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+public enum ImpressionType {
+    DEFINED_BY_JAVASCRIPT, UNSPECIFIED, LOADED, BEGIN_TO_RENDER, ONE_PIXEL, VIEWABLE, AUDIBLE, OTHER
+}
@@ -0,0 +1,5 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+public enum Owner {
+    NATIVE, JAVASCRIPT, NONE
+}
@@ -0,0 +1,24 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+public final class Partner {
+
+    private final String name;
+    private final String version;
+
+    private Partner(String name, String version) {
+        this.name = name;
+        this.version = version;
+    }
+
+    public static Partner createPartner(String name, String version) {
+        return new Partner(name, version);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,8 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+final class Unavailable {
+
+    static IllegalStateException omSdk() {
+        return new IllegalStateException("OM SDK is not active");
+    }
+}
@@ -0,0 +1,36 @@
+package com.iab.omid.library.prebidorg.adsession;
+
+import java.net.URL;
+
+public final class VerificationScriptResource {
+
+    private final String vendorKey;
+    private final URL resourceUrl;
+    private final String verificationParameters;
+
+    private VerificationScriptResource(String vendorKey, URL resourceUrl, String verificationParameters) {
+        this.vendorKey = vendorKey;
+        this.resourceUrl = resourceUrl;
+        this.verificationParameters = verificationParameters;
+    }
+
+    public static VerificationScriptResource createVerificationScriptResourceWithParameters(
+            String vendorKey,
+            URL resourceUrl,
+            String verificationParameters
+    ) {
+        return new VerificationScriptResource(vendorKey, resourceUrl, verificationParameters);
+    }
+
+    public String getVendorKey() {
+        return vendorKey;
+    }
+
+    public URL getResourceUrl() {
+        return resourceUrl;
+    }
+
+    public String getVerificationParameters() {
+        return verificationParameters;
+    }
+}
@@ -0,0 +1,5 @@
+package com.iab.omid.library.prebidorg.adsession.media;
+
+public enum InteractionType {
+    CLICK, INVITATION_ACCEPTED
+}
@@ -0,0 +1,46 @@
+package com.iab.omid.library.prebidorg.adsession.media;
+
+import com.iab.omid.library.prebidorg.adsession.AdSession;
+
+public final class MediaEvents {
+
+    private MediaEvents() {
+    }
+
+    public static MediaEvents createMediaEvents(AdSession adSession) {
+        throw new IllegalStateException("OM SDK is not active");
+    }
+
+    public void start(float duration, float mediaPlayerVolume) {
+    }
+
+    public void firstQuartile() {
+    }
+
+    public void midpoint() {
+    }
+
+    public void thirdQuartile() {
+    }
+
+    public void complete() {
+    }
+
+    public void pause() {
+    }
+
+    public void resume() {
+    }
+
+    public void skipped() {
+    }
+
+    public void volumeChange(float mediaPlayerVolume) {
+    }
+
+    public void playerStateChange(PlayerState playerState) {
+    }
+
+    public void adUserInteraction(InteractionType interactionType) {
+    }
+}
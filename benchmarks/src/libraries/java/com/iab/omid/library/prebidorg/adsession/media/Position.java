@@ -0,0 +1,5 @@
+package com.iab.omid.library.prebidorg.adsession.media;
+
+public enum Position {
+    PREROLL, MIDROLL, POSTROLL, STANDALONE
+}
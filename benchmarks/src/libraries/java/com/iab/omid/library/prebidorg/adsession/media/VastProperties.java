@@ -0,0 +1,24 @@
+package com.iab.omid.library.prebidorg.adsession.media;
+
+public final class VastProperties {
+
+    private final boolean autoPlay;
+    private final Position position;
+
+    private VastProperties(boolean autoPlay, Position position) {
+        this.autoPlay = autoPlay;
+        this.position = position;
+    }
+
+    public static VastProperties createVastPropertiesForNonSkippableMedia(boolean autoPlay, Position position) {
+        return new VastProperties(autoPlay, position);
+    }
+
+    public boolean isAutoPlay() {
+        return autoPlay;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+}
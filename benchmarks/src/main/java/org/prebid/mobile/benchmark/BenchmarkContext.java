@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.SharedPreferences;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.util.DisplayMetrics;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Application context of a portrait Android 13 phone. The framework implementation needs the
+ * system services of a device, so the parts the SDK reads are answered here.
+ */
+class BenchmarkContext extends ContextWrapper {
+
+    static final String PACKAGE_NAME = "org.prebid.mobile.demo";
+
+    private final Resources resources;
+    private final Map<String, SharedPreferences> preferences = new HashMap<>();
+
+    BenchmarkContext() {
+        super(null);
+
+        Configuration configuration = new Configuration();
+        configuration.setLocale(Locale.US);
+        configuration.orientation = Configuration.ORIENTATION_PORTRAIT;
+        configuration.screenWidthDp = 411;
+        configuration.screenHeightDp = 914;
+        configuration.densityDpi = 420;
+
+        DisplayMetrics displayMetrics = new DisplayMetrics();
+        displayMetrics.widthPixels = 1080;
+        displayMetrics.heightPixels = 2400;
+        displayMetrics.densityDpi = 420;
+        displayMetrics.density = 2.625f;
+        displayMetrics.scaledDensity = 2.625f;
+        displayMetrics.xdpi = 416.0f;
+        displayMetrics.ydpi = 416.0f;
+
+        resources = new Resources((ClassLoader) null) {
+            @Override
+            public Configuration getConfiguration() {
+                return configuration;
+            }
+
+            @Override
+            public DisplayMetrics getDisplayMetrics() {
+                return displayMetrics;
+            }
+        };
+    }
+
+    @Override
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    @Override
+    public String getPackageName() {
+        return PACKAGE_NAME;
+    }
+
+    @Override
+    public Resources getResources() {
+        return resources;
+    }
+
+    @Override
+    public synchronized SharedPreferences getSharedPreferences(String name, int mode) {
+        return preferences.computeIfAbsent(name, key -> new InMemorySharedPreferences());
+    }
+
+    @Override
+    public Object getSystemService(String name) {
+        return null;
+    }
+
+    @Override
+    public int checkPermission(String permission, int pid, int uid) {
+        return PackageManager.PERMISSION_GRANTED;
+    }
+
+    @Override
+    public int checkCallingOrSelfPermission(String permission) {
+        return PackageManager.PERMISSION_GRANTED;
+    }
+
+    @Override
+    public void registerComponentCallbacks(ComponentCallbacks callback) {
+    }
+
+    @Override
+    public void unregisterComponentCallbacks(ComponentCallbacks callback) {
+    }
+}
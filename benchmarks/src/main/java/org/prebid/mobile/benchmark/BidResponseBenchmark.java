@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.mobile.AdSize;
+import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a Prebid Server response with several seats, as done for every fetched demand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidResponseBenchmark {
+
+    private String json;
+    private AdUnitConfiguration configuration;
+
+    @Setup
+    public void setUp() {
+        json = Fixtures.read(Fixtures.BID_RESPONSE_MULTI_SEAT);
+
+        configuration = new AdUnitConfiguration();
+        configuration.setConfigId("prebid-banner-320x50");
+        configuration.setAdFormat(AdFormat.BANNER);
+        configuration.addSize(new AdSize(320, 50));
+    }
+
+    @Benchmark
+    public BidResponse parse() {
+        return new BidResponse(json, configuration);
+    }
+
+    /**
+     * Parsing followed by what the bid loader reads from the response.
+     */
+    @Benchmark
+    public void parseAndResolveWinner(Blackhole blackhole) {
+        BidResponse response = new BidResponse(json, configuration);
+        blackhole.consume(response.getWinningBid());
+        blackhole.consume(response.getTargeting());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Server responses the benchmarks parse, stored in the fixtures resource directory.
+ */
+final class Fixtures {
+
+    static final String BID_RESPONSE_MULTI_SEAT = "bid_response_multi_seat.json";
+    static final String VAST_INLINE = "vast_inline.xml";
+    static final String VAST_WRAPPER = "vast_wrapper.xml";
+    static final String CREATIVE_TARGETING_MACROS = "creative_targeting_macros.html";
+
+    private Fixtures() {
+    }
+
+    static String read(String name) {
+        try (InputStream stream = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.models.internal.MacrosModel;
+import org.prebid.mobile.rendering.utils.helpers.MacrosResolutionHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Macro expansion of the bid markup, the tracking URLs and the native creative template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MacrosResolutionBenchmark {
+
+    private String adm;
+    private String burl;
+    private String price;
+    private String creative;
+    private Map<String, String> targeting;
+    private Map<String, MacrosModel> auctionMacros;
+
+    @Setup
+    public void setUp() throws JSONException {
+        String json = Fixtures.read(Fixtures.BID_RESPONSE_MULTI_SEAT);
+        JSONObject bid = new JSONObject(json)
+                .getJSONArray("seatbid")
+                .getJSONObject(0)
+                .getJSONArray("bid")
+                .getJSONObject(0);
+        adm = bid.getString("adm");
+        burl = bid.getString("burl");
+        price = String.valueOf(bid.getDouble("price"));
+
+        AdUnitConfiguration configuration = new AdUnitConfiguration();
+        configuration.setAdFormat(AdFormat.BANNER);
+        targeting = new BidResponse(json, configuration).getTargeting();
+        creative = Fixtures.read(Fixtures.CREATIVE_TARGETING_MACROS);
+
+        auctionMacros = new HashMap<>();
+        auctionMacros.put(MacrosModel.MACROS_AUCTION_PRICE, new MacrosModel(price));
+        auctionMacros.put(MacrosModel.MACROS_AUCTION_PRICE_BASE_64, new MacrosModel(null));
+    }
+
+    @Benchmark
+    public String resolveAuctionPriceInMarkup() {
+        return MacrosResolutionHelper.resolveAuctionPrice(adm, price);
+    }
+
+    @Benchmark
+    public String resolveAuctionMacrosInUrl() {
+        return MacrosResolutionHelper.resolveAuctionMacros(burl, auctionMacros);
+    }
+
+    @Benchmark
+    public String resolveTargetingMacrosInCreative() {
+        return MacrosResolutionHelper.resolveTargetingMarcos(creative, targeting);
+    }
+}
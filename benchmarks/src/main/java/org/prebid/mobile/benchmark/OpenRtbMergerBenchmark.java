@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.mobile.OpenRtbMerger;
+import org.prebid.mobile.rendering.models.openrtb.BidRequest;
+import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLBuilder;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLPathBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merge of the global OpenRTB config into the serialized request. The merge modifies the request,
+ * so every invocation serializes a new one; {@link #serialize()} is the cost of that part alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenRtbMergerBenchmark {
+
+    private static final String GLOBAL_ORTB_CONFIG = "{"
+            + "\"app\":{\"content\":{\"id\":\"article-1842\",\"title\":\"Match report\",\"series\":\"Premier League\","
+            + "\"genre\":\"sports\",\"language\":\"en\",\"keywords\":\"football,league,report\",\"livestream\":0}},"
+            + "\"device\":{\"lmt\":0,\"ext\":{\"atts\":3}},"
+            + "\"regs\":{\"gdpr\":0,\"ext\":{\"dsa\":{\"dsarequired\":1,\"pubrender\":0}}},"
+            + "\"user\":{\"data\":[{\"id\":\"segments\",\"name\":\"publisher.example\","
+            + "\"segment\":[{\"id\":\"1001\"},{\"id\":\"1002\"},{\"id\":\"1017\"}]}],"
+            + "\"ext\":{\"consent\":\"override\",\"data\":{\"registered\":true}}},"
+            + "\"ext\":{\"prebid\":{\"cache\":{\"bids\":{},\"vastxml\":{}},\"targeting\":{\"includewinners\":true,"
+            + "\"includebidderkeys\":true,\"pricegranularity\":{\"precision\":2,\"ranges\":"
+            + "[{\"max\":5,\"increment\":0.05},{\"max\":20,\"increment\":0.1}]}}}}"
+            + "}";
+
+    private BidRequest bidRequest;
+
+    @Setup
+    public void setUp() {
+        SdkEnvironment.install();
+        URLPathBuilder pathBuilder = new URLPathBuilder() {
+            @Override
+            public String buildURLPath(String domain) {
+                return "";
+            }
+        };
+        AdRequestInput input = new URLBuilder(
+                pathBuilder,
+                SdkEnvironment.parameterBuilders(SdkEnvironment.newBannerConfiguration()),
+                new AdRequestInput()
+        ).buildUrl().getAdRequestInput();
+        bidRequest = input.getBidRequest();
+    }
+
+    @Benchmark
+    public JSONObject serialize() throws JSONException {
+        return bidRequest.getJsonObject();
+    }
+
+    @Benchmark
+    public JSONObject serializeAndMerge() throws JSONException {
+        return OpenRtbMerger.globalMerge(bidRequest.getJsonObject(), GLOBAL_ORTB_CONFIG);
+    }
+}
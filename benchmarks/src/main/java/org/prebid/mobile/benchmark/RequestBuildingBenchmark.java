@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
+import org.prebid.mobile.rendering.networking.urlBuilder.BidUrlComponents;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLBuilder;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLPathBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembly of a banner bid request by the parameter builders, as done by
+ * {@link org.prebid.mobile.rendering.networking.modelcontrollers.Requester} for every auction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuildingBenchmark {
+
+    private static final URLPathBuilder PATH_BUILDER = new URLPathBuilder() {
+        @Override
+        public String buildURLPath(String domain) {
+            return "https://prebid-server.example.com/openrtb2/auction";
+        }
+    };
+
+    private AdUnitConfiguration configuration;
+
+    @Setup
+    public void setUp() {
+        SdkEnvironment.install();
+        configuration = SdkEnvironment.newBannerConfiguration();
+    }
+
+    /**
+     * The bid request model filled by the builders, without serialization.
+     */
+    @Benchmark
+    public BidUrlComponents buildRequest() {
+        URLBuilder urlBuilder = new URLBuilder(
+                PATH_BUILDER,
+                SdkEnvironment.parameterBuilders(configuration),
+                new AdRequestInput()
+        );
+        return urlBuilder.buildUrl();
+    }
+
+    /**
+     * The request body as it's sent to Prebid Server.
+     */
+    @Benchmark
+    public String buildRequestBody() {
+        return buildRequest().getQueryArgString();
+    }
+}
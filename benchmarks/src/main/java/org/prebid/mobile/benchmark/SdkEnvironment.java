@@ -0,0 +1,270 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.preference.PreferenceManager;
+
+import org.prebid.mobile.AdSize;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.TargetingParams;
+import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.networking.parameters.AppInfoParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.BasicParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.DeviceInfoParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.GeoLocationParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.NetworkParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.ParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.UserConsentParameterBuilder;
+import org.prebid.mobile.rendering.networking.parameters.UserParameters;
+import org.prebid.mobile.rendering.sdk.ManagersResolver;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.prebid.mobile.rendering.sdk.calendar.CalendarEventWrapper;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.LocationInfoManager;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.UserConsentManager;
+import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+/**
+ * SDK state of an initialized app: device data, consents and global targeting,
+ * so the parameter builders take the same branches as on a device.
+ */
+final class SdkEnvironment {
+
+    /**
+     * Held strongly, the SDK keeps only weak references to it.
+     */
+    private static final Context CONTEXT = new BenchmarkContext();
+
+    private static boolean installed;
+
+    private SdkEnvironment() {
+    }
+
+    static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        PreferenceManager.getDefaultSharedPreferences(CONTEXT)
+                .edit()
+                .putInt(UserConsentManager.GDPR_2_SUBJECT_KEY, 1)
+                .putString(UserConsentManager.GDPR_2_CONSENT_KEY, "CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA")
+                .putString(UserConsentManager.GDPR_2_PURPOSE_CONSENT_KEY, "1111111111")
+                .putString(UserConsentManager.US_PRIVACY_KEY, "1YNN")
+                .apply();
+        PrebidContextHolder.setContext(CONTEXT);
+
+        UserConsentManager userConsentManager = new UserConsentManager(CONTEXT);
+        userConsentManager.initConsentValues();
+        ManagersResolver resolver = ManagersResolver.getInstance();
+        resolver.prepare(CONTEXT);
+        ConnectionInfoManager connectionManager = () -> UserParameters.ConnectionType.WIFI;
+        setField(resolver, "deviceManager", new FixedDeviceInfoManager());
+        setField(resolver, "locationManager", new FixedLocationInfoManager());
+        setField(resolver, "connectionManager", connectionManager);
+        setField(resolver, "userConsentManager", userConsentManager);
+
+        AppInfoManager.setAppName("Prebid Demo");
+        setField(AppInfoManager.class, "sAppVersion", "2.1.6");
+        AppInfoManager.setPackageName(CONTEXT.getPackageName());
+        AppInfoManager.setUserAgent(
+                "Mozilla/5.0 (Linux; Android 13; Pixel 7 Build/TQ3A.230805.001; wv) AppleWebKit/537.36 "
+                        + "(KHTML, like Gecko) Version/4.0 Chrome/116.0.5845.163 Mobile Safari/537.36"
+        );
+
+        PrebidMobile.setPrebidServerAccountId("0689a263-318d-448b-a3d4-b02e8a709d9d");
+        PrebidMobile.setShareGeoLocation(true);
+        TargetingParams.addUserKeywords(new LinkedHashSet<>(Arrays.asList("sports", "news", "weather")));
+        TargetingParams.addExtData("section", "sports");
+        TargetingParams.addExtData("section", "football");
+        TargetingParams.addExtData("page_type", "article");
+        TargetingParams.setPublisherName("Prebid");
+    }
+
+    /**
+     * The managers and the app version are created from the system services on a device,
+     * there are no setters for them.
+     */
+    private static void setField(Object target, String name, Object value) {
+        Class<?> type = target instanceof Class ? (Class<?>) target : target.getClass();
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target instanceof Class ? null : target, value);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Can't set " + type.getName() + "." + name, exception);
+        }
+    }
+
+    static AdUnitConfiguration newBannerConfiguration() {
+        AdUnitConfiguration configuration = new AdUnitConfiguration();
+        configuration.setConfigId("prebid-banner-320x50");
+        configuration.setAdFormat(AdFormat.BANNER);
+        configuration.addSize(new AdSize(320, 50));
+        configuration.addSize(new AdSize(300, 250));
+        configuration.setPbAdSlot("/21808260008/prebid_demo_app_original_api_banner");
+        return configuration;
+    }
+
+    /**
+     * Builders in the order of {@link org.prebid.mobile.rendering.networking.modelcontrollers.Requester}.
+     */
+    static ArrayList<ParameterBuilder> parameterBuilders(AdUnitConfiguration configuration) {
+        ArrayList<ParameterBuilder> builders = new ArrayList<>();
+        builders.add(new BasicParameterBuilder(
+                configuration,
+                CONTEXT.getResources(),
+                true,
+                Collections.emptyList()
+        ));
+        builders.add(new GeoLocationParameterBuilder());
+        builders.add(new AppInfoParameterBuilder(configuration));
+        builders.add(new DeviceInfoParameterBuilder(configuration));
+        builders.add(new NetworkParameterBuilder());
+        builders.add(new UserConsentParameterBuilder());
+        return builders;
+    }
+
+    private static class FixedDeviceInfoManager implements DeviceInfoManager {
+
+        @Override
+        public String getMccMnc() {
+            return "310-260";
+        }
+
+        @Override
+        public String getCarrier() {
+            return "T-Mobile";
+        }
+
+        @Override
+        public boolean isPermissionGranted(String permission) {
+            return true;
+        }
+
+        @Override
+        public int getDeviceOrientation() {
+            return Configuration.ORIENTATION_PORTRAIT;
+        }
+
+        @Override
+        public int getScreenWidth() {
+            return 1080;
+        }
+
+        @Override
+        public int getScreenHeight() {
+            return 2400;
+        }
+
+        @Override
+        public boolean isScreenOn() {
+            return true;
+        }
+
+        @Override
+        public boolean isScreenLocked() {
+            return false;
+        }
+
+        @Override
+        public boolean isActivityOrientationLocked(Context context) {
+            return false;
+        }
+
+        @Override
+        public void createCalendarEvent(CalendarEventWrapper event) {
+        }
+
+        @Override
+        public void storePicture(String url) {
+        }
+
+        @Override
+        public void playVideo(String url, Context context) {
+        }
+
+        @Override
+        public boolean canStorePicture() {
+            return false;
+        }
+
+        @Override
+        public boolean hasTelephony() {
+            return true;
+        }
+
+        @Override
+        public float getDeviceDensity() {
+            return 2.625f;
+        }
+
+        @Override
+        public boolean hasGps() {
+            return true;
+        }
+
+        @Override
+        public boolean isTablet() {
+            return false;
+        }
+    }
+
+    private static class FixedLocationInfoManager implements LocationInfoManager {
+
+        @Override
+        public Double getLatitude() {
+            return 40.7128;
+        }
+
+        @Override
+        public Double getLongitude() {
+            return -74.0060;
+        }
+
+        @Override
+        public Float getAccuracy() {
+            return 12.5f;
+        }
+
+        @Override
+        public Long getElapsedSeconds() {
+            return 30L;
+        }
+
+        @Override
+        public boolean isLocationAvailable() {
+            return true;
+        }
+
+        @Override
+        public void resetLocation() {
+        }
+    }
+}
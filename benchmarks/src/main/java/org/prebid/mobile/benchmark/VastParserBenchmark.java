@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.mobile.rendering.errors.VastParseError;
+import org.prebid.mobile.rendering.parser.AdResponseParserVast;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of VAST documents and the queries {@link org.prebid.mobile.rendering.models.CreativeModelsMakerVast}
+ * runs on the parsed chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VastParserBenchmark {
+
+    private String inlineVast;
+    private String wrapperVast;
+
+    @Setup
+    public void setUp() {
+        inlineVast = Fixtures.read(Fixtures.VAST_INLINE);
+        wrapperVast = Fixtures.read(Fixtures.VAST_WRAPPER);
+    }
+
+    @Benchmark
+    public AdResponseParserVast parseInline() throws VastParseError {
+        return new AdResponseParserVast(inlineVast);
+    }
+
+    @Benchmark
+    public AdResponseParserVast parseWrapper() throws VastParseError {
+        return new AdResponseParserVast(wrapperVast);
+    }
+
+    /**
+     * A wrapper resolved to an inline ad, then the video model fields read from the chain.
+     */
+    @Benchmark
+    public void parseWrapperChain(Blackhole blackhole) throws VastParseError {
+        AdResponseParserVast root = new AdResponseParserVast(wrapperVast);
+        AdResponseParserVast inline = new AdResponseParserVast(inlineVast);
+        root.setWrapper(inline);
+
+        blackhole.consume(root.getVastUrl());
+        blackhole.consume(root.getAllTrackings(root, 0));
+        blackhole.consume(root.getImpressions(root, 0));
+        blackhole.consume(root.getClickTrackings(root, 0));
+        blackhole.consume(root.getError(root, 0));
+        blackhole.consume(root.getClickThroughUrl(root, 0));
+        blackhole.consume(inline.getVideoDuration(inline, 0));
+        blackhole.consume(inline.getSkipOffset(inline, 0));
+        blackhole.consume(root.getAdVerification(inline, 0));
+        blackhole.consume(inline.getMediaFileUrl(inline, 0));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.benchmark;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.PixelFormat;
+import android.graphics.drawable.Drawable;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.mobile.rendering.utils.exposure.ViewExposure;
+import org.prebid.mobile.rendering.utils.exposure.ViewExposureChecker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposure of a banner in a scrolled feed, partly covered by the app bars and by overlapping views
+ * drawn above it, as checked on every visibility tracker tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewExposureBenchmark {
+
+    private static final int SCREEN_WIDTH = 1080;
+    private static final int SCREEN_HEIGHT = 2400;
+
+    /**
+     * Views overlapping the banner, such as badges and floating buttons.
+     */
+    @Param({"2", "16"})
+    public int overlays;
+
+    private final ViewExposureChecker checker = new ViewExposureChecker();
+    private View adView;
+
+    @Setup
+    public void setUp() {
+        Context context = new BenchmarkContext();
+
+        ViewGroup root = new Layout(context);
+        root.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+
+        ViewGroup feed = new Layout(context);
+        feed.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        feed.scrollTo(0, 1500);
+        root.addView(feed);
+
+        for (int i = 0; i < 6; i++) {
+            View item = new View(context);
+            item.layout(0, i * 600, SCREEN_WIDTH, i * 600 + 560);
+            feed.addView(item);
+        }
+
+        ViewGroup adContainer = new Layout(context);
+        adContainer.layout(0, 2700, SCREEN_WIDTH, 3620);
+        feed.addView(adContainer);
+
+        adView = new View(context);
+        adView.layout(100, 40, 980, 773);
+        adContainer.addView(adView);
+
+        View appBar = new View(context);
+        appBar.layout(0, 0, SCREEN_WIDTH, 220);
+        root.addView(appBar);
+
+        View navigationBar = new View(context);
+        navigationBar.layout(0, SCREEN_HEIGHT - 200, SCREEN_WIDTH, SCREEN_HEIGHT);
+        root.addView(navigationBar);
+
+        // Transparent group, only its children obstruct
+        ViewGroup overlayLayer = new Layout(context);
+        overlayLayer.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        root.addView(overlayLayer);
+
+        for (int i = 0; i < overlays; i++) {
+            int column = i % 4;
+            int row = i / 4;
+            View overlay = new View(context);
+            overlay.layout(
+                    60 + column * 240,
+                    1180 + row * 160,
+                    60 + column * 240 + 200,
+                    1180 + row * 160 + 180
+            );
+            overlayLayer.addView(overlay);
+        }
+
+        View hiddenDialog = new View(context);
+        hiddenDialog.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        hiddenDialog.setVisibility(View.GONE);
+        root.addView(hiddenDialog);
+
+        ViewGroup scrim = new Layout(context);
+        scrim.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        scrim.setBackground(new Fill());
+        scrim.setAlpha(0f);
+        root.addView(scrim);
+    }
+
+    @Benchmark
+    public ViewExposure exposure() {
+        return checker.exposure(adView);
+    }
+
+    @Benchmark
+    public boolean isExposed() {
+        return checker.isExposed(adView, 0.5f);
+    }
+
+    /**
+     * Opaque background. Android's drawables paint through the native Skia bindings.
+     */
+    private static class Fill extends Drawable {
+
+        @Override
+        public void draw(Canvas canvas) {
+        }
+
+        @Override
+        public void setAlpha(int alpha) {
+        }
+
+        @Override
+        public void setColorFilter(ColorFilter colorFilter) {
+        }
+
+        @Override
+        public int getOpacity() {
+            return PixelFormat.OPAQUE;
+        }
+    }
+
+    /**
+     * Group laid out by the benchmark itself.
+     */
+    private static class Layout extends ViewGroup {
+
+        Layout(Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        }
+    }
+}
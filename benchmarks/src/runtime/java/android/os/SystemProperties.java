@@ -0,0 +1,73 @@
+package android.os;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stands in for the native property store, {@link Build} reads the device description from it.
+ * Describes an Android 13 phone.
+ */
+public class SystemProperties {
+
+    public static final int PROP_NAME_MAX = Integer.MAX_VALUE;
+    public static final int PROP_VALUE_MAX = 91;
+
+    private static final Map<String, String> PROPERTIES = new HashMap<>();
+
+    static {
+        PROPERTIES.put("ro.build.version.sdk", "33");
+        PROPERTIES.put("ro.build.version.release", "13");
+        PROPERTIES.put("ro.build.version.release_or_codename", "13");
+        PROPERTIES.put("ro.build.version.codename", "REL");
+        PROPERTIES.put("ro.build.version.all_codenames", "REL");
+        PROPERTIES.put("ro.build.version.incremental", "10337347");
+        PROPERTIES.put("ro.build.version.security_patch", "2023-08-05");
+        PROPERTIES.put("ro.build.id", "TQ3A.230805.001");
+        PROPERTIES.put("ro.product.manufacturer", "Google");
+        PROPERTIES.put("ro.product.brand", "google");
+        PROPERTIES.put("ro.product.model", "Pixel 7");
+        PROPERTIES.put("ro.product.device", "panther");
+        PROPERTIES.put("ro.product.name", "panther");
+        PROPERTIES.put("ro.hardware", "panther");
+        PROPERTIES.put("ro.product.cpu.abilist", "arm64-v8a,armeabi-v7a,armeabi");
+        PROPERTIES.put("ro.product.cpu.abilist32", "armeabi-v7a,armeabi");
+        PROPERTIES.put("ro.product.cpu.abilist64", "arm64-v8a");
+        PROPERTIES.put("ro.build.type", "user");
+        PROPERTIES.put("ro.build.tags", "release-keys");
+        PROPERTIES.put("ro.sf.lcd_density", "420");
+    }
+
+    private SystemProperties() {
+    }
+
+    public static String get(String key) {
+        return get(key, "");
+    }
+
+    public static String get(String key, String def) {
+        String value = PROPERTIES.get(key);
+        return value != null ? value : def;
+    }
+
+    public static int getInt(String key, int def) {
+        String value = PROPERTIES.get(key);
+        return value != null ? Integer.parseInt(value) : def;
+    }
+
+    public static long getLong(String key, long def) {
+        String value = PROPERTIES.get(key);
+        return value != null ? Long.parseLong(value) : def;
+    }
+
+    public static boolean getBoolean(String key, boolean def) {
+        String value = PROPERTIES.get(key);
+        return value != null ? Boolean.parseBoolean(value) : def;
+    }
+
+    public static void set(String key, String val) {
+        PROPERTIES.put(key, val);
+    }
+
+    public static void addChangeCallback(Runnable callback) {
+    }
+}
@@ -0,0 +1,25 @@
+package android.util;
+
+import org.kxml2.io.KXmlParser;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+/**
+ * Android creates the KXmlParser repackaged in libcore, the same parser is taken from kXML2.
+ * The kXML2 release doesn't process the DOCTYPE declaration, VAST documents have none.
+ */
+public class Xml {
+
+    private Xml() {
+    }
+
+    public static XmlPullParser newPullParser() {
+        try {
+            KXmlParser parser = new KXmlParser();
+            parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, false);
+            return parser;
+        } catch (XmlPullParserException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package android.view;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+
+/**
+ * Android's view needs an attached window and the render thread. This one keeps only the layout state
+ * the exposure geometry reads: positions are relative to the parent, the root view sits at the origin
+ * of the screen and every view is in a focused window.
+ */
+public class View {
+
+    public static final int VISIBLE = 0;
+    public static final int INVISIBLE = 4;
+    public static final int GONE = 8;
+    public static final int NO_ID = -1;
+
+    ViewParent parent;
+
+    private int id = NO_ID;
+    private int left;
+    private int top;
+    private int right;
+    private int bottom;
+    private int scrollX;
+    private int scrollY;
+    private int visibility = VISIBLE;
+    private float alpha = 1f;
+    private Drawable background;
+    private Drawable foreground;
+
+    public View(Context context) {
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void layout(int left, int top, int right, int bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public final int getLeft() {
+        return left;
+    }
+
+    public final int getTop() {
+        return top;
+    }
+
+    public final int getWidth() {
+        return right - left;
+    }
+
+    public final int getHeight() {
+        return bottom - top;
+    }
+
+    public final int getScrollX() {
+        return scrollX;
+    }
+
+    public final int getScrollY() {
+        return scrollY;
+    }
+
+    public void scrollTo(int x, int y) {
+        scrollX = x;
+        scrollY = y;
+    }
+
+    public int getVisibility() {
+        return visibility;
+    }
+
+    public void setVisibility(int visibility) {
+        this.visibility = visibility;
+    }
+
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public void setAlpha(float alpha) {
+        this.alpha = alpha;
+    }
+
+    public boolean hasWindowFocus() {
+        return true;
+    }
+
+    public Drawable getBackground() {
+        return background;
+    }
+
+    public void setBackground(Drawable background) {
+        this.background = background;
+    }
+
+    public Drawable getForeground() {
+        return foreground;
+    }
+
+    public void setForeground(Drawable foreground) {
+        this.foreground = foreground;
+    }
+
+    public final ViewParent getParent() {
+        return parent;
+    }
+
+    public View getRootView() {
+        View view = this;
+        while (view.parent instanceof View) {
+            view = (View) view.parent;
+        }
+        return view;
+    }
+
+    public boolean isShown() {
+        View view = this;
+        while (true) {
+            if (view.visibility != VISIBLE) {
+                return false;
+            }
+            ViewParent viewParent = view.parent;
+            if (viewParent == null) {
+                return true;
+            }
+            if (!(viewParent instanceof View)) {
+                return true;
+            }
+            view = (View) viewParent;
+        }
+    }
+
+    public void getDrawingRect(Rect outRect) {
+        outRect.left = scrollX;
+        outRect.top = scrollY;
+        outRect.right = scrollX + getWidth();
+        outRect.bottom = scrollY + getHeight();
+    }
+
+    public void getLocationOnScreen(int[] outLocation) {
+        int x = left;
+        int y = top;
+        ViewParent viewParent = parent;
+        while (viewParent instanceof View) {
+            View view = (View) viewParent;
+            x += view.left - view.scrollX;
+            y += view.top - view.scrollY;
+            viewParent = view.parent;
+        }
+        outLocation[0] = x;
+        outLocation[1] = y;
+    }
+
+    public boolean getGlobalVisibleRect(Rect r) {
+        int[] location = new int[2];
+        getLocationOnScreen(location);
+        r.set(location[0], location[1], location[0] + getWidth(), location[1] + getHeight());
+        ViewParent viewParent = parent;
+        while (viewParent instanceof View) {
+            View view = (View) viewParent;
+            int[] parentLocation = new int[2];
+            view.getLocationOnScreen(parentLocation);
+            if (!r.intersect(parentLocation[0], parentLocation[1],
+                    parentLocation[0] + view.getWidth(), parentLocation[1] + view.getHeight())) {
+                return false;
+            }
+            viewParent = view.parent;
+        }
+        return !r.isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the children and the clipping flag, layout is done by the caller.
+ */
+public abstract class ViewGroup extends View implements ViewParent {
+
+    private final List<View> children = new ArrayList<>();
+    private boolean clipChildren = true;
+
+    public ViewGroup(Context context) {
+        super(context);
+    }
+
+    protected abstract void onLayout(boolean changed, int l, int t, int r, int b);
+
+    public void addView(View child) {
+        child.parent = this;
+        children.add(child);
+    }
+
+    public void removeView(View child) {
+        if (children.remove(child)) {
+            child.parent = null;
+        }
+    }
+
+    public int getChildCount() {
+        return children.size();
+    }
+
+    public View getChildAt(int index) {
+        return index >= 0 && index < children.size() ? children.get(index) : null;
+    }
+
+    public int indexOfChild(View child) {
+        return children.indexOf(child);
+    }
+
+    public boolean getClipChildren() {
+        return clipChildren;
+    }
+
+    public void setClipChildren(boolean clipChildren) {
+        this.clipChildren = clipChildren;
+    }
+}
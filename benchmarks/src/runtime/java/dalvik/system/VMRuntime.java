@@ -0,0 +1,37 @@
+package dalvik.system;
+
+/**
+ * The ART runtime is native, {@link android.os.Build} asks it for the ABIs of the device.
+ * Describes a 64-bit ARM runtime.
+ */
+public final class VMRuntime {
+
+    private static final VMRuntime THE_ONE = new VMRuntime();
+
+    private VMRuntime() {
+    }
+
+    public static VMRuntime getRuntime() {
+        return THE_ONE;
+    }
+
+    public static boolean is64BitAbi(String abi) {
+        return abi.startsWith("arm64") || abi.startsWith("x86_64");
+    }
+
+    public static String getInstructionSet(String abi) {
+        return abi.startsWith("arm64") ? "arm64" : "arm";
+    }
+
+    public boolean is64Bit() {
+        return true;
+    }
+
+    public String vmInstructionSet() {
+        return "arm64";
+    }
+
+    public int getTargetSdkVersion() {
+        return 33;
+    }
+}
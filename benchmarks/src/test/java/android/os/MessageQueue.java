@@ -0,0 +1,17 @@
+package android.os;
+
+/**
+ * The message queue is native. Tests create tasks, which bind to the main looper, but don't run the loop.
+ */
+public final class MessageQueue {
+
+    MessageQueue(boolean quitAllowed) {
+    }
+
+    boolean enqueueMessage(Message msg, long when) {
+        throw new IllegalStateException("The main loop doesn't run in tests");
+    }
+
+    void quit(boolean safe) {
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that the deprecated log file field still enables the log file.
+ */
+@SuppressWarnings("deprecation")
+public class LogUtilTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        LogUtil.setLogFile(null);
+        LogUtil.clearLogs();
+    }
+
+    @Test
+    public void deprecatedLoggerFile_IsUsedAsLogFile() throws IOException {
+        File file = folder.newFile("prebid.log");
+
+        LogUtil.loggerFile = file;
+        // Clears the log file the field was picked up as
+        LogUtil.clearLogs();
+
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void setLogFile_UpdatesDeprecatedField() throws IOException {
+        File file = folder.newFile("prebid.log");
+
+        LogUtil.setLogFile(file);
+
+        assertSame(file, LogUtil.loggerFile);
+    }
+}
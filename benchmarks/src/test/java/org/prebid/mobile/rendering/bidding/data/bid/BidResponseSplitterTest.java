@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks the responses the splitter builds for the imps of a batch auction.
+ */
+public class BidResponseSplitterTest {
+
+    private static final String RESPONSE = "{\"id\":\"r1\", \"seatbid\":["
+            + "{\"seat\":\"a\",\"bid\":[{\"id\":\"1\",\"impid\":\"imp1\",\"price\":1.5,\"adm\":\"<div class=\\\"ad\\\">\\u00e9</div>\"},"
+            + "{\"id\":\"2\",\"impid\":\"imp2\",\"price\":0.5}],\"group\":0},"
+            + "{\"seat\":\"b\",\"bid\":[{\"impid\":\"imp1\",\"id\":\"3\",\"price\":2}]}"
+            + "],\"cur\":\"USD\",\"ext\":{\"tmaxrequest\":500}}";
+
+    @Test
+    public void getResponse_KeepsOnlyBidsOfImp() throws JSONException {
+        BidResponseSplitter splitter = BidResponseSplitter.read(RESPONSE);
+
+        JSONObject imp1 = new JSONObject(splitter.getResponse("imp1"));
+        assertEquals("r1", imp1.getString("id"));
+        assertEquals("USD", imp1.getString("cur"));
+        assertEquals(500, imp1.getJSONObject("ext").getInt("tmaxrequest"));
+        JSONArray seatbids = imp1.getJSONArray("seatbid");
+        assertEquals(2, seatbids.length());
+        assertEquals("a", seatbids.getJSONObject(0).getString("seat"));
+        assertEquals(0, seatbids.getJSONObject(0).getInt("group"));
+        JSONObject bid = seatbids.getJSONObject(0).getJSONArray("bid").getJSONObject(0);
+        assertEquals(1, seatbids.getJSONObject(0).getJSONArray("bid").length());
+        assertEquals("<div class=\"ad\">é</div>", bid.getString("adm"));
+        assertEquals("3", seatbids.getJSONObject(1).getJSONArray("bid").getJSONObject(0).getString("id"));
+
+        JSONArray imp2Seatbids = new JSONObject(splitter.getResponse("imp2")).getJSONArray("seatbid");
+        assertEquals(1, imp2Seatbids.length());
+        assertEquals("2", imp2Seatbids.getJSONObject(0).getJSONArray("bid").getJSONObject(0).getString("id"));
+    }
+
+    @Test
+    public void getResponse_ImpWithoutBids() throws JSONException {
+        BidResponseSplitter splitter = BidResponseSplitter.read(RESPONSE);
+
+        JSONObject other = new JSONObject(splitter.getResponse("imp3"));
+        assertFalse(other.has("seatbid"));
+        assertEquals("r1", other.getString("id"));
+        assertFalse(new JSONObject(splitter.getResponse(null)).has("seatbid"));
+        assertEquals("{}", BidResponseSplitter.read("{\"seatbid\":[]}").getResponse("imp1"));
+    }
+
+    @Test(expected = JSONException.class)
+    public void read_InvalidResponse() throws JSONException {
+        BidResponseSplitter.read("{\"id\":\"r1\",\"seatbid\":[");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the literals the reader accepts.
+ */
+public class JsonSliceReaderTest {
+
+    @Test
+    public void validLiterals_AreRead() throws JSONException {
+        assertEquals("true", read("true"));
+        assertEquals("false", read("false"));
+        assertNull(read("null"));
+        assertEquals("0", read("0"));
+        assertEquals("-12", read("-12"));
+        assertEquals("1.25", read("1.25"));
+        assertEquals("6.02E+23", read("6.02E+23"));
+        assertEquals("-0.5e-3", read("-0.5e-3"));
+    }
+
+    @Test
+    public void invalidLiterals_AreRejected() {
+        for (String literal : new String[]{"tru", "True", "nul", "undefined", "NaN", "01", "1.", ".5", "-", "1e", "+1", "0x1F"}) {
+            try {
+                read(literal);
+                fail(literal + " is accepted");
+            } catch (JSONException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void invalidLiteral_IsRejectedWhenSkipped() {
+        JsonSliceReader reader = new JsonSliceReader("{\"a\":maybe,\"b\":1}");
+        try {
+            reader.beginObject();
+            reader.nextName();
+            reader.skipValue();
+            fail("Literal is accepted");
+        } catch (JSONException expected) {
+        }
+    }
+
+    private static String read(String literal) throws JSONException {
+        JsonSliceReader reader = new JsonSliceReader("[" + literal + "]");
+        reader.beginArray();
+        String value = reader.nextString(null);
+        reader.endArray();
+        return value;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.models.openrtb;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Checks that shared request sections are copied into the request.
+ */
+public class BidRequestTest {
+
+    private static final String SHARED_USER = "{\"keywords\":\"a,b\",\"ext\":{\"data\":{\"segment\":[\"s1\"],\"tier\":\"gold\"}}}";
+
+    @Test
+    public void sharedSection_IsCopied() throws JSONException {
+        JSONObject shared = new JSONObject(SHARED_USER);
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.addSharedSection("user", shared);
+
+        JSONObject user = bidRequest.getJsonObject().getJSONObject("user");
+        assertNotSame(shared, user);
+        user.getJSONObject("ext").getJSONObject("data").put("tier", "silver");
+        user.getJSONObject("ext").getJSONObject("data").getJSONArray("segment").put("s2");
+
+        assertEquals(SHARED_USER, shared.toString());
+    }
+
+    @Test
+    public void sharedSection_IsMergedWithModelAtEveryLevel() throws JSONException {
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.addSharedSection("user", new JSONObject(SHARED_USER));
+        bidRequest.getUser().getExt().put("data", new JSONObject("{\"tier\":\"silver\"}"));
+
+        JSONObject data = bidRequest.getJsonObject().getJSONObject("user").getJSONObject("ext").getJSONObject("data");
+
+        assertEquals("silver", data.getString("tier"));
+        assertEquals("s1", data.getJSONArray("segment").getString(0));
+    }
+}
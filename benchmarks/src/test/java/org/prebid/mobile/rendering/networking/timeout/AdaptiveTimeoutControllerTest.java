@@ -0,0 +1,198 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.networking.timeout;
+
+import android.os.Looper;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.timeout.AdaptiveTimeoutController.Timeouts;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the timeouts chosen from recorded latencies and what the network task records.
+ */
+public class AdaptiveTimeoutControllerTest {
+
+    private static final String URL = "https://prebid.example/openrtb2/auction";
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    private final AdaptiveTimeoutController controller = AdaptiveTimeoutController.getInstance();
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        if (Looper.getMainLooper() == null) {
+            Looper.prepareMainLooper();
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/nobids", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException ignored) {
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        server.stop(0);
+    }
+
+    @Before
+    public void setUp() {
+        controller.reset();
+        PrebidMobile.setTimeoutMillis(2_000);
+    }
+
+    @Test
+    public void fewSamples_UseDefaults() {
+        record(AdaptiveTimeoutController.MIN_SAMPLES - 1, 10, 300);
+
+        Timeouts timeouts = controller.getTimeouts(URL);
+
+        assertFalse(timeouts.isAdaptive());
+        assertEquals(2_000, timeouts.getConnectTimeoutMillis());
+        assertEquals(BaseNetworkTask.SOCKET_TIMEOUT, timeouts.getReadTimeoutMillis());
+        assertEquals(-1, timeouts.getTmaxMillis());
+    }
+
+    @Test
+    public void connectAndRead_AreChosenSeparately() {
+        record(AdaptiveTimeoutController.MIN_SAMPLES / 2, 10, 100);
+        record(AdaptiveTimeoutController.MIN_SAMPLES / 2, 10, 400);
+
+        Timeouts timeouts = controller.getTimeouts(URL);
+
+        assertTrue(timeouts.isAdaptive());
+        assertEquals(AdaptiveTimeoutController.MIN_TIMEOUT_MILLIS, timeouts.getConnectTimeoutMillis());
+        assertEquals(600, timeouts.getReadTimeoutMillis());
+        // Read timeout minus the fast response latency
+        assertEquals(500, timeouts.getTmaxMillis());
+    }
+
+    @Test
+    public void slowHost_IsCappedAtConfiguredTimeouts() {
+        PrebidMobile.setTimeoutMillis(1_500);
+        record(AdaptiveTimeoutController.MIN_SAMPLES, 5_000, 9_000);
+
+        Timeouts timeouts = controller.getTimeouts(URL);
+
+        assertEquals(1_500, timeouts.getConnectTimeoutMillis());
+        assertEquals(BaseNetworkTask.SOCKET_TIMEOUT, timeouts.getReadTimeoutMillis());
+    }
+
+    @Test
+    public void timeouts_AreCensoredAtTheTimeout() {
+        for (int i = 0; i < AdaptiveTimeoutController.MIN_SAMPLES; i++) {
+            controller.recordTimeout(URL, true, 1_000);
+        }
+
+        Timeouts timeouts = controller.getTimeouts(URL);
+
+        // 1000 + margin, not pushed towards twice the timeout
+        assertEquals(1_200, timeouts.getReadTimeoutMillis());
+        assertTrue(controller.getConnectHistograms().isEmpty());
+    }
+
+    @Test
+    public void noContent_IsRecorded() {
+        try {
+            send(baseUrl + "/nobids", 0);
+            fail("204 is reported as an error");
+        } catch (Exception expected) {
+        }
+
+        assertEquals(1, getResponseSampleCount());
+    }
+
+    @Test
+    public void readTimeout_IsRecordedAtTheReadTimeout() throws Exception {
+        try {
+            send(baseUrl + "/slow", 100);
+            fail("Read doesn't time out");
+        } catch (SocketTimeoutException expected) {
+        }
+
+        LatencyHistogram histogram = controller.getHistograms().values().iterator().next();
+        assertEquals(1, histogram.getSampleCount());
+        assertEquals(100, histogram.getQuantile(1));
+    }
+
+    private void record(int count, long connectMillis, long responseMillis) {
+        for (int i = 0; i < count; i++) {
+            controller.record(URL, connectMillis, responseMillis);
+        }
+    }
+
+    private long getResponseSampleCount() {
+        long count = 0;
+        for (LatencyHistogram histogram : controller.getHistograms().values()) {
+            count += histogram.getSampleCount();
+        }
+        return count;
+    }
+
+    private static void send(String url, int readTimeoutMillis) throws Exception {
+        BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
+        params.url = url;
+        params.requestType = "POST";
+        params.queryParams = "{}";
+        params.name = "bidrequest";
+        params.userAgent = "test";
+        params.recordLatency = true;
+        params.readTimeoutMillis = readTimeoutMillis;
+
+        BaseNetworkTask task = new BaseNetworkTask(null);
+        try {
+            task.sendRequest(params);
+        } finally {
+            // Returns the connection to the transport
+            task.destroy();
+        }
+    }
+}
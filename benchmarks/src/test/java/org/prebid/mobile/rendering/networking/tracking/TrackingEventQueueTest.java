@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.networking.tracking;
+
+import android.os.Looper;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.tracking.TrackingEventQueue.Delivery;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Sends the pings with the tasks of the queue to a local server and classifies the answers.
+ */
+public class TrackingEventQueueTest {
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        if (Looper.getMainLooper() == null) {
+            Looper.prepareMainLooper();
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            int code = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+            if (code == 302) {
+                exchange.getResponseHeaders().add("Location", "/pixel/204");
+            }
+            if (code == 200) {
+                byte[] body = "<html></html>".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(code, body.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(code, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/pixel/";
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        server.stop(0);
+    }
+
+    @Test
+    public void noContent_IsDelivered() throws Exception {
+        assertEquals(204, send(204, false));
+        assertEquals(Delivery.DELIVERED, TrackingEventQueue.classify(204));
+    }
+
+    @Test
+    public void redirect_IsDeliveredWithoutFollowing() throws Exception {
+        assertEquals(302, send(302, false));
+        assertEquals(Delivery.DELIVERED, TrackingEventQueue.classify(302));
+    }
+
+    @Test
+    public void redirect_IsFollowedForImpressions() throws Exception {
+        assertEquals(204, send(302, true));
+    }
+
+    @Test
+    public void notFound_IsDropped() throws Exception {
+        assertEquals(404, send(404, false));
+        assertEquals(404, send(404, true));
+        assertEquals(Delivery.DROP, TrackingEventQueue.classify(404));
+    }
+
+    @Test
+    public void tooManyRequests_IsRetried() throws Exception {
+        assertEquals(429, send(429, false));
+        assertEquals(Delivery.RETRY, TrackingEventQueue.classify(429));
+    }
+
+    @Test
+    public void serviceUnavailable_IsRetried() throws Exception {
+        assertEquals(503, send(503, false));
+        assertEquals(503, send(503, true));
+        assertEquals(Delivery.RETRY, TrackingEventQueue.classify(503));
+    }
+
+    @Test
+    public void ok_IsDelivered() throws Exception {
+        assertEquals(200, send(200, true));
+        assertEquals(Delivery.DELIVERED, TrackingEventQueue.classify(200));
+    }
+
+    private static int send(int code, boolean followRedirects) throws Exception {
+        BaseNetworkTask task = TrackingEventQueue.createTask(followRedirects, null);
+        try {
+            return task.sendRequest(TrackingEventQueue.createParams(baseUrl + code, followRedirects)).statusCode;
+        } finally {
+            // Returns the connection to the transport
+            task.destroy();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.prebid.mobile.rendering.networking.transport;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+
+import javax.net.ssl.HttpsURLConnection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the reuse counted from created sockets and the estimate for cleartext hosts.
+ */
+public class HostConnectionStatsTest {
+
+    private static final long KEEP_ALIVE = 1000;
+
+    @Test
+    public void measured_ReusedAreRequestsWithoutSocket() {
+        HostConnectionStats stats = new HostConnectionStats("https://prebid.example:443");
+
+        stats.onOpen(0, KEEP_ALIVE, true);
+        stats.onSocketCreated();
+        stats.onRelease(10, true, 4);
+        stats.onOpen(20, KEEP_ALIVE, true);
+        stats.onOpen(30, KEEP_ALIVE, true);
+        stats.onSocketCreated();
+
+        assertEquals(3, stats.getRequests());
+        assertEquals(2, stats.getNewConnections());
+        assertEquals(1, stats.getReusedConnections());
+    }
+
+    @Test
+    public void measured_RetriedSocketsDoNotMakeReuseNegative() {
+        HostConnectionStats stats = new HostConnectionStats("https://prebid.example:443");
+
+        stats.onOpen(0, KEEP_ALIVE, true);
+        stats.onSocketCreated();
+        stats.onSocketCreated();
+
+        assertEquals(0, stats.getReusedConnections());
+        assertEquals(1, stats.getNewConnections());
+    }
+
+    @Test
+    public void estimated_ReusedWithinKeepAlive() {
+        HostConnectionStats stats = new HostConnectionStats("http://prebid.example:80");
+
+        stats.onOpen(0, KEEP_ALIVE, false);
+        stats.onRelease(10, true, 4);
+        stats.onOpen(20, KEEP_ALIVE, false);
+        stats.onRelease(30, true, 4);
+        stats.onOpen(30 + KEEP_ALIVE + 1, KEEP_ALIVE, false);
+
+        assertEquals(1, stats.getReusedConnections());
+        assertEquals(2, stats.getNewConnections());
+    }
+
+    @Test
+    public void openConnection_HttpsUsesOneCountingFactory() throws IOException {
+        PooledHttpTransport transport = new PooledHttpTransport();
+
+        URLConnection first = transport.openConnection(new URL("https://prebid.example/a"));
+        URLConnection second = transport.openConnection(new URL("https://prebid.example/b"));
+        try {
+            assertTrue(((HttpsURLConnection) first).getSSLSocketFactory() instanceof CountingSSLSocketFactory);
+            assertSame(
+                    ((HttpsURLConnection) first).getSSLSocketFactory(),
+                    ((HttpsURLConnection) second).getSSLSocketFactory()
+            );
+        } finally {
+            transport.release(first, false);
+            transport.release(second, false);
+        }
+    }
+}
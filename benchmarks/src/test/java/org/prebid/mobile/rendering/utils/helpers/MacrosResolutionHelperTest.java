@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.prebid.mobile.rendering.utils.helpers;
+
+import org.junit.Test;
+import org.prebid.mobile.rendering.models.internal.MacrosModel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the auction macros expansion and that templates with the same hash aren't mixed up.
+ */
+public class MacrosResolutionHelperTest {
+
+    @Test
+    public void resolveAuctionPrice_TemplatesWithSameHash() {
+        // "Aa" and "BB" have the same hash code
+        String first = "Aa?p=${AUCTION_PRICE}";
+        String second = "BB?p=${AUCTION_PRICE}";
+        assertEquals(first.hashCode(), second.hashCode());
+
+        assertEquals("Aa?p=1.5", MacrosResolutionHelper.resolveAuctionPrice(first, "1.5"));
+        assertEquals("BB?p=1.5", MacrosResolutionHelper.resolveAuctionPrice(second, "1.5"));
+    }
+
+    @Test
+    public void resolveAuctionMacros_OtherKeysReplacedAsText() {
+        Map<String, MacrosModel> macros = new HashMap<>();
+        macros.put(MacrosModel.MACROS_AUCTION_PRICE, new MacrosModel("2.0"));
+        macros.put("\\$\\{CUSTOM\\}", new MacrosModel("$1"));
+        macros.put("[ID]", new MacrosModel("42"));
+
+        String result = MacrosResolutionHelper.resolveAuctionMacros(
+                "https://prebid.example/win?p=${AUCTION_PRICE}&c=${CUSTOM}&id=[ID]",
+                macros
+        );
+
+        assertEquals("https://prebid.example/win?p=2.0&c=$1&id=42", result);
+    }
+}
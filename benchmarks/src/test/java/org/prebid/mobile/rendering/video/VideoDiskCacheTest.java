@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.video;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks eviction, download locks, replacement of outdated videos and cleanup of the previous cache.
+ */
+public class VideoDiskCacheTest {
+
+    private static final byte[] MP4_HEADER = {0, 0, 0, 0x18, 'f', 't', 'y', 'p', 'm', 'p', '4', '2'};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File legacyDirectory;
+    private VideoDiskCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        legacyDirectory = folder.newFolder("files");
+        cache = new VideoDiskCache(folder.newFolder("cache"), legacyDirectory);
+    }
+
+    @After
+    public void tearDown() {
+        VideoDiskCache.setMaxBytes(VideoDiskCache.DEFAULT_MAX_BYTES);
+    }
+
+    @Test
+    public void trim_KeepsPinnedVideos() throws IOException {
+        VideoDiskCache.Entry pinned = cache.getEntry("https://cdn.example/pinned.mp4");
+        VideoDiskCache.Entry unpinned = cache.getEntry("https://cdn.example/unpinned.mp4");
+        write(pinned.getFile(), 100);
+        write(unpinned.getFile(), 100);
+        pinned.getFile().setLastModified(1_000);
+        pinned.pin();
+
+        VideoDiskCache.setMaxBytes(150);
+        cache.trim();
+
+        assertTrue(pinned.isComplete());
+        assertFalse(unpinned.isComplete());
+
+        pinned.unpin();
+        VideoDiskCache.setMaxBytes(50);
+        cache.trim();
+
+        assertFalse(pinned.isComplete());
+    }
+
+    @Test
+    public void lock_IsSharedWhileHeld() {
+        VideoDiskCache.Entry entry = cache.getEntry("https://cdn.example/video.mp4");
+
+        Object first = cache.acquireLock(entry);
+        Object second = cache.acquireLock(entry);
+        assertSame(first, second);
+
+        cache.releaseLock(entry, first);
+        cache.releaseLock(entry, second);
+        Object third = cache.acquireLock(entry);
+        assertNotSame(first, third);
+        cache.releaseLock(entry, third);
+    }
+
+    @Test
+    public void fullResponse_DeletesOutdatedVideo() throws IOException {
+        String url = "https://cdn.example/video.mp4";
+        VideoDiskCache.Entry entry = cache.getEntry(url);
+        write(entry.getFile(), 100);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("ETag", "\"v2\"");
+        headers.put("Cache-Control", "max-age=3600");
+        entry.onResponseStarted(connection(url, headers), false);
+
+        // The new metadata is stored, but the download was interrupted
+        assertFalse(cache.getEntry(url).isFresh());
+        assertFalse(entry.getFile().exists());
+    }
+
+    @Test
+    public void legacyVideo_IsDeleted() throws IOException {
+        File legacyVideo = new File(legacyDirectory, "video");
+        try (FileOutputStream outputStream = new FileOutputStream(legacyVideo)) {
+            outputStream.write(MP4_HEADER);
+        }
+
+        cache.getEntry("https://cdn.example/creatives/video.mp4");
+
+        assertFalse(legacyVideo.exists());
+    }
+
+    @Test
+    public void legacyName_OfOtherFile_IsKept() throws IOException {
+        File appFile = new File(legacyDirectory, "settings");
+        try (FileOutputStream outputStream = new FileOutputStream(appFile)) {
+            outputStream.write("{\"theme\":\"dark\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        cache.getEntry("https://cdn.example/creatives/settings.mp4");
+
+        assertTrue(appFile.exists());
+    }
+
+    private static void write(File file, int length) throws IOException {
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(new byte[length]);
+        }
+    }
+
+    private static URLConnection connection(String url, Map<String, String> headers) throws IOException {
+        return new URLConnection(new URL(url)) {
+            @Override
+            public void connect() {
+            }
+
+            @Override
+            public String getHeaderField(String name) {
+                return headers.get(name);
+            }
+        };
+    }
+}
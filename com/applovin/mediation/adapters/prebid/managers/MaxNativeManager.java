@@ -18,10 +18,11 @@ import com.applovin.mediation.adapters.prebid.ParametersChecker;
 import com.applovin.mediation.adapters.prebid.PrebidMaxNativeAd;
 import com.applovin.mediation.nativeAds.MaxNativeAd;
 
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.PrebidNativeAd;
 import org.prebid.mobile.rendering.bidding.events.EventsNotifier;
+import org.prebid.mobile.rendering.networking.transport.HttpTransport;
 
-import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 
@@ -32,7 +33,6 @@ public class MaxNativeManager {
     @Nullable
     private MaxNativeAdAdapterListener maxListener;
     private HttpURLConnection connection;
-    private InputStream inputStream;
 
     public void loadAd(
             MaxAdapterResponseParameters parameters,
@@ -54,12 +54,7 @@ public class MaxNativeManager {
 
     public void destroy() {
         try {
-            if (inputStream != null) {
-                inputStream.close();
-            }
-            if (connection != null) {
-                connection.disconnect();
-            }
+            PrebidMobile.getHttpTransport().release(connection, false);
         } catch (Exception ignored) {}
     }
 
@@ -93,16 +88,18 @@ public class MaxNativeManager {
     @Nullable
     private Bitmap downloadImage(String url) {
         Bitmap result = null;
+        HttpTransport transport = PrebidMobile.getHttpTransport();
         try {
             URL mainImageUrl = new URL(url);
-            connection = (HttpURLConnection) mainImageUrl.openConnection();
+            connection = (HttpURLConnection) transport.openConnection(mainImageUrl);
             connection.connect();
-            inputStream = connection.getInputStream();
-            result = BitmapFactory.decodeStream(inputStream);
-            inputStream.close();
-            connection.disconnect();
+            result = BitmapFactory.decodeStream(connection.getInputStream());
         } catch (Exception exception) {
             Log.e(TAG, "Can't download image: (" + url + ")");
+        } finally {
+            // The transport reads what the decoder left and closes the stream
+            transport.release(connection, result != null);
+            connection = null;
         }
         return result;
     }
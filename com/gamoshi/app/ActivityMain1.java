@@ -57,7 +57,7 @@ public class ActivityMain1 extends Activity {
 
 a = this;
         File logfile = new File(getCacheDir(), "logfile");
-        LogUtil.loggerFile = logfile;
+        LogUtil.setLogFile(logfile);
         setContentView(R.layout.activity1);
         menu  = findViewById(R.id.menu);
         PopupMenu pm = new PopupMenu(this,menu);
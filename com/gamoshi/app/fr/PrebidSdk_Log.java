@@ -22,14 +22,11 @@ import androidx.core.content.ContextCompat;
 import com.gamoshi.app.ActivityMain1;
 import com.gamoshi.app.R;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import org.prebid.mobile.LogBuffer;
+import org.prebid.mobile.LogUtil;
 
 public class PrebidSdk_Log extends Fragment {
     ActivityMain1 activity;
-    File logfile;
     SpannableStringBuilder buildSpanned = new SpannableStringBuilder();
     TextView text;
     SharedPreferences preferences;
@@ -37,7 +34,6 @@ public class PrebidSdk_Log extends Fragment {
     @Override
     public View onCreateView(LayoutInflater inflater, @Nullable ViewGroup container, Bundle savedInstanceState) {
         activity = (ActivityMain1) getActivity();
-        logfile= new File(activity.getCacheDir(), "logfile");
         preferences = activity.getPreferences(0);
         return inflater.inflate(R.layout.prebidsdk_log,null);
     }
@@ -59,29 +55,16 @@ public class PrebidSdk_Log extends Fragment {
     }
 
     private void clean() {
-        try {
-            FileOutputStream fileOutputStream = new FileOutputStream(logfile, false);
-            fileOutputStream.write("".getBytes());
-            fileOutputStream.close();
-           // text.setText("");
-            buildSpanned = new SpannableStringBuilder();
-        } catch ( Exception e) {
-            e.printStackTrace();
-        }
+        LogUtil.clearLogs();
+       // text.setText("");
+        buildSpanned = new SpannableStringBuilder();
     }
 
     private void updateText() {
 
         try {
-            FileInputStream fileInputStream = new FileInputStream(logfile);
-            byte[] b = new byte[fileInputStream.available()];
-            fileInputStream.read(b);
-            String s = new String(b);
-         //  Log.e("jjjj" ,s);
-           // text.setText(new String(b));
-            fileInputStream.close();
-            String[] sp = s.split("\n\n");
-            for (String am : sp){
+            for (LogBuffer.Entry entry : LogUtil.getLogBuffer().snapshot()){
+                String am = entry.toString();
                 if(am.startsWith("V") && !preferences.getBoolean("VERBOSE",true)) continue;
                 if(am.startsWith("I") && !preferences.getBoolean("INFO",true)) continue;
                 if(am.startsWith("D") && !preferences.getBoolean("DEBUG",true)) continue;
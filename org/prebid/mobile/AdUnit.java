@@ -41,6 +41,7 @@ import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.bidding.loader.BidLoader;
+import org.prebid.mobile.rendering.bidding.loader.BidPrefetcher;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 
 import java.lang.ref.WeakReference;
@@ -112,6 +113,21 @@ public abstract class AdUnit {
         }
     }
 
+    /**
+     * Keeps up to {@code inventorySize} ready bids for this ad unit, so single fetchDemand() calls
+     * can complete right away. Ad units with auto refresh load their own bids, so prefetching is ignored for them.
+     */
+    public void enablePrefetch(@IntRange(from = 1) int inventorySize) {
+        BidPrefetcher.getInstance().enable(configuration, inventorySize);
+    }
+
+    /**
+     * Stops prefetching bids for this ad unit and drops the ready ones.
+     */
+    public void disablePrefetch() {
+        BidPrefetcher.getInstance().disable(configuration.getConfigId());
+    }
+
     /**
      * Destroy ad unit and stop downloading.
      */
@@ -236,6 +252,15 @@ public abstract class AdUnit {
 
         if (Util.supportedAdObject(adObject) || allowNullableAdObject) {
             this.adObject = adObject;
+            if (configuration.getAutoRefreshDelay() <= 0) {
+                BidResponse prefetchedResponse = BidPrefetcher.getInstance().takeBid(configuration.getConfigId());
+                if (prefetchedResponse != null) {
+                    LogUtil.verbose("Fetch demand is completed with a prefetched bid.");
+                    createBidListener(listener).onFetchCompleted(prefetchedResponse);
+                    return;
+                }
+            }
+
             bidLoader = new BidLoader(
                     configuration,
                     createBidListener(listener)
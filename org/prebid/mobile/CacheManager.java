@@ -16,56 +16,83 @@
 
 package org.prebid.mobile;
 
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
-import java.util.HashMap;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Original API cache manager. Manages saving and receiving cached ad.
  * It is also responsible for native ad expiration.
+ * <p>
+ * The cache is thread-safe and bounded by entries count and content size. Expirations are
+ * scheduled on the SDK timer lane, the main thread is used only to notify
+ * registered {@link CacheExpiryListener}s.
  */
 public class CacheManager {
+
+    private static final String TAG = CacheManager.class.getSimpleName();
+
     private static final int NATIVE_AD_EXPIRY_TIMEOUT = 300000;
-    private static HashMap<String, String> savedValues = new HashMap<>();
-    private static HashMap<String, Long> expiryIntervalMap = new HashMap<>();
-    private static HashMap<String, CacheExpiryListener> cacheExpiryListenerMap = new HashMap<>();
-    private static Handler handler = new Handler(Looper.getMainLooper());
+    static final int MAX_ENTRIES = 100;
+    static final long MAX_CONTENT_BYTES = 4 * 1024 * 1024;
+
+    private static final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private static final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong contentBytes = new AtomicLong();
 
     public static String save(String content) {
-        if (!TextUtils.isEmpty(content)) {
-            final String cacheId = "Prebid_" + UUID.randomUUID().toString();
-            savedValues.put(cacheId, content);
-            handler.postDelayed(() -> {
-                if (cacheExpiryListenerMap.containsKey(cacheId)) {
-                    cacheExpiryListenerMap.remove(cacheId).onCacheExpired();
-                }
-                savedValues.remove(cacheId);
-            }, getExpiryInterval(cacheId));
-            return cacheId;
-        } else {
+        return save(content, null);
+    }
+
+    /**
+     * Saves content with the bid expiration time.
+     *
+     * @param expSeconds bid expiration (Bid.exp) in seconds, default timeout is used if it's null or not positive.
+     */
+    public static String save(String content, @Nullable Integer expSeconds) {
+        if (TextUtils.isEmpty(content)) {
             return null;
         }
-    }
 
-    private static long getExpiryInterval(String cacheId) {
-        return expiryIntervalMap.containsKey(cacheId) ? expiryIntervalMap.get(cacheId) : NATIVE_AD_EXPIRY_TIMEOUT;
+        final String cacheId = "Prebid_" + UUID.randomUUID().toString();
+        long ttl = expSeconds != null && expSeconds > 0 ? expSeconds * 1000L : NATIVE_AD_EXPIRY_TIMEOUT;
+
+        Entry entry = new Entry(content);
+        entries.put(cacheId, entry);
+        insertionOrder.add(cacheId);
+        contentBytes.addAndGet(entry.bytes);
+        schedule(cacheId, entry, ttl);
+
+        trim();
+        return cacheId;
     }
 
     public static boolean isValid(String cacheId) {
-        return savedValues.keySet().contains(cacheId);
+        if (cacheId == null) {
+            return false;
+        }
+        Entry entry = entries.get(cacheId);
+        return entry != null && entry.content != null;
     }
 
     @VisibleForTesting
     public static void clear() {
-        savedValues.clear();
-        cacheExpiryListenerMap.clear();
-        expiryIntervalMap.clear();
+        for (Entry entry : entries.values()) {
+            entry.cancelExpiration();
+        }
+        entries.clear();
+        insertionOrder.clear();
+        contentBytes.set(0);
     }
 
     /**
@@ -73,15 +100,115 @@ public class CacheManager {
      */
     @Nullable
     protected static String get(String cacheId) {
-        return savedValues.remove(cacheId);
+        if (cacheId == null) {
+            return null;
+        }
+        Entry entry = entries.get(cacheId);
+        return entry != null ? takeContent(cacheId, entry) : null;
     }
 
     protected static void registerCacheExpiryListener(String cacheId, CacheExpiryListener expiryListener) {
-        cacheExpiryListenerMap.put(cacheId, expiryListener);
+        Entry entry = entries.get(cacheId);
+        if (entry != null) {
+            entry.listener = expiryListener;
+        }
     }
 
+    /**
+     * Reschedules expiration of the saved content.
+     *
+     * @param exp expiration time in seconds
+     */
     public static void setExpiry(String cacheId, long exp) {
-        expiryIntervalMap.put(cacheId, exp * 1000); //converting seconds into ms
+        Entry entry = entries.get(cacheId);
+        if (entry != null && exp > 0) {
+            schedule(cacheId, entry, exp * 1000); //converting seconds into ms
+        }
+    }
+
+    @VisibleForTesting
+    static int size() {
+        return entries.size();
+    }
+
+    @VisibleForTesting
+    static long getContentBytes() {
+        return contentBytes.get();
+    }
+
+    private static void schedule(String cacheId, Entry entry, long ttl) {
+        synchronized (entry) {
+            entry.cancelExpiration();
+            entry.expiration = TasksManager.getInstance().schedule(() -> expire(cacheId), ttl, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void expire(String cacheId) {
+        Entry entry = entries.remove(cacheId);
+        if (entry == null) {
+            return;
+        }
+        takeContent(cacheId, entry);
+
+        final CacheExpiryListener listener = entry.listener;
+        if (listener != null) {
+            TasksManager.getInstance().executeOnMainThread(listener::onCacheExpired);
+        }
+    }
+
+    /**
+     * Drops the oldest content until the cache fits the limits. Evicted entries stay
+     * registered until their expiration, so expiry listeners are still notified.
+     */
+    private static void trim() {
+        // insertionOrder holds only ids of entries that still have content
+        while (insertionOrder.size() > MAX_ENTRIES || contentBytes.get() > MAX_CONTENT_BYTES) {
+            String oldestId = insertionOrder.poll();
+            if (oldestId == null) {
+                return;
+            }
+            Entry entry = entries.get(oldestId);
+            if (entry != null && takeContent(oldestId, entry) != null) {
+                LogUtil.debug(TAG, "Cache limit reached. Evicted: " + oldestId);
+            }
+        }
+    }
+
+    @Nullable
+    private static String takeContent(String cacheId, Entry entry) {
+        String content;
+        synchronized (entry) {
+            content = entry.content;
+            entry.content = null;
+        }
+        if (content != null) {
+            insertionOrder.remove(cacheId);
+            contentBytes.addAndGet(-entry.bytes);
+        }
+        return content;
+    }
+
+    private static class Entry {
+
+        private final long bytes;
+        @Nullable
+        private volatile String content;
+        @Nullable
+        private volatile CacheExpiryListener listener;
+        @Nullable
+        private ScheduledFuture<?> expiration;
+
+        private Entry(String content) {
+            this.content = content;
+            bytes = content.length() * 2L;
+        }
+
+        private void cancelExpiration() {
+            if (expiration != null) {
+                expiration.cancel(false);
+                expiration = null;
+            }
+        }
     }
 
     interface CacheExpiryListener {
@@ -18,6 +18,8 @@ package org.prebid.mobile;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 
 import org.prebid.mobile.http.HTTPGet;
 import org.prebid.mobile.http.HTTPResponse;
@@ -86,18 +88,30 @@ class ImpressionTracker {
         }
     }
 
+    /**
+     * The view could have been detached or the detector destroyed without a visibility change
+     * while the delayed check was pending.
+     */
+    private void fireIfStillVisible() {
+        if (visibilityDetector.isDestroyed() || !visibilityDetector.isVisible()) {
+            return;
+        }
+        fire();
+    }
+
+    /**
+     * Visibility detector reports only changes, so the impression is fired if the view stays visible
+     * for {@link Util#NATIVE_AD_VISIBLE_PERIOD_MILLIS} after it became visible.
+     */
     class ImpressionListener implements VisibilityDetector.VisibilityListener {
-        long elapsedTime = 0;
+        private final Handler handler = new Handler(Looper.getMainLooper());
+        private final Runnable fireRunnable = ImpressionTracker.this::fireIfStillVisible;
 
         @Override
         public void onVisibilityChanged(boolean visible) {
+            handler.removeCallbacks(fireRunnable);
             if (visible) {
-                elapsedTime += VisibilityDetector.VISIBILITY_THROTTLE_MILLIS;
-            } else {
-                elapsedTime = 0;
-            }
-            if (elapsedTime >= Util.NATIVE_AD_VISIBLE_PERIOD_MILLIS) {
-                ImpressionTracker.this.fire();
+                handler.postDelayed(fireRunnable, Util.NATIVE_AD_VISIBLE_PERIOD_MILLIS);
             }
         }
     }
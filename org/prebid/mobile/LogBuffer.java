@@ -0,0 +1,154 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free in-memory ring buffer of the last log lines. Writers never block: each line gets a
+ * sequence number and overwrites the oldest slot. Readers skip lines which were overwritten while
+ * they were reading.
+ */
+public class LogBuffer {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private volatile long clearedSequence;
+
+    /**
+     * @param capacity rounded up to the power of two.
+     */
+    public LogBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        entries = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    public void append(int priority, @NonNull String tag, @NonNull String message) {
+        long sequence = nextSequence.getAndIncrement();
+        entries.set((int) (sequence & mask), new Entry(sequence, priority, tag, message, System.currentTimeMillis()));
+    }
+
+    /**
+     * @return lines still kept in the buffer from the oldest to the newest.
+     */
+    @NonNull
+    public List<Entry> snapshot() {
+        List<Entry> result = new ArrayList<>();
+        drain(0, result);
+        return result;
+    }
+
+    /**
+     * Hides all current lines from {@link #snapshot()}.
+     */
+    public void clear() {
+        clearedSequence = nextSequence.get();
+    }
+
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * Copies lines starting from the sequence to the list. Lines which were already overwritten are skipped.
+     * Copying stops at a line which is still being written.
+     *
+     * @return sequence to continue from.
+     */
+    long drain(long fromSequence, @NonNull List<Entry> out) {
+        long end = nextSequence.get();
+        long sequence = Math.max(fromSequence, Math.max(clearedSequence, end - entries.length()));
+        for (; sequence < end; sequence++) {
+            Entry entry = entries.get((int) (sequence & mask));
+            if (entry == null || entry.sequence < sequence) {
+                break;
+            }
+            if (entry.sequence == sequence) {
+                out.add(entry);
+            }
+        }
+        return sequence;
+    }
+
+    public static class Entry {
+
+        private final long sequence;
+        private final int priority;
+        private final String tag;
+        private final String message;
+        private final long timeMillis;
+
+        private Entry(long sequence, int priority, String tag, String message, long timeMillis) {
+            this.sequence = sequence;
+            this.priority = priority;
+            this.tag = tag;
+            this.message = message;
+            this.timeMillis = timeMillis;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public long getTimeMillis() {
+            return timeMillis;
+        }
+
+        /**
+         * @return line in the log file format, e.g. {@code "D  Tag:   message"}.
+         */
+        @NonNull
+        @Override
+        public String toString() {
+            return getPriorityLetter(priority) + "  " + tag + ":   " + message;
+        }
+
+        private static String getPriorityLetter(int priority) {
+            switch (priority) {
+                case LogUtil.VERBOSE:
+                    return "V";
+                case LogUtil.DEBUG:
+                    return "D";
+                case LogUtil.INFO:
+                    return "I";
+                case LogUtil.WARN:
+                    return "W";
+                case LogUtil.ERROR:
+                    return "E";
+                default:
+                    return "A";
+            }
+        }
+    }
+}
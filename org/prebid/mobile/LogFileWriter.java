@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Appends lines of the {@link LogBuffer} to the log file in batches on the {@link TaskLane#DISK} lane.
+ * When the file exceeds the size limit it is moved to a single backup file, so the disk footprint
+ * is bounded by twice the limit.
+ */
+class LogFileWriter {
+
+    private static final String TAG = "LogFileWriter";
+
+    static final long DEFAULT_MAX_FILE_BYTES = 512 * 1024;
+    private static final long FLUSH_DELAY_MILLIS = 500;
+    private static final String LINE_SEPARATOR = "\n\n";
+
+    private final LogBuffer buffer;
+    private final File file;
+    private final File backupFile;
+    private final long maxFileBytes;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private long cursor;
+
+    LogFileWriter(@NonNull LogBuffer buffer, @NonNull File file, long maxFileBytes) {
+        this.buffer = buffer;
+        this.file = file;
+        this.backupFile = new File(file.getPath() + ".1");
+        this.maxFileBytes = maxFileBytes;
+        this.cursor = buffer.getNextSequence();
+    }
+
+    @NonNull
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Schedules a flush if there is no pending one.
+     */
+    void onAppend() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                TasksManager.getInstance().schedule(this::submitFlush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException exception) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Runs on the timer. If the disk lane is overloaded, the flush is retried after the delay.
+     */
+    private void submitFlush() {
+        try {
+            TasksManager.getInstance().execute(TaskLane.DISK, this::flush);
+        } catch (RejectedExecutionException exception) {
+            flushScheduled.set(false);
+            onAppend();
+        }
+    }
+
+    synchronized void flush() {
+        flushScheduled.set(false);
+
+        List<LogBuffer.Entry> batch = new ArrayList<>();
+        long next = buffer.drain(cursor, batch);
+        long dropped = next - cursor - batch.size();
+        cursor = next;
+        if (next < buffer.getNextSequence()) {
+            // A line is still being written or new lines were added, take them with the next batch.
+            onAppend();
+        }
+        if (batch.isEmpty() && dropped <= 0) {
+            return;
+        }
+
+        rotateIfNeeded();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"))) {
+            if (dropped > 0) {
+                writer.write("W  " + TAG + ":   " + dropped + " log lines were dropped" + LINE_SEPARATOR);
+            }
+            for (LogBuffer.Entry entry : batch) {
+                writer.write(entry.toString());
+                writer.write(LINE_SEPARATOR);
+            }
+        } catch (IOException exception) {
+            // LogUtil can't be used here, it would log to this file again.
+            Log.e(TAG, "Failed to write log file: " + exception.getMessage());
+        }
+    }
+
+    synchronized void clear() {
+        cursor = buffer.getNextSequence();
+        file.delete();
+        backupFile.delete();
+    }
+
+    private void rotateIfNeeded() {
+        if (file.length() < maxFileBytes) {
+            return;
+        }
+        backupFile.delete();
+        if (!file.renameTo(backupFile)) {
+            file.delete();
+        }
+    }
+}
@@ -19,14 +19,17 @@ package org.prebid.mobile;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.Size;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 
 /**
  * Prebid logger. Allows to control log level.
+ * <p>
+ * If the log file is set, all lines are also kept in the in-memory {@link LogBuffer} and appended to the file
+ * in batches on a background thread. Use {@link MessageSupplier} overloads for messages that are expensive
+ * to build, they are built only if the line is going to be logged.
  */
 public class LogUtil {
     private static final String BASE_TAG = "PrebidMobile";
@@ -40,7 +43,17 @@ public class LogUtil {
     public static final int ASSERT = android.util.Log.ASSERT; // 7
 
     private static int logLevel;
-      public static File loggerFile;
+
+    /**
+     * @deprecated Use {@link #setLogFile(File)}. A file assigned here is still used as the log file.
+     */
+    @Deprecated
+    @Nullable
+    public static volatile File loggerFile;
+
+    private static final LogBuffer logBuffer = new LogBuffer(LogBuffer.DEFAULT_CAPACITY);
+    @Nullable
+    private static volatile LogFileWriter logFileWriter;
 
     @NonNull
     private static PrebidLogger logger = new LogCatLogger();
@@ -61,6 +74,59 @@ public class LogUtil {
         return logLevel;
     }
 
+    /**
+     * Sets the file to keep all log lines regardless of the log level, null disables it.
+     * Size of the file is limited, the older lines are moved to the backup file with ".1" suffix.
+     */
+    public static synchronized void setLogFile(@Nullable File file) {
+        logFileWriter = file != null ? new LogFileWriter(logBuffer, file, LogFileWriter.DEFAULT_MAX_FILE_BYTES) : null;
+        loggerFile = file;
+    }
+
+    /**
+     * @return buffer with the last log lines. Lines are buffered only if the log file is set.
+     */
+    @NonNull
+    public static LogBuffer getLogBuffer() {
+        return logBuffer;
+    }
+
+    /**
+     * Removes buffered lines and the log file.
+     */
+    public static void clearLogs() {
+        logBuffer.clear();
+        LogFileWriter writer = getLogFileWriter();
+        if (writer != null) {
+            writer.clear();
+        }
+    }
+
+    /**
+     * @return true if the message with this priority is going to be printed or written to the log file.
+     */
+    public static boolean isLoggable(int messagePriority) {
+        return messagePriority >= getLogLevel() || getLogFileWriter() != null;
+    }
+
+    /**
+     * Picks up a file assigned to the deprecated {@link #loggerFile}.
+     */
+    @Nullable
+    private static LogFileWriter getLogFileWriter() {
+        LogFileWriter writer = logFileWriter;
+        File file = loggerFile;
+        if (file != (writer != null ? writer.getFile() : null)) {
+            synchronized (LogUtil.class) {
+                if (loggerFile == file) {
+                    setLogFile(file);
+                }
+                writer = logFileWriter;
+            }
+        }
+        return writer;
+    }
+
     /**
      * Prints a message with VERBOSE priority and default BASE_TAG
      */
@@ -138,6 +204,27 @@ public class LogUtil {
         print(ASSERT, tag, msg);
     }
 
+    /**
+     * Prints a message with VERBOSE priority. The message is built only if it's going to be logged.
+     */
+    public static void verbose(@Size(max = 23) String tag, MessageSupplier message) {
+        print(VERBOSE, tag, message);
+    }
+
+    /**
+     * Prints a message with DEBUG priority. The message is built only if it's going to be logged.
+     */
+    public static void debug(@Size(max = 23) String tag, MessageSupplier message) {
+        print(DEBUG, tag, message);
+    }
+
+    /**
+     * Prints a message with INFO priority. The message is built only if it's going to be logged.
+     */
+    public static void info(@Size(max = 23) String tag, MessageSupplier message) {
+        print(INFO, tag, message);
+    }
+
     /**
      * Prints a message with ERROR priority and exception.
      */
@@ -146,11 +233,23 @@ public class LogUtil {
             return;
         }
 
+        LogFileWriter writer = getLogFileWriter();
+        if (writer != null) {
+            logBuffer.append(ERROR, tag, message + '\n' + Log.getStackTraceString(throwable));
+            writer.onAppend();
+        }
         if (ERROR >= getLogLevel()) {
             logger.e(getTagWithBase(tag), message, throwable);
         }
     }
 
+    private static void print(int messagePriority, String tag, MessageSupplier message) {
+        if (tag == null || message == null || !isLoggable(messagePriority)) {
+            return;
+        }
+        print(messagePriority, tag, message.get());
+    }
+
     /**
      * Prints information with set priority. Every tag
      */
@@ -158,30 +257,13 @@ public class LogUtil {
         if (tag == null || message == null) {
             return;
         }
-        if(loggerFile != null){
-            try {
-                FileOutputStream fileOutputStream = new FileOutputStream(loggerFile, true);
-                StringBuilder result = new StringBuilder();
-                if (messagePriority == 2) result.append("V");
-                else  if (messagePriority == 3) result.append("D");
-                else  if (messagePriority == 4) result.append("I");
-                else  if (messagePriority == 5) result.append("W");
-                else  if (messagePriority == 6) result.append("E");
-                result.append("  ");
-                result.append(tag);
-                result.append(":   ");
-                result.append(message);
-                result.append("\n\n");
-                fileOutputStream.write(result.toString().getBytes());
-                fileOutputStream.flush();
-                fileOutputStream.close();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+        LogFileWriter writer = getLogFileWriter();
+        if (writer != null) {
+            logBuffer.append(messagePriority, tag, message);
+            writer.onAppend();
         }
         if (messagePriority >= getLogLevel()) {
             logger.println(messagePriority, getTagWithBase(tag), message);
-
         }
     }
 
@@ -205,6 +287,14 @@ public class LogUtil {
         }
     }
 
+    /**
+     * Builds a log message on demand.
+     */
+    public interface MessageSupplier {
+
+        String get();
+    }
+
     /**
      * Internal interface.
      */
@@ -12,6 +12,7 @@ import org.prebid.mobile.rendering.bidding.data.bid.Bid;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.networking.tracking.ServerConnection;
+import org.prebid.mobile.rendering.networking.tracking.TrackingEventQueue;
 
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -48,7 +49,7 @@ public class NativeAdUnit extends AdUnit {
                 HashMap<String, String> keywords = response.getTargeting();
                 Util.apply(keywords, adObject);
 
-                String cacheId = CacheManager.save(response.getWinningBidJson());
+                String cacheId = CacheManager.save(response.getWinningBidJson(), response.getExpirationTimeSeconds());
                 Util.saveCacheId(cacheId, adObject);
 
                 notifyWinEvent(response);
@@ -243,7 +244,7 @@ public class NativeAdUnit extends AdUnit {
         Bid winningBid = response.getWinningBid();
         if (winningBid == null) return;
 
-        ServerConnection.fireAndForget(winningBid.getNurl());
+        ServerConnection.fireAndForget(winningBid.getNurl(), TrackingEventQueue.TYPE_WIN);
     }
 
 }
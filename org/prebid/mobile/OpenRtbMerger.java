@@ -11,6 +11,8 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * The OpenRtbMerger class provides functionality to merge a given JSON request object
@@ -20,6 +22,19 @@ public class OpenRtbMerger {
 
     private static final String TAG = "OpenRtbMerger";
 
+    private static final int PARSED_CONFIGS_CAPACITY = 8;
+
+    /**
+     * The global and the imp configs are the same for most requests, so they are parsed once.
+     * Parsed configs are shared between requests and must not be modified.
+     */
+    private static final Map<String, JSONObject> parsedConfigs = new LinkedHashMap<String, JSONObject>(PARSED_CONFIGS_CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JSONObject> eldest) {
+            return size() > PARSED_CONFIGS_CAPACITY;
+        }
+    };
+
     private OpenRtbMerger() {
     }
 
@@ -37,9 +52,7 @@ public class OpenRtbMerger {
         }
 
         try {
-            JSONObject openRtbJson = new JSONObject(openRtb);
-            removeSensitiveData(openRtbJson);
-            return merge(originalRequest, openRtbJson);
+            return merge(originalRequest, parseConfig(openRtb));
         } catch (Exception e) {
             LogUtil.error(TAG, "Can't merge OpenRTB config: " + e.getMessage());
         }
@@ -47,6 +60,23 @@ public class OpenRtbMerger {
         return originalRequest;
     }
 
+    @NonNull
+    private static JSONObject parseConfig(@NonNull String openRtb) throws JSONException {
+        synchronized (parsedConfigs) {
+            JSONObject parsed = parsedConfigs.get(openRtb);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+
+        JSONObject openRtbJson = new JSONObject(openRtb);
+        removeSensitiveData(openRtbJson);
+        synchronized (parsedConfigs) {
+            parsedConfigs.put(openRtb, openRtbJson);
+        }
+        return openRtbJson;
+    }
+
     @NonNull
     private static JSONObject merge(JSONObject requestJsonRoot, JSONObject openRtbJsonRoot) throws JSONException {
         for (Iterator<String> it = openRtbJsonRoot.keys(); it.hasNext(); ) {
@@ -31,8 +31,13 @@ import org.prebid.mobile.api.rendering.pluginrenderer.PrebidMobilePluginRegister
 import org.prebid.mobile.api.rendering.pluginrenderer.PrebidMobilePluginRenderer;
 import org.prebid.mobile.configuration.PBSConfig;
 
+import org.prebid.mobile.rendering.bidding.loader.AuctionBatcher;
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
 import org.prebid.mobile.rendering.mraid.MraidEnv;
+import org.prebid.mobile.rendering.networking.parameters.RequestSectionCache;
+import org.prebid.mobile.rendering.networking.timeout.AdaptiveTimeoutController;
+import org.prebid.mobile.rendering.networking.transport.HttpTransport;
+import org.prebid.mobile.rendering.networking.transport.PooledHttpTransport;
 import org.prebid.mobile.rendering.sdk.InitializationNotifier;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.sdk.SdkInitializer;
@@ -120,8 +125,12 @@ public class PrebidMobile {
 
     private static final Map<String, String> storedBidResponses = new LinkedHashMap<>();
     private static HashMap<String, String> customHeaders = new HashMap<>();
+    @Nullable
+    private static volatile HttpTransport httpTransport;
+    private static boolean compressBidRequests = false;
     private static boolean includeWinners = false;
     private static boolean includeBidderKeys = false;
+    private static int auctionBatchWindowMillis = 0;
 
     private static final int DEFAULT_BANNER_TIMEOUT = 6 * 1000;
     private static final int DEFAULT_PRERENDER_TIMEOUT = 30 * 1000;
@@ -160,7 +169,8 @@ public class PrebidMobile {
     }
 
     /**
-     * Sets connection timeout for bid request.
+     * Sets connection timeout for bid request. Once enough requests were observed, bid requests may
+     * use a shorter one, never a longer one (see {@link AdaptiveTimeoutController}).
      */
     public static void setTimeoutMillis(int timeoutMillis) {
         PrebidMobile.timeoutMillis = timeoutMillis;
@@ -168,6 +178,7 @@ public class PrebidMobile {
 
     public static void setPrebidServerAccountId(String accountId) {
         PrebidMobile.accountId = accountId;
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.APP);
     }
 
     public static String getPrebidServerAccountId() {
@@ -220,6 +231,78 @@ public class PrebidMobile {
         return PrebidMobile.customHeaders;
     }
 
+    /**
+     * Returns the transport used for all SDK network requests.
+     * If no custom transport was set, the default {@link PooledHttpTransport} is created.
+     */
+    @NonNull
+    public static HttpTransport getHttpTransport() {
+        HttpTransport transport = httpTransport;
+        if (transport == null) {
+            synchronized (PrebidMobile.class) {
+                transport = httpTransport;
+                if (transport == null) {
+                    transport = new PooledHttpTransport();
+                    httpTransport = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * Sets custom transport for all SDK network requests. Must be called before the SDK initialization.
+     * Pass null to restore the default {@link PooledHttpTransport}.
+     */
+    public static void setHttpTransport(@Nullable HttpTransport transport) {
+        PrebidMobile.httpTransport = transport;
+    }
+
+    /**
+     * {@link #setCompressBidRequests(boolean)}
+     */
+    public static boolean isCompressBidRequests() {
+        return compressBidRequests;
+    }
+
+    /**
+     * Sends bid requests gzip-compressed (Content-Encoding: gzip).
+     * Enable it only if the Prebid Server supports compressed requests.
+     */
+    public static void setCompressBidRequests(boolean compressBidRequests) {
+        PrebidMobile.compressBidRequests = compressBidRequests;
+    }
+
+    /**
+     * {@link #setAuctionBatchWindowMillis(int)}
+     */
+    public static int getAuctionBatchWindowMillis() {
+        return auctionBatchWindowMillis;
+    }
+
+    /**
+     * Collects bid loads of different ad units started within the window and sends them
+     * in one request with an imp per ad unit. 0 (default) sends every load right away.
+     */
+    public static void setAuctionBatchWindowMillis(int auctionBatchWindowMillis) {
+        PrebidMobile.auctionBatchWindowMillis = Math.max(auctionBatchWindowMillis, 0);
+    }
+
+    /**
+     * Collects bid loads of all following fetchDemand() and loadAd() calls
+     * until {@link #sendAuctionBatch()}, and auctions them in one request.
+     */
+    public static void beginAuctionBatch() {
+        AuctionBatcher.getInstance().hold();
+    }
+
+    /**
+     * Sends the bid loads collected since {@link #beginAuctionBatch()}.
+     */
+    public static void sendAuctionBatch() {
+        AuctionBatcher.getInstance().release();
+    }
+
     /**
      * Initializes the main SDK classes and makes request to Prebid server to check its status.
      * If you use custom /status endpoint set it with ({@link PrebidMobile#setCustomStatusEndpoint(String)}) before starting initialization.
@@ -32,6 +32,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.bidding.events.EventsNotifier;
 import org.prebid.mobile.rendering.utils.helpers.ExternalViewerUtils;
+import org.prebid.mobile.rendering.utils.helpers.MacrosResolutionHelper;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -123,8 +124,8 @@ public class PrebidNativeAd {
                     JSONObject link = adm.getJSONObject("link");
                     if (link.has("url")) {
                         String url = link.getString("url");
-                        if (url.contains("{AUCTION_PRICE}") && details.has("price")) {
-                            url = url.replace("{AUCTION_PRICE}", details.getString("price"));
+                        if (details.has("price")) {
+                            url = MacrosResolutionHelper.resolveNativeAuctionPrice(url, details.getString("price"));
                         }
                         ad.setClickUrl(url);
                     }
@@ -135,8 +136,8 @@ public class PrebidNativeAd {
                             ad.click_trackers = new ArrayList<>();
                             for (int count = 0; count < clicktrackers.length(); count++) {
                                 String clickTrackerUrl = clicktrackers.getString(count);
-                                if (clickTrackerUrl.contains("{AUCTION_PRICE}") && details.has("price")) {
-                                    clickTrackerUrl = clickTrackerUrl.replace("{AUCTION_PRICE}", details.getString("price"));
+                                if (details.has("price")) {
+                                    clickTrackerUrl = MacrosResolutionHelper.resolveNativeAuctionPrice(clickTrackerUrl, details.getString("price"));
                                 }
                                 ad.click_trackers.add(clickTrackerUrl);
                             }
@@ -152,8 +153,8 @@ public class PrebidNativeAd {
                             JSONObject eventtracker = eventtrackers.getJSONObject(count);
                             if (eventtracker.has("url")) {
                                 String impUrl = eventtracker.getString("url");
-                                if (impUrl.contains("{AUCTION_PRICE}") && details.has("price")) {
-                                    impUrl = impUrl.replace("{AUCTION_PRICE}", details.getString("price"));
+                                if (details.has("price")) {
+                                    impUrl = MacrosResolutionHelper.resolveNativeAuctionPrice(impUrl, details.getString("price"));
                                 }
                                 ad.imp_trackers.add(impUrl);
                             }
@@ -24,11 +24,12 @@ import android.net.NetworkInfo;
 import org.prebid.mobile.http.HTTPGet;
 import org.prebid.mobile.http.HTTPResponse;
 import org.prebid.mobile.http.HttpErrorCode;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Internal class for network operations.
@@ -46,7 +47,7 @@ public class SharedNetworkManager {
 
 
     private ArrayList<UrlObject> urls = new ArrayList<UrlObject>();
-    private Timer retryTimer;
+    private ScheduledFuture<?> retryTimer;
     private static final int TOTAL_RETRY_TIMES = 3;
     private static final int TOTAL_RETRY_WAIT_INTERVAL_MILLISECONDS = 10 * 1000;
     private static final String permission = "android.permission.ACCESS_NETWORK_STATE";
@@ -94,8 +95,7 @@ public class SharedNetworkManager {
         if (retryTimer == null) {
             // check Network Connectivity after a certain period
             final WeakReference<Context> weakContext = new WeakReference<Context>(context);
-            retryTimer = new Timer();
-            retryTimer.scheduleAtFixedRate(new TimerTask() {
+            retryTimer = TasksManager.getInstance().scheduleAtFixedRate(new Runnable() {
                 @Override
                 public void run() {
                     Context context = weakContext.get();
@@ -143,14 +143,14 @@ public class SharedNetworkManager {
                         stopTimer();
                     }
                 }
-            }, TOTAL_RETRY_WAIT_INTERVAL_MILLISECONDS, TOTAL_RETRY_WAIT_INTERVAL_MILLISECONDS);
+            }, TOTAL_RETRY_WAIT_INTERVAL_MILLISECONDS, TOTAL_RETRY_WAIT_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
 
         }
     }
 
     private void stopTimer() {
         if (retryTimer != null) {
-            retryTimer.cancel();
+            retryTimer.cancel(false);
             retryTimer = null;
         }
     }
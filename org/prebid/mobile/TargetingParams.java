@@ -24,6 +24,7 @@ import androidx.annotation.Nullable;
 
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
+import org.prebid.mobile.rendering.networking.parameters.RequestSectionCache;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.sdk.UserConsentUtils;
 
@@ -75,9 +76,10 @@ public class TargetingParams {
     ) {
         if (latitude == null || longitude == null) {
             userLatLon = null;
-            return;
+        } else {
+            userLatLon = new Pair<>(latitude, longitude);
         }
-        userLatLon = new Pair<>(latitude, longitude);
+        onUserTargetingChanged();
     }
 
     public static Pair<Float, Float> getUserLatLng() {
@@ -90,6 +92,7 @@ public class TargetingParams {
      */
     public static void addUserKeyword(String keyword) {
         userKeywordsSet.add(keyword);
+        onUserTargetingChanged();
     }
 
     /**
@@ -98,6 +101,7 @@ public class TargetingParams {
      */
     public static void addUserKeywords(Set<String> keywords) {
         userKeywordsSet.addAll(keywords);
+        onUserTargetingChanged();
     }
 
     /**
@@ -105,6 +109,7 @@ public class TargetingParams {
      */
     public static void removeUserKeyword(String keyword) {
         userKeywordsSet.remove(keyword);
+        onUserTargetingChanged();
     }
 
     /**
@@ -112,6 +117,7 @@ public class TargetingParams {
      */
     public static void clearUserKeywords() {
         userKeywordsSet.clear();
+        onUserTargetingChanged();
     }
 
     public static String getUserKeywords() {
@@ -132,6 +138,7 @@ public class TargetingParams {
      */
     public static void setExternalUserIds(@Nullable List<ExternalUserId> userIds) {
         externalUserIdMap.clear();
+        onUserTargetingChanged();
 
         if (userIds == null) return;
 
@@ -159,6 +166,7 @@ public class TargetingParams {
      */
     public static void setSendSharedId(Boolean sendSharedId) {
         TargetingParams.sendSharedId = sendSharedId;
+        onUserTargetingChanged();
     }
 
     public static Boolean getSendSharedId() { return sendSharedId; }
@@ -182,6 +190,7 @@ public class TargetingParams {
      */
     public static void resetSharedId() {
         SharedId.resetIdentifier();
+        onUserTargetingChanged();
     }
 
     /* -------------------- Context and application data -------------------- */
@@ -193,6 +202,7 @@ public class TargetingParams {
      */
     public static void setPublisherName(String publisherName) {
         TargetingParams.publisherName = publisherName;
+        onAppTargetingChanged();
     }
 
     public static String getPublisherName() {
@@ -207,6 +217,7 @@ public class TargetingParams {
      */
     public static synchronized void setDomain(String domain) {
         TargetingParams.domain = domain;
+        onAppTargetingChanged();
     }
 
     /**
@@ -225,6 +236,7 @@ public class TargetingParams {
      */
     public static synchronized void setStoreUrl(String storeUrl) {
         TargetingParams.storeUrl = storeUrl;
+        onAppTargetingChanged();
     }
 
     /**
@@ -255,6 +267,7 @@ public class TargetingParams {
      */
     public static synchronized void setBundleName(String bundleName) {
         TargetingParams.bundleName = bundleName;
+        onAppTargetingChanged();
     }
 
     /**
@@ -267,6 +280,7 @@ public class TargetingParams {
         String value
     ) {
         Util.addValue(extDataDictionary, key, value);
+        onAppTargetingChanged();
     }
 
     /**
@@ -278,6 +292,7 @@ public class TargetingParams {
         Set<String> value
     ) {
         extDataDictionary.put(key, value);
+        onAppTargetingChanged();
     }
 
     /**
@@ -285,6 +300,7 @@ public class TargetingParams {
      */
     public static void removeExtData(String key) {
         extDataDictionary.remove(key);
+        onAppTargetingChanged();
     }
 
     /**
@@ -292,6 +308,7 @@ public class TargetingParams {
      */
     public static void clearExtData() {
         extDataDictionary.clear();
+        onAppTargetingChanged();
     }
 
     public static Map<String, Set<String>> getExtDataDictionary() {
@@ -484,10 +501,19 @@ public class TargetingParams {
      */
     public static void setUserExt(Ext ext) {
         userExt = ext;
+        onUserTargetingChanged();
     }
 
     public static Ext getUserExt() {
         return userExt;
     }
 
+    private static void onUserTargetingChanged() {
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.USER);
+    }
+
+    private static void onAppTargetingChanged() {
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.APP);
+    }
+
 }
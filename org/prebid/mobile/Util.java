@@ -26,10 +26,12 @@ import androidx.annotation.Nullable;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.prebid.mobile.rendering.utils.helpers.ReflectionCache;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -37,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utils for original API reflection manipulations.
@@ -59,6 +62,19 @@ public class Util {
     public static final int NATIVE_AD_VISIBLE_PERIOD_MILLIS = 1000;
     private static final Random RANDOM = new Random();
     private static final HashSet<String> reservedKeys;
+    private static final ConcurrentHashMap<Class<?>, AdObjectType> adObjectTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Ad objects supported by the original API.
+     */
+    enum AdObjectType {
+        AD_MANAGER_REQUEST,
+        AD_MANAGER_REQUEST_BUILDER,
+        BUNDLE,
+        APPLOVIN_MAX_NATIVE_AD_LOADER,
+        HASH_MAP,
+        UNSUPPORTED
+    }
 
     static {
         reservedKeys = new HashSet<>();
@@ -179,11 +195,7 @@ public class Util {
     }
 
     static Class getClassFromString(String className) {
-        try {
-            return Class.forName(className);
-        } catch (ClassNotFoundException e) {
-        }
-        return null;
+        return ReflectionCache.getClass(className);
     }
 
     static Object callMethodOnObject(
@@ -191,18 +203,7 @@ public class Util {
             String methodName,
             Object... params
     ) {
-        try {
-            int len = params.length;
-            Class<?>[] classes = new Class[len];
-            for (int i = 0; i < len; i++) {
-                classes[i] = params[i].getClass();
-            }
-            Method method = object.getClass().getMethod(methodName, classes);
-            return method.invoke(object, params);
-        } catch (Exception exception) {
-            LogUtil.error("Util", "Can't call method: " + methodName + "() on object " + object.getClass());
-        }
-        return null;
+        return ReflectionCache.invoke(object, methodName, params);
     }
 
     /**
@@ -320,34 +321,32 @@ public class Util {
     }
 
     static boolean supportedAdObject(Object adObj) {
-        if (adObj == null) return false;
-        if (adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS)
-                || adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS_V20)
-                || adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_BUILDER_CLASS)
-                || adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_BUILDER_CLASS_V20)
-                || adObj.getClass() == getClassFromString(ANDROID_OS_BUNDLE)
-                || adObj.getClass() == getClassFromString(APPLOVIN_MAX_NATIVE_AD_LOADER)
-                || adObj.getClass() == HashMap.class)
-            return true;
-        return false;
+        return getAdObjectType(adObj) != AdObjectType.UNSUPPORTED;
     }
 
     public static void apply(HashMap<String, String> bids, Object adObj) {
-        if (adObj == null) return;
-        if (adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS) || adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS_V20)) {
-            handleAdManagerCustomTargeting(bids, adObj);
-        } else if (adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_BUILDER_CLASS) || adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_BUILDER_CLASS_V20)) {
-            handleAdManagerBuilderCustomTargeting(bids, adObj);
-        } else if (adObj.getClass() == getClassFromString(ANDROID_OS_BUNDLE)) {
-            handleAndroidBundleCustomTargeting(bids, adObj);
-        } else if (adObj.getClass() == getClassFromString(APPLOVIN_MAX_NATIVE_AD_LOADER)) {
-            handleApplovinMaxCustomTargeting(adObj, bids);
-        } else if (adObj.getClass() == HashMap.class) {
-            if (bids != null && !bids.isEmpty()) {
-                HashMap map = ((HashMap) adObj);
-                map.clear();
-                map.putAll(bids);
-            }
+        switch (getAdObjectType(adObj)) {
+            case AD_MANAGER_REQUEST:
+                handleAdManagerCustomTargeting(bids, adObj);
+                break;
+            case AD_MANAGER_REQUEST_BUILDER:
+                handleAdManagerBuilderCustomTargeting(bids, adObj);
+                break;
+            case BUNDLE:
+                handleAndroidBundleCustomTargeting(bids, adObj);
+                break;
+            case APPLOVIN_MAX_NATIVE_AD_LOADER:
+                handleApplovinMaxCustomTargeting(adObj, bids);
+                break;
+            case HASH_MAP:
+                if (bids != null && !bids.isEmpty()) {
+                    HashMap map = ((HashMap) adObj);
+                    map.clear();
+                    map.putAll(bids);
+                }
+                break;
+            default:
+                break;
         }
     }
 
@@ -355,17 +354,55 @@ public class Util {
             @Nullable String cacheId,
             Object adObject
     ) {
-        if (adObject == null) return;
-        if (adObject.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS) || adObject.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS_V20)) {
-            setCacheIdToGamManager(cacheId, adObject);
-        } else if (adObject.getClass() == getClassFromString(ANDROID_OS_BUNDLE)) {
-            Bundle adBundle = (Bundle) adObject;
-            adBundle.putString(NativeAdUnit.BUNDLE_KEY_CACHE_ID, cacheId);
-        } else if (adObject.getClass() == getClassFromString(APPLOVIN_MAX_NATIVE_AD_LOADER)) {
-            setApplovinMaxLocalParameters(adObject, cacheId);
+        switch (getAdObjectType(adObject)) {
+            case AD_MANAGER_REQUEST:
+                setCacheIdToGamManager(cacheId, adObject);
+                break;
+            case BUNDLE:
+                Bundle adBundle = (Bundle) adObject;
+                adBundle.putString(NativeAdUnit.BUNDLE_KEY_CACHE_ID, cacheId);
+                break;
+            case APPLOVIN_MAX_NATIVE_AD_LOADER:
+                setApplovinMaxLocalParameters(adObject, cacheId);
+                break;
+            default:
+                break;
         }
     }
 
+    /**
+     * Returns the type of the ad object. It's resolved once per ad object class.
+     */
+    @NonNull
+    static AdObjectType getAdObjectType(@Nullable Object adObj) {
+        if (adObj == null) {
+            return AdObjectType.UNSUPPORTED;
+        }
+
+        Class<?> adObjectClass = adObj.getClass();
+        AdObjectType type = adObjectTypes.get(adObjectClass);
+        if (type == null) {
+            type = resolveAdObjectType(adObjectClass);
+            adObjectTypes.put(adObjectClass, type);
+        }
+        return type;
+    }
+
+    private static AdObjectType resolveAdObjectType(Class<?> adObjectClass) {
+        if (adObjectClass == getClassFromString(AD_MANAGER_REQUEST_CLASS) || adObjectClass == getClassFromString(AD_MANAGER_REQUEST_CLASS_V20)) {
+            return AdObjectType.AD_MANAGER_REQUEST;
+        } else if (adObjectClass == getClassFromString(AD_MANAGER_REQUEST_BUILDER_CLASS) || adObjectClass == getClassFromString(AD_MANAGER_REQUEST_BUILDER_CLASS_V20)) {
+            return AdObjectType.AD_MANAGER_REQUEST_BUILDER;
+        } else if (adObjectClass == getClassFromString(ANDROID_OS_BUNDLE)) {
+            return AdObjectType.BUNDLE;
+        } else if (adObjectClass == getClassFromString(APPLOVIN_MAX_NATIVE_AD_LOADER)) {
+            return AdObjectType.APPLOVIN_MAX_NATIVE_AD_LOADER;
+        } else if (adObjectClass == HashMap.class) {
+            return AdObjectType.HASH_MAP;
+        }
+        return AdObjectType.UNSUPPORTED;
+    }
+
     private static void setCacheIdToGamManager(
         String cacheId,
         Object object
@@ -374,11 +411,11 @@ public class Util {
             return;
         }
         try {
-            Bundle bundle = (Bundle) Util.callMethodOnObject(object, "getCustomTargeting");
+            Bundle bundle = getCustomTargeting(object);
             if (bundle != null) {
                 String key = "hb_cache_id_local";
                 bundle.putString(key, cacheId);
-                addReservedKeys(key);
+                addReservedKeys(Collections.singleton(key));
             }
         } catch (Exception ignored) {}
     }
@@ -403,16 +440,12 @@ public class Util {
             Object value
     ) {
         String methodName = "setLocalExtraParameter";
-        try {
-            Class<?>[] classes = new Class[2];
-            classes[0] = String.class;
-            classes[1] = Object.class;
-
-            Method method = adObject.getClass().getMethod(methodName, classes);
-            method.invoke(adObject, key, value);
-        } catch (Exception exception) {
+        Method method = ReflectionCache.getMethod(adObject.getClass(), methodName, String.class, Object.class);
+        if (method == null) {
             LogUtil.error("Util", "Can't call method: " + methodName + "() on object " + adObject.getClass());
+            return;
         }
+        ReflectionCache.invoke(adObject, method, key, value);
     }
 
     static void handleAndroidBundleCustomTargeting(
@@ -429,40 +462,56 @@ public class Util {
 
 
     private static void handleAdManagerCustomTargeting(HashMap<String, String> bids, Object publisherAdRequest) {
-        removeUsedCustomTargetingForDFP(publisherAdRequest);
+        Bundle bundle = getCustomTargeting(publisherAdRequest);
+        if (bundle == null) {
+            return;
+        }
+
+        removeReservedKeys(bundle);
         if (bids != null && !bids.isEmpty()) {
-            Bundle bundle = (Bundle) Util.callMethodOnObject(publisherAdRequest, "getCustomTargeting");
-            if (bundle != null) {
-                for (String key : bids.keySet()) {
-                    bundle.putString(key, bids.get(key));
-                    addReservedKeys(key);
-                }
+            for (Map.Entry<String, String> entry : bids.entrySet()) {
+                bundle.putString(entry.getKey(), entry.getValue());
             }
+            addReservedKeys(bids.keySet());
         }
     }
 
     private static void handleAdManagerBuilderCustomTargeting(HashMap<String, String> bids, Object publisherAdRequestBuilder) {
-        Object publisherAdRequest = Util.callMethodOnObject(publisherAdRequestBuilder, "build");
-        removeUsedCustomTargetingForDFP(publisherAdRequest);
+        Object publisherAdRequest = ReflectionCache.invoke(publisherAdRequestBuilder, "build");
+        Bundle bundle = publisherAdRequest != null ? getCustomTargeting(publisherAdRequest) : null;
+        if (bundle != null) {
+            removeReservedKeys(bundle);
+        }
 
         if (bids != null && !bids.isEmpty()) {
-            for (String key : bids.keySet()) {
-                Util.callMethodOnObject(publisherAdRequestBuilder, "addCustomTargeting", key, bids.get(key));
-                addReservedKeys(key);
+            Method addCustomTargeting = ReflectionCache.getMethod(publisherAdRequestBuilder.getClass(), "addCustomTargeting", String.class, String.class);
+            if (addCustomTargeting == null) {
+                LogUtil.error("Util", "Can't call method: addCustomTargeting() on object " + publisherAdRequestBuilder.getClass());
+                return;
+            }
+            for (Map.Entry<String, String> entry : bids.entrySet()) {
+                ReflectionCache.invoke(publisherAdRequestBuilder, addCustomTargeting, entry.getKey(), entry.getValue());
             }
+            addReservedKeys(bids.keySet());
         }
     }
 
-    private static void addReservedKeys(String key) {
+    @Nullable
+    private static Bundle getCustomTargeting(@NonNull Object publisherAdRequest) {
+        return (Bundle) ReflectionCache.invoke(publisherAdRequest, "getCustomTargeting");
+    }
+
+    private static void addReservedKeys(Collection<String> keys) {
         synchronized (reservedKeys) {
-            reservedKeys.add(key);
+            reservedKeys.addAll(keys);
         }
     }
 
-
-    private static void removeUsedCustomTargetingForDFP(Object publisherAdRequest) {
-        Bundle bundle = (Bundle) Util.callMethodOnObject(publisherAdRequest, "getCustomTargeting");
-        if (bundle != null && reservedKeys != null) {
+    /**
+     * Removes the targeting keys set by the previous requests.
+     */
+    private static void removeReservedKeys(@NonNull Bundle bundle) {
+        synchronized (reservedKeys) {
             for (String key : reservedKeys) {
                 bundle.remove(key);
             }
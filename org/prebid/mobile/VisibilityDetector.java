@@ -16,26 +16,57 @@
 
 package org.prebid.mobile;
 
-import android.graphics.Rect;
-import android.os.Handler;
-import android.os.Looper;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.rendering.utils.exposure.VisibilityEngine;
+import org.prebid.mobile.rendering.utils.exposure.ViewExposureChecker;
+import org.prebid.mobile.rendering.utils.exposure.VisibilitySample;
+
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * Notifies listeners when the view becomes visible or invisible. Visibility is sampled by the shared
+ * {@link VisibilityEngine} of the view's window.
+ */
 class VisibilityDetector {
-    static final long VISIBILITY_THROTTLE_MILLIS = 250;
-    private boolean scheduled = false;
     private WeakReference<View> viewReference;
     private ArrayList<VisibilityListener> listeners;
-    private Runnable visibilityCheck;
-    private ScheduledExecutorService tasker;
+    private VisibilityEngine engine;
+    private Boolean lastVisible;
     private static final String TAG = "VisibilityDetector";
-    private final int MIN_PERCENTAGE_VIEWED = 50;
+    /**
+     * Fraction of the view area that must be on screen and not covered by other views.
+     */
+    private static final float MIN_EXPOSURE = 0.5f;
+    private ViewExposureChecker exposureChecker;
+
+    private final VisibilityEngine.Client engineClient = new VisibilityEngine.Client() {
+        @Nullable
+        @Override
+        public View getTrackedView() {
+            return viewReference.get();
+        }
+
+        @Override
+        public boolean needsContinuousSampling() {
+            return false;
+        }
+
+        @Override
+        public void onSample(@NonNull VisibilitySample sample) {
+            if (sample.getView() == null) {
+                // Run last visibility check
+                notifyListeners(false);
+                stopVisibilityCheck();
+                return;
+            }
+            notifyListeners(sample.isExposed(MIN_EXPOSURE));
+        }
+    };
 
 
     static VisibilityDetector create(View view) {
@@ -44,13 +75,20 @@ class VisibilityDetector {
             return null;
         }
 
-        return new VisibilityDetector(view);
+        VisibilityEngine engine = VisibilityEngine.getInstance(view.getContext(), view);
+        if (engine == null) {
+            LogUtil.debug(TAG, "Unable to check visibility");
+            return null;
+        }
+
+        return new VisibilityDetector(view, engine);
     }
 
-    private VisibilityDetector(View view) {
+    private VisibilityDetector(View view, VisibilityEngine engine) {
         this.viewReference = new WeakReference<>(view);
         this.listeners = new ArrayList<VisibilityListener>();
-        scheduleVisibilityCheck();
+        this.engine = engine;
+        engine.register(engineClient);
     }
 
     void addVisibilityListener(VisibilityListener listener) {
@@ -63,79 +101,57 @@ class VisibilityDetector {
         return listeners.remove(listener);
     }
 
-    void scheduleVisibilityCheck(){
-        if(scheduled) return;
-        scheduled = true;
-        this.visibilityCheck = new Runnable() {
-            @Override
-            public void run() {
-                if (listeners != null) {
-                    // copy listeners to a new array to avoid concurrentmodificationexception
-                    ArrayList<VisibilityListener> tempList = new ArrayList<VisibilityListener>();
-                    for (VisibilityListener listener : listeners) {
-                        tempList.add(listener);
-                    }
-                    if (isVisible()) {
-                        for (VisibilityListener listener : tempList) {
-                            listener.onVisibilityChanged(true);
-                        }
-                    } else {
-                        for (VisibilityListener listener : tempList) {
-                            listener.onVisibilityChanged(false);
-                        }
-                    }
-                }
-            }
-        };
-        tasker = Executors.newSingleThreadScheduledExecutor();
-        tasker.scheduleAtFixedRate(() -> {
-            View view = viewReference.get();
-            if (view == null) {
-                // Run last visibility check
-                new Handler(Looper.getMainLooper()).post(visibilityCheck);
-
-                tasker.shutdownNow();
-                return;
-            }
+    /**
+     * Listeners are notified on the first sample and then only when visibility changes.
+     */
+    private void notifyListeners(boolean visible) {
+        if (listeners == null || (lastVisible != null && lastVisible == visible)) {
+            return;
+        }
+        lastVisible = visible;
 
-            view.post(visibilityCheck);
+        // copy listeners to a new array to avoid concurrentmodificationexception
+        ArrayList<VisibilityListener> tempList = new ArrayList<VisibilityListener>(listeners);
+        for (VisibilityListener listener : tempList) {
+            listener.onVisibilityChanged(visible);
+        }
+    }
 
-        }, 0, VISIBILITY_THROTTLE_MILLIS, TimeUnit.MILLISECONDS);
+    private void stopVisibilityCheck() {
+        if (engine != null) {
+            engine.unregister(engineClient);
+            engine = null;
+        }
     }
 
+    /**
+     * Checks the view between samples with the same criteria the samples use.
+     */
     boolean isVisible() {
         View view = viewReference.get();
-        if (view == null || view.getVisibility() != View.VISIBLE || view.getParent() == null) {
-            return false;
-        }
-
-        // holds the visible part of a view
-        Rect clippedArea = new Rect();
-
-        if (!view.getGlobalVisibleRect(clippedArea)) {
+        if (view == null) {
             return false;
         }
 
-        final int visibleViewArea = clippedArea.height() * clippedArea.width();
-        final int totalArea = view.getHeight() * view.getWidth();
-
-        if (totalArea <= 0) {
-            return false;
+        if (exposureChecker == null) {
+            exposureChecker = new ViewExposureChecker();
         }
-        return 100 * visibleViewArea >= MIN_PERCENTAGE_VIEWED * totalArea;
+        return exposureChecker.isExposed(view, MIN_EXPOSURE);
     }
 
+    /**
+     * Listeners which saw the view as visible get a last invisible notification, so they can drop pending work.
+     */
     void destroy() {
-        if (tasker != null && !tasker.isTerminated()) {
-            tasker.shutdownNow();
-        }
-        View view = viewReference.get();
-        if (view != null) {
-            view.removeCallbacks(visibilityCheck);
-        }
+        stopVisibilityCheck();
+        notifyListeners(false);
         listeners = null;
     }
 
+    boolean isDestroyed() {
+        return listeners == null;
+    }
+
     interface VisibilityListener {
         void onVisibilityChanged(boolean visible);
     }
@@ -2,12 +2,16 @@ package org.prebid.mobile;
 
 import android.app.Application;
 import android.content.Context;
-import android.os.CountDownTimer;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 import android.webkit.WebView;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
 
 import org.jetbrains.annotations.NotNull;
 import org.prebid.mobile.addendum.AdViewUtils;
@@ -15,7 +19,10 @@ import org.prebid.mobile.rendering.models.CreativeVisibilityTracker;
 import org.prebid.mobile.rendering.models.internal.VisibilityTrackerOption;
 import org.prebid.mobile.rendering.models.ntv.NativeEventTracker;
 import org.prebid.mobile.rendering.networking.tracking.ServerConnection;
+import org.prebid.mobile.rendering.networking.tracking.TrackingEventQueue;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.prebid.mobile.rendering.utils.exposure.VisibilityEngine;
+import org.prebid.mobile.rendering.utils.exposure.VisibilitySample;
 
 import java.lang.ref.WeakReference;
 
@@ -23,7 +30,7 @@ public class VisibilityMonitor {
 
     private boolean stopAfterFirstFinding = false;
 
-    private final VisibilityTimer visibilityTimer = new VisibilityTimer();
+    private final WebViewWatcher webViewWatcher = new WebViewWatcher();
 
     @Nullable
     private VisibilityActivityListener activityListener;
@@ -31,7 +38,7 @@ public class VisibilityMonitor {
     public void trackView(@NotNull View adViewContainer, @NotNull String burl, @NotNull String cacheId) {
         stopTracking();
 
-        visibilityTimer.start(adViewContainer, burl, cacheId, stopAfterFirstFinding);
+        webViewWatcher.start(adViewContainer, burl, cacheId, stopAfterFirstFinding);
     }
 
     public void trackInterstitial(String burl, String cacheId) {
@@ -43,7 +50,7 @@ public class VisibilityMonitor {
     }
 
     public void stopTracking() {
-        visibilityTimer.destroy();
+        webViewWatcher.destroy();
 
         if (activityListener != null) {
             getApplication().unregisterActivityLifecycleCallbacks(activityListener);
@@ -55,49 +62,78 @@ public class VisibilityMonitor {
         return (Application) context;
     }
 
-    private static class VisibilityTimer extends CountDownTimer {
+    /**
+     * Looks for the creative WebView inside the container on every {@link VisibilityEngine} sample
+     * of the container's window. The view hierarchy is walked only if the last found WebView was removed
+     * from the container.
+     */
+    private static class WebViewWatcher implements VisibilityEngine.Client {
 
-        private static final int LONGEVITY = Integer.MAX_VALUE;
-        private static final int INTERVAL = 500;
-        private static final String TAG = "VisibilityTimer";
+        private static final String TAG = "WebViewWatcher";
+
+        private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
         private int lastWebViewHash;
+        private WeakReference<WebView> lastWebViewReference = new WeakReference<>(null);
         private boolean stopAfterFirstFinding;
         private String burl;
         private String responseCacheId;
 
-        private WeakReference<View> containerViewReference;
+        private WeakReference<View> containerViewReference = new WeakReference<>(null);
+        @Nullable
+        private VisibilityEngine engine;
         @Nullable
         private CreativeVisibilityTracker visibilityTracker;
 
-        public VisibilityTimer() {
-            super(LONGEVITY, INTERVAL);
+        public void start(View containerView, String burl, String cacheId, boolean stopAfterFirstFinding) {
+            mainHandler.post(() -> {
+                this.burl = burl;
+                this.responseCacheId = cacheId;
+                this.containerViewReference = new WeakReference<>(containerView);
+                this.stopAfterFirstFinding = stopAfterFirstFinding;
+                this.lastWebViewReference = new WeakReference<>(null);
+
+                engine = VisibilityEngine.getInstance(containerView.getContext(), containerView);
+                if (engine == null) {
+                    return;
+                }
+
+                LogUtil.debug(TAG, "Start of monitoring...");
+                engine.register(this);
+            });
         }
 
-        public void start(View containerView, String burl, String cacheId, boolean stopAfterFirstFinding) {
-            this.burl = burl;
-            this.responseCacheId = cacheId;
-            this.containerViewReference = new WeakReference<>(containerView);
-            this.stopAfterFirstFinding = stopAfterFirstFinding;
+        @Nullable
+        @Override
+        public View getTrackedView() {
+            return containerViewReference.get();
+        }
 
-            LogUtil.debug(TAG, "Start of monitoring...");
-            start();
+        @Override
+        public boolean needsContinuousSampling() {
+            return false;
         }
 
         @Override
-        public void onTick(long millisUntilFinished) {
-            View containerView = containerViewReference.get();
+        public void onSample(@NonNull VisibilitySample sample) {
+            View containerView = sample.getView();
             if (containerView == null) {
                 LogUtil.debug(TAG, "Cancelled due to ad view is null");
                 destroy();
                 return;
             }
 
+            WebView lastWebView = lastWebViewReference.get();
+            if (lastWebView != null && isInside(lastWebView, containerView)) {
+                return;
+            }
+
             WebView webView = findIn(containerView);
             if (webView == null) {
                 return;
             }
 
+            lastWebViewReference = new WeakReference<>(webView);
             if (lastWebViewHash == webView.hashCode()) {
                 return;
             }
@@ -105,7 +141,7 @@ public class VisibilityMonitor {
 
             if (stopAfterFirstFinding) {
                 LogUtil.debug(TAG, "Interstitial WebView found. Stopping...");
-                destroy();
+                stopWatching();
             }
 
 
@@ -119,28 +155,50 @@ public class VisibilityMonitor {
             }
 
             visibilityTracker = new CreativeVisibilityTracker(webView, new VisibilityTrackerOption(NativeEventTracker.EventType.IMPRESSION));
+            visibilityTracker.setReportExposure(false);
             visibilityTracker.setVisibilityTrackerListener(result -> {
                 boolean visible = result.isVisible();
                 if (visible) {
                     LogUtil.debug(TAG, "View is visible. Firing event: " + burl);
-                    ServerConnection.fireAndForget(burl);
+                    ServerConnection.fireAndForget(burl, TrackingEventQueue.TYPE_BILLING);
                     visibilityTracker.stopVisibilityCheck();
                 }
             });
             visibilityTracker.startVisibilityCheck(PrebidContextHolder.getContext());
         }
 
-        @Override
-        public void onFinish() {
+        private void stopWatching() {
+            if (engine != null) {
+                engine.unregister(this);
+                engine = null;
+            }
         }
 
         public void destroy() {
-            if (visibilityTracker != null) {
-                LogUtil.debug(TAG, "Destroying");
-                visibilityTracker.stopVisibilityCheck();
-                visibilityTracker = null;
+            mainHandler.post(() -> {
+                if (visibilityTracker != null) {
+                    LogUtil.debug(TAG, "Destroying");
+                    visibilityTracker.stopVisibilityCheck();
+                    visibilityTracker = null;
+                }
+                stopWatching();
+            });
+        }
+
+        private static boolean isInside(View view, View container) {
+            if (!ViewCompat.isAttachedToWindow(view)) {
+                return false;
+            }
+
+            View current = view;
+            while (current != null) {
+                if (current == container) {
+                    return true;
+                }
+                ViewParent parent = current.getParent();
+                current = parent instanceof View ? (View) parent : null;
             }
-            cancel();
+            return false;
         }
 
         public static WebView findIn(View root) {
@@ -172,7 +230,7 @@ public class VisibilityMonitor {
             return null;
         }
 
-        private static AdViewUtils.CacheIdResult createCacheIdFoundTask(WeakReference<WebView> webViewReference, VisibilityTimer visibilityTimer, String responseCacheId, int lastWebViewHash) {
+        private static AdViewUtils.CacheIdResult createCacheIdFoundTask(WeakReference<WebView> webViewReference, WebViewWatcher webViewWatcher, String responseCacheId, int lastWebViewHash) {
             return cacheId -> {
                 if (cacheId == null || cacheId.isEmpty()) {
                     return;
@@ -188,7 +246,7 @@ public class VisibilityMonitor {
                     return;
                 }
 
-                visibilityTimer.attachVisibilityTracker(webView);
+                webViewWatcher.attachVisibilityTracker(webView);
                 LogUtil.debug(TAG, "Registering the new WebView: " + lastWebViewHash);
             };
         }
@@ -21,7 +21,6 @@ import android.os.Build;
 import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
-import android.webkit.ValueCallback;
 import android.webkit.WebView;
 
 import androidx.annotation.NonNull;
@@ -32,31 +31,17 @@ import org.prebid.mobile.CacheManager;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidNativeAd;
 import org.prebid.mobile.PrebidNativeAdListener;
+import org.prebid.mobile.rendering.utils.helpers.ReflectionCache;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class AdViewUtils {
 
-    /**
-     * Escaped double quotes.
-     */
-    private static final String EDQ = "\\\\\"";
-
-    private static final String INNER_HTML_SCRIPT = "document.body.innerHTML";
-    private static final String SIZE_VALUE_REGEX_EXPRESSION = "[0-9]+x[0-9]+";
-    private static final String SIZE_OBJECT_REGEX_EXPRESSION = "hb_size\\W+" + SIZE_VALUE_REGEX_EXPRESSION; //"hb_size\\W+[0-9]+x[0-9]+"
-
-    private static final String CACHE_ID_REGEX = EDQ + "hb_cache_id" + EDQ + ":\\[" + EDQ + "(.*?)" + EDQ + "\\]";
-
-
     private static final String GAM_VIEW_CLASS = "com.google.android.gms.ads.doubleclick.PublisherAdView";
     private static final String GAM_VIEW_CLASS_2 = "com.google.android.gms.ads.admanager.AdManagerAdView";
     private static final String GAM_CUSTOM_TEMPLATE_AD_CLASS = "com.google.android.gms.ads.formats.NativeCustomTemplateAd";
@@ -204,43 +189,31 @@ public final class AdViewUtils {
      */
     @TargetApi(Build.VERSION_CODES.KITKAT)
     static void iterateWebViewListAsync(@Size(min = 1) final List<WebView> webViewList, final int index, final PbFindSizeListener handler) {
-
-        final WebView webView = webViewList.get(index);
-
-        webView.evaluateJavascript(INNER_HTML_SCRIPT, new ValueCallback<String>() {
-
-            private Set<Pair<WebView, PbFindSizeError>> errorSet = new LinkedHashSet<>();
-
-            private void processNextWebViewOrFail(PbFindSizeError error) {
-
-                errorSet.add(new Pair<>(webView, error));
-
-                int nextIndex = index - 1;
-
-                if (nextIndex >= 0) {
-                    iterateWebViewListAsync(webViewList, nextIndex, handler);
-                } else {
-                    warnAndTriggerFailure(errorSet, handler);
-                }
+        new PrioritizedSearch<Pair<Pair<Integer, Integer>, PbFindSizeError>>(webViewList.subList(0, index + 1)) {
+            @Override
+            Pair<Pair<Integer, Integer>, PbFindSizeError> evaluate(@Nullable CreativeMetadataExtractor.Metadata metadata) {
+                return findSizeInMetadata(metadata);
             }
 
             @Override
-            public void onReceiveValue(@Nullable String html) {
-
-                Pair<Pair<Integer, Integer>, PbFindSizeError> pair = findSizeInHtml(html);
+            boolean isFound(Pair<Pair<Integer, Integer>, PbFindSizeError> result) {
+                return result.first != null;
+            }
 
-                @Nullable
-                Pair<Integer, Integer> size = pair.first;
-                @Nullable
-                PbFindSizeError error = pair.second;
+            @Override
+            void onFound(WebView webView, Pair<Pair<Integer, Integer>, PbFindSizeError> result) {
+                triggerSuccess(webView, result.first, handler);
+            }
 
-                if (size != null) {
-                    triggerSuccess(webView, size, handler);
-                } else {
-                    processNextWebViewOrFail(error);
+            @Override
+            void onNotFound(List<Pair<WebView, Pair<Pair<Integer, Integer>, PbFindSizeError>>> results) {
+                Set<Pair<WebView, PbFindSizeError>> errorSet = new LinkedHashSet<>();
+                for (Pair<WebView, Pair<Pair<Integer, Integer>, PbFindSizeError>> result : results) {
+                    errorSet.add(new Pair<>(result.first, result.second.second));
                 }
+                warnAndTriggerFailure(errorSet, handler);
             }
-        });
+        }.start();
     }
 
     /**
@@ -250,49 +223,41 @@ public final class AdViewUtils {
      * and {@link PrebidNativeAdListener#onPrebidNativeNotFound()} ()} (PrebidNativeAd)} when Cached Ad is not found
      */
     static void iterateWebViewListAsync(final List<WebView> webViewList, final int index, final PrebidNativeAdListener listener) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT) {
+            if (listener != null) {
+                listener.onPrebidNativeNotFound();
+            }
+            return;
+        }
 
-        final WebView webView = webViewList.get(index);
-
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-            webView.evaluateJavascript(INNER_HTML_SCRIPT, new ValueCallback<String>() {
-
-                private void processNextWebView() {
+        new PrioritizedSearch<String>(webViewList.subList(0, index + 1)) {
+            @Override
+            String evaluate(@Nullable CreativeMetadataExtractor.Metadata metadata) {
+                return metadata != null && metadata.nativeCacheId != null ? metadata.nativeCacheId : "";
+            }
 
-                    int nextIndex = index - 1;
+            @Override
+            boolean isFound(String cacheId) {
+                return !cacheId.isEmpty();
+            }
 
-                    if (nextIndex >= 0) {
-                        iterateWebViewListAsync(webViewList, nextIndex, listener);
-                    } else {
-                        listener.onPrebidNativeNotFound();
+            @Override
+            void onFound(WebView webView, String cacheId) {
+                if (CacheManager.isValid(cacheId)) {
+                    PrebidNativeAd ad = createPrebidNativeAd(cacheId, listener);
+                    if (ad != null) {
+                        listener.onPrebidNativeLoaded(ad);
+                        return;
                     }
                 }
+                listener.onPrebidNativeNotValid();
+            }
 
-                @Override
-                public void onReceiveValue(@Nullable String html) {
-                    Pattern prebidPattern = Pattern.compile("\\%\\%Prebid\\%\\%.*\\%\\%Prebid\\%\\%");
-                    Matcher m = prebidPattern.matcher(html);
-                    if (m.find()) {
-                        String s = m.group();
-                        String[] results = s.split("%%");
-                        String cacheId = results[2];
-                        if (CacheManager.isValid(cacheId)) {
-                            PrebidNativeAd ad = createPrebidNativeAd(cacheId, listener);
-                            if (ad != null) {
-                                listener.onPrebidNativeLoaded(ad);
-                                return;
-                            }
-                        }
-                        listener.onPrebidNativeNotValid();
-                    } else {
-                        processNextWebView();
-                    }
-                }
-            });
-        } else {
-            if (listener != null) {
+            @Override
+            void onNotFound(List<Pair<WebView, String>> results) {
                 listener.onPrebidNativeNotFound();
             }
-        }
+        }.start();
     }
 
     private static PrebidNativeAd createPrebidNativeAd(String cacheId, PrebidNativeAdListener listener) {
@@ -310,23 +275,17 @@ public final class AdViewUtils {
 
 
     @NonNull
-    static Pair<Pair<Integer, Integer>, PbFindSizeError> findSizeInHtml(@Nullable String html) {
+    static Pair<Pair<Integer, Integer>, PbFindSizeError> findSizeInMetadata(@Nullable CreativeMetadataExtractor.Metadata metadata) {
 
-        if (TextUtils.isEmpty(html)) {
+        if (metadata == null) {
             return new Pair<>(null, PbFindSizeErrorFactory.NO_HTML);
         }
 
-        String hbSizeObject = findHbSizeObject(html);
-        if (hbSizeObject == null) {
+        if (TextUtils.isEmpty(metadata.size)) {
             return new Pair<>(null, PbFindSizeErrorFactory.NO_SIZE_OBJECT);
         }
 
-        String hbSizeValue = findHbSizeValue(hbSizeObject);
-        if (hbSizeValue == null) {
-            return new Pair<>(null, PbFindSizeErrorFactory.NO_SIZE_VALUE);
-        }
-
-        Pair<Integer, Integer> size = stringToSize(hbSizeValue);
+        Pair<Integer, Integer> size = stringToSize(metadata.size);
         if (size == null) {
             return new Pair<>(null, PbFindSizeErrorFactory.SIZE_UNPARSED);
         } else {
@@ -335,64 +294,13 @@ public final class AdViewUtils {
 
     }
 
-    @Nullable
-    static String findHbSizeObject(String text) {
-        return matchAndCheck(SIZE_OBJECT_REGEX_EXPRESSION, text);
-    }
-
-    @Nullable
-    static String findHbSizeValue(String text) {
-        return matchAndCheck(SIZE_VALUE_REGEX_EXPRESSION, text);
-    }
-
-    @NonNull
-    static String[] matches(String regex, String text) {
-
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(text);
-
-        List<String> allMatches = new ArrayList<>();
-        while (matcher.find()) {
-            allMatches.add(matcher.group());
-        }
-
-        return allMatches.toArray(new String[0]);
-    }
-
-    @Nullable
-    static String matchAndCheck(String regex, String text) {
-
-        String[] matched = matches(regex, text);
-
-        if (matched.length == 0) {
-            return null;
-        }
-
-        String firstResult = matched[0];
-        return firstResult;
-    }
-
     public static void findCacheId(WebView webView, CacheIdResult onResult) {
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT) {
             onResult.run(null);
             return;
         }
 
-        webView.evaluateJavascript(INNER_HTML_SCRIPT, value -> {
-            String result = findCacheId(value);
-            onResult.run(result);
-        });
-    }
-
-    @Nullable
-    static String findCacheId(String html) {
-        Pattern pattern = Pattern.compile(CACHE_ID_REGEX);
-        Matcher matcher = pattern.matcher(html);
-
-        if (!matcher.find() || matcher.groupCount() == 0) {
-            return null;
-        }
-        return matcher.group(1);
+        CreativeMetadataExtractor.extract(webView, metadata -> onResult.run(metadata != null ? metadata.cacheId : null));
     }
 
     @Nullable
@@ -488,30 +396,76 @@ public final class AdViewUtils {
     }
 
     static Object callMethodOnObject(Object object, String methodName, Object... params) {
-        try {
-            int len = params.length;
-            Class<?>[] classes = new Class[len];
-            for (int i = 0; i < len; i++) {
-                classes[i] = params[i].getClass();
-            }
-            Method method = object.getClass().getMethod(methodName, classes);
-            return method.invoke(object, params);
-        } catch (NullPointerException e) {
-            e.printStackTrace();
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+        if (object == null) {
+            return null;
         }
-        return null;
+        return ReflectionCache.invoke(object, methodName, params);
     }
 
     public interface CacheIdResult {
         void run(String cacheId);
     }
 
+    /**
+     * Requests the metadata of all WebViews at once. The result is chosen in the priority order,
+     * the last WebView first, so it's the same as when the WebViews were searched one by one.
+     */
+    @TargetApi(Build.VERSION_CODES.KITKAT)
+    private abstract static class PrioritizedSearch<T> {
+
+        private final List<WebView> webViews;
+        private final List<T> results;
+        private boolean finished;
+
+        PrioritizedSearch(List<WebView> webViews) {
+            this.webViews = new ArrayList<>(webViews);
+            results = new ArrayList<>(webViews.size());
+            for (int i = 0; i < webViews.size(); i++) {
+                results.add(null);
+            }
+        }
+
+        void start() {
+            for (int i = 0; i < webViews.size(); i++) {
+                final int index = i;
+                CreativeMetadataExtractor.extract(webViews.get(i), metadata -> onResult(index, evaluate(metadata)));
+            }
+        }
+
+        private void onResult(int index, @NonNull T result) {
+            if (finished) {
+                return;
+            }
+            results.set(index, result);
+
+            List<Pair<WebView, T>> notFound = new ArrayList<>(results.size());
+            for (int i = results.size() - 1; i >= 0; i--) {
+                T current = results.get(i);
+                if (current == null) {
+                    return;
+                }
+                if (isFound(current)) {
+                    finished = true;
+                    onFound(webViews.get(i), current);
+                    return;
+                }
+                notFound.add(new Pair<>(webViews.get(i), current));
+            }
+
+            finished = true;
+            onNotFound(notFound);
+        }
+
+        @NonNull
+        abstract T evaluate(@Nullable CreativeMetadataExtractor.Metadata metadata);
+
+        abstract boolean isFound(T result);
+
+        abstract void onFound(WebView webView, T result);
+
+        abstract void onNotFound(List<Pair<WebView, T>> results);
+    }
+
 }
 
 //It is not possible to use Enum because we should have a possibility to pass additional information
@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2018-2019 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.addendum;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.text.TextUtils;
+import android.webkit.WebView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.prebid.mobile.LogUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Reads the Prebid values from a creative with a small injected script.
+ * <p>
+ * The script searches the document in the WebView and returns only the found values,
+ * so neither the HTML nor the search leaves the renderer. The found values are memoized
+ * in the window of the document, so repeated requests for the same creative are not searched again.
+ * Concurrent requests for the same WebView share one script evaluation. Must be used on the main thread.
+ */
+final class CreativeMetadataExtractor {
+
+    private static final String TAG = CreativeMetadataExtractor.class.getSimpleName();
+
+    private static final String KEY_SIZE = "size";
+    private static final String KEY_CACHE_ID = "cacheId";
+    private static final String KEY_NATIVE_CACHE_ID = "nativeCacheId";
+
+    private static final String EXTRACTION_SCRIPT = "(function() {"
+            + "var memo = window.__prebidCreativeMetadata;"
+            + "if (memo) { return memo; }"
+            + "var html = document.body ? document.body.innerHTML : '';"
+            + "var result = { size: null, cacheId: null, nativeCacheId: null };"
+            + "var match = /hb_size\\W+([0-9]+x[0-9]+)/.exec(html);"
+            + "if (match) { result.size = match[1]; }"
+            + "match = /\"hb_cache_id\":\\[\"(.*?)\"\\]/.exec(html);"
+            + "if (match) { result.cacheId = match[1]; }"
+            + "match = /%%Prebid%%(.*?)%%Prebid%%/.exec(html);"
+            + "if (match) { result.nativeCacheId = match[1]; }"
+            + "if (result.size || result.cacheId || result.nativeCacheId) { window.__prebidCreativeMetadata = result; }"
+            + "return result;"
+            + "})();";
+
+    private static final Map<WebView, List<MetadataListener>> pendingRequests = new WeakHashMap<>();
+
+    private CreativeMetadataExtractor() {
+    }
+
+    /**
+     * The listener gets null if the script couldn't be evaluated.
+     */
+    @TargetApi(Build.VERSION_CODES.KITKAT)
+    static void extract(@NonNull WebView webView, @NonNull MetadataListener listener) {
+        List<MetadataListener> listeners = pendingRequests.get(webView);
+        if (listeners != null) {
+            listeners.add(listener);
+            return;
+        }
+
+        listeners = new ArrayList<>(1);
+        listeners.add(listener);
+        pendingRequests.put(webView, listeners);
+        webView.evaluateJavascript(EXTRACTION_SCRIPT, value -> {
+            List<MetadataListener> waiting = pendingRequests.remove(webView);
+            if (waiting == null) {
+                return;
+            }
+
+            Metadata metadata = parse(value);
+            for (MetadataListener waitingListener : waiting) {
+                waitingListener.onMetadata(metadata);
+            }
+        });
+    }
+
+    @Nullable
+    private static Metadata parse(@Nullable String value) {
+        if (TextUtils.isEmpty(value) || "null".equals(value)) {
+            return null;
+        }
+
+        try {
+            JSONObject json = new JSONObject(value);
+            return new Metadata(
+                    getString(json, KEY_SIZE),
+                    getString(json, KEY_CACHE_ID),
+                    getString(json, KEY_NATIVE_CACHE_ID)
+            );
+        } catch (JSONException exception) {
+            LogUtil.warning(TAG, "Can't parse creative metadata: " + exception.getMessage());
+            return null;
+        }
+    }
+
+    @Nullable
+    private static String getString(JSONObject json, String key) {
+        return json.isNull(key) ? null : json.optString(key, null);
+    }
+
+    interface MetadataListener {
+
+        void onMetadata(@Nullable Metadata metadata);
+
+    }
+
+    static final class Metadata {
+
+        @Nullable
+        final String size;
+        @Nullable
+        final String cacheId;
+        @Nullable
+        final String nativeCacheId;
+
+        Metadata(@Nullable String size, @Nullable String cacheId, @Nullable String nativeCacheId) {
+            this.size = size;
+            this.cacheId = cacheId;
+            this.nativeCacheId = nativeCacheId;
+        }
+    }
+
+}
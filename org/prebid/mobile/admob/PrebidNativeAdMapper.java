@@ -22,8 +22,10 @@ import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
 import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper;
 
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.PrebidNativeAd;
 import org.prebid.mobile.PrebidNativeAdEventListener;
+import org.prebid.mobile.rendering.networking.transport.HttpTransport;
 
 import java.io.InputStream;
 import java.lang.ref.WeakReference;
@@ -135,10 +137,11 @@ public class PrebidNativeAdMapper extends UnifiedNativeAdMapper {
                 return downloadedImage;
             }
 
+            HttpTransport transport = PrebidMobile.getHttpTransport();
+            HttpURLConnection connection = null;
+            Bitmap x = null;
             try {
-                Bitmap x;
-
-                HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+                connection = (HttpURLConnection) transport.openConnection(new URL(url));
                 connection.connect();
                 InputStream input = connection.getInputStream();
 
@@ -147,6 +150,9 @@ public class PrebidNativeAdMapper extends UnifiedNativeAdMapper {
                 return downloadedImage;
             } catch (Exception exception) {
                 return new ShapeDrawable(new RectShape());
+            } finally {
+                // The transport reads what the decoder left and closes the stream
+                transport.release(connection, x != null);
             }
         }
 
@@ -343,6 +343,7 @@ public class VideoView extends BaseAdView {
             visibilityTrackerOption,
             true
         );
+        visibilityTracker.setReportExposure(false);
         visibilityTracker.setVisibilityTrackerListener(visibilityTrackerListener);
         visibilityTracker.startVisibilityCheck(getContext());
     }
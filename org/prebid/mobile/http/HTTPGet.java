@@ -18,6 +18,7 @@ package org.prebid.mobile.http;
 
 import android.os.Looper;
 
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.Util;
 import org.prebid.mobile.tasksmanager.TasksManager;
 
@@ -56,7 +57,7 @@ public abstract class HTTPGet {
     protected abstract String getUrl();
 
     private HttpURLConnection createConnection(URL url) throws IOException {
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        HttpURLConnection connection = (HttpURLConnection) PrebidMobile.getHttpTransport().openConnection(url);
         connection.setDoOutput(false);
         connection.setDoInput(true);
         connection.setUseCaches(false);
@@ -72,6 +73,7 @@ public abstract class HTTPGet {
     protected HTTPResponse makeHttpRequest() {
         HTTPResponse out = new HTTPResponse();
         HttpURLConnection connection = null;
+        boolean consumed = false;
         try {
             URL reqUrl = new URL(getUrl());
             if (reqUrl.getHost() == null) {
@@ -94,6 +96,7 @@ public abstract class HTTPGet {
             }
             reader.close();
             is.close();
+            consumed = true;
             String responseString = builder.toString();
 
 
@@ -113,6 +116,8 @@ public abstract class HTTPGet {
             out.setSucceeded(false);
             out.setErrorCode(HttpErrorCode.UNKNOWN_ERROR);
             e.printStackTrace();
+        } finally {
+            PrebidMobile.getHttpTransport().release(connection, consumed);
         }
         return out;
     }
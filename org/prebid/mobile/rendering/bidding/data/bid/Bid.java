@@ -17,19 +17,20 @@
 package org.prebid.mobile.rendering.bidding.data.bid;
 
 
-import android.util.Base64;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.api.data.BidInfo;
 import org.prebid.mobile.rendering.interstitial.rewarded.RewardedExt;
 import org.prebid.mobile.rendering.interstitial.rewarded.RewardedExtParser;
-import org.prebid.mobile.rendering.models.internal.MacrosModel;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.MobileSdkPassThrough;
 import org.prebid.mobile.rendering.utils.helpers.MacrosResolutionHelper;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class Bid {
@@ -47,7 +48,12 @@ public class Bid {
     // Optional means of conveying ad markup in case the bid wins;
     // supersedes the win notice if markup is included in both.
     // Substitution macros (Section 4.4) may be included.
-    private String adm;
+    // Published before admSlice is cleared, so a reader that sees no slice sees the resolved adm.
+    private volatile String adm;
+
+    // Raw adm from the response, unescaped on the first access.
+    @Nullable
+    private volatile JsonSlice admSlice;
 
     // Creative ID to assist with ad quality checking.
     private String crid;
@@ -93,6 +99,10 @@ public class Bid {
     // Bid json string. Used only for CacheManager.
     private String jsonString;
 
+    // Raw bid json from the response, copied on the first access.
+    @Nullable
+    private JsonSlice jsonSlice;
+
     // Tactic ID to enable buyers to label bids for reporting to the
     // exchange the tactic through which their bid was submitted
     private String tactic;
@@ -155,6 +165,15 @@ public class Bid {
     }
 
     public String getAdm() {
+        if (admSlice != null) {
+            synchronized (this) {
+                JsonSlice slice = admSlice;
+                if (slice != null) {
+                    adm = resolveMacros(slice.getValue(), price);
+                    admSlice = null;
+                }
+            }
+        }
         return adm;
     }
 
@@ -254,6 +273,11 @@ public class Bid {
     }
 
     public String getJsonString() {
+        JsonSlice slice = jsonSlice;
+        if (slice != null) {
+            jsonString = slice.getValue();
+            jsonSlice = null;
+        }
         return jsonString;
     }
 
@@ -314,8 +338,174 @@ public class Bid {
         return bid;
     }
 
-    public void setAdm(String adm) {
+    /**
+     * Reads bid from the response in one pass. Ad markup and bid json are kept
+     * as slices of the response and copied only when they are requested.
+     */
+    static Bid fromReader(
+            @NonNull JsonSliceReader reader,
+            @NonNull String source
+    ) throws JSONException {
+        Bid bid = new Bid();
+        bid.api = -1;
+        bid.protocol = -1;
+        bid.qagmediarating = -1;
+        bid.exp = -1;
+        bid.adomain = new String[0];
+        bid.cat = new String[0];
+        bid.attr = new int[0];
+
+        if (!reader.isNextObject()) {
+            reader.skipValue();
+            return bid;
+        }
+
+        int start = reader.position();
+        JSONObject ext = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "id":
+                    bid.id = reader.nextString(null);
+                    break;
+                case "impid":
+                    bid.impId = reader.nextString(null);
+                    break;
+                case "price":
+                    bid.price = reader.nextDouble(0);
+                    break;
+                case "adm":
+                    bid.admSlice = reader.nextSlice();
+                    break;
+                case "crid":
+                    bid.crid = reader.nextString(null);
+                    break;
+                case "w":
+                    bid.width = reader.nextInt(0);
+                    break;
+                case "h":
+                    bid.height = reader.nextInt(0);
+                    break;
+                case "nurl":
+                    bid.nurl = reader.nextString(null);
+                    break;
+                case "burl":
+                    bid.burl = reader.nextString(null);
+                    break;
+                case "lurl":
+                    bid.lurl = reader.nextString(null);
+                    break;
+                case "adid":
+                    bid.adid = reader.nextString(null);
+                    break;
+                case "adomain":
+                    bid.adomain = readStringArray(reader);
+                    break;
+                case "bundle":
+                    bid.bundle = reader.nextString(null);
+                    break;
+                case "iurl":
+                    bid.iurl = reader.nextString(null);
+                    break;
+                case "cid":
+                    bid.cid = reader.nextString(null);
+                    break;
+                case "tactic":
+                    bid.tactic = reader.nextString(null);
+                    break;
+                case "cat":
+                    bid.cat = readStringArray(reader);
+                    break;
+                case "attr":
+                    bid.attr = readIntArray(reader);
+                    break;
+                case "api":
+                    bid.api = reader.nextInt(-1);
+                    break;
+                case "protocol":
+                    bid.protocol = reader.nextInt(-1);
+                    break;
+                case "qagmediarating":
+                    bid.qagmediarating = reader.nextInt(-1);
+                    break;
+                case "language":
+                    bid.language = reader.nextString(null);
+                    break;
+                case "dealid":
+                    bid.dealId = reader.nextString(null);
+                    break;
+                case "wratio":
+                    bid.WRatio = reader.nextInt(0);
+                    break;
+                case "hratio":
+                    bid.HRatio = reader.nextInt(0);
+                    break;
+                case "exp":
+                    bid.exp = reader.nextInt(-1);
+                    break;
+                case "ext":
+                    ext = reader.nextJsonObject();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        bid.jsonSlice = new JsonSlice(source, start, reader.position(), false);
+
+        if (ext != null) {
+            Prebid prebidObject = Prebid.fromJSONObject(ext.optJSONObject("prebid"));
+            setEvents(bid, prebidObject);
+            bid.prebid = prebidObject;
+            bid.mobileSdkPassThrough = MobileSdkPassThrough.create(ext);
+            bid.rewardedExt = RewardedExtParser.parse(ext);
+        }
+
+        if (bid.admSlice == null) {
+            bid.adm = resolveMacros(null, bid.price);
+        }
+        bid.nurl = resolveMacros(bid.nurl, bid.price);
+
+        return bid;
+    }
+
+    public synchronized void setAdm(String adm) {
         this.adm = adm;
+        admSlice = null;
+    }
+
+    private static String[] readStringArray(JsonSliceReader reader) throws JSONException {
+        if (!reader.isNextArray()) {
+            reader.skipValue();
+            return new String[0];
+        }
+        List<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(reader.nextString(""));
+        }
+        reader.endArray();
+        return values.toArray(new String[0]);
+    }
+
+    private static int[] readIntArray(JsonSliceReader reader) throws JSONException {
+        if (!reader.isNextArray()) {
+            reader.skipValue();
+            return new int[0];
+        }
+        List<Integer> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(reader.nextInt(0));
+        }
+        reader.endArray();
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
     }
 
     private static String[] getStringArrayFromJson(JSONObject jsonObject, String key) {
@@ -349,16 +539,12 @@ public class Bid {
     }
 
     private static void substituteMacros(Bid bid) {
-        Map<String, MacrosModel> macrosModelMap = new HashMap<>();
-
-        String priceText = String.valueOf(bid.getPrice());
-        String base64PriceText = Base64.encodeToString(priceText.getBytes(), Base64.NO_WRAP);
-
-        macrosModelMap.put(MacrosModel.MACROS_AUCTION_PRICE, new MacrosModel(priceText));
-        macrosModelMap.put(MacrosModel.MACROS_AUCTION_PRICE_BASE_64, new MacrosModel(base64PriceText));
+        bid.adm = resolveMacros(bid.adm, bid.price);
+        bid.nurl = resolveMacros(bid.nurl, bid.price);
+    }
 
-        bid.adm = MacrosResolutionHelper.resolveAuctionMacros(bid.adm, macrosModelMap);
-        bid.nurl = MacrosResolutionHelper.resolveAuctionMacros(bid.nurl, macrosModelMap);
+    private static String resolveMacros(String value, double price) {
+        return MacrosResolutionHelper.resolveAuctionPrice(value, String.valueOf(price));
     }
 
 
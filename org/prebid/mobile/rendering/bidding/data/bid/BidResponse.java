@@ -22,7 +22,6 @@ import android.util.Pair;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
@@ -68,7 +67,12 @@ public class BidResponse {
     private String winningBidJson;
     private AdUnitConfiguration adUnitConfiguration;
     @Nullable
+    private String responseString;
+    @Nullable
     private JSONObject responseJson;
+    @Nullable
+    private Bid winningBid;
+    private boolean winningBidResolved;
 
     private long creationTime;
 
@@ -129,39 +133,108 @@ public class BidResponse {
         return winningBidJson;
     }
 
+    /**
+     * Size of the response body in UTF-8 bytes, counted without encoding the string.
+     */
+    public int getResponseSizeBytes() {
+        if (responseString == null) {
+            return 0;
+        }
+
+        int size = 0;
+        for (int i = 0, length = responseString.length(); i < length; i++) {
+            char c = responseString.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(responseString.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the whole response as JSON tree. The tree is built on the first call,
+     * the SDK itself works with the one-pass parsed model.
+     */
     @NonNull
     public JSONObject getResponseJson() {
+        if (responseJson == null && responseString != null && !hasParseError) {
+            try {
+                responseJson = new JSONObject(responseString);
+            } catch (JSONException exception) {
+                LogUtil.error(TAG, "Failed to build response JSON: " + exception.getMessage());
+            }
+        }
         return responseJson == null ? new JSONObject() : responseJson;
     }
 
     private void parseJson(String json) {
         winningBidJson = json;
+        responseString = json;
 
         try {
-            responseJson = new JSONObject(json);
-            id = responseJson.optString("id");
-            cur = responseJson.optString("cur");
-            bidId = responseJson.optString("bidid");
-            customData = responseJson.optString("customdata");
-            nbr = responseJson.optInt("nbr", -1);
+            if (json == null) {
+                throw new JSONException("Response is null");
+            }
 
+            id = "";
+            cur = "";
+            bidId = "";
+            customData = "";
+            nbr = -1;
             MobileSdkPassThrough rootMobilePassThrough = null;
-            if (responseJson.has("ext")) {
-                ext = new Ext();
-                JSONObject extJsonObject = responseJson.optJSONObject("ext");
-                ext.put(extJsonObject);
-                if (extJsonObject != null) {
-                    rootMobilePassThrough = MobileSdkPassThrough.create(extJsonObject);
-                }
-            }
 
-            JSONArray jsonSeatbids = responseJson.optJSONArray("seatbid");
-            if (jsonSeatbids != null) {
-                for (int i = 0; i < jsonSeatbids.length(); i++) {
-                    Seatbid seatbid = Seatbid.fromJSONObject(jsonSeatbids.optJSONObject(i));
-                    seatbids.add(seatbid);
+            JsonSliceReader reader = new JsonSliceReader(json);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                switch (name) {
+                    case "id":
+                        id = reader.nextString("");
+                        break;
+                    case "cur":
+                        cur = reader.nextString("");
+                        break;
+                    case "bidid":
+                        bidId = reader.nextString("");
+                        break;
+                    case "customdata":
+                        customData = reader.nextString("");
+                        break;
+                    case "nbr":
+                        nbr = reader.nextInt(-1);
+                        break;
+                    case "ext":
+                        ext = new Ext();
+                        JSONObject extJsonObject = reader.nextJsonObject();
+                        ext.put(extJsonObject);
+                        if (extJsonObject != null) {
+                            rootMobilePassThrough = MobileSdkPassThrough.create(extJsonObject);
+                        }
+                        break;
+                    case "seatbid":
+                        if (!reader.isNextArray()) {
+                            reader.skipValue();
+                            break;
+                        }
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            seatbids.add(Seatbid.fromReader(reader, json));
+                        }
+                        reader.endArray();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
                 }
             }
+            reader.endObject();
 
             MobileSdkPassThrough bidMobilePassThrough = null;
             Bid winningBid = getWinningBid();
@@ -188,16 +261,22 @@ public class BidResponse {
         if (seatbids == null) {
             return null;
         }
+        if (winningBidResolved) {
+            return winningBid;
+        }
 
         for (Seatbid seatbid : seatbids) {
             for (Bid bid : seatbid.getBids()) {
                 if (hasWinningKeywords(bid.getPrebid())) {
                     winningBidJson = bid.getJsonString();
+                    winningBid = bid;
+                    winningBidResolved = true;
                     return bid;
                 }
             }
         }
 
+        winningBidResolved = true;
         return null;
     }
 
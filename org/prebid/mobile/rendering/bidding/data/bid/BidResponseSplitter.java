@@ -0,0 +1,217 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the response of a multi-imp auction into one response per imp.
+ * <p>
+ * The response is read once with {@link JsonSliceReader}. Members are copied as source text, so markup is
+ * neither parsed nor escaped again. Every imp response keeps the top level and seat bid members, seat bids
+ * without bids for the imp are left out.
+ */
+public final class BidResponseSplitter {
+
+    private static final String KEY_SEATBID = "seatbid";
+    private static final String KEY_BID = "bid";
+    private static final String KEY_IMP_ID = "impid";
+
+    private final String source;
+
+    /**
+     * Top level members except seatbid, as source text.
+     */
+    private final List<String> members = new ArrayList<>();
+    private final List<SeatbidSlices> seatbids = new ArrayList<>();
+
+    private BidResponseSplitter(String source) {
+        this.source = source;
+    }
+
+    /**
+     * @throws JSONException if the response isn't a valid JSON object.
+     */
+    @NonNull
+    public static BidResponseSplitter read(@Nullable String response) throws JSONException {
+        if (response == null) {
+            throw new JSONException("Response is null");
+        }
+
+        BidResponseSplitter splitter = new BidResponseSplitter(response);
+        splitter.read();
+        return splitter;
+    }
+
+    /**
+     * @return the response with only the bids of the imp, without seatbid if the imp has no bids.
+     */
+    @NonNull
+    public String getResponse(@Nullable String impId) {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        appendMembers(builder, members);
+
+        boolean hasSeatbids = false;
+        for (SeatbidSlices seatbid : seatbids) {
+            List<String> bids = impId != null ? seatbid.getBids(impId) : null;
+            if (bids == null) {
+                continue;
+            }
+
+            if (!hasSeatbids) {
+                appendSeparator(builder);
+                builder.append('"').append(KEY_SEATBID).append("\":[");
+                hasSeatbids = true;
+            } else {
+                builder.append(',');
+            }
+            builder.append('{');
+            appendMembers(builder, seatbid.members);
+            appendSeparator(builder);
+            builder.append('"').append(KEY_BID).append("\":[");
+            for (int i = 0; i < bids.size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(bids.get(i));
+            }
+            builder.append("]}");
+        }
+        if (hasSeatbids) {
+            builder.append(']');
+        }
+
+        return builder.append('}').toString();
+    }
+
+    private void read() throws JSONException {
+        JsonSliceReader reader = new JsonSliceReader(source);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int start = reader.position();
+            String name = reader.nextName();
+            if (KEY_SEATBID.equals(name) && reader.isNextArray()) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readSeatbid(reader);
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+                if (!KEY_SEATBID.equals(name)) {
+                    members.add(source.substring(start, reader.position()));
+                }
+            }
+        }
+        reader.endObject();
+    }
+
+    private void readSeatbid(JsonSliceReader reader) throws JSONException {
+        if (!reader.isNextObject()) {
+            reader.skipValue();
+            return;
+        }
+
+        SeatbidSlices seatbid = new SeatbidSlices();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int start = reader.position();
+            String name = reader.nextName();
+            if (KEY_BID.equals(name) && reader.isNextArray()) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readBid(reader, seatbid);
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+                if (!KEY_BID.equals(name)) {
+                    seatbid.members.add(source.substring(start, reader.position()));
+                }
+            }
+        }
+        reader.endObject();
+        seatbids.add(seatbid);
+    }
+
+    private void readBid(JsonSliceReader reader, SeatbidSlices seatbid) throws JSONException {
+        if (!reader.isNextObject()) {
+            reader.skipValue();
+            return;
+        }
+
+        int start = reader.position();
+        String impId = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (KEY_IMP_ID.equals(reader.nextName())) {
+                impId = reader.nextString(null);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (impId != null) {
+            seatbid.addBid(impId, source.substring(start, reader.position()));
+        }
+    }
+
+    private static void appendMembers(StringBuilder builder, List<String> members) {
+        for (String member : members) {
+            appendSeparator(builder);
+            builder.append(member);
+        }
+    }
+
+    private static void appendSeparator(StringBuilder builder) {
+        char last = builder.charAt(builder.length() - 1);
+        if (last != '{' && last != '[') {
+            builder.append(',');
+        }
+    }
+
+    private static class SeatbidSlices {
+
+        private final List<String> members = new ArrayList<>();
+        private final Map<String, List<String>> bidsByImp = new HashMap<>();
+
+        private void addBid(String impId, String bid) {
+            List<String> bids = bidsByImp.get(impId);
+            if (bids == null) {
+                bids = new ArrayList<>();
+                bidsByImp.put(impId, bids);
+            }
+            bids.add(bid);
+        }
+
+        @Nullable
+        private List<String> getBids(String impId) {
+            return bidsByImp.get(impId);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Region of the raw response string that holds a JSON string value (without quotes).
+ * The value is unescaped and copied only when it's requested for the first time.
+ */
+final class JsonSlice {
+
+    private final String source;
+    private final int start;
+    private final int end;
+    private final boolean escaped;
+
+    private String value;
+
+    JsonSlice(
+            @NonNull String source,
+            int start,
+            int end,
+            boolean escaped
+    ) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.escaped = escaped;
+    }
+
+    @NonNull
+    String getValue() {
+        String result = value;
+        if (result == null) {
+            result = escaped ? JsonSliceReader.unescape(source, start, end) : source.substring(start, end);
+            value = result;
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
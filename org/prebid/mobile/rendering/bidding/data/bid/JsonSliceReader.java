@@ -0,0 +1,362 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Single-pass pull reader over the raw bid response string.
+ * <p>
+ * Unlike {@link android.util.JsonReader} it keeps track of positions in the source,
+ * so the caller can keep large values (e.g. adm) as {@link JsonSlice}s and
+ * materialize only the small objects it needs as {@link JSONObject}.
+ */
+final class JsonSliceReader {
+
+    private final String source;
+    private final int length;
+    private int position;
+
+    JsonSliceReader(@NonNull String source) {
+        this.source = source;
+        length = source.length();
+    }
+
+    int position() {
+        skipWhitespace();
+        return position;
+    }
+
+    void beginObject() throws JSONException {
+        expect('{');
+    }
+
+    void endObject() throws JSONException {
+        skipSeparator();
+        expect('}');
+    }
+
+    void beginArray() throws JSONException {
+        expect('[');
+    }
+
+    void endArray() throws JSONException {
+        skipSeparator();
+        expect(']');
+    }
+
+    /**
+     * @return true if the current object or array has more elements.
+     */
+    boolean hasNext() throws JSONException {
+        skipSeparator();
+        char current = current();
+        return current != '}' && current != ']';
+    }
+
+    boolean isNextObject() throws JSONException {
+        skipWhitespace();
+        return current() == '{';
+    }
+
+    boolean isNextArray() throws JSONException {
+        skipWhitespace();
+        return current() == '[';
+    }
+
+    @NonNull
+    String nextName() throws JSONException {
+        skipSeparator();
+        String name = nextStringSlice().getValue();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Reads string value. Primitive values are returned as their text representation,
+     * null and nested structures return the fallback.
+     */
+    @Nullable
+    String nextString(@Nullable String fallback) throws JSONException {
+        skipWhitespace();
+        char current = current();
+        if (current == '"') {
+            return nextStringSlice().getValue();
+        }
+        if (current == '{' || current == '[') {
+            skipValue();
+            return fallback;
+        }
+        String literal = nextLiteral();
+        return "null".equals(literal) ? fallback : literal;
+    }
+
+    /**
+     * Reads string value without copying it. Other values are stringified the way
+     * {@link JSONObject#optString(String)} does it, e.g. an object becomes its JSON text.
+     */
+    @NonNull
+    JsonSlice nextSlice() throws JSONException {
+        skipWhitespace();
+        if (current() == '"') {
+            return nextStringSlice();
+        }
+        int start = position;
+        skipValue();
+        String value = String.valueOf(new JSONTokener(source.substring(start, position)).nextValue());
+        return new JsonSlice(value, 0, value.length(), false);
+    }
+
+    int nextInt(int fallback) throws JSONException {
+        double value = nextDouble(Double.NaN);
+        return Double.isNaN(value) ? fallback : (int) value;
+    }
+
+    double nextDouble(double fallback) throws JSONException {
+        String value = nextString(null);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException exception) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Materializes the next value as {@link JSONObject}. Returns null if the value isn't an object.
+     */
+    @Nullable
+    JSONObject nextJsonObject() throws JSONException {
+        skipWhitespace();
+        if (current() != '{') {
+            skipValue();
+            return null;
+        }
+        int start = position;
+        skipValue();
+        return new JSONObject(source.substring(start, position));
+    }
+
+    void skipValue() throws JSONException {
+        skipWhitespace();
+        char current = current();
+        if (current == '"') {
+            nextStringSlice();
+            return;
+        }
+        if (current != '{' && current != '[') {
+            nextLiteral();
+            return;
+        }
+
+        int depth = 0;
+        do {
+            current = current();
+            if (current == '"') {
+                nextStringSlice();
+                continue;
+            }
+            if (current == '{' || current == '[') {
+                depth++;
+            } else if (current == '}' || current == ']') {
+                depth--;
+            }
+            position++;
+        } while (depth > 0);
+    }
+
+    @NonNull
+    private JsonSlice nextStringSlice() throws JSONException {
+        expect('"');
+        int start = position;
+        boolean escaped = false;
+        while (position < length) {
+            char current = source.charAt(position);
+            if (current == '"') {
+                JsonSlice slice = new JsonSlice(source, start, position, escaped);
+                position++;
+                return slice;
+            }
+            if (current == '\\') {
+                escaped = true;
+                position++;
+            }
+            position++;
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    /**
+     * Reads true, false, null or a number.
+     */
+    @NonNull
+    private String nextLiteral() throws JSONException {
+        int start = position;
+        while (position < length) {
+            char current = source.charAt(position);
+            if (current == ',' || current == '}' || current == ']' || Character.isWhitespace(current)) {
+                break;
+            }
+            position++;
+        }
+        if (start == position) {
+            throw syntaxError("Expected value");
+        }
+        String literal = source.substring(start, position);
+        if (!literal.equals("true") && !literal.equals("false") && !literal.equals("null") && !isNumber(start, position)) {
+            position = start;
+            throw syntaxError("Unexpected literal " + literal);
+        }
+        return literal;
+    }
+
+    /**
+     * Checks the JSON number grammar: -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+     */
+    private boolean isNumber(int start, int end) {
+        int i = start;
+        if (i < end && source.charAt(i) == '-') {
+            i++;
+        }
+        if (i < end && source.charAt(i) == '0') {
+            i++;
+        } else {
+            int digitsStart = i;
+            i = skipDigits(i, end);
+            if (i == digitsStart) {
+                return false;
+            }
+        }
+        if (i < end && source.charAt(i) == '.') {
+            int fractionStart = ++i;
+            i = skipDigits(i, end);
+            if (i == fractionStart) {
+                return false;
+            }
+        }
+        if (i < end && (source.charAt(i) == 'e' || source.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (source.charAt(i) == '+' || source.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentStart = i;
+            i = skipDigits(i, end);
+            if (i == exponentStart) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private int skipDigits(int index, int end) {
+        while (index < end && source.charAt(index) >= '0' && source.charAt(index) <= '9') {
+            index++;
+        }
+        return index;
+    }
+
+    private void expect(char expected) throws JSONException {
+        skipWhitespace();
+        if (current() != expected) {
+            throw syntaxError("Expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    private char current() throws JSONException {
+        if (position >= length) {
+            throw syntaxError("Unexpected end of input");
+        }
+        return source.charAt(position);
+    }
+
+    private void skipSeparator() {
+        skipWhitespace();
+        if (position < length && source.charAt(position) == ',') {
+            position++;
+            skipWhitespace();
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < length && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + position);
+    }
+
+    @NonNull
+    static String unescape(
+            @NonNull String source,
+            int start,
+            int end
+    ) {
+        StringBuilder builder = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            char current = source.charAt(i++);
+            if (current != '\\' || i >= end) {
+                builder.append(current);
+                continue;
+            }
+
+            char escaped = source.charAt(i++);
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 <= end) {
+                        try {
+                            builder.append((char) Integer.parseInt(source.substring(i, i + 4), 16));
+                            i += 4;
+                            break;
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                    builder.append('u');
+                    break;
+                default:
+                    builder.append(escaped);
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+}
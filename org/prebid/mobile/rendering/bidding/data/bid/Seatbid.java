@@ -16,7 +16,10 @@
 
 package org.prebid.mobile.rendering.bidding.data.bid;
 
+import androidx.annotation.NonNull;
+
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
 
@@ -85,4 +88,54 @@ public class Seatbid {
 
         return seatbid;
     }
+
+    static Seatbid fromReader(
+            @NonNull JsonSliceReader reader,
+            @NonNull String source
+    ) throws JSONException {
+        Seatbid seatbid = new Seatbid();
+        seatbid.seat = "";
+        seatbid.group = -1;
+        seatbid.ext = new Ext();
+        if (!reader.isNextObject()) {
+            reader.skipValue();
+            return seatbid;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "bid":
+                    if (!reader.isNextArray()) {
+                        reader.skipValue();
+                        break;
+                    }
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        seatbid.bids.add(Bid.fromReader(reader, source));
+                    }
+                    reader.endArray();
+                    break;
+                case "seat":
+                    seatbid.seat = reader.nextString("");
+                    break;
+                case "group":
+                    seatbid.group = reader.nextInt(-1);
+                    break;
+                case "ext":
+                    JSONObject ext = reader.nextJsonObject();
+                    if (ext != null) {
+                        seatbid.ext.put(ext);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return seatbid;
+    }
 }
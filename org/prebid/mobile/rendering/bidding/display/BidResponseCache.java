@@ -23,29 +23,59 @@ import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Holds BidResponses in memory until they are used
+ * Holds BidResponses in memory until they are used.
+ * <p>
+ * The cache is bounded: when it's full the least recently used response is evicted.
+ * Responses expire according to the winning bid exp (or {@link #DEFAULT_LIFE_TIME_MILLIS}).
+ * Lookups go through a {@link ConcurrentHashMap}; the recency order is kept in a lock-free
+ * queue where a touched or removed entry leaves a dead node that's skipped during eviction.
+ * Dead nodes behind a live head are compacted once there are more of them than
+ * {@link #COMPACTION_FACTOR} times the live entries, so the queue stays proportional to the cache.
  */
 public class BidResponseCache {
     private static final String TAG = BidResponseCache.class.getSimpleName();
 
     /**
-     * Maximum number of responses that are cached. This limit is intended to be very
-     * conservative; it is not recommended to cache more than a few BidResponses.
+     * Maximum number of responses that are cached. When it's reached the least
+     * recently used response is evicted.
      */
     @VisibleForTesting
-    static final int MAX_SIZE = 20;
+    static final int MAX_SIZE = 50;
 
-    private static final long BID_RESPONSE_LIFE_TIME_IN_CACHE = 60 * 1000;//1 minute
+    /**
+     * Life time of the response without exp in the winning bid.
+     */
+    @VisibleForTesting
+    static final long DEFAULT_LIFE_TIME_MILLIS = 60 * 1000;//1 minute
 
+    /**
+     * The recency queue is compacted when dead nodes outnumber live entries this many times
+     * (and {@link #MAX_SIZE}).
+     */
+    private static final int COMPACTION_FACTOR = 2;
+
+    @NonNull
+    private static final ConcurrentHashMap<String, Node> sCachedBidResponses = new ConcurrentHashMap<>();
     @NonNull
-    private static Map<String, BidResponse> sCachedBidResponses =
-        Collections.synchronizedMap(new HashMap<>());
+    private static final ConcurrentLinkedQueue<Node> sRecencyQueue = new ConcurrentLinkedQueue<>();
+
+    private static final AtomicLong sHits = new AtomicLong();
+    private static final AtomicLong sMisses = new AtomicLong();
+    private static final AtomicLong sEvictions = new AtomicLong();
+    private static final AtomicLong sExpirations = new AtomicLong();
+    // Approximate number of dead nodes in the recency queue
+    private static final AtomicInteger sDeadNodes = new AtomicInteger();
+    private static final AtomicBoolean sCompacting = new AtomicBoolean();
 
     private static BidResponseCache sInstance;
 
@@ -61,7 +91,7 @@ public class BidResponseCache {
 
     /**
      * Stores the { BidResponse} in the cache. This BidResponse will live until it is retrieved via
-     * { #popBidResponse(String)}
+     * { #popBidResponse(String)}, expires or is evicted.
      *
      * @param response Parsed bid response
      */
@@ -72,7 +102,7 @@ public class BidResponseCache {
 
     /**
      * Stores the { BidResponse} in the cache. This BidResponse will live until it is retrieved via
-     * { #popBidResponse(String)}
+     * { #popBidResponse(String)}, expires or is evicted.
      *
      * @param key      Custom key to store response
      * @param response Parsed bid response
@@ -81,24 +111,22 @@ public class BidResponseCache {
         String key,
         BidResponse response
     ) {
-        trimCache();
-        // Ignore request when max size is reached.
-        if (sCachedBidResponses.size() >= MAX_SIZE) {
+        if (TextUtils.isEmpty(key) || response == null) {
             LogUtil.error(
                 TAG,
-                "Unable to cache BidResponse. Please destroy some via #destroy() and try again."
+                "Unable to cache BidResponse. Key or response is empty or null."
             );
             return;
         }
-        if (TextUtils.isEmpty(key)) {
-            LogUtil.error(
-                TAG,
-                "Unable to cache BidResponse. Key is empty or null."
-            );
-            return;
+
+        Node node = new Node(key, response, getExpirationTime(response));
+        Node previous = sCachedBidResponses.put(key, node);
+        if (previous != null) {
+            previous.kill();
         }
+        sRecencyQueue.add(node);
 
-        sCachedBidResponses.put(key, response);
+        trimCache();
         LogUtil.debug(TAG, "Cached ad count after storing: " + getCachedResponsesCount());
     }
 
@@ -108,13 +136,21 @@ public class BidResponseCache {
         final String responseId) {
         LogUtil.debug(TAG, "POPPING the response");
 
+        Node node = responseId != null ? sCachedBidResponses.remove(responseId) : null;
         BidResponse bidResponse = null;
+        if (node != null) {
+            node.kill();
+            if (node.isExpired(System.currentTimeMillis())) {
+                sExpirations.incrementAndGet();
+            } else {
+                bidResponse = node.response;
+            }
+        }
 
-        if (sCachedBidResponses.containsKey(responseId)) {
-            //check if the available BidResponse is not stale
-
-            bidResponse = sCachedBidResponses.remove(responseId);
+        if (bidResponse != null) {
+            sHits.incrementAndGet();
         } else {
+            sMisses.incrementAndGet();
             LogUtil.warning(TAG, "No cached ad to retrieve in the final map");
         }
         LogUtil.debug(TAG, "Cached ad count after popping: " + getCachedResponsesCount());
@@ -123,50 +159,140 @@ public class BidResponseCache {
 
     @Nullable
     public HashMap<String, String> getKeywords(String responseId) {
-        if (sCachedBidResponses.containsKey(responseId)) {
-            BidResponse bidResponse = sCachedBidResponses.get(responseId);
-            if (bidResponse != null) {
-                return bidResponse.getTargeting();
-            }
+        BidResponse bidResponse = peek(responseId);
+        if (bidResponse != null) {
+            return bidResponse.getTargeting();
         }
         return null;
     }
 
-    @VisibleForTesting
-    static synchronized void trimCache() {
-        final Iterator<Map.Entry<String, BidResponse>> iterator = sCachedBidResponses.entrySet().iterator();
-        while (iterator.hasNext()) {
-            final Map.Entry<String, BidResponse> entry = iterator.next();
-
-            // If the response was removed from memory,
-            // discard the entire associated Config.
-            if (entry.getValue() == null) {
-                iterator.remove();
+    public long getHitCount() {
+        return sHits.get();
+    }
+
+    public long getMissCount() {
+        return sMisses.get();
+    }
+
+    public long getEvictionCount() {
+        return sEvictions.get();
+    }
+
+    public long getExpirationCount() {
+        return sExpirations.get();
+    }
+
+    /**
+     * Returns the response without removing it and marks it as recently used.
+     */
+    @Nullable
+    private BidResponse peek(@Nullable String responseId) {
+        Node node = responseId != null ? sCachedBidResponses.get(responseId) : null;
+        if (node == null) {
+            sMisses.incrementAndGet();
+            return null;
+        }
+
+        if (node.isExpired(System.currentTimeMillis())) {
+            if (sCachedBidResponses.remove(responseId, node)) {
+                node.kill();
+                sExpirations.incrementAndGet();
             }
+            sMisses.incrementAndGet();
+            return null;
         }
-        if (!sCachedBidResponses.isEmpty()) {
-            removeStaleBidResponses(sCachedBidResponses);
+
+        Node touched = new Node(node.key, node.response, node.expirationTime);
+        if (sCachedBidResponses.replace(responseId, node, touched)) {
+            node.kill();
+            sRecencyQueue.add(touched);
+            compactIfNeeded();
         }
+        sHits.incrementAndGet();
+        return node.response;
     }
 
-    private static void removeStaleBidResponses(Map<String, BidResponse> bidResponseMap) {
-        final Iterator<Map.Entry<String, BidResponse>> iterator = bidResponseMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            final Map.Entry<String, BidResponse> entry = iterator.next();
+    /**
+     * Drops dead and expired nodes from the head of the recency queue and evicts
+     * the least recently used responses while the cache is over capacity.
+     */
+    @VisibleForTesting
+    static void trimCache() {
+        long now = System.currentTimeMillis();
+        Node head;
+        while ((head = sRecencyQueue.peek()) != null) {
+            if (!head.isAlive()) {
+                if (sRecencyQueue.remove(head)) {
+                    onDeadNodeRemoved();
+                }
+                continue;
+            }
+
+            boolean expired = head.isExpired(now);
+            boolean overCapacity = sCachedBidResponses.size() > MAX_SIZE;
+            if (!expired && !overCapacity) {
+                return;
+            }
+
+            if (sCachedBidResponses.remove(head.key, head)) {
+                head.kill();
+                if (expired) {
+                    sExpirations.incrementAndGet();
+                } else {
+                    sEvictions.incrementAndGet();
+                    LogUtil.debug(TAG, "Cache is full. Evicted least recently used response: " + head.key);
+                }
+            }
+            if (sRecencyQueue.remove(head)) {
+                onDeadNodeRemoved();
+            }
+        }
+        compactIfNeeded();
+    }
 
-            // If the response was removed from memory,
-            // discard the entire associated Config.
-            if (entry.getValue() != null) {
-                long saveTimeInMillis = entry.getValue().getCreationTime();
+    /**
+     * Removes dead nodes from the whole recency queue when they outnumber the live entries.
+     */
+    private static void compactIfNeeded() {
+        int threshold = Math.max(MAX_SIZE, COMPACTION_FACTOR * sCachedBidResponses.size());
+        if (sDeadNodes.get() <= threshold || !sCompacting.compareAndSet(false, true)) {
+            return;
+        }
 
-                // Checking if the current time is past the expiration time
-                if (System.currentTimeMillis() > (saveTimeInMillis + BID_RESPONSE_LIFE_TIME_IN_CACHE)) {
+        try {
+            // Nodes killed during the pass are counted again, the count only triggers compaction
+            sDeadNodes.set(0);
+            Iterator<Node> iterator = sRecencyQueue.iterator();
+            while (iterator.hasNext()) {
+                if (!iterator.next().isAlive()) {
                     iterator.remove();
                 }
             }
+        } finally {
+            sCompacting.set(false);
         }
     }
 
+    private static void onDeadNodeRemoved() {
+        int count;
+        do {
+            count = sDeadNodes.get();
+            if (count <= 0) {
+                return;
+            }
+        } while (!sDeadNodes.compareAndSet(count, count - 1));
+    }
+
+    /**
+     * Time when the response expires according to the winning bid exp (or {@link #DEFAULT_LIFE_TIME_MILLIS}).
+     */
+    public static long getExpirationTime(BidResponse response) {
+        long creationTime = response.getCreationTime() > 0 ? response.getCreationTime() : System.currentTimeMillis();
+        Integer exp = response.getExpirationTimeSeconds();
+        long lifeTime = exp != null ? exp * 1000L : DEFAULT_LIFE_TIME_MILLIS;
+        return creationTime + lifeTime;
+    }
+
     private static int getCachedResponsesCount() {
         return sCachedBidResponses.size();
     }
@@ -174,10 +300,49 @@ public class BidResponseCache {
     @VisibleForTesting
     static void clearAll() {
         sCachedBidResponses.clear();
+        sRecencyQueue.clear();
+        sDeadNodes.set(0);
     }
 
     @VisibleForTesting
     static Map<String, BidResponse> getCachedBidResponses() {
-        return sCachedBidResponses;
+        Map<String, BidResponse> result = new HashMap<>();
+        for (Map.Entry<String, Node> entry : sCachedBidResponses.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().response);
+        }
+        return result;
+    }
+
+    private static class Node {
+
+        private final String key;
+        private final BidResponse response;
+        private final long expirationTime;
+        private volatile boolean alive = true;
+
+        private Node(
+                String key,
+                BidResponse response,
+                long expirationTime
+        ) {
+            this.key = key;
+            this.response = response;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+
+        private boolean isAlive() {
+            return alive;
+        }
+
+        private synchronized void kill() {
+            if (alive) {
+                alive = false;
+                sDeadNodes.incrementAndGet();
+            }
+        }
     }
-}
\ No newline at end of file
+}
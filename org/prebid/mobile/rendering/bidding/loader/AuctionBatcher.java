@@ -0,0 +1,171 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.bidding.loader;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.Prebid;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects bid loads of different ad units and auctions them in one request.
+ * <p>
+ * Loads are collected during the batch window ({@link PrebidMobile#setAuctionBatchWindowMillis(int)})
+ * or between {@link #hold()} and {@link #release()}. Ad units which need different request level
+ * fields are sent in separate requests.
+ */
+public class AuctionBatcher {
+
+    private static final String TAG = AuctionBatcher.class.getSimpleName();
+
+    static final int MAX_BATCH_SIZE = 10;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable flushTask = this::flush;
+    private final List<BidLoader> pendingLoaders = new ArrayList<>();
+    private int holdCount;
+
+    private AuctionBatcher() {}
+
+    public static AuctionBatcher getInstance() {
+        return AuctionBatcherHolder.instance;
+    }
+
+    private static class AuctionBatcherHolder {
+        public static final AuctionBatcher instance = new AuctionBatcher();
+    }
+
+    /**
+     * Collects all following loads until the matching {@link #release()}.
+     */
+    public synchronized void hold() {
+        holdCount++;
+        mainHandler.removeCallbacks(flushTask);
+    }
+
+    /**
+     * Sends the collected loads when the last hold is released.
+     */
+    public synchronized void release() {
+        if (holdCount == 0) {
+            LogUtil.warning(TAG, "release() called without hold()");
+            return;
+        }
+        holdCount--;
+        if (holdCount == 0 && !pendingLoaders.isEmpty()) {
+            mainHandler.removeCallbacks(flushTask);
+            mainHandler.post(flushTask);
+        }
+    }
+
+    /**
+     * @return true if the load is postponed to the batch, false if it must be sent right away.
+     */
+    synchronized boolean enqueue(@NonNull BidLoader loader) {
+        int windowMillis = PrebidMobile.getAuctionBatchWindowMillis();
+        if (holdCount == 0 && windowMillis <= 0) {
+            return false;
+        }
+        if (!isBatchable(loader.getConfiguration())) {
+            return false;
+        }
+
+        if (!pendingLoaders.contains(loader)) {
+            pendingLoaders.add(loader);
+        }
+        if (holdCount == 0 && pendingLoaders.size() == 1) {
+            mainHandler.postDelayed(flushTask, windowMillis);
+        }
+        return true;
+    }
+
+    synchronized void cancel(@NonNull BidLoader loader) {
+        pendingLoaders.remove(loader);
+    }
+
+    private void flush() {
+        List<BidLoader> loaders;
+        synchronized (this) {
+            mainHandler.removeCallbacks(flushTask);
+            loaders = new ArrayList<>(pendingLoaders);
+            pendingLoaders.clear();
+        }
+        if (loaders.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<BidLoader>> groups = new LinkedHashMap<>();
+        for (BidLoader loader : loaders) {
+            String key = getBatchKey(loader.getConfiguration());
+            List<BidLoader> group = groups.get(key);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(key, group);
+            }
+            group.add(loader);
+        }
+
+        LogUtil.debug(TAG, () -> "Sending " + loaders.size() + " bid loads in " + groups.size() + " group(s)");
+        for (List<BidLoader> group : groups.values()) {
+            for (int from = 0; from < group.size(); from += MAX_BATCH_SIZE) {
+                int to = Math.min(from + MAX_BATCH_SIZE, group.size());
+                send(new ArrayList<>(group.subList(from, to)));
+            }
+        }
+    }
+
+    private void send(List<BidLoader> loaders) {
+        if (loaders.size() == 1) {
+            loaders.get(0).sendSingleRequest();
+            return;
+        }
+        new BatchAuction(loaders).start();
+    }
+
+    /**
+     * Interstitials change the device section, and the imp ORTB config is applied only to the first imp,
+     * so such ad units are always auctioned alone.
+     */
+    private static boolean isBatchable(@Nullable AdUnitConfiguration configuration) {
+        return configuration != null
+                && !TextUtils.isEmpty(configuration.getConfigId())
+                && !configuration.isAdType(AdFormat.INTERSTITIAL)
+                && TextUtils.isEmpty(configuration.getImpOrtbConfig());
+    }
+
+    /**
+     * Ad units can share a request only if they produce the same request level ext.
+     */
+    private static String getBatchKey(AdUnitConfiguration configuration) {
+        boolean isVideo = configuration.isAdType(AdFormat.VAST);
+        return Prebid.getJsonObjectForBidRequest("", isVideo, configuration).toString();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.bidding.loader;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponseSplitter;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.ResponseHandler;
+import org.prebid.mobile.rendering.networking.modelcontrollers.BatchBidRequester;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One multi-imp auction. Splits the seat bids of the response by imp id and passes
+ * every ad unit its own response, so a failure of one ad unit doesn't affect the others.
+ */
+class BatchAuction implements ResponseHandler {
+
+    private static final String TAG = BatchAuction.class.getSimpleName();
+
+    private final List<BidLoader> loaders;
+    private final BatchBidRequester requester;
+
+    BatchAuction(List<BidLoader> loaders) {
+        this.loaders = loaders;
+
+        List<AdUnitConfiguration> configurations = new ArrayList<>(loaders.size());
+        for (BidLoader loader : loaders) {
+            configurations.add(loader.getConfiguration());
+        }
+        requester = new BatchBidRequester(configurations, this);
+    }
+
+    void start() {
+        LogUtil.debug(TAG, () -> "Requesting bids for " + loaders.size() + " ad units");
+        requester.startAdRequest();
+    }
+
+    @Override
+    public void onResponse(BaseNetworkTask.GetUrlResult response) {
+        JSONObject builtRequest = requester.getBuiltRequest();
+        List<String> impIds = requester.getImpIds();
+        BidResponseSplitter splitter;
+        try {
+            splitter = BidResponseSplitter.read(response.responseString);
+        } catch (JSONException exception) {
+            onFailure("Response is not a valid JSON object: " + exception.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < loaders.size(); i++) {
+            BidLoader loader = loaders.get(i);
+            String impId = i < impIds.size() ? impIds.get(i) : null;
+            try {
+                BaseNetworkTask.GetUrlResult unitResponse = new BaseNetworkTask.GetUrlResult();
+                unitResponse.statusCode = response.statusCode;
+                unitResponse.responseTime = response.responseTime;
+                unitResponse.originalUrl = response.originalUrl;
+                unitResponse.contentType = response.contentType;
+                unitResponse.responseString = splitter.getResponse(impId);
+                loader.onBatchResponse(unitResponse, builtRequest);
+            } catch (RuntimeException exception) {
+                LogUtil.error(TAG, "Failed to deliver bids for imp " + impId + ": " + exception.getMessage());
+                loader.onBatchError(exception.getMessage());
+            }
+        }
+        requester.destroy();
+    }
+
+    @Override
+    public void onError(String msg, long responseTime) {
+        onFailure(msg);
+    }
+
+    @Override
+    public void onErrorWithException(Exception e, long responseTime) {
+        onFailure(e.getMessage());
+    }
+
+    private void onFailure(String message) {
+        for (BidLoader loader : loaders) {
+            try {
+                loader.onBatchError(message);
+            } catch (RuntimeException exception) {
+                LogUtil.error(TAG, "Failed to deliver batch error: " + exception.getMessage());
+            }
+        }
+        requester.destroy();
+    }
+
+}
@@ -21,7 +21,10 @@ import static java.lang.Math.max;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidEventDelegate;
 import org.prebid.mobile.PrebidMobile;
@@ -36,8 +39,11 @@ import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.modelcontrollers.BidRequester;
 import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
 import org.prebid.mobile.rendering.utils.helpers.RefreshTimerTask;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BidLoader {
@@ -49,6 +55,8 @@ public class BidLoader {
 
     private AdUnitConfiguration adConfiguration;
     private BidRequester bidRequester;
+    @Nullable
+    private JSONObject batchRequest;
     private AtomicBoolean currentlyLoading;
 
     private BidRequesterListener requestListener;
@@ -143,6 +151,10 @@ public class BidLoader {
             return;
         }
 
+        if (AuctionBatcher.getInstance().enqueue(this)) {
+            LogUtil.debug(TAG, "Load is added to the auction batch");
+            return;
+        }
         sendBidRequest(adConfiguration);
     }
 
@@ -178,6 +190,7 @@ public class BidLoader {
     }
 
     public void destroy() {
+        AuctionBatcher.getInstance().cancel(this);
         cancelRefresh();
         refreshTimerTask.destroy();
 
@@ -188,8 +201,36 @@ public class BidLoader {
         bidRefreshListener = null;
     }
 
+    /**
+     * @return true if a request was started and its result wasn't delivered yet.
+     */
+    boolean isLoading() {
+        return currentlyLoading.get();
+    }
+
+    AdUnitConfiguration getConfiguration() {
+        return adConfiguration;
+    }
+
+    /**
+     * Sends the postponed load alone when there is nothing to batch it with.
+     */
+    void sendSingleRequest() {
+        sendBidRequest(adConfiguration);
+    }
+
+    void onBatchResponse(BaseNetworkTask.GetUrlResult response, JSONObject builtRequest) {
+        batchRequest = builtRequest;
+        responseHandler.onResponse(response);
+    }
+
+    void onBatchError(String msg) {
+        failedToLoadBid(msg);
+    }
+
     private void sendBidRequest(AdUnitConfiguration config) {
         currentlyLoading.set(true);
+        batchRequest = null;
         if (bidRequester == null) {
             bidRequester = new BidRequester(config, new AdRequestInput(), responseHandler);
         }
@@ -236,11 +277,38 @@ public class BidLoader {
         bidResponse.setMobileSdkPassThrough(combinedParameters);
     }
 
+    /**
+     * The request is copied on the parsing lane. The delegate is publisher code, so it's called on the
+     * background thread, where a slow delegate can't hold the lane.
+     */
     private void callEventDelegate(BidResponse response) {
         PrebidEventDelegate eventDelegate = PrebidMobile.getEventDelegate();
         if (eventDelegate == null) return;
 
-        new Thread(() -> eventDelegate.onBidResponse(bidRequester.getBuiltRequest(), response.getResponseJson())).start();
+        JSONObject builtRequest = batchRequest != null ? batchRequest : bidRequester.getBuiltRequest();
+        TasksManager tasksManager = TasksManager.getInstance();
+        Runnable copyAndNotify = () -> {
+            JSONObject request = copyRequest(builtRequest);
+            tasksManager.executeOnBackgroundThread(() -> eventDelegate.onBidResponse(request, response.getResponseJson()));
+        };
+        try {
+            tasksManager.execute(TaskLane.PARSING, copyAndNotify);
+        } catch (RejectedExecutionException exception) {
+            LogUtil.warning(TAG, "Bid request is copied on the background thread: " + exception.getMessage());
+            tasksManager.executeOnBackgroundThread(copyAndNotify);
+        }
+    }
+
+    /**
+     * The built request is kept by the requester, so the delegate gets its own copy.
+     */
+    private static JSONObject copyRequest(JSONObject request) {
+        try {
+            return new JSONObject(request.toString());
+        } catch (JSONException exception) {
+            LogUtil.error(TAG, "Can't copy bid request: " + exception.getMessage());
+            return new JSONObject();
+        }
     }
 
     public interface BidRefreshListener {
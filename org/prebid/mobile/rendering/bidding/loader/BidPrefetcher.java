@@ -0,0 +1,383 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.bidding.loader;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.api.exceptions.AdException;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.bidding.display.BidResponseCache;
+import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a small inventory of ready bids per config id, so fetchDemand() can complete
+ * without waiting for the auction.
+ * <p>
+ * Prefetched responses live in {@link BidResponseCache}, the prefetcher only remembers their keys and
+ * expiration times. The inventory is replenished in the background with at most
+ * {@link #setMaxConcurrentRequests(int)} requests at once and within the hourly data budget.
+ */
+public class BidPrefetcher {
+
+    private static final String TAG = BidPrefetcher.class.getSimpleName();
+
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 2;
+    private static final long DEFAULT_HOURLY_DATA_BUDGET_BYTES = 512 * 1024;
+    private static final long BUDGET_PERIOD_MILLIS = 60 * 60 * 1000;
+    /**
+     * Bids that expire sooner are not served, the ad server call and rendering need the rest of the time.
+     */
+    private static final long EXPIRATION_MARGIN_MILLIS = 5 * 1000;
+    /**
+     * Delay before the next prefetch for a config id that returned an error or no bid.
+     */
+    private static final long RETRY_DELAY_MILLIS = 30 * 1000;
+    /**
+     * Delay before the next prefetch while the SDK is not initialized yet.
+     */
+    private static final long NOT_INITIALIZED_RETRY_DELAY_MILLIS = 1000;
+    private static final String KEY_PREFIX = "prefetch_";
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable replenishTask = this::replenish;
+    private final Map<String, Inventory> inventories = new HashMap<>();
+
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+    private long hourlyDataBudgetBytes = DEFAULT_HOURLY_DATA_BUDGET_BYTES;
+    private long budgetPeriodStart;
+    private long budgetPeriodBytes;
+    private int requestsInFlight;
+    private long keyCounter;
+
+    private long takeCount;
+    private long fillFromCacheCount;
+    private long wastedPrefetchCount;
+
+    private BidPrefetcher() {}
+
+    public static BidPrefetcher getInstance() {
+        return BidPrefetcherHolder.instance;
+    }
+
+    private static class BidPrefetcherHolder {
+        public static final BidPrefetcher instance = new BidPrefetcher();
+    }
+
+    /**
+     * Starts keeping up to {@code inventorySize} ready bids for the config id of the configuration.
+     * Ad units with auto refresh load their own bids, so prefetching is not enabled for them.
+     */
+    public void enable(@NonNull AdUnitConfiguration configuration, int inventorySize) {
+        String configId = configuration.getConfigId();
+        if (configId == null || configId.isEmpty() || inventorySize <= 0) {
+            LogUtil.error(TAG, "Can't enable prefetching: config id is empty or inventory size is not positive");
+            return;
+        }
+        if (configuration.getAutoRefreshDelay() > 0) {
+            LogUtil.error(TAG, "Can't enable prefetching: ad unit " + configId + " uses auto refresh");
+            return;
+        }
+
+        synchronized (this) {
+            Inventory inventory = inventories.get(configId);
+            if (inventory == null || inventory.configuration != configuration) {
+                if (inventory != null) {
+                    release(inventory);
+                }
+                inventory = new Inventory(configuration);
+                inventories.put(configId, inventory);
+            }
+            inventory.size = inventorySize;
+        }
+        postReplenish();
+    }
+
+    /**
+     * Stops prefetching for the config id and drops its ready bids.
+     */
+    public synchronized void disable(@Nullable String configId) {
+        Inventory inventory = inventories.remove(configId);
+        if (inventory != null) {
+            release(inventory);
+        }
+    }
+
+    /**
+     * Returns a ready bid for the config id and starts replenishing the inventory.
+     *
+     * @return null if prefetching is not enabled for the config id or there is no valid bid.
+     */
+    @Nullable
+    public BidResponse takeBid(@Nullable String configId) {
+        BidResponse result = null;
+        synchronized (this) {
+            Inventory inventory = configId != null ? inventories.get(configId) : null;
+            if (inventory == null) {
+                return null;
+            }
+
+            takeCount++;
+            dropExpired(inventory, System.currentTimeMillis());
+            while (result == null && !inventory.entries.isEmpty()) {
+                Entry entry = inventory.entries.poll();
+                result = BidResponseCache.getInstance().popBidResponse(entry.key);
+                if (result == null) {
+                    wastedPrefetchCount++;
+                }
+            }
+            if (result != null) {
+                fillFromCacheCount++;
+            }
+        }
+        postReplenish();
+        return result;
+    }
+
+    public synchronized void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 1);
+    }
+
+    /**
+     * Sets the amount of response data the prefetching may download per hour.
+     */
+    public synchronized void setHourlyDataBudgetBytes(long hourlyDataBudgetBytes) {
+        this.hourlyDataBudgetBytes = Math.max(hourlyDataBudgetBytes, 0);
+    }
+
+    /**
+     * Share of {@link #takeBid(String)} calls for prefetched config ids which were served from the inventory.
+     */
+    public synchronized float getFillFromCacheRatio() {
+        return takeCount == 0 ? 0 : (float) fillFromCacheCount / takeCount;
+    }
+
+    /**
+     * Number of prefetched bids that expired, were evicted or dropped before they were used.
+     */
+    public synchronized long getWastedPrefetchCount() {
+        return wastedPrefetchCount;
+    }
+
+    private void postReplenish() {
+        mainHandler.removeCallbacks(replenishTask);
+        mainHandler.post(replenishTask);
+    }
+
+    private void replenish() {
+        List<Inventory> toLoad = new ArrayList<>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            long nextCheck = Long.MAX_VALUE;
+            boolean sdkInitialized = PrebidMobile.isSdkInitialized();
+            for (Inventory inventory : inventories.values()) {
+                dropExpired(inventory, now);
+                // Auto refresh could be turned on after prefetching was enabled, such units never take bids
+                boolean canLoad = inventory.configuration.getAutoRefreshDelay() <= 0;
+                if (canLoad && !sdkInitialized && now >= inventory.retryTime) {
+                    // BidLoader ignores loads until the SDK is initialized
+                    inventory.retryTime = now + NOT_INITIALIZED_RETRY_DELAY_MILLIS;
+                }
+                while (canLoad
+                        && inventory.entries.size() + inventory.loading < inventory.size
+                        && requestsInFlight < maxConcurrentRequests
+                        && now >= inventory.retryTime
+                        && hasDataBudget(now)) {
+                    inventory.loading++;
+                    requestsInFlight++;
+                    toLoad.add(inventory);
+                }
+
+                Entry oldest = inventory.entries.peek();
+                if (oldest != null) {
+                    nextCheck = Math.min(nextCheck, oldest.expirationTime - EXPIRATION_MARGIN_MILLIS);
+                }
+                if (inventory.retryTime > now) {
+                    nextCheck = Math.min(nextCheck, inventory.retryTime);
+                }
+            }
+
+            mainHandler.removeCallbacks(replenishTask);
+            if (nextCheck != Long.MAX_VALUE) {
+                mainHandler.postDelayed(replenishTask, Math.max(nextCheck - now, 0));
+            }
+        }
+
+        for (Inventory inventory : toLoad) {
+            PrefetchListener listener = new PrefetchListener(inventory);
+            listener.loader = new BidLoader(inventory.configuration, listener);
+            listener.loader.load();
+            if (!listener.completed && !listener.loader.isLoading()) {
+                onPrefetchNotStarted(inventory, listener.loader);
+            }
+        }
+    }
+
+    /**
+     * Releases the slots of a load which returned without starting a request and retries later.
+     */
+    private void onPrefetchNotStarted(
+            Inventory inventory,
+            BidLoader loader
+    ) {
+        LogUtil.debug(TAG, () -> "Prefetch for " + inventory.configuration.getConfigId() + " was not started");
+        loader.destroy();
+        synchronized (this) {
+            inventory.loading--;
+            requestsInFlight--;
+            inventory.retryTime = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+        }
+        // Reschedules the next check for the new retry time
+        postReplenish();
+    }
+
+    private synchronized void onPrefetchCompleted(
+            Inventory inventory,
+            @Nullable BidResponse response
+    ) {
+        long now = System.currentTimeMillis();
+        inventory.loading--;
+        requestsInFlight--;
+
+        if (response != null) {
+            hasDataBudget(now);
+            budgetPeriodBytes += response.getResponseSizeBytes();
+        }
+        if (response == null || response.getWinningBid() == null) {
+            inventory.retryTime = now + RETRY_DELAY_MILLIS;
+            return;
+        }
+
+        if (inventories.get(inventory.configuration.getConfigId()) != inventory) {
+            wastedPrefetchCount++;
+            return;
+        }
+
+        String key = KEY_PREFIX + inventory.configuration.getConfigId() + "_" + keyCounter++;
+        BidResponseCache.getInstance().putBidResponse(key, response);
+        inventory.entries.add(new Entry(key, BidResponseCache.getExpirationTime(response)));
+        LogUtil.debug(TAG, () -> "Prefetched bid for " + key + ", ready bids: " + inventory.entries.size());
+    }
+
+    /**
+     * Starts a new budget period when the current one is over.
+     */
+    private boolean hasDataBudget(long now) {
+        if (now - budgetPeriodStart >= BUDGET_PERIOD_MILLIS) {
+            budgetPeriodStart = now;
+            budgetPeriodBytes = 0;
+        }
+        return budgetPeriodBytes < hourlyDataBudgetBytes;
+    }
+
+    /**
+     * Entries are added in the order of loading, and responses usually have the same life time,
+     * so expired entries are at the head.
+     */
+    private void dropExpired(Inventory inventory, long now) {
+        Entry entry;
+        while ((entry = inventory.entries.peek()) != null && entry.expirationTime - EXPIRATION_MARGIN_MILLIS <= now) {
+            inventory.entries.poll();
+            BidResponseCache.getInstance().popBidResponse(entry.key);
+            wastedPrefetchCount++;
+        }
+    }
+
+    private void release(Inventory inventory) {
+        for (Entry entry : inventory.entries) {
+            BidResponseCache.getInstance().popBidResponse(entry.key);
+            wastedPrefetchCount++;
+        }
+        inventory.entries.clear();
+    }
+
+    private class PrefetchListener implements BidRequesterListener {
+
+        private final Inventory inventory;
+        private BidLoader loader;
+        private boolean completed;
+
+        private PrefetchListener(Inventory inventory) {
+            this.inventory = inventory;
+        }
+
+        @Override
+        public void onFetchCompleted(BidResponse response) {
+            completed = true;
+            onPrefetchCompleted(inventory, response);
+            finish();
+        }
+
+        @Override
+        public void onError(AdException exception) {
+            LogUtil.debug(TAG, () -> "Prefetch failed: " + exception.getMessage());
+            completed = true;
+            onPrefetchCompleted(inventory, null);
+            finish();
+        }
+
+        /**
+         * The loader is still in its callback, so it's destroyed afterwards.
+         */
+        private void finish() {
+            BidLoader finishedLoader = loader;
+            mainHandler.post(() -> {
+                if (finishedLoader != null) {
+                    finishedLoader.destroy();
+                }
+                replenish();
+            });
+        }
+    }
+
+    private static class Inventory {
+
+        private final AdUnitConfiguration configuration;
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private int size;
+        private int loading;
+        private long retryTime;
+
+        private Inventory(AdUnitConfiguration configuration) {
+            this.configuration = configuration;
+        }
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final long expirationTime;
+
+        private Entry(String key, long expirationTime) {
+            this.key = key;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+}
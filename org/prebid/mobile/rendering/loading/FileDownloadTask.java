@@ -100,11 +100,6 @@ public class FileDownloadTask extends BaseNetworkTask {
             LogUtil.error(TAG, "download of media failed: " + Log.getStackTraceString(e));
             result.setException(new Exception("download of media failed " + e.getMessage()));
         }
-        finally {
-            if (urlConnection instanceof HttpURLConnection) {
-                ((HttpURLConnection) urlConnection).disconnect();
-            }
-        }
         return result;
     }
 
@@ -21,22 +21,42 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.rendering.errors.VastParseError;
 import org.prebid.mobile.rendering.models.internal.VastExtractorResult;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.modelcontrollers.AsyncVastLoader;
+import org.prebid.mobile.rendering.networking.tracking.TrackingManager;
 import org.prebid.mobile.rendering.parser.AdResponseParserBase;
 import org.prebid.mobile.rendering.parser.AdResponseParserVast;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 import org.prebid.mobile.rendering.video.vast.VASTErrorCodes;
 
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unwraps VAST wrappers until the InLine response.
+ * <p>
+ * Every wrapper request gets the configured bid request timeout ({@link PrebidMobile#getTimeoutMillis()}) and
+ * the whole chain is limited to {@link #TOTAL_TIMEOUT_MULTIPLIER} of it. That's the publisher's value, adjusted once
+ * from the server's ext.tmaxrequest by BidLoader; the shorter timeouts and tmax bid requests learn per host
+ * (see {@link org.prebid.mobile.rendering.networking.timeout.AdaptiveTimeoutController}) don't apply to wrapper hosts.
+ * Responses are shared between loads through {@link VastWrapperCache}. If unwrapping fails, error trackers of all
+ * wrappers are fired.
+ */
 public class VastParserExtractor {
 
     private static final String TAG = VastParserExtractor.class.getSimpleName();
 
     public static final int WRAPPER_NESTING_LIMIT = 5;
+    public static final int TOTAL_TIMEOUT_MULTIPLIER = 3;
+
+    private static final String ERROR_CODE_MACRO = "[ERRORCODE]";
 
     private final AsyncVastLoader asyncVastLoader = new AsyncVastLoader();
     @NonNull private final VastParserExtractor.Listener listener;
@@ -46,9 +66,20 @@ public class VastParserExtractor {
 
     private int vastWrapperCount;
 
+    private final List<String> wrapperErrorUrls = new ArrayList<>();
+    private final List<VastWrapperHop> wrapperHops = new ArrayList<>();
+    private String pendingWrapperUrl;
+    private long hopStart;
+    private long deadline;
+
     private final ResponseHandler responseHandler = new ResponseHandler() {
         @Override
         public void onResponse(BaseNetworkTask.GetUrlResult response) {
+            String wrapperUrl = pendingWrapperUrl;
+            onHopFinished(wrapperUrl, false);
+            if (Utils.isVast(response.responseString)) {
+                VastWrapperCache.getInstance().put(wrapperUrl, response.responseString);
+            }
             performVastUnwrap(response.responseString);
         }
 
@@ -57,12 +88,17 @@ public class VastParserExtractor {
                 String msg,
                 long responseTime
         ) {
-            failedToLoadAd(msg);
+            onHopFinished(pendingWrapperUrl, false);
+            failedToLoadAd(msg, VASTErrorCodes.GENERAL_WRAPPER_ERROR);
         }
 
         @Override
         public void onErrorWithException(Exception e, long responseTime) {
-            failedToLoadAd(e.getMessage());
+            onHopFinished(pendingWrapperUrl, false);
+            VASTErrorCodes errorCode = e instanceof SocketTimeoutException
+                                       ? VASTErrorCodes.VASTTAG_TIMEOUT_ERROR
+                                       : VASTErrorCodes.GENERAL_WRAPPER_ERROR;
+            failedToLoadAd(e.getMessage(), errorCode);
         }
     };
 
@@ -79,13 +115,27 @@ public class VastParserExtractor {
     }
 
     public void extract(String vast) {
+        rootVastParser = null;
+        latestVastWrapperParser = null;
+        vastWrapperCount = 0;
+        wrapperErrorUrls.clear();
+        wrapperHops.clear();
+        deadline = System.currentTimeMillis() + (long) PrebidMobile.getTimeoutMillis() * TOTAL_TIMEOUT_MULTIPLIER;
+
         performVastUnwrap(vast);
     }
 
+    /**
+     * @return timings of the wrapper requests made by the last {@link #extract(String)}.
+     */
+    @NonNull
+    public List<VastWrapperHop> getWrapperHops() {
+        return Collections.unmodifiableList(new ArrayList<>(wrapperHops));
+    }
+
     private void performVastUnwrap(String vast) {
         if (!Utils.isVast(vast)) {
-            final AdException adException = new AdException(AdException.INTERNAL_ERROR, VASTErrorCodes.VAST_SCHEMA_ERROR.toString());
-            listener.onResult(createExtractorFailureResult(adException));
+            notifyFailure(VASTErrorCodes.VAST_SCHEMA_ERROR, VASTErrorCodes.VAST_SCHEMA_ERROR.toString());
             return;
         }
 
@@ -98,9 +148,7 @@ public class VastParserExtractor {
             adResponseParserVast = new AdResponseParserVast(vast);
         } catch (VastParseError e) {
             LogUtil.error(TAG, "AdResponseParserVast creation failed: " + Log.getStackTraceString(e));
-
-            final AdException adException = new AdException(AdException.INTERNAL_ERROR, e.getMessage());
-            listener.onResult(createExtractorFailureResult(adException));
+            notifyFailure(VASTErrorCodes.XML_PARSE_ERROR, e.getMessage());
             return;
         }
 
@@ -120,18 +168,18 @@ public class VastParserExtractor {
         // Check if this response is a wrapper
         String vastUrl = latestVastWrapperParser.getVastUrl();
         if (!TextUtils.isEmpty(vastUrl)) {
+            String errorUrl = latestVastWrapperParser.getWrapperErrorUrl();
+            if (!TextUtils.isEmpty(errorUrl)) {
+                wrapperErrorUrls.add(errorUrl.trim());
+            }
+
             if (vastWrapperCount >= WRAPPER_NESTING_LIMIT) {
-                final AdException adException = new AdException(
-                        AdException.INTERNAL_ERROR,
-                        VASTErrorCodes.WRAPPER_LIMIT_REACH_ERROR.toString()
-                );
-                final VastExtractorResult extractorFailureResult = createExtractorFailureResult(adException);
-                listener.onResult(extractorFailureResult);
+                notifyFailure(VASTErrorCodes.WRAPPER_LIMIT_REACH_ERROR, VASTErrorCodes.WRAPPER_LIMIT_REACH_ERROR.toString());
                 vastWrapperCount = 0;
                 return;
             }
 
-            asyncVastLoader.loadVast(vastUrl, responseHandler);
+            loadWrapper(vastUrl.trim());
         }
         else {
             final AdResponseParserBase[] parserArray = {rootVastParser, latestVastWrapperParser};
@@ -139,13 +187,83 @@ public class VastParserExtractor {
         }
     }
 
-    private void failedToLoadAd(String msg) {
+    private void loadWrapper(String vastUrl) {
+        pendingWrapperUrl = vastUrl;
+        hopStart = System.currentTimeMillis();
+
+        String cachedVast = VastWrapperCache.getInstance().get(vastUrl);
+        if (cachedVast != null) {
+            onHopFinished(vastUrl, true);
+            performVastUnwrap(cachedVast);
+            return;
+        }
+
+        long remaining = deadline - hopStart;
+        if (remaining <= 0) {
+            notifyFailure(VASTErrorCodes.VASTTAG_TIMEOUT_ERROR, VASTErrorCodes.VASTTAG_TIMEOUT_ERROR.toString());
+            return;
+        }
+        int hopTimeout = (int) Math.min(PrebidMobile.getTimeoutMillis(), remaining);
+        asyncVastLoader.loadVast(vastUrl, responseHandler, hopTimeout);
+    }
+
+    private void onHopFinished(String url, boolean fromCache) {
+        if (url == null) {
+            return;
+        }
+        VastWrapperHop hop = new VastWrapperHop(url, System.currentTimeMillis() - hopStart, fromCache);
+        wrapperHops.add(hop);
+        LogUtil.debug(TAG, "Wrapper loaded: " + hop);
+    }
+
+    private void failedToLoadAd(String msg, VASTErrorCodes errorCode) {
         LogUtil.error(TAG, "Invalid ad response: " + msg);
+        notifyFailure(errorCode, "Invalid ad response: " + msg);
+    }
 
-        final AdException adException = new AdException(AdException.INTERNAL_ERROR, "Invalid ad response: " + msg);
+    private void notifyFailure(VASTErrorCodes errorCode, String message) {
+        fireWrapperErrors(errorCode);
+
+        final AdException adException = new AdException(AdException.INTERNAL_ERROR, message);
         listener.onResult(createExtractorFailureResult(adException));
     }
 
+    /**
+     * Every tracking request is executed as a separate task, so the trackers are fired concurrently.
+     */
+    private void fireWrapperErrors(VASTErrorCodes errorCode) {
+        if (wrapperErrorUrls.isEmpty()) {
+            return;
+        }
+
+        String code = String.valueOf(getVastErrorCode(errorCode));
+        List<String> urls = new ArrayList<>(wrapperErrorUrls.size());
+        for (String url : wrapperErrorUrls) {
+            urls.add(url.replace(ERROR_CODE_MACRO, code));
+        }
+        wrapperErrorUrls.clear();
+        TrackingManager.getInstance().fireEventTrackingURLs(urls);
+    }
+
+    private static int getVastErrorCode(VASTErrorCodes errorCode) {
+        switch (errorCode) {
+            case XML_PARSE_ERROR:
+                return 100;
+            case VAST_SCHEMA_ERROR:
+                return 101;
+            case VASTTAG_TIMEOUT_ERROR:
+                return 301;
+            case WRAPPER_LIMIT_REACH_ERROR:
+                return 302;
+            case NO_AD_IN_WRAPPER_ERROR:
+                return 303;
+            case GENERAL_WRAPPER_ERROR:
+                return 300;
+            default:
+                return 900;
+        }
+    }
+
     @VisibleForTesting
     VastExtractorResult createExtractorFailureResult(AdException adException) {
         return new VastExtractorResult(adException);
@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.loading;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of VAST responses loaded from wrapper urls. SSP chains often point
+ * several ads to the same wrapper, so the next load can skip the round trip.
+ * <p>
+ * Raw responses are stored because parsed VAST is linked into the wrapper chain of a single ad.
+ */
+public class VastWrapperCache {
+
+    private static final long LIFE_TIME_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final int MAX_SIZE = 20;
+
+    private static VastWrapperCache instance;
+
+    private final ConcurrentHashMap<String, Entry> responses = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    VastWrapperCache() {
+    }
+
+    public static synchronized VastWrapperCache getInstance() {
+        if (instance == null) {
+            instance = new VastWrapperCache();
+        }
+        return instance;
+    }
+
+    @Nullable
+    public String get(@NonNull String wrapperUrl) {
+        Entry entry = responses.get(wrapperUrl);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            responses.remove(wrapperUrl, entry);
+            return null;
+        }
+        return entry.vast;
+    }
+
+    public void put(@NonNull String wrapperUrl, @NonNull String vast) {
+        long now = System.currentTimeMillis();
+        if (responses.size() >= MAX_SIZE) {
+            removeExpired(now);
+        }
+        if (responses.size() >= MAX_SIZE) {
+            return;
+        }
+        responses.put(wrapperUrl, new Entry(vast, now + LIFE_TIME_MILLIS));
+    }
+
+    public void clear() {
+        responses.clear();
+    }
+
+    private void removeExpired(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = responses.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isExpired(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final String vast;
+        private final long expiresAt;
+
+        private Entry(String vast, long expiresAt) {
+            this.vast = vast;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
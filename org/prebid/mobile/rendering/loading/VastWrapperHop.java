@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.loading;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Timing of one step of the VAST wrapper chain.
+ */
+public class VastWrapperHop {
+
+    private final String url;
+    private final long durationMillis;
+    private final boolean fromCache;
+
+    public VastWrapperHop(
+            @NonNull String url,
+            long durationMillis,
+            boolean fromCache
+    ) {
+        this.url = url;
+        this.durationMillis = durationMillis;
+        this.fromCache = fromCache;
+    }
+
+    @NonNull
+    public String getUrl() {
+        return url;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "VastWrapperHop{" + "url='" + url + '\'' + ", durationMillis=" + durationMillis + ", fromCache=" + fromCache + '}';
+    }
+}
@@ -125,7 +125,7 @@ public class CreativeModel {
             //clicks(rc), would go through GetOriginalUrlTask path, for any redirection related task
             //TODO: Check if we can merge redirection check into our standard BaseNetwork class,
             //for all requests(adrequest & recordEvents)
-            trackingManager.fireEventTrackingURLs(trackingUrls);
+            trackingManager.fireEventTrackingURLs(trackingUrls, event.name());
         }
     }
 
@@ -17,10 +17,7 @@
 package org.prebid.mobile.rendering.models;
 
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.view.View;
-import android.view.ViewTreeObserver;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -28,9 +25,9 @@ import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.models.internal.VisibilityTrackerOption;
 import org.prebid.mobile.rendering.models.internal.VisibilityTrackerResult;
 import org.prebid.mobile.rendering.utils.exposure.ViewExposure;
-import org.prebid.mobile.rendering.utils.exposure.ViewExposureChecker;
+import org.prebid.mobile.rendering.utils.exposure.VisibilityEngine;
+import org.prebid.mobile.rendering.utils.exposure.VisibilitySample;
 import org.prebid.mobile.rendering.utils.helpers.VisibilityChecker;
-import org.prebid.mobile.rendering.views.webview.mraid.Views;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -38,29 +35,47 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Tracks visibility of a creative view with the shared {@link VisibilityEngine} of its window.
+ * The listener is notified only when the result of a visibility check changes.
+ */
 public class CreativeVisibilityTracker {
 
     private static final String TAG = CreativeVisibilityTracker.class.getSimpleName();
 
-    // Time interval to use for throttling visibility checks.
-    private static final int VISIBILITY_THROTTLE_MILLIS = 200;
-
     public interface VisibilityTrackerListener {
 
         void onVisibilityChanged(VisibilityTrackerResult result);
 
     }
 
-    private ViewTreeObserver.OnPreDrawListener onPreDrawListener;
-    private WeakReference<ViewTreeObserver> weakViewTreeObserver;
-
     private WeakReference<View> trackedView;
     private final List<VisibilityChecker> visibilityCheckerList = new ArrayList<>();
-    @VisibleForTesting protected Runnable visibilityRunnable;
-    private Handler visibilityHandler;
+    private final List<VisibilityTrackerResult> lastResults = new ArrayList<>();
     private VisibilityTrackerListener visibilityTrackerListener;
     private boolean proceedAfterImpTracking;
-    private boolean isVisibilityScheduled;
+    private boolean reportExposure = true;
+
+    @Nullable
+    private VisibilityEngine visibilityEngine;
+    @VisibleForTesting
+    protected final VisibilityEngine.Client engineClient = new VisibilityEngine.Client() {
+        @Nullable
+        @Override
+        public View getTrackedView() {
+            return trackedView != null ? trackedView.get() : null;
+        }
+
+        @Override
+        public boolean needsContinuousSampling() {
+            return isWaitingForRequiredTime();
+        }
+
+        @Override
+        public void onSample(@NonNull VisibilitySample sample) {
+            handleSample(sample);
+        }
+    };
 
     public CreativeVisibilityTracker(
             @NonNull final View trackedView,
@@ -72,21 +87,11 @@ public class CreativeVisibilityTracker {
         }
 
         this.trackedView = new WeakReference<>(trackedView);
-        final ViewExposureChecker viewExposureChecker = new ViewExposureChecker();
 
         for (VisibilityTrackerOption trackingOption : visibilityTrackerOptionSet) {
-            visibilityCheckerList.add(new VisibilityChecker(trackingOption, viewExposureChecker));
+            visibilityCheckerList.add(new VisibilityChecker(trackingOption));
+            lastResults.add(null);
         }
-
-        visibilityHandler = new Handler(Looper.getMainLooper());
-        visibilityRunnable = createVisibilityRunnable();
-
-        onPreDrawListener = () -> {
-            scheduleVisibilityCheck();
-            return true;
-        };
-
-        weakViewTreeObserver = new WeakReference<>(null);
     }
 
     public CreativeVisibilityTracker(
@@ -113,118 +118,95 @@ public class CreativeVisibilityTracker {
         this(trackedView, Collections.singleton(visibilityTrackerOption), proceedAfterImpTracking);
     }
 
-    private void setViewTreeObserver(
-        @Nullable
-        final Context context,
-        @Nullable
-        final View view) {
-        final ViewTreeObserver originalViewTreeObserver = weakViewTreeObserver.get();
-        if (originalViewTreeObserver != null && originalViewTreeObserver.isAlive()) {
-            LogUtil.debug(TAG, "Original ViewTreeObserver is still alive.");
-            return;
-        }
-
-        final View rootView = Views.getTopmostView(context, view);
-        if (rootView == null) {
-            LogUtil.debug(TAG, "Unable to set Visibility Tracker due to no available root view.");
-            return;
-        }
-
-        final ViewTreeObserver viewTreeObserver = rootView.getViewTreeObserver();
-        if (!viewTreeObserver.isAlive()) {
-            LogUtil.debug(
-                    TAG,
-                    "Visibility Tracker was unable to track views because the" + " root view tree observer was not alive"
-            );
-            return;
-        }
-
-        weakViewTreeObserver = new WeakReference<>(viewTreeObserver);
-        viewTreeObserver.addOnPreDrawListener(onPreDrawListener);
-    }
-
     public void setVisibilityTrackerListener(
         @Nullable
         final VisibilityTrackerListener visibilityTrackerListener) {
         this.visibilityTrackerListener = visibilityTrackerListener;
     }
 
+    /**
+     * Sets whether results carry {@link ViewExposure}, true by default. Without it the listener is notified
+     * only when visibility changes and exposure is checked against thresholds only, which is cheaper.
+     */
+    public void setReportExposure(boolean reportExposure) {
+        this.reportExposure = reportExposure;
+    }
+
     public void startVisibilityCheck(Context context) {
-        if (trackedView == null || trackedView.get() == null) {
+        View view = trackedView != null ? trackedView.get() : null;
+        if (view == null) {
             LogUtil.error(TAG, "Couldn't start visibility check. Target view is null");
             return;
         }
-        setViewTreeObserver(context, trackedView.get());
+        if (visibilityEngine != null) {
+            LogUtil.debug(TAG, "Visibility check is already started.");
+            return;
+        }
+
+        visibilityEngine = VisibilityEngine.getInstance(context, view);
+        if (visibilityEngine == null) {
+            LogUtil.debug(TAG, "Unable to set Visibility Tracker due to no available root view.");
+            return;
+        }
+        visibilityEngine.register(engineClient);
     }
 
     public void stopVisibilityCheck() {
-        visibilityHandler.removeCallbacksAndMessages(null);
-        isVisibilityScheduled = false;
-        final ViewTreeObserver viewTreeObserver = weakViewTreeObserver.get();
-        if (viewTreeObserver != null && viewTreeObserver.isAlive()) {
-            viewTreeObserver.removeOnPreDrawListener(onPreDrawListener);
+        if (visibilityEngine != null) {
+            visibilityEngine.unregister(engineClient);
+            visibilityEngine = null;
         }
-        weakViewTreeObserver.clear();
     }
 
-    void scheduleVisibilityCheck() {
-        // Tracking this directly instead of calling hasMessages directly because we measured that
-        // this led to slightly better performance.
-        if (isVisibilityScheduled) {
+    private void handleSample(VisibilitySample sample) {
+        View trackedView = sample.getView();
+        if (trackedView == null) {
+            stopVisibilityCheck();
             return;
         }
 
-        isVisibilityScheduled = true;
-        visibilityHandler.postDelayed(visibilityRunnable, VISIBILITY_THROTTLE_MILLIS);
-    }
+        if (allImpressionsFired() && !proceedAfterImpTracking) {
+            stopVisibilityCheck();
+            return;
+        }
 
-    private Runnable createVisibilityRunnable() {
-        return () -> {
-            View trackedView = this.trackedView.get();
-            if (trackedView == null) {
-                stopVisibilityCheck();
-                return;
-            }
+        for (int i = 0; i < visibilityCheckerList.size(); i++) {
+            VisibilityChecker visibilityChecker = visibilityCheckerList.get(i);
+            ViewExposure viewExposure = reportExposure ? sample.getExposure() : null;
+            boolean shouldFireImpression = false;
+            boolean isVisible = visibilityChecker.isVisible(trackedView, sample);
 
-            if (allImpressionsFired() && !proceedAfterImpTracking) {
-                return;
-            }
+            // If the view meets the dips count requirement for visibility, then also check the
+            // duration requirement for visibility.
+            VisibilityTrackerOption visibilityTrackerOption = visibilityChecker.getVisibilityTrackerOption();
 
-            for (VisibilityChecker visibilityChecker : visibilityCheckerList) {
-                isVisibilityScheduled = false;
-                ViewExposure viewExposure = visibilityChecker.checkViewExposure(trackedView);
-                boolean shouldFireImpression = false;
-                boolean isVisible = visibilityChecker.isVisible(trackedView, viewExposure);
-
-                // If the view meets the dips count requirement for visibility, then also check the
-                // duration requirement for visibility.
-                VisibilityTrackerOption visibilityTrackerOption = visibilityChecker.getVisibilityTrackerOption();
-
-                if (isVisible) {
-                    if (!visibilityChecker.hasBeenVisible()) {
-                        visibilityChecker.setStartTimeMillis();
-                    }
-
-                    if (visibilityChecker.hasRequiredTimeElapsed()) {
-                        shouldFireImpression = !visibilityTrackerOption.isImpressionTracked();
-                        visibilityTrackerOption.setImpressionTracked(true);
-                    }
+            if (isVisible) {
+                if (!visibilityChecker.hasBeenVisible()) {
+                    visibilityChecker.setStartTimeMillis();
                 }
 
-                VisibilityTrackerResult visibilityTrackerResult = new VisibilityTrackerResult(
-                    visibilityTrackerOption.getEventType(),
-                    viewExposure,
-                    isVisible,
-                    shouldFireImpression
-                );
-                notifyListener(visibilityTrackerResult);
+                if (visibilityChecker.hasRequiredTimeElapsed()) {
+                    shouldFireImpression = !visibilityTrackerOption.isImpressionTracked();
+                    visibilityTrackerOption.setImpressionTracked(true);
+                }
             }
 
-            // If visibility requirements are not met or the target is MRAID, check again later.
-            if (!allImpressionsFired() || proceedAfterImpTracking) {
-                scheduleVisibilityCheck();
+            VisibilityTrackerResult visibilityTrackerResult = new VisibilityTrackerResult(
+                visibilityTrackerOption.getEventType(),
+                viewExposure,
+                isVisible,
+                shouldFireImpression
+            );
+            if (!visibilityTrackerResult.equals(lastResults.get(i))) {
+                lastResults.set(i, visibilityTrackerResult);
+                notifyListener(visibilityTrackerResult);
             }
-        };
+        }
+
+        // Visibility is checked until all impressions are fired, MRAID creatives are tracked all the time.
+        if (allImpressionsFired() && !proceedAfterImpTracking) {
+            stopVisibilityCheck();
+        }
     }
 
     private void notifyListener(VisibilityTrackerResult visibilityTrackerResult) {
@@ -233,6 +215,15 @@ public class CreativeVisibilityTracker {
         }
     }
 
+    private boolean isWaitingForRequiredTime() {
+        for (VisibilityChecker visibilityChecker : visibilityCheckerList) {
+            if (visibilityChecker.hasBeenVisible() && !visibilityChecker.getVisibilityTrackerOption().isImpressionTracked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean allImpressionsFired() {
         for (VisibilityChecker visibilityChecker : visibilityCheckerList) {
             final VisibilityTrackerOption visibilityTrackerOption = visibilityChecker.getVisibilityTrackerOption();
@@ -26,111 +26,136 @@ import org.prebid.mobile.rendering.video.ExoPlayerView;
 import org.prebid.mobile.rendering.views.interstitial.InterstitialManager;
 import org.prebid.mobile.rendering.views.webview.PrebidWebViewBanner;
 import org.prebid.mobile.rendering.views.webview.PrebidWebViewInterstitial;
+import org.prebid.mobile.rendering.views.webview.WebViewPool;
 import org.prebid.mobile.rendering.views.webview.mraid.Views;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
+/**
+ * Keeps creative views which were shown (occupied) and can be reused (unoccupied), per ad format.
+ * Web views inside of the creative views are prepared by {@link WebViewPool}.
+ */
 public class ViewPool {
 
     @SuppressLint("StaticFieldLeak") private static ViewPool sInstance = null;
-    private ArrayList<View> occupiedViews = new ArrayList<>();
-    private ArrayList<View> unoccupiedViews = new ArrayList<>();
+    private final Set<View> occupiedViews = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final EnumMap<AdFormat, ArrayDeque<View>> unoccupiedViews = new EnumMap<>(AdFormat.class);
+    private final Set<View> unoccupiedViewSet = Collections.newSetFromMap(new IdentityHashMap<>());
 
     private ViewPool() {
 
     }
 
-    public static ViewPool getInstance() {
+    public static synchronized ViewPool getInstance() {
         if (sInstance == null) {
             sInstance = new ViewPool();
         }
         return sInstance;
     }
 
-    protected int sizeOfOccupied() {
+    protected synchronized int sizeOfOccupied() {
         return occupiedViews.size();
     }
 
-    protected int sizeOfUnoccupied() {
-        return unoccupiedViews.size();
+    protected synchronized int sizeOfUnoccupied() {
+        return unoccupiedViewSet.size();
     }
 
     //This will add views into occupied bucket
-    public void addToOccupied(View view) {
-        if (!occupiedViews.contains(view) && !unoccupiedViews.contains(view)) {
+    public synchronized void addToOccupied(View view) {
+        if (!occupiedViews.contains(view) && !unoccupiedViewSet.contains(view)) {
             occupiedViews.add(view);
         }
     }
 
-    public void addToUnoccupied(View view) {
-        if (!unoccupiedViews.contains(view) && !occupiedViews.contains(view)) {
-            unoccupiedViews.add(view);
+    public synchronized void addToUnoccupied(View view) {
+        if (!unoccupiedViewSet.contains(view) && !occupiedViews.contains(view)) {
+            addUnoccupied(view);
         }
     }
 
     //This will swap from occupied to unoccupied(after windowclose) and removes it from occupied bucket
-    public void swapToUnoccupied(View view) {
-        if (!unoccupiedViews.contains(view)) {
-            unoccupiedViews.add(view);
+    public synchronized void swapToUnoccupied(View view) {
+        if (!unoccupiedViewSet.contains(view)) {
+            addUnoccupied(view);
 
             Views.removeFromParent(view);
         }
         occupiedViews.remove(view);
     }
 
-    //This will swap from unoccupied to occupied(after showing/displaying) and removes it from unoccupied bucket
-    private void swapToOccupied(View view) {
-        if (!occupiedViews.contains(view)) {
-            occupiedViews.add(view);
-        }
-
-        unoccupiedViews.remove(view);
-    }
-
     //This only clears the bucketlist. It does not actually remove the lists. Means (size becomes 0 but list still exists)
-    public void clear() {
+    public synchronized void clear() {
         occupiedViews.clear();
         unoccupiedViews.clear();
-        plugPlayView = null;
+        unoccupiedViewSet.clear();
     }
 
-    private View plugPlayView;
-
     //Q: why are we keeping it in occupied? Should we not put/get from unoccupied directly?
     //A: Because, when a videoCreativeView is created, we will have to, anyways, add the view to the occupied bucket as it is going to be given to adView.
     //So, do that step here itself.(distribution of work!)
-    public View getUnoccupiedView(Context context, VideoCreativeViewListener videoCreativeViewListener, AdFormat adType, InterstitialManager interstitialManager)
+    public synchronized View getUnoccupiedView(Context context, VideoCreativeViewListener videoCreativeViewListener, AdFormat adType, InterstitialManager interstitialManager)
             throws AdException {
         if (context == null) {
             throw new AdException(AdException.INTERNAL_ERROR, "Context is null");
         }
-        if (unoccupiedViews != null && unoccupiedViews.size() > 0) {
-
-            View view = unoccupiedViews.get(0);
-
+        ArrayDeque<View> views = unoccupiedViews.get(adType);
+        View view = views != null ? views.poll() : null;
+        if (view != null) {
+            unoccupiedViewSet.remove(view);
             Views.removeFromParent(view);
 
             //get item from unoccupied & add it to occupied
-            swapToOccupied(view);
-            return occupiedViews.get(occupiedViews.size() - 1);
+            occupiedViews.add(view);
+            return view;
         }
-        //create a new one
-
-        //add it to occupied
 
+        //create a new one
+        View plugPlayView = null;
         switch (adType) {
             case BANNER:
                 plugPlayView = new PrebidWebViewBanner(context, interstitialManager);
                 break;
             case INTERSTITIAL:
                 plugPlayView = new PrebidWebViewInterstitial(context, interstitialManager);
-                //add it to occupied
                 break;
             case VAST:
                 plugPlayView = new ExoPlayerView(context, videoCreativeViewListener);
                 break;
         }
-        addToOccupied(plugPlayView);
+        //add it to occupied
+        if (plugPlayView != null) {
+            addToOccupied(plugPlayView);
+        }
         return plugPlayView;
     }
+
+    private void addUnoccupied(View view) {
+        AdFormat format = getFormat(view);
+        if (format == null) {
+            return;
+        }
+        ArrayDeque<View> views = unoccupiedViews.get(format);
+        if (views == null) {
+            views = new ArrayDeque<>();
+            unoccupiedViews.put(format, views);
+        }
+        views.add(view);
+        unoccupiedViewSet.add(view);
+    }
+
+    private static AdFormat getFormat(View view) {
+        if (view instanceof PrebidWebViewInterstitial) {
+            return AdFormat.INTERSTITIAL;
+        } else if (view instanceof PrebidWebViewBanner) {
+            return AdFormat.BANNER;
+        } else if (view instanceof ExoPlayerView) {
+            return AdFormat.VAST;
+        }
+        return null;
+    }
 }
@@ -23,6 +23,7 @@ public class MacrosModel {
     public static final String MACROS_AUCTION_PRICE_BASE_64 = "\\$\\{AUCTION_PRICE:B64\\}";
 
     private static final String MACROS_DEFAULT_VALUE = "\\\\\"\\\\\""; //String representation of "\"\""
+    private static final String MACROS_DEFAULT_LITERAL_VALUE = "\\\"\\\"";
 
     private final String replaceValue;
 
@@ -35,6 +36,14 @@ public class MacrosModel {
         return replaceValue == null ? MACROS_DEFAULT_VALUE : replaceValue;
     }
 
+    /**
+     * Value as it's inserted into the text, {@link #getReplaceValue()} is escaped for {@link String#replaceAll(String, String)}.
+     */
+    @NonNull
+    public String getValue() {
+        return replaceValue == null ? MACROS_DEFAULT_LITERAL_VALUE : replaceValue;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -38,6 +38,10 @@ import org.prebid.mobile.rendering.models.openrtb.bidRequests.User;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.source.Source;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 public class BidRequest extends BaseBid {
 
@@ -51,6 +55,12 @@ public class BidRequest extends BaseBid {
     @Nullable
     private String impOrtbConfig;
     private Ext ext = null;
+    /**
+     * Serialized sections shared between requests (see {@link org.prebid.mobile.rendering.networking.parameters.RequestSectionCache}).
+     * They are combined with the model of the same section, which holds the per-request fields.
+     */
+    @Nullable
+    private transient Map<String, List<JSONObject>> sharedSections;
 
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
@@ -71,10 +81,10 @@ public class BidRequest extends BaseBid {
         }
 
         toJSON(jsonObject, "id", !TextUtils.isEmpty(id) ? id : null);
-        toJSON(jsonObject, "app", (app != null) ? app.getJsonObject() : null);
-        toJSON(jsonObject, "device", (device != null) ? device.getJsonObject() : null);
-        toJSON(jsonObject, "regs", (regs != null) ? regs.getJsonObject() : null);
-        toJSON(jsonObject, "user", (user != null) ? user.getJsonObject() : null);
+        toJSON(jsonObject, "app", composeSection("app", (app != null) ? app.getJsonObject() : null));
+        toJSON(jsonObject, "device", composeSection("device", (device != null) ? device.getJsonObject() : null));
+        toJSON(jsonObject, "regs", composeSection("regs", (regs != null) ? regs.getJsonObject() : null));
+        toJSON(jsonObject, "user", composeSection("user", (user != null) ? user.getJsonObject() : null));
         toJSON(jsonObject, "source", source != null ? source.getJsonObject() : null);
         toJSON(jsonObject, "ext", ext != null ? ext.getJsonObject() : null);
         toJSON(jsonObject, "test", PrebidMobile.getPbsDebug() ? 1 : null);
@@ -82,6 +92,83 @@ public class BidRequest extends BaseBid {
         return jsonObject;
     }
 
+    /**
+     * Adds the serialized part of the section ("app", "device", "regs" or "user").
+     * The section must not be modified after it's added.
+     */
+    public void addSharedSection(String name, @Nullable JSONObject section) {
+        if (section == null) {
+            return;
+        }
+        if (sharedSections == null) {
+            sharedSections = new HashMap<>();
+        }
+        List<JSONObject> parts = sharedSections.get(name);
+        if (parts == null) {
+            parts = new ArrayList<>(2);
+            sharedSections.put(name, parts);
+        }
+        parts.add(section);
+    }
+
+    /**
+     * Combines the shared parts of the section with its model into a new object. Objects are merged at
+     * every level and copied, so the request can be modified without touching the shared parts.
+     */
+    @Nullable
+    private JSONObject composeSection(String name, @Nullable JSONObject modelJson) throws JSONException {
+        List<JSONObject> parts = sharedSections != null ? sharedSections.get(name) : null;
+        if (parts == null || parts.isEmpty()) {
+            return modelJson;
+        }
+
+        JSONObject result = new JSONObject();
+        for (JSONObject part : parts) {
+            mergeFields(result, part);
+        }
+        if (modelJson != null) {
+            mergeFields(result, modelJson);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the fields of the source to the target, objects present in both are merged.
+     * The target must hold only copies.
+     */
+    private static void mergeFields(JSONObject target, JSONObject source) throws JSONException {
+        for (Iterator<String> it = source.keys(); it.hasNext(); ) {
+            String key = it.next();
+            Object value = source.opt(key);
+            if (value instanceof JSONObject) {
+                Object existing = target.opt(key);
+                JSONObject merged = existing instanceof JSONObject ? (JSONObject) existing : new JSONObject();
+                mergeFields(merged, (JSONObject) value);
+                value = merged;
+            } else {
+                value = copyValue(value);
+            }
+            target.put(key, value);
+        }
+    }
+
+    private static Object copyValue(Object value) throws JSONException {
+        if (value instanceof JSONObject) {
+            JSONObject copy = new JSONObject();
+            mergeFields(copy, (JSONObject) value);
+            return copy;
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < array.length(); i++) {
+                copy.put(copyValue(array.opt(i)));
+            }
+            return copy;
+        }
+        return value;
+    }
+
     // App
     public App getApp() {
         if (app == null) {
@@ -27,6 +27,7 @@ import java.util.Map;
 public class Ext implements Serializable {
 
     private Map<String, Object> extValuesHashMap = new HashMap<>();
+    private int version;
 
     public JSONObject getJsonObject() {
         return new JSONObject(extValuesHashMap);
@@ -34,18 +35,22 @@ public class Ext implements Serializable {
 
     public void put(String key, String value) {
         extValuesHashMap.put(key, value);
+        version++;
     }
 
     public void put(String key, Integer value) {
         extValuesHashMap.put(key, value);
+        version++;
     }
 
     public void put(String key, JSONObject value) {
         extValuesHashMap.put(key, value);
+        version++;
     }
 
     public void put(String key, JSONArray value) {
         extValuesHashMap.put(key, value);
+        version++;
     }
 
     public void put(JSONObject jsonObject) {
@@ -57,10 +62,20 @@ public class Ext implements Serializable {
             String key = jsonIterator.next();
             extValuesHashMap.put(key, jsonObject.opt(key));
         }
+        version++;
     }
 
     public void remove(String key) {
         extValuesHashMap.remove(key);
+        version++;
+    }
+
+    /**
+     * Counter of the changes made with {@code put} and {@code remove}, so cached requests can tell
+     * the ext changed. Changes to the map or to JSON values after they were put aren't counted.
+     */
+    public int getVersion() {
+        return version;
     }
 
     public Map<String, Object> getMap() {
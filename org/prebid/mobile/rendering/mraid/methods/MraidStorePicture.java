@@ -28,6 +28,10 @@ import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
 import org.prebid.mobile.rendering.views.webview.WebViewBase;
 import org.prebid.mobile.rendering.views.webview.mraid.BaseJSInterface;
 import org.prebid.mobile.rendering.views.webview.mraid.JSInterface;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.util.concurrent.RejectedExecutionException;
 
 import static android.Manifest.permission.WRITE_EXTERNAL_STORAGE;
 
@@ -84,21 +88,28 @@ public class MraidStorePicture {
     }
 
     private void storePicture() {
-        new Thread(() -> {
-            try {
-                DeviceInfoManager devicePolicyManager = ManagersResolver.getInstance().getDeviceManager();
-                if (!devicePolicyManager.isPermissionGranted(WRITE_EXTERNAL_STORAGE)) {
-                    jsi.onError("store_picture", JSInterface.ACTION_STORE_PICTURE);
-                }
-                else {
-                    devicePolicyManager.storePicture(urlToStore);
-                }
+        try {
+            TasksManager.getInstance().execute(TaskLane.NETWORK, this::downloadPicture);
+        } catch (RejectedExecutionException exception) {
+            jsi.onError("Failed to store picture", JSInterface.ACTION_STORE_PICTURE);
+            LogUtil.error(TAG, "Failed to store picture: " + exception.getMessage());
+        }
+    }
+
+    private void downloadPicture() {
+        try {
+            DeviceInfoManager devicePolicyManager = ManagersResolver.getInstance().getDeviceManager();
+            if (!devicePolicyManager.isPermissionGranted(WRITE_EXTERNAL_STORAGE)) {
+                jsi.onError("store_picture", JSInterface.ACTION_STORE_PICTURE);
             }
-            catch (Exception e) {
-                //send a mraid error back to the ad
-                jsi.onError("Failed to store picture", JSInterface.ACTION_STORE_PICTURE);
-                LogUtil.error(TAG, "Failed to store picture: " + Log.getStackTraceString(e));
+            else {
+                devicePolicyManager.storePicture(urlToStore);
             }
-        }).start();
+        }
+        catch (Exception e) {
+            //send a mraid error back to the ad
+            jsi.onError("Failed to store picture", JSInterface.ACTION_STORE_PICTURE);
+            LogUtil.error(TAG, "Failed to store picture: " + Log.getStackTraceString(e));
+        }
     }
 }
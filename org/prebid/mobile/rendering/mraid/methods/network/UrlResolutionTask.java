@@ -22,9 +22,9 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.rendering.networking.transport.HttpTransport;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -82,26 +82,21 @@ public class UrlResolutionTask extends AsyncTask<String, Void, String> {
                                                                                URISyntaxException {
         final URL url = new URL(urlString);
 
+        final HttpTransport transport = PrebidMobile.getHttpTransport();
         HttpURLConnection httpUrlConnection = null;
+        boolean resolved = false;
         try {
-            httpUrlConnection = (HttpURLConnection) url.openConnection();
+            httpUrlConnection = (HttpURLConnection) transport.openConnection(url);
             httpUrlConnection.setInstanceFollowRedirects(false);
 
-            return resolveRedirectLocation(urlString, httpUrlConnection);
+            String location = resolveRedirectLocation(urlString, httpUrlConnection);
+            resolved = true;
+            return location;
         }
         finally {
-            if (httpUrlConnection != null) {
-                try {
-                    final InputStream is = httpUrlConnection.getInputStream();
-                    if (is != null) {
-                        is.close();
-                    }
-                }
-                catch (IOException e) {
-                    LogUtil.error(TAG, "IOException when closing httpUrlConnection. Ignoring.");
-                }
-                httpUrlConnection.disconnect();
-            }
+            // The transport drains the (usually empty) redirect body, so the connection
+            // can be reused for the next hop
+            transport.release(httpUrlConnection, resolved);
         }
     }
 
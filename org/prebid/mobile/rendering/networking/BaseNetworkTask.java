@@ -27,10 +27,11 @@ import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.loading.FileDownloadTask;
 import org.prebid.mobile.rendering.networking.exception.BaseExceptionHolder;
+import org.prebid.mobile.rendering.networking.timeout.AdaptiveTimeoutController;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -40,11 +41,14 @@ import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Performs HTTP communication in the background, i.e. off the UI thread.
+ * Connections are opened and released through {@link PrebidMobile#getHttpTransport()}.
  */
 public class BaseNetworkTask
     extends AsyncTask<BaseNetworkTask.GetUrlParams, Integer, BaseNetworkTask.GetUrlResult> {
@@ -65,12 +69,27 @@ public class BaseNetworkTask
     protected static final String ACCEPT_HEADER_VALUE = "application/x-www-form-urlencoded,application/json,text/plain,text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8";
     protected static final String CONTENT_TYPE_HEADER = "Content-Type";
     protected static final String CONTENT_TYPE_HEADER_VALUE = "application/json";
+    protected static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    protected static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    /**
+     * The only content coding requested: Android has no Brotli decoder and the SDK doesn't ship one.
+     */
+    protected static final String GZIP_ENCODING = "gzip";
+
+    private static final int OUTPUT_BUFFER_SIZE = 8 * 1024;
 
     protected GetUrlResult result;
 
     private long start;
+    /**
+     * Timestamps of the latency recorded by {@link AdaptiveTimeoutController}, 0 until reached.
+     */
+    private long connectStartedAt;
+    private long connectedAt;
+    private long requestSentAt;
     private BaseResponseHandler responseHandler;
     private URLConnection connection = null;
+    private int connectionWaitTimeoutMillis = PrebidMobile.getTimeoutMillis();
 
     /**
      * Creates a network object
@@ -101,7 +120,7 @@ public class BaseNetworkTask
         }
 
         //For debugging purposes. Helps in client issues, if any.
-        LogUtil.debug(TAG, "Result: " + urlResult.responseString);
+        LogUtil.debug(TAG, () -> "Result: " + urlResult.responseString);
 
         long stop = System.currentTimeMillis();
         long delta = stop - start;
@@ -135,15 +154,27 @@ public class BaseNetworkTask
         super.onProgressUpdate(progress);
     }
 
+    /**
+     * Called by the transport if the task couldn't be scheduled: the NETWORK lane is overloaded and the task was
+     * submitted from the main thread or from another lane, which never run it themselves. The transport delivers
+     * the call on the main thread. Reports the error the same way as a failed request.
+     */
+    public void onExecutionRejected(@NotNull Exception exception) {
+        result.setException(exception);
+        onPostExecute(result);
+    }
+
     public void destroy() {
         responseHandler = null;
-        if (connection instanceof HttpURLConnection) {
-            ((HttpURLConnection) connection).disconnect();
-        }
+        releaseConnection(false);
     }
 
-    /*  NOTE THIS GETS OVERRIDDEN IN CHILD CLASS */
-    public GetUrlResult customParser(int code, URLConnection urlConnection) {
+    /**
+     * NOTE THIS GETS OVERRIDDEN IN CHILD CLASS.
+     * Exceptions are reported as a failed request. A parser which follows the request further
+     * can set {@link GetUrlResult#statusCode} of the last response, otherwise it's the code of the connection.
+     */
+    public GetUrlResult customParser(int code, URLConnection urlConnection) throws Exception {
         return result;
     }
 
@@ -155,17 +186,26 @@ public class BaseNetworkTask
         LogUtil.debug(TAG, "queryParams: " + param.queryParams);
 
         int responseCode = 0;
-        connection = setHttpURLConnectionProperty(param);
+        try {
+            connection = setHttpURLConnectionProperty(param);
 
-        if (connection instanceof HttpURLConnection) {
-            responseCode = ((HttpURLConnection) connection).getResponseCode();
+            if (connection instanceof HttpURLConnection) {
+                responseCode = ((HttpURLConnection) connection).getResponseCode();
+            }
+        } catch (SocketTimeoutException exception) {
+            recordTimeout(param);
+            throw exception;
         }
+        // Any status counts, the server answered within the timeouts
+        recordLatency(param);
 
-        if (Utils.isNotBlank(param.name) && !DOWNLOAD_TASK.equals(param.name) && !REDIRECT_TASK.equals(param.name) && !STATUS_TASK.equals(param.name)) {
+        if (readsTextResponse(param)) {
             result = parseHttpURLResponse(responseCode);
         }
         result = customParser(responseCode, connection);
-        result.statusCode = responseCode;
+        if (result.statusCode == 0) {
+            result.statusCode = responseCode;
+        }
         return result;
     }
 
@@ -194,7 +234,7 @@ public class BaseNetworkTask
 
         StringBuilder response = new StringBuilder();
         boolean runAtLeastOnce = false;
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             final char[] buffer = new char[1024];
             int charsRead;
             while ((charsRead = reader.read(buffer, 0, buffer.length)) > 0) {
@@ -246,9 +286,7 @@ public class BaseNetworkTask
                 result.setException(e);
             }
             finally {
-                if (connection instanceof HttpURLConnection) {
-                    ((HttpURLConnection) connection).disconnect();
-                }
+                releaseConnection(result != null && result.getException() == null);
             }
         }
         else {
@@ -258,13 +296,32 @@ public class BaseNetworkTask
         return result;
     }
 
+    private void recordLatency(GetUrlParams param) {
+        if (!param.recordLatency || connectedAt == 0) {
+            return;
+        }
+        long responseLatency = System.currentTimeMillis() - requestSentAt;
+        AdaptiveTimeoutController.getInstance().record(param.url, connectedAt - connectStartedAt, responseLatency);
+    }
+
+    private void recordTimeout(GetUrlParams param) {
+        URLConnection current = connection;
+        if (!param.recordLatency || connectStartedAt == 0 || current == null) {
+            return;
+        }
+        boolean connected = connectedAt != 0;
+        int timeoutMillis = connected ? current.getReadTimeout() : current.getConnectTimeout();
+        AdaptiveTimeoutController.getInstance().recordTimeout(param.url, connected, timeoutMillis);
+    }
+
     private URLConnection setHttpURLConnectionProperty(GetUrlParams param) throws Exception {
         String queryParams = "";
         if (param.requestType.equals("GET") && param.queryParams != null) {
             queryParams = "?" + param.queryParams;
         }
         URL url = new URL(param.url + queryParams);
-        connection = url.openConnection();
+        connectionWaitTimeoutMillis = param.timeoutMillis > 0 ? param.timeoutMillis : PrebidMobile.getTimeoutMillis();
+        openConnection(url);
         if (connection instanceof HttpURLConnection) {
             ((HttpURLConnection) connection).setRequestMethod(param.requestType);
             ((HttpURLConnection) connection).setInstanceFollowRedirects(false);
@@ -273,21 +330,56 @@ public class BaseNetworkTask
         connection.setRequestProperty(USER_AGENT_HEADER, param.userAgent);
         connection.setRequestProperty(ACCEPT_LANGUAGE_HEADER, Locale.getDefault().toString());
         connection.setRequestProperty(ACCEPT_HEADER, ACCEPT_HEADER_VALUE);
+        if (readsTextResponse(param)) {
+            // Decoded in parseHttpURLResponse(); downloads keep the transparent platform handling
+            connection.setRequestProperty(ACCEPT_ENCODING_HEADER, GZIP_ENCODING);
+        }
         connection.setRequestProperty(CONTENT_TYPE_HEADER, CONTENT_TYPE_HEADER_VALUE);
         this.setCustomHeadersIfAvailable(connection);
+        onPrepareConnection(connection);
+
+        if (param.timeoutMillis > 0) {
+            connection.setConnectTimeout(param.timeoutMillis);
+            connection.setReadTimeout(param.readTimeoutMillis > 0 ? param.readTimeoutMillis : param.timeoutMillis);
+        } else {
+            connection.setConnectTimeout(PrebidMobile.getTimeoutMillis());
+            if (param.readTimeoutMillis > 0) {
+                connection.setReadTimeout(param.readTimeoutMillis);
+            } else if (!(this instanceof FileDownloadTask)) {
+                connection.setReadTimeout(SOCKET_TIMEOUT);
+            }
+        }
 
-        connection.setConnectTimeout(PrebidMobile.getTimeoutMillis());
-        if (!(this instanceof FileDownloadTask)) {
-            connection.setReadTimeout(SOCKET_TIMEOUT);
+        boolean post = "POST".equals(param.requestType);
+        if (post) {
+            connection.setDoOutput(true);
+            if (param.requestBody != null) {
+                String contentEncoding = param.requestBody.getContentEncoding();
+                if (contentEncoding != null) {
+                    connection.setRequestProperty(CONTENT_ENCODING_HEADER, contentEncoding);
+                }
+                if (connection instanceof HttpURLConnection) {
+                    ((HttpURLConnection) connection).setChunkedStreamingMode(0);
+                }
+            }
         }
 
-        if ("POST".equals(param.requestType)) {
+        if (param.recordLatency) {
+            // Connected explicitly so the connect latency is measured apart from the wait for
+            // a connection slot in openConnection() and from the response
+            connectStartedAt = System.currentTimeMillis();
+            connection.connect();
+            connectedAt = System.currentTimeMillis();
+        }
+
+        if (post) {
             // Send post request
-            connection.setDoOutput(true);
-            DataOutputStream wr = null;
+            OutputStream wr = null;
             try {
-                wr = new DataOutputStream(connection.getOutputStream());
-                if (param.queryParams != null) {
+                wr = new BufferedOutputStream(connection.getOutputStream(), OUTPUT_BUFFER_SIZE);
+                if (param.requestBody != null) {
+                    param.requestBody.writeTo(wr);
+                } else if (param.queryParams != null) {
                     sendRequest(param.queryParams, wr);
                 }
             } finally {
@@ -297,16 +389,39 @@ public class BaseNetworkTask
                 }
             }
         }
+        requestSentAt = System.currentTimeMillis();
 
-        connection = openConnectionCheckRedirects(connection);
+        if (!param.ignoreRedirects) {
+            connection = openConnectionCheckRedirects(connection);
+        }
         return connection;
     }
 
     @VisibleForTesting
     protected static void sendRequest(@NotNull String requestBody, @NotNull OutputStream requestStream) throws IOException {
-        byte[] bytes = requestBody.getBytes();
-        for (byte b : bytes) {
-            requestStream.write(b);
+        requestStream.write(requestBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Releases the current connection (if any) and opens a new one through the transport.
+     */
+    protected URLConnection openConnection(@NotNull URL url) throws IOException {
+        releaseConnection(false);
+        connection = PrebidMobile.getHttpTransport().openConnection(url, connectionWaitTimeoutMillis);
+        return connection;
+    }
+
+    /**
+     * Called before the request is sent, so subclasses can add their own request headers
+     * (e.g. conditional or range requests).
+     */
+    protected void onPrepareConnection(@NotNull URLConnection connection) {
+    }
+
+    private void releaseConnection(boolean reusable) {
+        URLConnection current = connection;
+        if (current != null) {
+            PrebidMobile.getHttpTransport().release(current, reusable);
         }
     }
 
@@ -341,8 +456,6 @@ public class BaseNetworkTask
                     target = new URL(base, location);
                 }
 
-                ((HttpURLConnection) connection).disconnect();
-
                 // Redirection should be allowed only for HTTP and HTTPS
                 // and should be limited to 5 redirections at most.
                 if (target == null || !(target.getProtocol().equals("http")
@@ -353,7 +466,8 @@ public class BaseNetworkTask
                     throw new Exception(error);
                 }
                 redirected = true;
-                connection = target.openConnection();
+                connection = openConnection(target);
+                onPrepareConnection(connection);
                 redirects++;
             }
         }
@@ -361,20 +475,35 @@ public class BaseNetworkTask
         return connection;
     }
 
+    private static boolean readsTextResponse(GetUrlParams param) {
+        return Utils.isNotBlank(param.name)
+               && !DOWNLOAD_TASK.equals(param.name)
+               && !REDIRECT_TASK.equals(param.name)
+               && !STATUS_TASK.equals(param.name);
+    }
+
+    @Nullable
+    private InputStream decodeContent(@Nullable InputStream inputStream) throws IOException {
+        if (inputStream != null && GZIP_ENCODING.equalsIgnoreCase(connection.getContentEncoding())) {
+            return new GZIPInputStream(inputStream);
+        }
+        return inputStream;
+    }
+
     private GetUrlResult parseHttpURLResponse(int httpURLResponseCode) throws Exception {
 
         //Do all parsing in the caller class, because there is no generic way of processing this response
         String response = "";
 
         if (httpURLResponseCode == 200) {
-            response = readResponse(connection.getInputStream());
+            response = readResponse(decodeContent(connection.getInputStream()));
         }
         else if (httpURLResponseCode >= 400 && httpURLResponseCode < 600) {
             String status = String.format(
                     Locale.getDefault(),
                     "Code %d. %s",
                     httpURLResponseCode,
-                    readResponse(((HttpURLConnection) connection).getErrorStream())
+                    readResponse(decodeContent(((HttpURLConnection) connection).getErrorStream()))
             );
             LogUtil.error(TAG, status);
             throw new Exception(status);
@@ -393,9 +522,30 @@ public class BaseNetworkTask
     public static class GetUrlParams {
         public String url;
         public String queryParams;
+        /**
+         * If set, it's streamed as the POST body instead of {@link #queryParams}.
+         */
+        public RequestBody requestBody;
         public String name;
         public String userAgent;
         public String requestType;
+        /**
+         * If greater than 0, it's used as connect and read timeout instead of the defaults,
+         * unless {@link #readTimeoutMillis} is set.
+         */
+        public int timeoutMillis;
+        /**
+         * If greater than 0, it's used as read timeout instead of {@link #timeoutMillis} or the default.
+         */
+        public int readTimeoutMillis;
+        /**
+         * If true, the latency is recorded by {@link AdaptiveTimeoutController}.
+         */
+        public boolean recordLatency;
+        /**
+         * If true, a redirect is returned as the response instead of being followed.
+         */
+        public boolean ignoreRedirects;
     }
 
     public static class GetUrlResult extends BaseExceptionHolder {
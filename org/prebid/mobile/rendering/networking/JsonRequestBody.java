@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking;
+
+import android.util.JsonWriter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams JSON request (e.g. OpenRTB bid request) to the connection without building
+ * the intermediate {@link String} and byte array copies of the whole document.
+ */
+public class JsonRequestBody implements RequestBody {
+
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final JSONObject json;
+    private final boolean gzip;
+
+    public JsonRequestBody(
+            @NonNull JSONObject json,
+            boolean gzip
+    ) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    @Override
+    public void writeTo(@NonNull OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        OutputStream target = gzipStream != null ? gzipStream : outputStream;
+
+        JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE));
+        writeObject(writer, json);
+        writer.flush();
+
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+    }
+
+    @Nullable
+    @Override
+    public String getContentEncoding() {
+        return gzip ? GZIP_ENCODING : null;
+    }
+
+    @NonNull
+    public JSONObject getJson() {
+        return json;
+    }
+
+    private static void writeObject(JsonWriter writer, JSONObject object) throws IOException {
+        writer.beginObject();
+        for (Iterator<String> it = object.keys(); it.hasNext(); ) {
+            String key = it.next();
+            writer.name(key);
+            writeValue(writer, object.opt(key));
+        }
+        writer.endObject();
+    }
+
+    private static void writeArray(JsonWriter writer, JSONArray array) throws IOException {
+        writer.beginArray();
+        for (int i = 0; i < array.length(); i++) {
+            writeValue(writer, array.opt(i));
+        }
+        writer.endArray();
+    }
+
+    private static void writeValue(JsonWriter writer, Object value) throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            writer.nullValue();
+        } else if (value instanceof JSONObject) {
+            writeObject(writer, (JSONObject) value);
+        } else if (value instanceof JSONArray) {
+            writeArray(writer, (JSONArray) value);
+        } else if (value instanceof Boolean) {
+            writer.value((Boolean) value);
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else {
+            writer.value(value.toString());
+        }
+    }
+
+}
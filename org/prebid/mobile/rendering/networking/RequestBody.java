@@ -0,0 +1,41 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Body of the POST request that is written directly to the connection stream.
+ */
+public interface RequestBody {
+
+    /**
+     * Writes the body to the given stream. The stream is closed by the caller.
+     */
+    void writeTo(@NonNull OutputStream outputStream) throws IOException;
+
+    /**
+     * @return value of the Content-Encoding header or null if the body isn't encoded.
+     */
+    @Nullable
+    String getContentEncoding();
+
+}
@@ -26,6 +26,7 @@ import org.prebid.mobile.rendering.bidding.data.bid.Bid;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.data.bid.Prebid;
 import org.prebid.mobile.rendering.networking.tracking.ServerConnection;
+import org.prebid.mobile.rendering.networking.tracking.TrackingEventQueue;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -121,7 +122,7 @@ public class WinNotifier {
         }
         if (bid.getAdm() != null && !TextUtils.isEmpty(bid.getAdm())) {
             // Fire async event and start next one
-            ServerConnection.fireAndForget(winUrl);
+            ServerConnection.fireAndForget(winUrl, TrackingEventQueue.TYPE_WIN);
             sendNextWinRequest();
         } else {
             // Fire async event and wait for its result
@@ -16,7 +16,7 @@
 
 package org.prebid.mobile.rendering.networking.modelcontrollers;
 
-import android.os.AsyncTask;
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.networking.BaseResponseHandler;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
@@ -24,9 +24,16 @@ import org.prebid.mobile.rendering.utils.helpers.Utils;
 
 public class AsyncVastLoader {
 
-    private AsyncTask videoRequestAsyncTask;
+    private BaseNetworkTask videoRequestAsyncTask;
 
     public void loadVast(String vastUrl, BaseResponseHandler responseHandler) {
+        loadVast(vastUrl, responseHandler, 0);
+    }
+
+    /**
+     * @param timeoutMillis connect and read timeout of the request, default timeouts are used if 0.
+     */
+    public void loadVast(String vastUrl, BaseResponseHandler responseHandler, int timeoutMillis) {
         cancelTask();
 
         BaseNetworkTask videoRequestTask = new BaseNetworkTask(responseHandler);
@@ -37,8 +44,10 @@ public class AsyncVastLoader {
             params.requestType = "GET";
             params.name = "videorequest";
         }
+        params.timeoutMillis = timeoutMillis;
 
-        videoRequestAsyncTask = videoRequestTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        videoRequestAsyncTask = videoRequestTask;
+        PrebidMobile.getHttpTransport().execute(videoRequestTask, params);
     }
 
     public void cancelTask() {
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.modelcontrollers;
+
+import androidx.annotation.NonNull;
+
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Imp;
+import org.prebid.mobile.rendering.networking.ResponseHandler;
+import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
+import org.prebid.mobile.rendering.networking.urlBuilder.BidPathBuilder;
+import org.prebid.mobile.rendering.networking.urlBuilder.PathBuilderBase;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLBuilder;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLComponents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Requests bids for several ad units in one OpenRTB request, one imp per ad unit.
+ * Request level fields are taken from the first configuration.
+ */
+public class BatchBidRequester extends Requester {
+
+    private static final String REQUEST_NAME = "batchbidrequest";
+
+    private final List<AdUnitConfiguration> configurations;
+    private final List<String> impIds = new ArrayList<>();
+
+    public BatchBidRequester(
+            @NonNull List<AdUnitConfiguration> configurations,
+            ResponseHandler responseHandler
+    ) {
+        super(configurations.get(0), new AdRequestInput(), responseHandler);
+        this.configurations = new ArrayList<>(configurations);
+        requestName = REQUEST_NAME;
+
+        // The parent constructor asks for the builders before the configurations are assigned
+        urlBuilder = new URLBuilder(getPathBuilder(), new ArrayList<>(getParameterBuilders()), new AdRequestInput());
+    }
+
+    @Override
+    public void startAdRequest() {
+        getAdId();
+    }
+
+    /**
+     * Imp ids of the last built request, in the order of configurations.
+     */
+    @NonNull
+    public List<String> getImpIds() {
+        return impIds;
+    }
+
+    @NonNull
+    @Override
+    protected List<AdUnitConfiguration> getBatchedConfigurations() {
+        if (configurations == null || configurations.size() < 2) {
+            return Collections.emptyList();
+        }
+        return configurations.subList(1, configurations.size());
+    }
+
+    @Override
+    protected URLComponents buildUrlComponent() {
+        URLComponents urlComponents = super.buildUrlComponent();
+        impIds.clear();
+        ArrayList<Imp> imps = urlComponents.getAdRequestInput().getBidRequest().getImp();
+        if (imps != null) {
+            for (Imp imp : imps) {
+                impIds.add(imp.id);
+            }
+        }
+        return urlComponents;
+    }
+
+    @Override
+    protected PathBuilderBase getPathBuilder() {
+        return new BidPathBuilder();
+    }
+}
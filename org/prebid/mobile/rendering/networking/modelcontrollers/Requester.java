@@ -18,16 +18,18 @@ package org.prebid.mobile.rendering.networking.modelcontrollers;
 
 import android.content.Context;
 import android.content.res.Resources;
-import android.os.AsyncTask;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.JsonRequestBody;
 import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
 import org.prebid.mobile.rendering.networking.parameters.AppInfoParameterBuilder;
@@ -38,6 +40,7 @@ import org.prebid.mobile.rendering.networking.parameters.NetworkParameterBuilder
 import org.prebid.mobile.rendering.networking.parameters.ParameterBuilder;
 import org.prebid.mobile.rendering.networking.parameters.UserConsentParameterBuilder;
 import org.prebid.mobile.rendering.networking.parameters.UserParameters;
+import org.prebid.mobile.rendering.networking.timeout.AdaptiveTimeoutController;
 import org.prebid.mobile.rendering.networking.urlBuilder.PathBuilderBase;
 import org.prebid.mobile.rendering.networking.urlBuilder.URLBuilder;
 import org.prebid.mobile.rendering.networking.urlBuilder.URLComponents;
@@ -50,11 +53,13 @@ import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
 import org.prebid.mobile.rendering.utils.helpers.ExternalViewerUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class Requester {
 
     private static final String TAG = Requester.class.getSimpleName();
+    private static final String KEY_TMAX = "tmax";
 
     protected String requestName;
     protected AdUnitConfiguration adConfiguration;
@@ -106,7 +111,12 @@ public abstract class Requester {
         boolean browserActivityAvailable = ExternalViewerUtils.isBrowserActivityCallable(context);
 
         ArrayList<ParameterBuilder> parameterBuilderArray = new ArrayList<>();
-        parameterBuilderArray.add(new BasicParameterBuilder(adConfiguration, resources, browserActivityAvailable));
+        parameterBuilderArray.add(new BasicParameterBuilder(
+                adConfiguration,
+                resources,
+                browserActivityAvailable,
+                getBatchedConfigurations()
+        ));
         parameterBuilderArray.add(new GeoLocationParameterBuilder());
         parameterBuilderArray.add(new AppInfoParameterBuilder(adConfiguration));
         parameterBuilderArray.add(new DeviceInfoParameterBuilder(adConfiguration));
@@ -115,6 +125,14 @@ public abstract class Requester {
         return parameterBuilderArray;
     }
 
+    /**
+     * Ad units that are auctioned in the same request after the main configuration.
+     */
+    @NonNull
+    protected List<AdUnitConfiguration> getBatchedConfigurations() {
+        return Collections.emptyList();
+    }
+
     /*
      * Attempts to get the advertisement ID
      *
@@ -177,16 +195,34 @@ public abstract class Requester {
     protected void sendAdRequest(URLComponents jsonUrlComponents) {
         BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
         params.url = jsonUrlComponents.getBaseUrl();
-        String queryArgString = jsonUrlComponents.getQueryArgString();
-        params.queryParams = queryArgString;
         params.requestType = "POST";
         params.userAgent = AppInfoManager.getUserAgent();
         params.name = requestName;
+        params.recordLatency = true;
 
+        AdaptiveTimeoutController.Timeouts timeouts = AdaptiveTimeoutController.getInstance().getTimeouts(params.url);
+        if (timeouts.isAdaptive()) {
+            params.timeoutMillis = timeouts.getConnectTimeoutMillis();
+            params.readTimeoutMillis = timeouts.getReadTimeoutMillis();
+        }
+
+        // The request tree is built once and streamed to the connection
         builtRequest = jsonUrlComponents.getRequestJsonObject();
+        if (builtRequest != null && timeouts.getTmaxMillis() > 0 && !builtRequest.has(KEY_TMAX)) {
+            try {
+                builtRequest.put(KEY_TMAX, timeouts.getTmaxMillis());
+            } catch (JSONException exception) {
+                LogUtil.error(TAG, "Can't set tmax: " + exception.getMessage());
+            }
+        }
+        if (builtRequest != null && builtRequest.length() > 0) {
+            params.requestBody = new JsonRequestBody(builtRequest, PrebidMobile.isCompressBidRequests());
+        } else {
+            params.queryParams = "";
+        }
 
         networkTask = new BaseNetworkTask(adResponseCallBack);
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        PrebidMobile.getHttpTransport().execute(networkTask, params);
     }
 
 }
@@ -18,6 +18,7 @@ package org.prebid.mobile.rendering.networking.parameters;
 
 import android.text.TextUtils;
 
+import org.json.JSONObject;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.TargetingParams;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
@@ -39,7 +40,17 @@ public class AppInfoParameterBuilder extends ParameterBuilder {
 
     @Override
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
-        App app = adRequestInput.getBidRequest().getApp();
+        // The ext data map is returned to the publisher, so it can change without a signal
+        JSONObject appJson = RequestSectionCache.getInstance().get(
+                RequestSectionCache.Section.APP,
+                TargetingParams.getExtDataDictionary().hashCode(),
+                () -> buildApp().getJsonObject()
+        );
+        adRequestInput.getBidRequest().addSharedSection("app", appJson);
+    }
+
+    private static App buildApp() {
+        App app = new App();
         app.getPublisher().id = PrebidMobile.getPrebidServerAccountId();
 
         String appName = AppInfoManager.getAppName();
@@ -79,5 +90,6 @@ public class AppInfoParameterBuilder extends ParameterBuilder {
         if (!extDataDictionary.isEmpty()) {
             app.getExt().put("data", Utils.toJson(extDataDictionary));
         }
+        return app;
     }
 }
@@ -41,6 +41,7 @@ import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.bidding.data.bid.Prebid;
 import org.prebid.mobile.rendering.models.PlacementType;
 import org.prebid.mobile.rendering.models.openrtb.BidRequest;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Imp;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.User;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.devices.Geo;
@@ -52,6 +53,7 @@ import org.prebid.mobile.rendering.utils.helpers.Utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -96,15 +98,30 @@ public class BasicParameterBuilder extends ParameterBuilder {
     private final AdUnitConfiguration adConfiguration;
     private final boolean browserActivityAvailable;
     private final Resources resources;
+    private final List<AdUnitConfiguration> batchedConfigurations;
 
     public BasicParameterBuilder(
             AdUnitConfiguration adConfiguration,
             Resources resources,
             boolean browserActivityAvailable
+    ) {
+        this(adConfiguration, resources, browserActivityAvailable, Collections.emptyList());
+    }
+
+    /**
+     * @param batchedConfigurations ad units auctioned in the same request. Each of them gets its own imp
+     *                              after the imp of the main configuration, in the same order.
+     */
+    public BasicParameterBuilder(
+            AdUnitConfiguration adConfiguration,
+            Resources resources,
+            boolean browserActivityAvailable,
+            @NonNull List<AdUnitConfiguration> batchedConfigurations
     ) {
         this.adConfiguration = adConfiguration;
         this.browserActivityAvailable = browserActivityAvailable;
         this.resources = resources;
+        this.batchedConfigurations = batchedConfigurations;
     }
 
     @Override
@@ -120,6 +137,13 @@ public class BasicParameterBuilder extends ParameterBuilder {
             Imp newImp = new Imp();
             configureImpObject(newImp, uuid);
             impsArrayList.add(newImp);
+
+            for (AdUnitConfiguration configuration : batchedConfigurations) {
+                BasicParameterBuilder impBuilder = new BasicParameterBuilder(configuration, resources, browserActivityAvailable);
+                Imp batchedImp = new Imp();
+                impBuilder.configureImpObject(batchedImp, UUID.randomUUID().toString());
+                impsArrayList.add(batchedImp);
+            }
         }
     }
 
@@ -176,8 +200,22 @@ public class BasicParameterBuilder extends ParameterBuilder {
     }
 
     private void appendUserTargetingParameters(AdRequestInput adRequestInput) {
-        final BidRequest bidRequest = adRequestInput.getBidRequest();
-        final User user = bidRequest.getUser();
+        // The keywords set and the ext are returned to the publisher, so they can change without a signal.
+        Ext userExt = TargetingParams.getUserExt();
+        int stamp = Arrays.hashCode(new int[]{
+                TargetingParams.getUserKeywordsSet().hashCode(),
+                userExt != null ? userExt.getVersion() : 0
+        });
+        JSONObject userJson = RequestSectionCache.getInstance().get(
+                RequestSectionCache.Section.USER,
+                stamp,
+                () -> buildUserTargeting().getJsonObject()
+        );
+        adRequestInput.getBidRequest().addSharedSection("user", userJson);
+    }
+
+    private static User buildUserTargeting() {
+        final User user = new User();
 
         user.keywords = TargetingParams.getUserKeywords();
         user.ext = TargetingParams.getUserExt();
@@ -205,6 +243,7 @@ public class BasicParameterBuilder extends ParameterBuilder {
             userGeo.lat = userLatLng.first;
             userGeo.lon = userLatLng.second;
         }
+        return user;
     }
 
     private void setVideoImpValues(Imp imp) {
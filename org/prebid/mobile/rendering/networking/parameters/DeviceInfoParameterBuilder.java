@@ -17,6 +17,7 @@
 package org.prebid.mobile.rendering.networking.parameters;
 
 import android.os.Build;
+import org.json.JSONObject;
 import org.prebid.mobile.AdSize;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.bidding.data.bid.Prebid;
@@ -43,45 +44,54 @@ public class DeviceInfoParameterBuilder extends ParameterBuilder {
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
         DeviceInfoManager deviceManager = ManagersResolver.getInstance().getDeviceManager();
         if (deviceManager != null) {
+            JSONObject deviceJson = RequestSectionCache.getInstance().get(
+                    RequestSectionCache.Section.DEVICE,
+                    null,
+                    () -> buildDevice(deviceManager).getJsonObject()
+            );
+            adRequestInput.getBidRequest().addSharedSection("device", deviceJson);
 
-            int screenWidth = deviceManager.getScreenWidth();
-            int screenHeight = deviceManager.getScreenHeight();
-
-            Device device = adRequestInput.getBidRequest().getDevice();
-
-            device.pxratio = Utils.DENSITY;
-            if (screenWidth > 0 && screenHeight > 0) {
-                device.w = screenWidth;
-                device.h = screenHeight;
+            final AdSize minSizePercentage = adConfiguration.getMinSizePercentage();
+            if (minSizePercentage != null) {
+                adRequestInput.getBidRequest().getDevice().getExt().put("prebid", Prebid.getJsonObjectForDeviceMinSizePerc(minSizePercentage));
             }
+        }
+    }
 
-            String advertisingId = AdvertisingIdManager.getAdvertisingId(ManagersResolver.getInstance().getUserConsentManager());
-            if (Utils.isNotBlank(advertisingId)) {
-                device.ifa = advertisingId;
-            }
+    private static Device buildDevice(DeviceInfoManager deviceManager) {
+        int screenWidth = deviceManager.getScreenWidth();
+        int screenHeight = deviceManager.getScreenHeight();
 
-            boolean tabletSize = deviceManager.isTablet();
-            if (tabletSize) {
-                device.devicetype = Device.DeviceType.TABLET.value;
-            } else {
-                device.devicetype = Device.DeviceType.SMARTPHONE.value;
-            }
+        Device device = new Device();
+        device.pxratio = Utils.DENSITY;
 
-            device.make = Build.MANUFACTURER;
-            device.model = Build.MODEL;
-            device.os = PLATFORM_VALUE;
-            device.osv = Build.VERSION.RELEASE;
-            device.language = Locale.getDefault().getLanguage();
-            device.ua = AppInfoManager.getUserAgent();
+        if (screenWidth > 0 && screenHeight > 0) {
+            device.w = screenWidth;
+            device.h = screenHeight;
+        }
 
-            // lmt and APP_ADVERTISING_ID_ENABLED are opposites
-            boolean lmt = AdvertisingIdManager.isLimitedAdTrackingEnabled();
-            device.lmt = lmt ? 1 : 0;
+        String advertisingId = AdvertisingIdManager.getAdvertisingId(ManagersResolver.getInstance().getUserConsentManager());
+        if (Utils.isNotBlank(advertisingId)) {
+            device.ifa = advertisingId;
+        }
 
-            final AdSize minSizePercentage = adConfiguration.getMinSizePercentage();
-            if (minSizePercentage != null) {
-                device.getExt().put("prebid", Prebid.getJsonObjectForDeviceMinSizePerc(minSizePercentage));
-            }
+        boolean tabletSize = deviceManager.isTablet();
+        if (tabletSize) {
+            device.devicetype = Device.DeviceType.TABLET.value;
+        } else {
+            device.devicetype = Device.DeviceType.SMARTPHONE.value;
         }
+
+        device.make = Build.MANUFACTURER;
+        device.model = Build.MODEL;
+        device.os = PLATFORM_VALUE;
+        device.osv = Build.VERSION.RELEASE;
+        device.language = Locale.getDefault().getLanguage();
+        device.ua = AppInfoManager.getUserAgent();
+
+        // lmt and APP_ADVERTISING_ID_ENABLED are opposites
+        boolean lmt = AdvertisingIdManager.isLimitedAdTrackingEnabled();
+        device.lmt = lmt ? 1 : 0;
+        return device;
     }
 }
@@ -16,6 +16,10 @@
 
 package org.prebid.mobile.rendering.networking.parameters;
 
+import androidx.annotation.Nullable;
+
+import org.json.JSONObject;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Device;
 import org.prebid.mobile.rendering.sdk.ManagersResolver;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
@@ -29,35 +33,51 @@ public class NetworkParameterBuilder extends ParameterBuilder {
     @Override
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
         DeviceInfoManager deviceManager = ManagersResolver.getInstance().getDeviceManager();
+        ConnectionInfoManager connectionInfoManager = ManagersResolver.getInstance().getNetworkManager();
+
+        UserParameters.ConnectionType connectionType = null;
+        if (connectionInfoManager != null && deviceManager != null
+                && deviceManager.isPermissionGranted("android.permission.ACCESS_NETWORK_STATE")) {
+            connectionType = connectionInfoManager.getConnectionType();
+        }
+
+        // Carrier and connection are updated when the device switches networks
+        final UserParameters.ConnectionType detectedConnectionType = connectionType;
+        JSONObject networkJson = RequestSectionCache.getInstance().get(
+                RequestSectionCache.Section.NETWORK,
+                detectedConnectionType,
+                () -> buildNetworkParams(deviceManager, detectedConnectionType).getJsonObject()
+        );
+        adRequestInput.getBidRequest().addSharedSection("device", networkJson);
+    }
+
+    private static Device buildNetworkParams(
+            @Nullable DeviceInfoManager deviceManager,
+            @Nullable UserParameters.ConnectionType connectionType
+    ) {
+        Device device = new Device();
         if (deviceManager != null) {
             String detectedMccMnc = deviceManager.getMccMnc();
             if (Utils.isNotBlank(detectedMccMnc)) {
-                adRequestInput.getBidRequest().getDevice().mccmnc = detectedMccMnc;
+                device.mccmnc = detectedMccMnc;
             }
 
             String detectedCarrier = deviceManager.getCarrier();
             if (Utils.isNotBlank(detectedCarrier)) {
-                adRequestInput.getBidRequest().getDevice().carrier = detectedCarrier;
+                device.carrier = detectedCarrier;
             }
         }
 
-        ConnectionInfoManager connectionInfoManager = ManagersResolver.getInstance().getNetworkManager();
-        if (connectionInfoManager != null && deviceManager != null) {
-            setNetworkParams(adRequestInput, deviceManager, connectionInfoManager);
-        }
-    }
-
-    private void setNetworkParams(AdRequestInput adRequestInput, DeviceInfoManager deviceManager, ConnectionInfoManager connectionInfoManager) {
-        if (deviceManager.isPermissionGranted("android.permission.ACCESS_NETWORK_STATE")) {
-            UserParameters.ConnectionType autoDetectedValue = connectionInfoManager.getConnectionType();
-            switch (autoDetectedValue) {
+        if (connectionType != null) {
+            switch (connectionType) {
                 case WIFI:
-                    adRequestInput.getBidRequest().getDevice().connectiontype = CONNECTION_TYPE_WIFI;
+                    device.connectiontype = CONNECTION_TYPE_WIFI;
                     break;
                 case CELL:
-                    adRequestInput.getBidRequest().getDevice().connectiontype = CONNECTION_TYPE_CELL_UNKNOWN_G;
+                    device.connectiontype = CONNECTION_TYPE_CELL_UNKNOWN_G;
                     break;
             }
         }
+        return device;
     }
 }
@@ -0,0 +1,179 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.parameters;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.Configuration;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.prebid.mobile.LogUtil;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the serialized OpenRTB sections which are the same for every auction (app, device, regs, user),
+ * so the parameter builders don't rebuild them for each request. A section is rebuilt only after
+ * an explicit change signal ({@link #invalidate(Section...)}): consent, targeting, configuration
+ * or advertising id changes. State that can't send a signal (e.g. a collection returned to the publisher)
+ * is covered by the stamp passed to {@link #get(Section, Object, SectionBuilder)}.
+ * <p>
+ * Sections are shared between requests and must not be modified.
+ */
+public class RequestSectionCache {
+
+    private static final String TAG = RequestSectionCache.class.getSimpleName();
+
+    public enum Section {
+        APP,
+        DEVICE,
+        NETWORK,
+        REGS,
+        USER,
+        USER_CONSENT
+    }
+
+    public interface SectionBuilder {
+
+        @Nullable
+        JSONObject build() throws JSONException;
+
+    }
+
+    private static RequestSectionCache sInstance;
+
+    private final Map<Section, Entry> entries = new EnumMap<>(Section.class);
+    private final int[] generations = new int[Section.values().length];
+    @Nullable
+    private ComponentCallbacks configurationCallbacks;
+    private int hits;
+    private int misses;
+
+    @VisibleForTesting
+    RequestSectionCache() {
+    }
+
+    public static synchronized RequestSectionCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new RequestSectionCache();
+        }
+        return sInstance;
+    }
+
+    /**
+     * Subscribes to configuration changes (orientation, locale), which change the device section.
+     */
+    public synchronized void register(@NonNull Context context) {
+        if (configurationCallbacks != null) {
+            return;
+        }
+
+        configurationCallbacks = new ComponentCallbacks() {
+            @Override
+            public void onConfigurationChanged(@NonNull Configuration newConfig) {
+                invalidate(Section.DEVICE);
+            }
+
+            @Override
+            public void onLowMemory() {
+            }
+        };
+        context.getApplicationContext().registerComponentCallbacks(configurationCallbacks);
+        invalidateAll();
+    }
+
+    /**
+     * Returns the cached section or builds it and caches the result.
+     *
+     * @param stamp fingerprint of the state which can change without a signal, null if there is none.
+     *              The section is rebuilt when it differs from the stamp the section was built with.
+     * @return the section or null if it's empty or can't be built.
+     */
+    @Nullable
+    public JSONObject get(@NonNull Section section, @Nullable Object stamp, @NonNull SectionBuilder builder) {
+        int generation;
+        synchronized (this) {
+            Entry entry = entries.get(section);
+            if (entry != null && Objects.equals(entry.stamp, stamp)) {
+                hits++;
+                return entry.json;
+            }
+            misses++;
+            generation = generations[section.ordinal()];
+        }
+
+        JSONObject json;
+        try {
+            json = builder.build();
+        } catch (JSONException exception) {
+            LogUtil.error(TAG, "Can't build " + section + " section: " + exception.getMessage());
+            return null;
+        }
+        if (json != null && json.length() == 0) {
+            json = null;
+        }
+
+        synchronized (this) {
+            // A signal received while building means the result may be already stale
+            if (generation == generations[section.ordinal()]) {
+                entries.put(section, new Entry(json, stamp));
+            }
+        }
+        return json;
+    }
+
+    public synchronized void invalidate(Section... sections) {
+        for (Section section : sections) {
+            entries.remove(section);
+            generations[section.ordinal()]++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidate(Section.values());
+    }
+
+    public synchronized int getHitCount() {
+        return hits;
+    }
+
+    public synchronized int getMissCount() {
+        return misses;
+    }
+
+    private static class Entry {
+
+        @Nullable
+        private final JSONObject json;
+        @Nullable
+        private final Object stamp;
+
+        private Entry(@Nullable JSONObject json, @Nullable Object stamp) {
+            this.json = json;
+            this.stamp = stamp;
+        }
+
+    }
+
+}
@@ -36,12 +36,29 @@ public class UserConsentParameterBuilder extends ParameterBuilder {
 
     @Override
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
+        RequestSectionCache cache = RequestSectionCache.getInstance();
         BidRequest bidRequest = adRequestInput.getBidRequest();
 
+        bidRequest.addSharedSection("regs", cache.get(
+                RequestSectionCache.Section.REGS,
+                null,
+                () -> buildConsentParameters().getRegs().getJsonObject()
+        ));
+        bidRequest.addSharedSection("user", cache.get(
+                RequestSectionCache.Section.USER_CONSENT,
+                null,
+                () -> buildConsentParameters().getUser().getJsonObject()
+        ));
+    }
+
+    private BidRequest buildConsentParameters() {
+        BidRequest bidRequest = new BidRequest();
+
         appendGdprParameter(bidRequest);
         appendCcpaParameter(bidRequest);
         appendCoppaParameter(bidRequest);
         appendGppParameter(bidRequest);
+        return bidRequest;
     }
 
     private void appendGdprParameter(BidRequest bidRequest) {
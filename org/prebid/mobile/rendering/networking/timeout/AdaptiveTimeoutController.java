@@ -0,0 +1,257 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.timeout;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.parameters.UserParameters;
+import org.prebid.mobile.rendering.sdk.ManagersResolver;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Chooses bid request timeouts from the latencies observed per host and connection type.
+ * <p>
+ * Connect and response latencies are kept apart, so each drives its own timeout: the target percentile
+ * of the latency plus a safety margin. The connect timeout is capped at {@link PrebidMobile#getTimeoutMillis()}
+ * and the read timeout at the default socket timeout, so the learned values only shorten what the publisher
+ * configured. The tmax sent to the server is the read timeout minus the fast (10th percentile) response latency,
+ * which approximates the network part of the request. Until there are enough samples the configured values
+ * are used and tmax is not sent.
+ * <p>
+ * A timed out request is a censored sample: its latency is only known to exceed the timeout, so it's recorded
+ * at the timeout. Slow requests hold the timeout at its cap instead of pushing it past it.
+ */
+public class AdaptiveTimeoutController {
+
+    private static final String TAG = AdaptiveTimeoutController.class.getSimpleName();
+
+    static final int MIN_SAMPLES = 20;
+    static final int WINDOW_SIZE = 100;
+    static final int SAFETY_MARGIN_MILLIS = 200;
+    static final int MIN_TIMEOUT_MILLIS = 500;
+    static final int MIN_TMAX_MILLIS = 200;
+    private static final double NETWORK_QUANTILE = 0.1;
+    private static final double DEFAULT_TARGET_PERCENTILE = 0.95;
+
+    private final Map<String, LatencyHistogram> connectHistograms = new HashMap<>();
+    private final Map<String, LatencyHistogram> responseHistograms = new HashMap<>();
+    private volatile boolean enabled = true;
+    private volatile double targetPercentile = DEFAULT_TARGET_PERCENTILE;
+
+    private AdaptiveTimeoutController() {}
+
+    public static AdaptiveTimeoutController getInstance() {
+        return AdaptiveTimeoutControllerHolder.instance;
+    }
+
+    private static class AdaptiveTimeoutControllerHolder {
+        public static final AdaptiveTimeoutController instance = new AdaptiveTimeoutController();
+    }
+
+    /**
+     * If disabled, requests use {@link PrebidMobile#getTimeoutMillis()} and the default socket timeout.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Share of requests that should complete within the timeout, in range (0, 1).
+     */
+    public void setTargetPercentile(double targetPercentile) {
+        if (targetPercentile <= 0 || targetPercentile >= 1) {
+            LogUtil.error(TAG, "Target percentile must be in range (0, 1): " + targetPercentile);
+            return;
+        }
+        this.targetPercentile = targetPercentile;
+    }
+
+    /**
+     * Records a request the server answered, whatever the status code.
+     *
+     * @param connectMillis  time to establish the connection, without the wait for a connection slot.
+     * @param responseMillis time from the sent request to the response status.
+     */
+    public void record(@Nullable String url, long connectMillis, long responseMillis) {
+        String key = getKey(url);
+        getHistogram(connectHistograms, key).record(connectMillis);
+        getHistogram(responseHistograms, key).record(responseMillis);
+    }
+
+    /**
+     * Records a timed out request as a censored sample at its timeout.
+     *
+     * @param connected     false if the connect timeout expired, true if the read timeout did.
+     * @param timeoutMillis the timeout that expired.
+     */
+    public void recordTimeout(@Nullable String url, boolean connected, int timeoutMillis) {
+        getHistogram(connected ? responseHistograms : connectHistograms, getKey(url)).record(timeoutMillis);
+    }
+
+    @NonNull
+    public Timeouts getTimeouts(@Nullable String url) {
+        if (!enabled) {
+            return Timeouts.DEFAULT;
+        }
+
+        String key = getKey(url);
+        LatencyHistogram connectHistogram = findHistogram(connectHistograms, key);
+        LatencyHistogram responseHistogram = findHistogram(responseHistograms, key);
+        boolean adaptiveConnect = hasEnoughSamples(connectHistogram);
+        boolean adaptiveRead = hasEnoughSamples(responseHistogram);
+        if (!adaptiveConnect && !adaptiveRead) {
+            return Timeouts.DEFAULT;
+        }
+
+        int connectTimeout = adaptiveConnect ? getTimeout(connectHistogram, PrebidMobile.getTimeoutMillis()) : -1;
+        int readTimeout = BaseNetworkTask.SOCKET_TIMEOUT;
+        int tmax = -1;
+        if (adaptiveRead) {
+            readTimeout = getTimeout(responseHistogram, BaseNetworkTask.SOCKET_TIMEOUT);
+            long networkLatency = responseHistogram.getQuantile(NETWORK_QUANTILE);
+            tmax = (int) Math.max(readTimeout - networkLatency, MIN_TMAX_MILLIS);
+        }
+        return new Timeouts(connectTimeout, readTimeout, tmax);
+    }
+
+    /**
+     * Response latency histograms per "host|connection type" key, for monitoring.
+     */
+    @NonNull
+    public Map<String, LatencyHistogram> getHistograms() {
+        synchronized (responseHistograms) {
+            return new HashMap<>(responseHistograms);
+        }
+    }
+
+    /**
+     * Connect latency histograms per "host|connection type" key, for monitoring.
+     */
+    @NonNull
+    public Map<String, LatencyHistogram> getConnectHistograms() {
+        synchronized (connectHistograms) {
+            return new HashMap<>(connectHistograms);
+        }
+    }
+
+    public void reset() {
+        synchronized (connectHistograms) {
+            connectHistograms.clear();
+        }
+        synchronized (responseHistograms) {
+            responseHistograms.clear();
+        }
+    }
+
+    private int getTimeout(LatencyHistogram histogram, int configuredTimeout) {
+        long targetLatency = histogram.getQuantile(targetPercentile);
+        return (int) Math.min(Math.max(targetLatency + SAFETY_MARGIN_MILLIS, MIN_TIMEOUT_MILLIS), configuredTimeout);
+    }
+
+    private static boolean hasEnoughSamples(@Nullable LatencyHistogram histogram) {
+        return histogram != null && histogram.getSampleCount() >= MIN_SAMPLES;
+    }
+
+    @Nullable
+    private static LatencyHistogram findHistogram(Map<String, LatencyHistogram> histograms, String key) {
+        synchronized (histograms) {
+            return histograms.get(key);
+        }
+    }
+
+    private static LatencyHistogram getHistogram(Map<String, LatencyHistogram> histograms, String key) {
+        synchronized (histograms) {
+            LatencyHistogram histogram = histograms.get(key);
+            if (histogram == null) {
+                histogram = new LatencyHistogram(WINDOW_SIZE);
+                histograms.put(key, histogram);
+            }
+            return histogram;
+        }
+    }
+
+    private static String getKey(@Nullable String url) {
+        String host = url != null ? Uri.parse(url).getHost() : null;
+        return host + "|" + getConnectionType();
+    }
+
+    @Nullable
+    private static UserParameters.ConnectionType getConnectionType() {
+        DeviceInfoManager deviceManager = ManagersResolver.getInstance().getDeviceManager();
+        ConnectionInfoManager connectionInfoManager = ManagersResolver.getInstance().getNetworkManager();
+        if (connectionInfoManager != null && deviceManager != null
+                && deviceManager.isPermissionGranted("android.permission.ACCESS_NETWORK_STATE")) {
+            return connectionInfoManager.getConnectionType();
+        }
+        return null;
+    }
+
+    public static class Timeouts {
+
+        /**
+         * Values used before there are enough samples. A connect timeout of -1 is read on use,
+         * as it can be changed by the publisher.
+         */
+        static final Timeouts DEFAULT = new Timeouts(-1, BaseNetworkTask.SOCKET_TIMEOUT, -1);
+
+        private final int connectTimeoutMillis;
+        private final int readTimeoutMillis;
+        private final int tmaxMillis;
+
+        Timeouts(int connectTimeoutMillis, int readTimeoutMillis, int tmaxMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.readTimeoutMillis = readTimeoutMillis;
+            this.tmaxMillis = tmaxMillis;
+        }
+
+        public int getConnectTimeoutMillis() {
+            return connectTimeoutMillis > 0 ? connectTimeoutMillis : PrebidMobile.getTimeoutMillis();
+        }
+
+        public int getReadTimeoutMillis() {
+            return readTimeoutMillis;
+        }
+
+        /**
+         * @return tmax for the bid request or -1 if it shouldn't be sent.
+         */
+        public int getTmaxMillis() {
+            return tmaxMillis;
+        }
+
+        public boolean isAdaptive() {
+            return this != DEFAULT;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "connect=" + getConnectTimeoutMillis() + " read=" + readTimeoutMillis + " tmax=" + tmaxMillis;
+        }
+    }
+
+}
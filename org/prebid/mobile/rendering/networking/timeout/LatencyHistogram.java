@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.timeout;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Rolling latency histogram with fixed buckets.
+ * <p>
+ * Samples are counted in the current window; when it's full it replaces the previous one.
+ * Quantiles are computed over both windows, so the histogram follows network changes
+ * without losing all history at once.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Upper bounds of the buckets in milliseconds. The last bucket holds everything slower.
+     */
+    static final int[] BUCKET_BOUNDS = {
+            25, 50, 75, 100, 150, 200, 250, 300, 400, 500, 600, 800,
+            1000, 1250, 1500, 2000, 2500, 3000, 4000, 5000, 6000, 8000, 10000
+    };
+
+    private final int windowSize;
+    private long[] currentWindow = new long[BUCKET_BOUNDS.length + 1];
+    private long[] previousWindow = new long[BUCKET_BOUNDS.length + 1];
+    private int currentCount;
+    private int previousCount;
+
+    public LatencyHistogram(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public synchronized void record(long latencyMillis) {
+        if (currentCount >= windowSize) {
+            long[] recycled = previousWindow;
+            Arrays.fill(recycled, 0);
+            previousWindow = currentWindow;
+            previousCount = currentCount;
+            currentWindow = recycled;
+            currentCount = 0;
+        }
+        currentWindow[getBucket(latencyMillis)]++;
+        currentCount++;
+    }
+
+    public synchronized int getSampleCount() {
+        return currentCount + previousCount;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the quantile, or -1 if there are no samples.
+     * Samples slower than the last bound are reported as twice the last bound.
+     *
+     * @param quantile value in range (0, 1]
+     */
+    public synchronized long getQuantile(double quantile) {
+        int total = currentCount + previousCount;
+        if (total == 0) {
+            return -1;
+        }
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < currentWindow.length; i++) {
+            seen += currentWindow[i] + previousWindow[i];
+            if (seen >= rank) {
+                return i < BUCKET_BOUNDS.length ? BUCKET_BOUNDS[i] : 2L * BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1];
+            }
+        }
+        return 2L * BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1];
+    }
+
+    /**
+     * Sample counts per bucket of both windows, see {@link #getBucketBounds()}.
+     */
+    @NonNull
+    public synchronized long[] getCounts() {
+        long[] counts = new long[currentWindow.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = currentWindow[i] + previousWindow[i];
+        }
+        return counts;
+    }
+
+    @NonNull
+    public static int[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    private static int getBucket(long latencyMillis) {
+        int index = Arrays.binarySearch(BUCKET_BOUNDS, (int) Math.min(latencyMillis, Integer.MAX_VALUE));
+        return index >= 0 ? index : -index - 1;
+    }
+
+}
@@ -17,7 +17,6 @@
 package org.prebid.mobile.rendering.networking.tracking;
 
 import org.prebid.mobile.LogUtil;
-import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.networking.BaseResponseHandler;
 
@@ -35,37 +34,32 @@ class ImpressionUrlTask extends BaseNetworkTask {
         super(handler);
     }
 
+    /**
+     * Follows the redirects, the task is run with {@link GetUrlParams#ignoreRedirects}. The result has the status
+     * code of the last response and exceptions are passed to the caller, so the tracking queue retries a chain that
+     * failed on the way.
+     */
     @Override
-    public GetUrlResult customParser(int code, URLConnection urlConnection) {
-        GetUrlResult result;
-        try {
-            result = openConnectionCheckRedirects(urlConnection);
-        }
-        catch (Exception e) {
-            LogUtil.error(TAG, "Redirection failed");
-            result = new GetUrlResult();
-        }
-        return result;
+    public GetUrlResult customParser(int code, URLConnection urlConnection) throws IOException {
+        return openConnectionCheckRedirects(urlConnection);
     }
 
-    private GetUrlResult openConnectionCheckRedirects(URLConnection urlConnection)
-    throws IOException, AdException {
+    private GetUrlResult openConnectionCheckRedirects(URLConnection urlConnection) throws IOException {
         GetUrlResult result = new GetUrlResult();
         boolean redir = true;
         int redirects = 0;
-        String response = "";
 
         while (redir) {
 
             if (!(urlConnection instanceof HttpURLConnection)) {
-                LogUtil.error(TAG, "Redirect fail for impression event");
-                return null;
+                throw new IOException("Redirect fail for impression event: not an HTTP connection");
             }
 
             ((HttpURLConnection) urlConnection).setInstanceFollowRedirects(false);
 
             HttpURLConnection http = (HttpURLConnection) urlConnection;
             int httpResponseCode = http.getResponseCode();
+            result.statusCode = httpResponseCode;
 
             if (httpResponseCode >= 300 && httpResponseCode <= 307 && httpResponseCode != 306 && httpResponseCode != HttpURLConnection.HTTP_NOT_MODIFIED) {
                 //Base url
@@ -76,7 +70,6 @@ class ImpressionUrlTask extends BaseNetworkTask {
                 if (loc != null) {
                     target = new URL(base, loc);
                 }
-                http.disconnect();
                 // Redirection should be allowed only for HTTP and HTTPS
                 // and should be limited to 5 redirections at most.
                 //TODO: check with iOS on the limitation
@@ -85,25 +78,23 @@ class ImpressionUrlTask extends BaseNetworkTask {
                     throw new SecurityException("illegal URL redirect");
                 }
                 redir = true;
-                urlConnection = target.openConnection();
+                urlConnection = openConnection(target);
                 redirects++;
             }
-            //We probably do not need to worry abt other status codes for tracking events, as we do not do any retry of these events, if it's !=200
             else if (httpResponseCode == 200) {
-                response = readResponse(urlConnection.getInputStream());
+                // Read to the end, so the connection can be reused. The body isn't used for tracking events.
+                readResponse(urlConnection.getInputStream());
                 redir = false;
             }
             else {
-                String error = String.format("Redirect error - Bad server response - [HTTP Response code of %s]", httpResponseCode);
-                LogUtil.error(TAG, error);
-                //Don't set exception on result. But instead just bail out with an error log
-                throw new AdException(AdException.SERVER_ERROR, error);
+                // The queue decides by the status code whether the event is retried
+                if (httpResponseCode >= 400) {
+                    LogUtil.error(TAG, String.format("Redirect error - Bad server response - [HTTP Response code of %s]", httpResponseCode));
+                }
+                redir = false;
             }
         }
 
-        //We do not even need to handle this response for tracking events. It's fire & forget.
-        result.responseString = response;
-
         return result;
     }
 }
@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.tracking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Tracking ping waiting for delivery in the {@link TrackingEventQueue}.
+ */
+class QueuedTrackingEvent {
+
+    private static final char SEPARATOR = '\t';
+
+    final String url;
+    final String type;
+    final boolean followRedirects;
+    final long createdAtMillis;
+
+    int attempts;
+    long nextAttemptAtMillis;
+    boolean inFlight;
+
+    QueuedTrackingEvent(
+            @NonNull String url,
+            @NonNull String type,
+            boolean followRedirects,
+            long createdAtMillis
+    ) {
+        this.url = url;
+        this.type = type;
+        this.followRedirects = followRedirects;
+        this.createdAtMillis = createdAtMillis;
+    }
+
+    /**
+     * Events with the same key are delivered once.
+     */
+    @NonNull
+    String getKey() {
+        return type + SEPARATOR + url;
+    }
+
+    /**
+     * @return journal record or null if the url can't be stored in one line.
+     */
+    @Nullable
+    String toRecord() {
+        if (url.indexOf('\n') >= 0 || url.indexOf(SEPARATOR) >= 0 || type.indexOf(SEPARATOR) >= 0) {
+            return null;
+        }
+        return createdAtMillis + String.valueOf(SEPARATOR) + (followRedirects ? 1 : 0) + SEPARATOR + type + SEPARATOR + url;
+    }
+
+    @Nullable
+    static QueuedTrackingEvent fromRecord(@NonNull String record) {
+        String[] parts = record.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new QueuedTrackingEvent(parts[3], parts[2], "1".equals(parts[1]), Long.parseLong(parts[0]));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+}
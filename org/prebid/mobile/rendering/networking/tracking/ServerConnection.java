@@ -16,8 +16,7 @@
 
 package org.prebid.mobile.rendering.networking.tracking;
 
-import android.os.AsyncTask;
-
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
@@ -32,7 +31,7 @@ public class ServerConnection {
         params.userAgent = AppInfoManager.getUserAgent();
         params.name = "recordevents";
 
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        PrebidMobile.getHttpTransport().execute(networkTask, params);
     }
 
     public static void fireStatusRequest(String url, ResponseHandler responseHandler) {
@@ -43,22 +42,24 @@ public class ServerConnection {
         params.userAgent = AppInfoManager.getUserAgent();
         params.name = BaseNetworkTask.STATUS_TASK;
 
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        PrebidMobile.getHttpTransport().execute(networkTask, params);
     }
 
+    /**
+     * Delivers the tracking url through the {@link TrackingEventQueue}, it is retried if the device is offline.
+     */
     public static void fireAndForget(String resourceURL) {
-        fireWithResult(resourceURL, null);
+        fireAndForget(resourceURL, TrackingEventQueue.TYPE_TRACKING);
     }
 
-    public static void fireAndForgetImpressionUrl(String impressionUrl) {
-
-        BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
-        params.url = impressionUrl;
-        params.requestType = "GET";
-        params.userAgent = AppInfoManager.getUserAgent();
-        params.name = BaseNetworkTask.REDIRECT_TASK;
+    /**
+     * @param eventType the same url is delivered once per event type.
+     */
+    public static void fireAndForget(String resourceURL, String eventType) {
+        TrackingEventQueue.getInstance().enqueue(resourceURL, eventType, false);
+    }
 
-        BaseNetworkTask networkTask = new ImpressionUrlTask(null);
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+    public static void fireAndForgetImpressionUrl(String impressionUrl) {
+        TrackingEventQueue.getInstance().enqueue(impressionUrl, TrackingEventQueue.TYPE_IMPRESSION, true);
     }
 }
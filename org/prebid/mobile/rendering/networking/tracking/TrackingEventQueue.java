@@ -0,0 +1,401 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.tracking;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.ResponseHandler;
+import org.prebid.mobile.rendering.networking.parameters.UserParameters;
+import org.prebid.mobile.rendering.sdk.ManagersResolver;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
+import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers tracking pings (impressions, win notifications, VAST and click trackers) at least once.
+ * <p>
+ * Events are kept in {@link TrackingQueueJournal} until the server answers, so they survive going offline
+ * and process death. Failed attempts are retried with exponential backoff, nothing is sent while
+ * {@link ConnectionInfoManager} reports offline state and at most {@link #MAX_CONCURRENT_REQUESTS} pings are
+ * sent at once. An event with the same url and type as a queued one is ignored.
+ * <p>
+ * Delivery runs on the main thread, the journal is written on the {@link TaskLane#DISK} lane.
+ */
+public class TrackingEventQueue {
+
+    private static final String TAG = TrackingEventQueue.class.getSimpleName();
+
+    public static final String TYPE_TRACKING = "tracking";
+    public static final String TYPE_IMPRESSION = "impression";
+    public static final String TYPE_WIN = "win";
+    public static final String TYPE_BILLING = "burl";
+
+    static final int MAX_CONCURRENT_REQUESTS = 2;
+    static final int MAX_ATTEMPTS = 5;
+    static final int MAX_PENDING_EVENTS = 500;
+    static final long INITIAL_BACKOFF_MILLIS = 5 * 1000;
+    static final long MAX_BACKOFF_MILLIS = 5 * 60 * 1000;
+    static final long OFFLINE_CHECK_INTERVAL_MILLIS = 30 * 1000;
+    static final long EVENT_TTL_MILLIS = 24 * 60 * 60 * 1000;
+
+    private static TrackingEventQueue instance;
+
+    private final LinkedHashMap<String, QueuedTrackingEvent> events = new LinkedHashMap<>();
+    private final TrackingQueueStats stats = new TrackingQueueStats();
+    private final Random random = new Random();
+
+    private TrackingQueueJournal journal;
+    private int inFlightCount;
+    private ScheduledFuture<?> scheduledPump;
+    private long scheduledPumpAtMillis;
+
+    @VisibleForTesting
+    TrackingEventQueue() {
+    }
+
+    public static synchronized TrackingEventQueue getInstance() {
+        if (instance == null) {
+            instance = new TrackingEventQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Queues the ping.
+     *
+     * @param type            event name, the same url is delivered once per type.
+     * @param followRedirects true to follow redirects of the tracking url, e.g. for impressions.
+     */
+    public void enqueue(String url, @NonNull String type, boolean followRedirects) {
+        if (TextUtils.isEmpty(url)) {
+            LogUtil.debug(TAG, "Tracking url is empty, skipping " + type + " event");
+            return;
+        }
+
+        QueuedTrackingEvent event = new QueuedTrackingEvent(url, type, followRedirects, System.currentTimeMillis());
+        synchronized (this) {
+            openJournal();
+            if (!add(event)) {
+                return;
+            }
+            if (journal != null) {
+                journal.append(event);
+            }
+        }
+        TasksManager.getInstance().executeOnMainThread(this::pump);
+    }
+
+    @NonNull
+    public TrackingQueueStats getStats() {
+        return stats;
+    }
+
+    public synchronized int getPendingCount() {
+        return events.size();
+    }
+
+    private boolean add(QueuedTrackingEvent event) {
+        if (events.containsKey(event.getKey())) {
+            stats.onDeduplicated();
+            return false;
+        }
+
+        events.put(event.getKey(), event);
+        stats.onQueued();
+        trim();
+        return true;
+    }
+
+    private void trim() {
+        Iterator<QueuedTrackingEvent> iterator = events.values().iterator();
+        while (events.size() > MAX_PENDING_EVENTS && iterator.hasNext()) {
+            QueuedTrackingEvent oldest = iterator.next();
+            if (oldest.inFlight) {
+                continue;
+            }
+            LogUtil.warning(TAG, "Tracking queue is full, dropping " + oldest.type + " event");
+            iterator.remove();
+            onRemoved(oldest, false);
+        }
+    }
+
+    /**
+     * Opens the journal when the context becomes available and restores events of the previous sessions.
+     */
+    private void openJournal() {
+        if (journal != null) {
+            return;
+        }
+        Context context = PrebidContextHolder.getContext();
+        if (context == null) {
+            return;
+        }
+
+        final TrackingQueueJournal newJournal = new TrackingQueueJournal(context.getFilesDir(), this::snapshot);
+        try {
+            TasksManager.getInstance().execute(TaskLane.DISK, () -> {
+                List<QueuedTrackingEvent> restoredEvents = newJournal.load();
+                if (restoredEvents.isEmpty()) {
+                    return;
+                }
+                TasksManager.getInstance().executeOnMainThread(() -> restore(restoredEvents));
+            });
+        } catch (RejectedExecutionException exception) {
+            LogUtil.warning(TAG, "Tracking queue restoring postponed: " + exception.getMessage());
+            return;
+        }
+        journal = newJournal;
+    }
+
+    private void restore(List<QueuedTrackingEvent> restoredEvents) {
+        synchronized (this) {
+            LogUtil.debug(TAG, "Restored tracking events: " + restoredEvents.size());
+            for (QueuedTrackingEvent event : restoredEvents) {
+                add(event);
+            }
+        }
+        pump();
+    }
+
+    private synchronized List<QueuedTrackingEvent> snapshot() {
+        return new ArrayList<>(events.values());
+    }
+
+    /**
+     * Sends events which are due and schedules the next run. Must be called on the main thread.
+     */
+    private void pump() {
+        List<QueuedTrackingEvent> eventsToSend = new ArrayList<>();
+        synchronized (this) {
+            long now = SystemClock.uptimeMillis();
+            if (isOffline()) {
+                schedulePump(now + OFFLINE_CHECK_INTERVAL_MILLIS);
+                return;
+            }
+
+            long nextAttemptAt = Long.MAX_VALUE;
+            long currentTime = System.currentTimeMillis();
+            Iterator<QueuedTrackingEvent> iterator = events.values().iterator();
+            while (iterator.hasNext()) {
+                QueuedTrackingEvent event = iterator.next();
+                if (event.inFlight) {
+                    continue;
+                }
+                if (currentTime - event.createdAtMillis > EVENT_TTL_MILLIS) {
+                    LogUtil.debug(TAG, "Tracking event expired: " + event.type);
+                    iterator.remove();
+                    onRemoved(event, false);
+                    continue;
+                }
+                if (event.nextAttemptAtMillis > now) {
+                    nextAttemptAt = Math.min(nextAttemptAt, event.nextAttemptAtMillis);
+                    continue;
+                }
+                if (inFlightCount + eventsToSend.size() < MAX_CONCURRENT_REQUESTS) {
+                    event.inFlight = true;
+                    eventsToSend.add(event);
+                }
+            }
+            inFlightCount += eventsToSend.size();
+
+            if (nextAttemptAt != Long.MAX_VALUE) {
+                schedulePump(nextAttemptAt);
+            }
+        }
+
+        for (QueuedTrackingEvent event : eventsToSend) {
+            send(event);
+        }
+    }
+
+    private void schedulePump(long atMillis) {
+        if (scheduledPump != null && !scheduledPump.isDone()) {
+            if (scheduledPumpAtMillis <= atMillis) {
+                return;
+            }
+            scheduledPump.cancel(false);
+        }
+
+        scheduledPumpAtMillis = atMillis;
+        scheduledPump = TasksManager.getInstance().schedule(
+                () -> TasksManager.getInstance().executeOnMainThread(this::pump),
+                Math.max(0, atMillis - SystemClock.uptimeMillis()),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private boolean isOffline() {
+        ConnectionInfoManager connectionInfoManager = ManagersResolver.getInstance().getNetworkManager();
+        // Connection state is unknown until the SDK is initialized
+        return connectionInfoManager != null && connectionInfoManager.getConnectionType() == UserParameters.ConnectionType.OFFLINE;
+    }
+
+    private void send(QueuedTrackingEvent event) {
+        BaseNetworkTask networkTask = createTask(event.followRedirects, new DeliveryHandler(event));
+        PrebidMobile.getHttpTransport().execute(networkTask, createParams(event.url, event.followRedirects));
+    }
+
+    /**
+     * The tasks report the status code of the (last) response and don't read the body into the result,
+     * so {@link DeliveryHandler#onResponse} gets every answer of the server.
+     */
+    @VisibleForTesting
+    static BaseNetworkTask createTask(boolean followRedirects, ResponseHandler handler) {
+        return followRedirects ? new ImpressionUrlTask(handler) : new BaseNetworkTask(handler);
+    }
+
+    @VisibleForTesting
+    static BaseNetworkTask.GetUrlParams createParams(String url, boolean followRedirects) {
+        BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
+        params.url = url;
+        params.requestType = "GET";
+        params.userAgent = AppInfoManager.getUserAgent();
+        params.name = followRedirects ? BaseNetworkTask.REDIRECT_TASK : BaseNetworkTask.STATUS_TASK;
+        params.ignoreRedirects = true;
+        return params;
+    }
+
+    /**
+     * The server received the ping unless it answered with an error. Server errors, 408 and 429 are retried,
+     * other client errors are permanent.
+     */
+    @VisibleForTesting
+    static Delivery classify(int statusCode) {
+        if (statusCode >= 500 || statusCode == 408 || statusCode == 429) {
+            return Delivery.RETRY;
+        } else if (statusCode >= 400 || statusCode <= 0) {
+            return Delivery.DROP;
+        }
+        return Delivery.DELIVERED;
+    }
+
+    private void onDelivered(QueuedTrackingEvent event) {
+        synchronized (this) {
+            finishAttempt(event);
+            events.remove(event.getKey());
+            onRemoved(event, true);
+        }
+        pump();
+    }
+
+    private void onFailed(QueuedTrackingEvent event, boolean retriable, String reason) {
+        synchronized (this) {
+            finishAttempt(event);
+            event.attempts++;
+            if (!retriable || event.attempts >= MAX_ATTEMPTS) {
+                LogUtil.warning(TAG, "Dropping " + event.type + " event after " + event.attempts + " attempts: " + reason);
+                events.remove(event.getKey());
+                onRemoved(event, false);
+            } else {
+                event.nextAttemptAtMillis = SystemClock.uptimeMillis() + getBackoffMillis(event.attempts);
+                stats.onRetried();
+                LogUtil.debug(TAG, "Retrying " + event.type + " event: " + reason);
+            }
+        }
+        pump();
+    }
+
+    private void finishAttempt(QueuedTrackingEvent event) {
+        event.inFlight = false;
+        inFlightCount = Math.max(0, inFlightCount - 1);
+    }
+
+    private void onRemoved(QueuedTrackingEvent event, boolean delivered) {
+        if (delivered) {
+            stats.onDelivered();
+        } else {
+            stats.onDropped();
+        }
+        if (journal != null) {
+            journal.remove(event);
+        }
+    }
+
+    /**
+     * @return exponential delay with +-20% jitter, so the pings of many devices don't return at once.
+     */
+    private long getBackoffMillis(int attempts) {
+        long delay = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(attempts - 1, 16));
+        double jitter = 0.8 + random.nextDouble() * 0.4;
+        return (long) (delay * jitter);
+    }
+
+    @VisibleForTesting
+    enum Delivery {
+        DELIVERED,
+        RETRY,
+        DROP
+    }
+
+    private class DeliveryHandler implements ResponseHandler {
+
+        private final QueuedTrackingEvent event;
+
+        private DeliveryHandler(QueuedTrackingEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public void onResponse(BaseNetworkTask.GetUrlResult response) {
+            int code = response.statusCode;
+            switch (classify(code)) {
+                case DELIVERED:
+                    onDelivered(event);
+                    break;
+                case RETRY:
+                    onFailed(event, true, "HTTP " + code);
+                    break;
+                default:
+                    onFailed(event, false, "HTTP " + code);
+            }
+        }
+
+        @Override
+        public void onError(String msg, long responseTime) {
+            // Not reported for a status code, the tasks don't pass the body on
+            onFailed(event, false, msg);
+        }
+
+        @Override
+        public void onErrorWithException(Exception e, long responseTime) {
+            boolean retriable = !(e instanceof MalformedURLException)
+                    && (e instanceof IOException || e instanceof RejectedExecutionException);
+            onFailed(event, retriable, e.getMessage());
+        }
+    }
+}
@@ -44,12 +44,19 @@ public class TrackingManager {
     }
 
     public void fireEventTrackingURLs(@Nullable List<String> urls) {
+        fireEventTrackingURLs(urls, TrackingEventQueue.TYPE_TRACKING);
+    }
+
+    /**
+     * @param eventType name of the tracked event, the same url is delivered once per event.
+     */
+    public void fireEventTrackingURLs(@Nullable List<String> urls, String eventType) {
         if (urls == null) {
             LogUtil.debug(TAG, "fireEventTrackingURLs(): Unable to execute event tracking requests. Provided list is null");
             return;
         }
         for (String url : urls) {
-            fireEventTrackingURL(url);
+            ServerConnection.fireAndForget(url, eventType);
         }
     }
 
@@ -0,0 +1,189 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.tracking;
+
+import androidx.annotation.NonNull;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Append-only file of the {@link TrackingEventQueue}. Every queued event adds a line and every delivered or
+ * dropped event adds a removal line, so events survive process death. Lines are written in batches on the
+ * {@link TaskLane#DISK} lane and the file is rewritten with pending events only when it grows.
+ */
+class TrackingQueueJournal {
+
+    private static final String TAG = TrackingQueueJournal.class.getSimpleName();
+
+    static final String FILE_NAME = "prebid_tracking_queue";
+    private static final int COMPACT_LINES_THRESHOLD = 500;
+
+    private static final String ADD = "+\t";
+    private static final String REMOVE = "-\t";
+
+    private final File file;
+    private final Callable<Collection<QueuedTrackingEvent>> pendingEventsProvider;
+    private final ConcurrentLinkedQueue<String> unwrittenLines = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    private int lineCount;
+
+    TrackingQueueJournal(
+            @NonNull File directory,
+            @NonNull Callable<Collection<QueuedTrackingEvent>> pendingEventsProvider
+    ) {
+        this.file = new File(directory, FILE_NAME);
+        this.pendingEventsProvider = pendingEventsProvider;
+    }
+
+    /**
+     * Reads events which weren't delivered. Must be called on a background thread.
+     */
+    @NonNull
+    synchronized List<QueuedTrackingEvent> load() {
+        LinkedHashMap<String, QueuedTrackingEvent> events = new LinkedHashMap<>();
+        if (!file.exists()) {
+            return new ArrayList<>();
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                if (line.startsWith(ADD)) {
+                    QueuedTrackingEvent event = QueuedTrackingEvent.fromRecord(line.substring(ADD.length()));
+                    if (event != null) {
+                        events.put(event.getKey(), event);
+                    }
+                } else if (line.startsWith(REMOVE)) {
+                    events.remove(line.substring(REMOVE.length()));
+                }
+            }
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Failed to read tracking queue: " + exception.getMessage());
+        }
+        return new ArrayList<>(events.values());
+    }
+
+    void append(@NonNull QueuedTrackingEvent event) {
+        String record = event.toRecord();
+        if (record == null) {
+            return;
+        }
+        unwrittenLines.add(ADD + record);
+        scheduleWrite();
+    }
+
+    void remove(@NonNull QueuedTrackingEvent event) {
+        if (event.toRecord() == null) {
+            return;
+        }
+        unwrittenLines.add(REMOVE + event.getKey());
+        scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        if (!writeScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            TasksManager.getInstance().execute(TaskLane.DISK, this::write);
+        } catch (RejectedExecutionException exception) {
+            // Lines stay in memory and are written with the next batch
+            writeScheduled.set(false);
+            LogUtil.warning(TAG, "Tracking queue write postponed: " + exception.getMessage());
+        }
+    }
+
+    private synchronized void write() {
+        writeScheduled.set(false);
+        if (unwrittenLines.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = unwrittenLines.poll()) != null) {
+                writer.write(line);
+                writer.write('\n');
+                lineCount++;
+            }
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Failed to write tracking queue: " + exception.getMessage());
+            return;
+        }
+
+        if (lineCount > COMPACT_LINES_THRESHOLD) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        Collection<QueuedTrackingEvent> pendingEvents;
+        try {
+            pendingEvents = pendingEventsProvider.call();
+        } catch (Exception exception) {
+            LogUtil.error(TAG, "Failed to get pending tracking events: " + exception.getMessage());
+            return;
+        }
+
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        int lines = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temporaryFile, false), StandardCharsets.UTF_8))) {
+            for (QueuedTrackingEvent event : pendingEvents) {
+                String record = event.toRecord();
+                if (record != null) {
+                    writer.write(ADD);
+                    writer.write(record);
+                    writer.write('\n');
+                    lines++;
+                }
+            }
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Failed to compact tracking queue: " + exception.getMessage());
+            temporaryFile.delete();
+            return;
+        }
+
+        if (temporaryFile.renameTo(file)) {
+            lineCount = lines;
+        } else {
+            temporaryFile.delete();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.tracking;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivery counters of the {@link TrackingEventQueue} since the process start.
+ */
+public class TrackingQueueStats {
+
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+
+    void onQueued() {
+        queued.incrementAndGet();
+    }
+
+    void onDelivered() {
+        delivered.incrementAndGet();
+    }
+
+    void onRetried() {
+        retried.incrementAndGet();
+    }
+
+    void onDropped() {
+        dropped.incrementAndGet();
+    }
+
+    void onDeduplicated() {
+        deduplicated.incrementAndGet();
+    }
+
+    /**
+     * @return number of events accepted by the queue, including the ones restored after restart.
+     */
+    public long getQueuedCount() {
+        return queued.get();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * @return number of failed attempts which were scheduled again.
+     */
+    public long getRetriedCount() {
+        return retried.get();
+    }
+
+    /**
+     * @return number of events given up after all attempts, expired or rejected by the server.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of events ignored because the same event was already queued.
+     */
+    public long getDeduplicatedCount() {
+        return deduplicated.get();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "TrackingQueueStats{" +
+                "queued=" + queued +
+                ", delivered=" + delivered +
+                ", retried=" + retried +
+                ", dropped=" + dropped +
+                ", deduplicated=" + deduplicated +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package org.prebid.mobile.rendering.networking.transport;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Counts the TLS connections the platform opens for {@link PooledHttpTransport}.
+ * <p>
+ * The platform asks the factory of a connection for a socket only when its pool has no idle connection
+ * to the host, so every call is a new connection. One instance is set on all HTTPS connections of the
+ * transport: connections are pooled per factory, so they still share the pool. Sockets come from the
+ * current default factory.
+ */
+class CountingSSLSocketFactory extends SSLSocketFactory {
+
+    interface Listener {
+
+        void onSocketCreated(@NonNull String host, int port);
+    }
+
+    private final Listener listener;
+
+    CountingSSLSocketFactory(@NonNull Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+        return getDelegate().getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+        return getDelegate().getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+        // Connected later, the host isn't known yet. Platforms connect the raw socket first and layer TLS
+        // with createSocket(Socket, String, int, boolean), which is counted.
+        return getDelegate().createSocket();
+    }
+
+    @Override
+    public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+        listener.onSocketCreated(host, port);
+        return getDelegate().createSocket(socket, host, port, autoClose);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        listener.onSocketCreated(host, port);
+        return getDelegate().createSocket(host, port);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        listener.onSocketCreated(host, port);
+        return getDelegate().createSocket(host, port, localHost, localPort);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port) throws IOException {
+        listener.onSocketCreated(address.getHostName(), port);
+        return getDelegate().createSocket(address, port);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        listener.onSocketCreated(address.getHostName(), port);
+        return getDelegate().createSocket(address, port, localAddress, localPort);
+    }
+
+    private static SSLSocketFactory getDelegate() {
+        return HttpsURLConnection.getDefaultSSLSocketFactory();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.transport;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-host connection counters of {@link PooledHttpTransport}.
+ * <p>
+ * {@link java.net.HttpURLConnection} doesn't expose whether a socket was taken from the pool.
+ * For HTTPS hosts the transport counts the TLS sockets the platform creates, every request
+ * above that number was served by a pooled connection. Cleartext connections are estimated:
+ * one is counted as reused when a kept-alive connection to the same host was released
+ * within the keep-alive window before it was opened.
+ */
+public class HostConnectionStats {
+
+    private final String host;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong measuredRequests = new AtomicLong();
+    private final AtomicLong socketsCreated = new AtomicLong();
+    private final AtomicLong estimatedReused = new AtomicLong();
+    private final AtomicLong discardedConnections = new AtomicLong();
+    private final AtomicInteger idleConnections = new AtomicInteger();
+
+    private volatile long lastReleaseTimestamp;
+
+    HostConnectionStats(@NonNull String host) {
+        this.host = host;
+    }
+
+    /**
+     * @param measured true if the sockets of the connection are counted by {@link #onSocketCreated()}.
+     */
+    void onOpen(long now, long keepAliveMillis, boolean measured) {
+        requests.incrementAndGet();
+        if (measured) {
+            measuredRequests.incrementAndGet();
+        } else if (now - lastReleaseTimestamp <= keepAliveMillis && takeIdle()) {
+            estimatedReused.incrementAndGet();
+        }
+    }
+
+    void onSocketCreated() {
+        socketsCreated.incrementAndGet();
+    }
+
+    void onRelease(long now, boolean reusable, int maxIdle) {
+        if (reusable) {
+            lastReleaseTimestamp = now;
+            int idle;
+            do {
+                idle = idleConnections.get();
+                if (idle >= maxIdle) {
+                    return;
+                }
+            } while (!idleConnections.compareAndSet(idle, idle + 1));
+        } else {
+            discardedConnections.incrementAndGet();
+        }
+    }
+
+    private boolean takeIdle() {
+        int idle;
+        do {
+            idle = idleConnections.get();
+            if (idle <= 0) {
+                return false;
+            }
+        } while (!idleConnections.compareAndSet(idle, idle - 1));
+        return true;
+    }
+
+    @NonNull
+    public String getHost() {
+        return host;
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getNewConnections() {
+        return requests.get() - getReusedConnections();
+    }
+
+    public long getReusedConnections() {
+        // A request can open more than one socket (route retries), so it's never below 0
+        long measuredReused = Math.max(0, measuredRequests.get() - socketsCreated.get());
+        return estimatedReused.get() + measuredReused;
+    }
+
+    public long getDiscardedConnections() {
+        return discardedConnections.get();
+    }
+
+    /**
+     * Share of requests served by a kept-alive connection, from 0 to 1.
+     */
+    public float getReuseRatio() {
+        long total = requests.get();
+        return total == 0 ? 0f : (float) getReusedConnections() / total;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.US,
+                "%s: requests=%d, new=%d, reused=%d, discarded=%d",
+                host,
+                getRequests(),
+                getNewConnections(),
+                getReusedConnections(),
+                getDiscardedConnections()
+        );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.transport;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Map;
+
+/**
+ * Transport used by every {@link BaseNetworkTask}: bid requests, tracking events,
+ * VAST wrapper requests, status requests and file downloads.
+ * <p>
+ * The transport owns the executor the tasks run on and the lifecycle of the underlying
+ * connections, so an implementation is free to pool and reuse them.
+ */
+public interface HttpTransport {
+
+    /**
+     * Schedules the task on the transport executor.
+     */
+    void execute(@NonNull BaseNetworkTask task, @NonNull BaseNetworkTask.GetUrlParams params);
+
+    /**
+     * Opens connection to the given url. Every opened connection must be returned
+     * with {@link #release(URLConnection, boolean)}.
+     */
+    @NonNull
+    URLConnection openConnection(@NonNull URL url) throws IOException;
+
+    /**
+     * Opens connection to the given url, waiting at most {@code timeoutMillis} for the transport
+     * to allow a new connection.
+     *
+     * @throws java.net.SocketTimeoutException if no connection was allowed in time.
+     */
+    @NonNull
+    default URLConnection openConnection(@NonNull URL url, int timeoutMillis) throws IOException {
+        return openConnection(url);
+    }
+
+    /**
+     * Returns the connection to the transport.
+     *
+     * @param reusable true if the response body was fully consumed and the connection
+     *                 can be kept alive for the next request to the same host.
+     */
+    void release(@Nullable URLConnection connection, boolean reusable);
+
+    /**
+     * Connection reuse statistics grouped by host.
+     */
+    @NonNull
+    Map<String, HostConnectionStats> getHostStats();
+
+}
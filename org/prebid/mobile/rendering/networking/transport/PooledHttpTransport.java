@@ -0,0 +1,246 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.networking.transport;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HttpsURLConnection;
+
+/**
+ * Default {@link HttpTransport}.
+ * <p>
+ * Runs tasks on the {@link TaskLane#NETWORK} lane, limits the number of simultaneous
+ * connections per host and keeps connections alive between requests: a connection whose
+ * response was fully read is closed, not disconnected, so the platform connection pool
+ * can hand the socket (and its TLS session) to the next request to the same host.
+ * HTTPS connections get a {@link CountingSSLSocketFactory}, so {@link HostConnectionStats}
+ * reports the connections the platform actually opened.
+ */
+public class PooledHttpTransport implements HttpTransport {
+
+    private static final String TAG = PooledHttpTransport.class.getSimpleName();
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 5 * 60 * 1000;
+
+    private static final int DRAIN_BUFFER_SIZE = 1024;
+    private static final int MAX_DRAIN_BYTES = 64 * 1024;
+
+    private final int maxConnectionsPerHost;
+    private final long keepAliveMillis;
+
+    private final ConcurrentHashMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, HostConnectionStats> hostStats = new ConcurrentHashMap<>();
+    private final Map<URLConnection, String> activeConnections = Collections.synchronizedMap(new HashMap<>());
+    private final CountingSSLSocketFactory socketFactory = new CountingSSLSocketFactory(
+            (host, port) -> getStats("https://" + host + ":" + port).onSocketCreated()
+    );
+
+    public PooledHttpTransport() {
+        this(DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_KEEP_ALIVE_MILLIS);
+    }
+
+    public PooledHttpTransport(
+            int maxConnectionsPerHost,
+            long keepAliveMillis
+    ) {
+        this.maxConnectionsPerHost = Math.max(1, maxConnectionsPerHost);
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    @Override
+    public void execute(@NonNull BaseNetworkTask task, @NonNull BaseNetworkTask.GetUrlParams params) {
+        try {
+            task.executeOnExecutor(TasksManager.getInstance().getLaneExecutor(TaskLane.NETWORK), params);
+        } catch (RejectedExecutionException exception) {
+            LogUtil.error(TAG, "Network request rejected: " + exception.getMessage());
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                task.onExecutionRejected(exception);
+            } else {
+                TasksManager.getInstance().executeOnMainThread(() -> task.onExecutionRejected(exception));
+            }
+        }
+    }
+
+    @NonNull
+    @Override
+    public URLConnection openConnection(@NonNull URL url) throws IOException {
+        return openConnection(url, PrebidMobile.getTimeoutMillis());
+    }
+
+    /**
+     * Waits for a free connection slot of the host at most {@code timeoutMillis}, so slow hosts
+     * can't park the network lane threads.
+     */
+    @NonNull
+    @Override
+    public URLConnection openConnection(@NonNull URL url, int timeoutMillis) throws IOException {
+        String host = getHostKey(url);
+        Semaphore permits = getPermits(host);
+        try {
+            if (!permits.tryAcquire(Math.max(timeoutMillis, 0), TimeUnit.MILLISECONDS)) {
+                throw new SocketTimeoutException("Timed out waiting " + timeoutMillis + " ms for a connection to " + host);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for connection to " + host);
+        }
+
+        URLConnection connection;
+        try {
+            connection = url.openConnection();
+        } catch (IOException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+
+        boolean measured = countSockets(connection);
+        activeConnections.put(connection, host);
+        getStats(host).onOpen(System.currentTimeMillis(), keepAliveMillis, measured);
+        return connection;
+    }
+
+    @Override
+    public void release(@Nullable URLConnection connection, boolean reusable) {
+        if (connection == null) {
+            return;
+        }
+
+        String host = activeConnections.remove(connection);
+        if (host == null) {
+            // Already released or opened outside of the transport
+            return;
+        }
+
+        boolean keptAlive = reusable && closeQuietly(connection);
+        if (!keptAlive && connection instanceof HttpURLConnection) {
+            ((HttpURLConnection) connection).disconnect();
+        }
+
+        getStats(host).onRelease(System.currentTimeMillis(), keptAlive, maxConnectionsPerHost);
+        getPermits(host).release();
+    }
+
+    @NonNull
+    @Override
+    public Map<String, HostConnectionStats> getHostStats() {
+        return Collections.unmodifiableMap(new HashMap<>(hostStats));
+    }
+
+    /**
+     * Reads the rest of the response body (if any) and closes the stream so the
+     * socket returns to the pool.
+     *
+     * @return false if the body couldn't be drained and the connection must be discarded.
+     */
+    private boolean closeQuietly(URLConnection connection) {
+        InputStream inputStream = null;
+        try {
+            inputStream = connection.getInputStream();
+            byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+            int drained = 0;
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                drained += count;
+                if (drained > MAX_DRAIN_BYTES) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException exception) {
+            LogUtil.debug(TAG, "Can't keep connection alive: " + exception.getMessage());
+            return false;
+        } finally {
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the counting factory on HTTPS connections that use the default one. The same instance
+     * is set on all of them, the platform pools connections per factory.
+     */
+    private boolean countSockets(URLConnection connection) {
+        if (!(connection instanceof HttpsURLConnection)) {
+            return false;
+        }
+
+        HttpsURLConnection httpsConnection = (HttpsURLConnection) connection;
+        if (httpsConnection.getSSLSocketFactory() != HttpsURLConnection.getDefaultSSLSocketFactory()) {
+            return false;
+        }
+
+        httpsConnection.setSSLSocketFactory(socketFactory);
+        return true;
+    }
+
+    private Semaphore getPermits(String host) {
+        Semaphore permits = hostPermits.get(host);
+        if (permits == null) {
+            permits = new Semaphore(maxConnectionsPerHost, true);
+            Semaphore previous = hostPermits.putIfAbsent(host, permits);
+            if (previous != null) {
+                permits = previous;
+            }
+        }
+        return permits;
+    }
+
+    private HostConnectionStats getStats(String host) {
+        HostConnectionStats stats = hostStats.get(host);
+        if (stats == null) {
+            stats = new HostConnectionStats(host);
+            HostConnectionStats previous = hostStats.putIfAbsent(host, stats);
+            if (previous != null) {
+                stats = previous;
+            }
+        }
+        return stats;
+    }
+
+    private static String getHostKey(URL url) {
+        int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+        return url.getProtocol() + "://" + url.getHost() + ":" + port;
+    }
+}
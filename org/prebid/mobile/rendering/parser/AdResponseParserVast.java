@@ -36,7 +36,6 @@ import org.prebid.mobile.rendering.video.vast.Creative;
 import org.prebid.mobile.rendering.video.vast.Extension;
 import org.prebid.mobile.rendering.video.vast.Impression;
 import org.prebid.mobile.rendering.video.vast.InLine;
-import org.prebid.mobile.rendering.video.vast.MediaFile;
 import org.prebid.mobile.rendering.video.vast.VAST;
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
@@ -44,7 +43,6 @@ import org.xmlpull.v1.XmlPullParserException;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class AdResponseParserVast extends AdResponseParserBase {
@@ -59,24 +57,32 @@ public class AdResponseParserVast extends AdResponseParserBase {
 
     private volatile AdResponseParserVast wrappedVASTXml;
 
-    private ArrayList<org.prebid.mobile.rendering.video.vast.Tracking> trackings;
-    private ArrayList<ClickTracking> clickTrackings;
-    private ArrayList<Impression> impressions;
+    /**
+     * Index of every Ad of this response, built once after parsing.
+     */
+    private final ArrayList<VastIndex> adIndexes = new ArrayList<>();
+
+    /**
+     * Merged index of the wrapper chain starting at this response. Rebuilt only if the chain was extended.
+     */
+    private VastIndex chainIndex;
+    private AdResponseParserVast chainTail;
+    private int chainAdIndex;
 
     private VAST vast;
 
     public ArrayList<org.prebid.mobile.rendering.video.vast.Tracking> getTrackings() {
-        return trackings;
+        return getChainIndex(0).getTrackings();
     }
 
     public ArrayList<Impression> getImpressions() {
 
-        return impressions;
+        return getChainIndex(0).getImpressions();
     }
 
     public ArrayList<ClickTracking> getClickTrackings() {
 
-        return clickTrackings;
+        return getChainIndex(0).getClickTrackings();
     }
 
     public static class Tracking {
@@ -157,9 +163,6 @@ public class AdResponseParserVast extends AdResponseParserBase {
     }
 
     public AdResponseParserVast(String data) throws VastParseError {
-        trackings = new ArrayList<>();
-        impressions = new ArrayList<>();
-        clickTrackings = new ArrayList<>();
         ready = false;
 
         try {
@@ -167,6 +170,11 @@ public class AdResponseParserVast extends AdResponseParserBase {
         } catch (Exception e) {
             throw new VastParseError(e.getLocalizedMessage());
         }
+        if (vast.getAds() != null) {
+            for (Ad ad : vast.getAds()) {
+                adIndexes.add(VastIndex.build(ad));
+            }
+        }
         ready = true;
     }
 
@@ -221,68 +229,29 @@ public class AdResponseParserVast extends AdResponseParserBase {
         return null;
     }
 
-    //Returns the best media file fit for the device
-    public String getMediaFileUrl(AdResponseParserVast parserVast, int index) {
-        String myBestMediaFileURL = null;
-        ArrayList<MediaFile> eligibleMediaFiles = new ArrayList<>();
-        /**
-         * Here we use a recursion pattern to traverse the nested VAST nodes "parserVast",
-         * until we reach the last nested node, which should be InLine,
-         * and then we get its meduaFile URL. Note that index is hardcoded in the call
-         * as 0 for the first Ad node. So we have to figure out a solution for Ad pods.
-         */
-        if (wrappedVASTXml != null) {
-            wrappedVASTXml.getMediaFileUrl(wrappedVASTXml, index);
-        }
-        /**
-         * Now that we have reached the last node, we can get its mediaFileUrl.
-         * Note that index is hardcoded in the call
-         * as 0 for the first Ad node. So we have to figure out a solution for Ad pods.
-         */
-        else {
-
-            Ad ad = parserVast.vast.getAds().get(index);
-
-            for (Creative creative : ad.getInline().getCreatives()) {
-
-                if (creative.getLinear() != null) {
-
-                    for (MediaFile mediaFile : creative.getLinear().getMediaFiles()) {
-                        if (supportedVideoFormat(mediaFile.getType())) {
-                            eligibleMediaFiles.add(mediaFile);
-                        }
-                    }
+    /**
+     * @return error tracking url of the Wrapper, null if it's not a wrapper response.
+     */
+    public String getWrapperErrorUrl() {
+        if (vast.getAds() != null)
+            for (Ad ad : vast.getAds()) {
 
-                    if (eligibleMediaFiles.size() == 0) {
-                        return myBestMediaFileURL;
-                    }
+                if (ad.getWrapper() != null && ad.getWrapper().getError() != null) {
 
-                    // choose the one with the highest resolution amongst all
-                    MediaFile best = eligibleMediaFiles.get(0);
-                    int bestValues = (Utils.isBlank(best.getWidth())
-                                      ? 0
-                                      : Integer.parseInt(best.getWidth())) * (Utils.isBlank(best.getHeight())
-                                                                              ? 0
-                                                                              : Integer.parseInt(best.getHeight()));
-                    myBestMediaFileURL = best.getValue();
-
-                    for (int i = 0; i < eligibleMediaFiles.size(); i++) {
-                        MediaFile current = eligibleMediaFiles.get(i);
-                        int currentValues = (Utils.isBlank(current.getWidth())
-                                             ? 0
-                                             : Integer.parseInt(current.getWidth())) * (Utils.isBlank(current.getHeight())
-                                                                                        ? 0
-                                                                                        : Integer.parseInt(current.getHeight()));
-                        if (currentValues > bestValues) {
-                            bestValues = currentValues;
-                            best = current;
-                            myBestMediaFileURL = best.getValue();
-                        }
-                    }
+                    return ad.getWrapper().getError().getValue();
                 }
             }
+        return null;
+    }
+
+    //Returns the best media file fit for the device
+    public String getMediaFileUrl(AdResponseParserVast parserVast, int index) {
+        // Media files are taken from the last nested node, which should be InLine
+        AdResponseParserVast inline = parserVast;
+        while (inline.wrappedVASTXml != null) {
+            inline = inline.wrappedVASTXml;
         }
-        return myBestMediaFileURL;
+        return inline.getAdIndex(index).getBestMediaFileUrl();
     }
 
     @VisibleForTesting
@@ -299,96 +268,23 @@ public class AdResponseParserVast extends AdResponseParserBase {
     }
 
     public ArrayList<Impression> getImpressions(AdResponseParserVast parserVast, int index) {
-        if (getImpressionEvents(parserVast.vast, index) != null) {
-            impressions.addAll(getImpressionEvents(parserVast.vast, index));
-        }
-
-        /**
-         * Here we use a recursion pattern to traverse the nested VAST nodes "parserVast",
-         */
-        if (parserVast.wrappedVASTXml != null) {
-            getImpressions(parserVast.wrappedVASTXml, index);
-        }
-
-        return impressions;
+        return parserVast.getChainIndex(index).getImpressions();
     }
 
     public ArrayList<org.prebid.mobile.rendering.video.vast.Tracking> getTrackingEvents(VAST vast, int index) {
-
-        Ad ad = vast.getAds().get(index);
-        if (ad.getInline() != null) {
-
-            for (Creative creative : ad.getInline().getCreatives()) {
-
-                if (creative.getLinear() != null) {
-
-                    return creative.getLinear().getTrackingEvents();
-                }
-            }
-        }
-        else if (ad.getWrapper() != null && ad.getWrapper().getCreatives() != null) {
-
-            for (Creative creative : ad.getWrapper().getCreatives()) {
-
-                if (creative.getLinear() != null) {
-
-                    return creative.getLinear().getTrackingEvents();
-                }
-                else if (creative.getNonLinearAds() != null) {
-
-                    return creative.getNonLinearAds().getTrackingEvents();
-                }
-            }
-        }
-        return null;
+        return VastIndex.findTrackingEvents(vast.getAds().get(index));
     }
 
     protected ArrayList<Impression> getImpressionEvents(VAST vast, int index) {
-
-        Ad ad = vast.getAds().get(index);
-        if (ad.getInline() != null) {
-
-            return ad.getInline().getImpressions();
-        }
-        else if (ad.getWrapper() != null) {
-
-            return ad.getWrapper().getImpressions();
-        }
-        return null;
+        return VastIndex.findImpressions(vast.getAds().get(index));
     }
 
     public ArrayList<org.prebid.mobile.rendering.video.vast.Tracking> getAllTrackings(AdResponseParserVast parserVast, int index) {
-
-        if (getTrackingEvents(parserVast.vast, index) != null) {
-            trackings.addAll(getTrackingEvents(parserVast.vast, index));
-        }
-
-        /**
-         * Here we use a recursion pattern to traverse the nested VAST nodes "parserVast",
-         */
-        if (parserVast.wrappedVASTXml != null) {
-            getAllTrackings(parserVast.wrappedVASTXml, index);
-        }
-
-        return trackings;
+        return parserVast.getChainIndex(index).getTrackings();
     }
 
     public ArrayList<String> getTrackingByType(VideoAdEvent.Event event) {
-        Iterator<org.prebid.mobile.rendering.video.vast.Tracking> iterator = trackings.iterator();
-
-        ArrayList<String> urls = new ArrayList<>();
-
-        while (iterator.hasNext()) {
-            org.prebid.mobile.rendering.video.vast.Tracking t = iterator.next();
-            // Uncomment for debugging only; Else, too many log entries
-            // PbLog.debug(TAG, "iterating: " + t.event);
-            if (t.getEvent().equals(Tracking.EVENT_MAPPING[event.ordinal()])) {
-                // PbLog.debug(TAG, "iterating match: " + t.event);
-                urls.add(t.getValue());
-            }
-        }
-
-        return urls;
+        return new ArrayList<>(getChainIndex(0).getTrackingUrls(event));
     }
 
     public String getSkipOffset(AdResponseParserVast parserVast, int index) {
@@ -501,48 +397,8 @@ public class AdResponseParserVast extends AdResponseParserBase {
         return null;
     }
 
-    private ArrayList<ClickTracking> findClickTrackings(VAST vast, int index) {
-
-        Ad ad = vast.getAds().get(index);
-
-        if (ad.getInline() != null) {
-
-            for (Creative creative : ad.getInline().getCreatives()) {
-
-                if (creative.getLinear() != null && creative.getLinear().getVideoClicks() != null && creative.getLinear().getVideoClicks().getClickTrackings() != null) {
-
-                    return creative.getLinear().getVideoClicks().getClickTrackings();
-                }
-            }
-        }
-        else if (ad.getWrapper() != null && ad.getWrapper().getCreatives() != null) {
-
-            for (Creative creative : ad.getWrapper().getCreatives()) {
-
-                if (creative.getLinear() != null && creative.getLinear().getVideoClicks() != null && creative.getLinear().getVideoClicks().getClickTrackings() != null) {
-
-                    return creative.getLinear().getVideoClicks().getClickTrackings();
-                }
-            }
-        }
-
-        return null;
-    }
-
     public ArrayList<ClickTracking> getClickTrackings(AdResponseParserVast parserVast, int index) {
-        ArrayList<ClickTracking> clickTrackingsList = findClickTrackings(parserVast.vast, index);
-        if (clickTrackingsList != null) {
-            clickTrackings.addAll(clickTrackingsList);
-        }
-
-        /**
-         * Here we use a recursion pattern to traverse the nested VAST nodes "parserVast",
-         */
-        if (parserVast.wrappedVASTXml != null) {
-            getClickTrackings(parserVast.wrappedVASTXml, index);
-        }
-
-        return clickTrackings;
+        return parserVast.getChainIndex(index).getClickTrackings();
     }
 
     public List<String> getClickTrackingUrl() {
@@ -698,6 +554,39 @@ public class AdResponseParserVast extends AdResponseParserBase {
 
     public void setWrapper(AdResponseParserVast vastXml) {
         wrappedVASTXml = vastXml;
+        chainIndex = null;
+    }
+
+    @NonNull
+    private VastIndex getAdIndex(int index) {
+        if (index >= 0 && index < adIndexes.size()) {
+            return adIndexes.get(index);
+        }
+        return VastIndex.build(null);
+    }
+
+    /**
+     * The wrapper chain is only extended at its end while unwrapping, so the merged index stays valid
+     * until the last response gets a wrapped one.
+     */
+    @NonNull
+    private synchronized VastIndex getChainIndex(int index) {
+        if (chainIndex != null && chainAdIndex == index && chainTail.wrappedVASTXml == null) {
+            return chainIndex;
+        }
+
+        ArrayList<VastIndex> chain = new ArrayList<>();
+        AdResponseParserVast current = this;
+        chain.add(current.getAdIndex(index));
+        while (current.wrappedVASTXml != null) {
+            current = current.wrappedVASTXml;
+            chain.add(current.getAdIndex(index));
+        }
+
+        chainIndex = VastIndex.merge(chain);
+        chainTail = current;
+        chainAdIndex = index;
+        return chainIndex;
     }
 
     /**
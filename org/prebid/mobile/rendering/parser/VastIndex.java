@@ -0,0 +1,244 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.parser;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.rendering.utils.helpers.Utils;
+import org.prebid.mobile.rendering.video.VideoAdEvent;
+import org.prebid.mobile.rendering.video.vast.Ad;
+import org.prebid.mobile.rendering.video.vast.ClickTracking;
+import org.prebid.mobile.rendering.video.vast.Creative;
+import org.prebid.mobile.rendering.video.vast.Impression;
+import org.prebid.mobile.rendering.video.vast.Linear;
+import org.prebid.mobile.rendering.video.vast.MediaFile;
+import org.prebid.mobile.rendering.video.vast.Tracking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Flat view of one VAST Ad (or of a whole wrapper chain, see {@link #merge(List)}) built in a single walk
+ * over the parsed model. Tracking urls are grouped by {@link VideoAdEvent.Event}, so lookups don't iterate
+ * over the VAST tree.
+ */
+class VastIndex {
+
+    private static final VideoAdEvent.Event[] EVENTS = VideoAdEvent.Event.values();
+
+    private final ArrayList<Tracking> trackings = new ArrayList<>();
+    private final ArrayList<Impression> impressions = new ArrayList<>();
+    private final ArrayList<ClickTracking> clickTrackings = new ArrayList<>();
+    private final EnumMap<VideoAdEvent.Event, ArrayList<String>> trackingUrls = new EnumMap<>(VideoAdEvent.Event.class);
+
+    @Nullable
+    private String bestMediaFileUrl;
+
+    private VastIndex() {
+    }
+
+    @NonNull
+    static VastIndex build(@Nullable Ad ad) {
+        VastIndex index = new VastIndex();
+        if (ad == null) {
+            return index;
+        }
+
+        addAll(index.trackings, findTrackingEvents(ad));
+        addAll(index.impressions, findImpressions(ad));
+        addAll(index.clickTrackings, findClickTrackings(ad));
+        index.bestMediaFileUrl = findBestMediaFileUrl(ad);
+        index.groupTrackings();
+        return index;
+    }
+
+    /**
+     * Concatenates indexes of the wrapper chain, starting from the root response.
+     */
+    @NonNull
+    static VastIndex merge(@NonNull List<VastIndex> chain) {
+        VastIndex index = new VastIndex();
+        for (VastIndex part : chain) {
+            index.trackings.addAll(part.trackings);
+            index.impressions.addAll(part.impressions);
+            index.clickTrackings.addAll(part.clickTrackings);
+        }
+        if (!chain.isEmpty()) {
+            index.bestMediaFileUrl = chain.get(chain.size() - 1).bestMediaFileUrl;
+        }
+        index.groupTrackings();
+        return index;
+    }
+
+    @NonNull
+    ArrayList<Tracking> getTrackings() {
+        return trackings;
+    }
+
+    @NonNull
+    ArrayList<Impression> getImpressions() {
+        return impressions;
+    }
+
+    @NonNull
+    ArrayList<ClickTracking> getClickTrackings() {
+        return clickTrackings;
+    }
+
+    @NonNull
+    List<String> getTrackingUrls(@NonNull VideoAdEvent.Event event) {
+        ArrayList<String> urls = trackingUrls.get(event);
+        return urls != null ? urls : Collections.<String>emptyList();
+    }
+
+    @Nullable
+    String getBestMediaFileUrl() {
+        return bestMediaFileUrl;
+    }
+
+    @Nullable
+    static ArrayList<Tracking> findTrackingEvents(@NonNull Ad ad) {
+        if (ad.getInline() != null) {
+            if (ad.getInline().getCreatives() == null) {
+                return null;
+            }
+            for (Creative creative : ad.getInline().getCreatives()) {
+                if (creative.getLinear() != null) {
+                    return creative.getLinear().getTrackingEvents();
+                }
+            }
+        } else if (ad.getWrapper() != null && ad.getWrapper().getCreatives() != null) {
+            for (Creative creative : ad.getWrapper().getCreatives()) {
+                if (creative.getLinear() != null) {
+                    return creative.getLinear().getTrackingEvents();
+                } else if (creative.getNonLinearAds() != null) {
+                    return creative.getNonLinearAds().getTrackingEvents();
+                }
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    static ArrayList<Impression> findImpressions(@NonNull Ad ad) {
+        if (ad.getInline() != null) {
+            return ad.getInline().getImpressions();
+        } else if (ad.getWrapper() != null) {
+            return ad.getWrapper().getImpressions();
+        }
+        return null;
+    }
+
+    @Nullable
+    static ArrayList<ClickTracking> findClickTrackings(@NonNull Ad ad) {
+        ArrayList<Creative> creatives = null;
+        if (ad.getInline() != null) {
+            creatives = ad.getInline().getCreatives();
+        } else if (ad.getWrapper() != null) {
+            creatives = ad.getWrapper().getCreatives();
+        }
+        if (creatives == null) {
+            return null;
+        }
+
+        for (Creative creative : creatives) {
+            Linear linear = creative.getLinear();
+            if (linear != null && linear.getVideoClicks() != null && linear.getVideoClicks().getClickTrackings() != null) {
+                return linear.getVideoClicks().getClickTrackings();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return supported media file with the highest resolution of the InLine ad.
+     */
+    @Nullable
+    private static String findBestMediaFileUrl(@NonNull Ad ad) {
+        if (ad.getInline() == null || ad.getInline().getCreatives() == null) {
+            return null;
+        }
+
+        MediaFile best = null;
+        int bestResolution = 0;
+        for (Creative creative : ad.getInline().getCreatives()) {
+            if (creative.getLinear() == null || creative.getLinear().getMediaFiles() == null) {
+                continue;
+            }
+            for (MediaFile mediaFile : creative.getLinear().getMediaFiles()) {
+                if (!AdResponseParserVast.supportedVideoFormat(mediaFile.getType())) {
+                    continue;
+                }
+                int resolution = parseDimension(mediaFile.getWidth()) * parseDimension(mediaFile.getHeight());
+                if (best == null || resolution > bestResolution) {
+                    best = mediaFile;
+                    bestResolution = resolution;
+                }
+            }
+        }
+        return best != null ? best.getValue() : null;
+    }
+
+    private static int parseDimension(String value) {
+        if (Utils.isBlank(value)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+
+    private void groupTrackings() {
+        for (Tracking tracking : trackings) {
+            VideoAdEvent.Event event = findEvent(tracking.getEvent());
+            if (event == null) {
+                continue;
+            }
+            ArrayList<String> urls = trackingUrls.get(event);
+            if (urls == null) {
+                urls = new ArrayList<>();
+                trackingUrls.put(event, urls);
+            }
+            urls.add(tracking.getValue());
+        }
+    }
+
+    @Nullable
+    private static VideoAdEvent.Event findEvent(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+        String[] mapping = AdResponseParserVast.Tracking.EVENT_MAPPING;
+        for (int i = 0; i < mapping.length && i < EVENTS.length; i++) {
+            if (mapping[i].equals(name)) {
+                return EVENTS[i];
+            }
+        }
+        return null;
+    }
+
+    private static <T> void addAll(List<T> target, @Nullable List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+}
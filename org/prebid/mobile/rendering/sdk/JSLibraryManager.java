@@ -18,24 +18,31 @@ package org.prebid.mobile.rendering.sdk;
 
 import android.content.Context;
 
-import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import org.prebid.mobile.rendering.sdk.scripts.JsScript;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptInjector;
 
 /**
  * Downloader and fetcher for JS scripts needed for the Prebid SDK (omsdk.js, mraid.js).
  * Top level class for working with JS scripts.
+ * <p>
+ * Creatives don't embed the scripts, they reference them by url and the web view clients
+ * serve the shared bytes from {@link JsScriptStore}.
  */
 public class JSLibraryManager {
 
+    private static final long SCRIPT_AWAIT_TIMEOUT_MILLIS = 2000;
+
     private static JSLibraryManager sInstance;
 
-    private String MRAIDscript = "";
-    private String OMSDKscirpt = "";
-    private JsScriptsDownloader scriptsDownloader;
+    private final JsScriptStore scriptStore;
 
     private JSLibraryManager(Context context) {
-        this.scriptsDownloader = JsScriptsDownloader.createDownloader(context);
+        this.scriptStore = JsScriptStore.createStore(context);
+        this.scriptStore.load();
     }
 
     public static JSLibraryManager getInstance(Context context) {
@@ -49,68 +56,48 @@ public class JSLibraryManager {
         return sInstance;
     }
 
+    /**
+     * @return true if the scripts are in memory or saved on disk, so the creative can reference them.
+     * Starts downloading the missing scripts and revalidating the outdated ones.
+     */
     public boolean checkIfScriptsDownloadedAndStartDownloadingIfNot() {
-        if (scriptsDownloader.areScriptsDownloadedAlready()) {
-            if (!OMSDKscirpt.isEmpty() && !MRAIDscript.isEmpty()) {
-                return true;
-            }
-
-            startScriptReadingTask();
-            return false;
-        }
-
-        scriptsDownloader.downloadScripts(
-                (path) -> new JsScriptsDownloader.ScriptDownloadListener(path, scriptsDownloader.storage)
-        );
-        return false;
+        scriptStore.load();
+        scriptStore.revalidate();
+        return scriptStore.areScriptsAvailable();
     }
 
     public void startScriptReadingTask() {
-        if (scriptsDownloader.areScriptsDownloadedAlready()) {
-            if (OMSDKscirpt.isEmpty() || MRAIDscript.isEmpty()) {
-
-                boolean isNotRunning = BackgroundScriptReader.alreadyRunning.compareAndSet(false, true);
-                if (isNotRunning) {
-                    Thread thread = new Thread(new BackgroundScriptReader(scriptsDownloader, this));
-                    thread.start();
-                }
-            }
-        }
+        scriptStore.load();
     }
 
     public String getMRAIDScript() {
-        return MRAIDscript;
+        return getScriptText(JsScriptData.mraidData);
     }
 
     public String getOMSDKScript() {
-        return OMSDKscirpt;
+        return getScriptText(JsScriptData.openMeasurementData);
     }
 
-    private static class BackgroundScriptReader implements Runnable {
-
-        private static final AtomicBoolean alreadyRunning = new AtomicBoolean(false);
-
-        private final JsScriptsDownloader scriptsDownloader;
-        private final JSLibraryManager jsLibraryManager;
-
-        public BackgroundScriptReader(
-                JsScriptsDownloader scriptsDownloader,
-                JSLibraryManager jsLibraryManager
-        ) {
-            this.scriptsDownloader = scriptsDownloader;
-            this.jsLibraryManager = jsLibraryManager;
-        }
-
-        @Override
-        public void run() {
-            String openMeasurementScript = scriptsDownloader.readFile(JsScriptData.openMeasurementData);
-            String mraidScript = scriptsDownloader.readFile(JsScriptData.mraidData);
+    /**
+     * Returns the script, waiting for the saved scripts to be read if needed.
+     * Used by the web view clients, which intercept requests off the main thread.
+     */
+    @Nullable
+    @WorkerThread
+    public JsScript awaitScript(JsScriptData data) {
+        return scriptStore.awaitScript(data, SCRIPT_AWAIT_TIMEOUT_MILLIS);
+    }
 
-            jsLibraryManager.OMSDKscirpt = openMeasurementScript;
-            jsLibraryManager.MRAIDscript = mraidScript;
-            alreadyRunning.set(false);
-        }
+    /**
+     * Adds a reference to the script into the html instead of the script itself.
+     */
+    public String injectScriptReferenceIntoHtml(JsScriptData data, String html) {
+        return JsScriptInjector.injectScriptReferenceIntoHtml(data.getUrl(), html);
+    }
 
+    private String getScriptText(JsScriptData data) {
+        JsScript script = scriptStore.getScript(data);
+        return script != null ? script.getText() : "";
     }
 
 }
@@ -0,0 +1,246 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.sdk;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.sdk.scripts.JsScript;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptRequester;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptRequesterImpl;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptStorage;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptStorageImpl;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Memory-resident store of the JS scripts needed for the Prebid SDK (omsdk.js, mraid.js).
+ * Loads the saved versions once on the disk lane and revalidates them with conditional requests.
+ * If you need to work with JS scripts from the SDK use {@link JSLibraryManager},
+ * because this class contains internal implementation.
+ */
+public class JsScriptStore implements JsScriptRequester.Listener {
+
+    private static final String TAG = JsScriptStore.class.getSimpleName();
+
+    @VisibleForTesting
+    static final long REVALIDATION_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(12);
+    private static final long RETRY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    public static JsScriptStore createStore(Context context) {
+        JsScriptStorageImpl storage = new JsScriptStorageImpl(context);
+        JsScriptRequesterImpl requester = new JsScriptRequesterImpl();
+
+        return new JsScriptStore(storage, requester);
+    }
+
+    private final JsScriptStorage storage;
+    private final JsScriptRequester requester;
+
+    private final Map<String, JsScript> scripts = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastRequestTimes = new ConcurrentHashMap<>();
+    private final Set<String> inProgressKeys = Collections.synchronizedSet(new HashSet<>());
+    private final CountDownLatch loadedLatch = new CountDownLatch(1);
+    private final AtomicBoolean loadingStarted = new AtomicBoolean(false);
+
+    @VisibleForTesting
+    public JsScriptStore(JsScriptStorage storage, JsScriptRequester requester) {
+        this.storage = storage;
+        this.requester = requester;
+    }
+
+    /**
+     * Starts reading the saved scripts on the disk lane. Does nothing if they are already read.
+     */
+    public void load() {
+        if (!loadingStarted.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            TasksManager.getInstance().execute(TaskLane.DISK, this::readScripts);
+        } catch (RejectedExecutionException exception) {
+            loadingStarted.set(false);
+            LogUtil.warning(TAG, "JS scripts loading postponed: " + exception.getMessage());
+        }
+    }
+
+    public boolean isLoaded() {
+        return loadedLatch.getCount() == 0;
+    }
+
+    /**
+     * @return true if every script is in memory or is being read from disk.
+     */
+    public boolean areScriptsAvailable() {
+        for (JsScriptData data : JsScriptData.ALL) {
+            if (scripts.containsKey(data.getPath())) {
+                continue;
+            }
+            if (isLoaded() || !storage.hasScript(data)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    public JsScript getScript(JsScriptData data) {
+        return scripts.get(data.getPath());
+    }
+
+    /**
+     * Returns the script, waiting for the saved scripts to be read if needed.
+     * Must not be called on the main thread.
+     */
+    @Nullable
+    @WorkerThread
+    public JsScript awaitScript(JsScriptData data, long timeoutMillis) {
+        JsScript script = scripts.get(data.getPath());
+        if (script != null) {
+            return script;
+        }
+
+        load();
+        try {
+            loadedLatch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return scripts.get(data.getPath());
+    }
+
+    /**
+     * Requests the missing scripts and revalidates the cached ones that are older than
+     * {@link #REVALIDATION_INTERVAL_MILLIS}. A script is requested at most once per {@link #RETRY_INTERVAL_MILLIS}.
+     * Does nothing until the saved scripts are read.
+     */
+    public void revalidate() {
+        if (!isLoaded()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (JsScriptData data : JsScriptData.ALL) {
+            String path = data.getPath();
+            JsScript cached = scripts.get(path);
+            if (cached != null && now - cached.getValidatedAtMillis() < REVALIDATION_INTERVAL_MILLIS) {
+                continue;
+            }
+            // Missing scripts are throttled too, otherwise every request retries a failing download
+            Long lastRequestTime = lastRequestTimes.get(path);
+            if (lastRequestTime != null && now - lastRequestTime < RETRY_INTERVAL_MILLIS) {
+                continue;
+            }
+            if (!inProgressKeys.add(path)) {
+                continue;
+            }
+
+            lastRequestTimes.put(path, now);
+            TasksManager.getInstance().executeOnMainThread(() -> requester.request(data, cached, this));
+        }
+    }
+
+    @Override
+    public void onScriptDownloaded(JsScriptData data, byte[] bytes, @Nullable String etag, @Nullable String lastModified) {
+        executeOnDiskLane(data, () -> {
+            String path = data.getPath();
+            long now = System.currentTimeMillis();
+            JsScript downloaded = JsScript.create(data, bytes, etag, lastModified, now);
+            JsScript cached = scripts.get(path);
+
+            if (cached != null && cached.getSha256().equals(downloaded.getSha256())) {
+                // The server ignored the validators, but the content is the same
+                downloaded = cached.revalidated(etag, lastModified, now);
+                storage.markScriptValidated(downloaded);
+            } else {
+                if (!storage.writeScript(downloaded)) {
+                    LogUtil.error(TAG, "Can't save script " + path + ", it's kept in memory only");
+                }
+                LogUtil.info(TAG, "JS script updated: " + path);
+            }
+            scripts.put(path, downloaded);
+        });
+    }
+
+    @Override
+    public void onScriptNotModified(JsScriptData data) {
+        executeOnDiskLane(data, () -> {
+            JsScript cached = scripts.get(data.getPath());
+            if (cached == null) {
+                return;
+            }
+
+            JsScript revalidated = cached.revalidated(
+                    cached.getEtag(),
+                    cached.getLastModified(),
+                    System.currentTimeMillis()
+            );
+            storage.markScriptValidated(revalidated);
+            scripts.put(data.getPath(), revalidated);
+        });
+    }
+
+    @Override
+    public void onScriptRequestFailed(JsScriptData data, String error) {
+        LogUtil.error(TAG, "Can't download script " + data.getPath() + " (" + error + ")");
+        inProgressKeys.remove(data.getPath());
+    }
+
+    private void readScripts() {
+        for (JsScriptData data : JsScriptData.ALL) {
+            JsScript script = storage.readScript(data);
+            if (script != null) {
+                scripts.put(data.getPath(), script);
+            }
+        }
+        loadedLatch.countDown();
+        LogUtil.debug(TAG, () -> "JS scripts loaded: " + scripts.keySet());
+
+        revalidate();
+    }
+
+    private void executeOnDiskLane(JsScriptData data, Runnable task) {
+        try {
+            TasksManager.getInstance().execute(TaskLane.DISK, () -> {
+                try {
+                    task.run();
+                } finally {
+                    inProgressKeys.remove(data.getPath());
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            inProgressKeys.remove(data.getPath());
+            LogUtil.warning(TAG, "JS script " + data.getPath() + " dropped: " + exception.getMessage());
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ package org.prebid.mobile.rendering.sdk;
 
 import android.content.Context;
 
+import org.prebid.mobile.rendering.networking.parameters.RequestSectionCache;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoImpl;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
@@ -30,13 +31,18 @@ import org.prebid.mobile.rendering.utils.helpers.Utils;
 /**
  * Managers resolver supply ability to obtain a registered manager and use it
  * respectively.
+ * <p>
+ * Managers are created on first use, so the initialization doesn't pay for the managers
+ * (and their system service lookups) until a request or a creative needs them.
  */
 public class ManagersResolver {
 
-    private DeviceInfoManager deviceManager;
-    private LocationInfoManager locationManager;
-    private ConnectionInfoManager connectionManager;
-    private UserConsentManager userConsentManager;
+    private volatile Context context;
+
+    private volatile DeviceInfoManager deviceManager;
+    private volatile LocationInfoManager locationManager;
+    private volatile ConnectionInfoManager connectionManager;
+    private volatile UserConsentManager userConsentManager;
 
 
     private ManagersResolver() {
@@ -55,34 +61,29 @@ public class ManagersResolver {
 
 
     /**
-     * Prepare managers.
+     * Prepare managers. The managers themselves are created lazily.
      */
     public void prepare(Context context) {
         //Try with application context or activity context
         //MOB-2205 [Research] on how we can eliminate activity context from Native ads.
         Utils.DENSITY = context.getResources().getDisplayMetrics().density;
 
-        if (deviceManager == null) {
-            deviceManager = new DeviceInfoImpl(context);
-        }
-
-        if (locationManager == null) {
-            locationManager = new LastKnownLocationInfoManager(context);
-        }
-
-        if (connectionManager == null) {
-            connectionManager = new NetworkConnectionInfoManager(context);
-        }
+        this.context = context;
 
-        if (userConsentManager == null) {
-            userConsentManager = new UserConsentManager(context);
-        }
+        RequestSectionCache.getInstance().register(context);
     }
 
     /**
      * Obtains the device manager.
      */
     public DeviceInfoManager getDeviceManager() {
+        if (deviceManager == null && context != null) {
+            synchronized (this) {
+                if (deviceManager == null) {
+                    deviceManager = new DeviceInfoImpl(context);
+                }
+            }
+        }
         return deviceManager;
     }
 
@@ -90,6 +91,13 @@ public class ManagersResolver {
      * Obtains the location manager.
      */
     public LocationInfoManager getLocationManager() {
+        if (locationManager == null && context != null) {
+            synchronized (this) {
+                if (locationManager == null) {
+                    locationManager = new LastKnownLocationInfoManager(context);
+                }
+            }
+        }
         return locationManager;
     }
 
@@ -97,6 +105,13 @@ public class ManagersResolver {
      * Obtains the network manager.
      */
     public ConnectionInfoManager getNetworkManager() {
+        if (connectionManager == null && context != null) {
+            synchronized (this) {
+                if (connectionManager == null) {
+                    connectionManager = new NetworkConnectionInfoManager(context);
+                }
+            }
+        }
         return connectionManager;
     }
 
@@ -104,7 +119,14 @@ public class ManagersResolver {
      * Obtains the UserConsent manager.
      */
     public UserConsentManager getUserConsentManager() {
+        if (userConsentManager == null && context != null) {
+            synchronized (this) {
+                if (userConsentManager == null) {
+                    userConsentManager = new UserConsentManager(context);
+                }
+            }
+        }
         return userConsentManager;
     }
 
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import android.app.Application;
 import android.content.Context;
 import android.util.Log;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
@@ -12,19 +13,34 @@ import org.prebid.mobile.LogUtil.PrebidLogger;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.api.rendering.PrebidRenderer;
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
+import org.prebid.mobile.rendering.sdk.startup.StartupGraph;
+import org.prebid.mobile.rendering.sdk.startup.StartupTask;
+import org.prebid.mobile.rendering.sdk.startup.StartupTrace;
 import org.prebid.mobile.rendering.session.manager.OmAdSessionManager;
 import org.prebid.mobile.rendering.utils.helpers.AdvertisingIdManager;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 public class SdkInitializer {
 
     private static final String TAG = SdkInitializer.class.getSimpleName();
 
+    private static final long BACKGROUND_TASKS_TIMEOUT_SECONDS = 10;
+
+    static final String TASK_APP_INFO = "appInfo";
+    static final String TASK_OM_SDK = "omSdk";
+    static final String TASK_JS_LIBRARIES = "jsLibraries";
+    static final String TASK_USER_CONSENT = "userConsent";
+    static final String TASK_USER_AGENT = "userAgent";
+    static final String TASK_ADVERTISING_ID = "advertisingId";
+    static final String TASK_STATUS = "status";
+    static final String TASK_DEVICE_MANAGERS = "deviceManagers";
+
+    @Nullable
+    private static volatile StartupTrace lastStartupTrace;
+
     public static void init(
             @Nullable Context context,
             @Nullable SdkInitializationListener listener
@@ -56,47 +72,62 @@ public class SdkInitializer {
         try {
             PrebidMobile.registerPluginRenderer(new PrebidRenderer());
 
-            AppInfoManager.init(applicationContext);
-
-            OmAdSessionManager.activateOmSdk(applicationContext);
-
+            // Only keeps the context, managers are created on first use
             ManagersResolver.getInstance().prepare(applicationContext);
 
-            JSLibraryManager.getInstance(applicationContext).checkIfScriptsDownloadedAndStartDownloadingIfNot();
+            runStartupGraph(applicationContext, initializationNotifier);
         } catch (Throwable throwable) {
             initializationNotifier.initializationFailed("Exception during initialization: " + throwable.getMessage() + "\n" + Log.getStackTraceString(throwable));
-            return;
         }
+    }
 
-        new Thread(() -> runBackgroundTasks(
-                initializationNotifier,
-                Executors.newFixedThreadPool(2))
-        ).start();
+    /**
+     * @return timeline of the last initialization, null if the SDK wasn't initialized yet.
+     */
+    @Nullable
+    public static StartupTrace getStartupTrace() {
+        return lastStartupTrace;
     }
 
+    /**
+     * Runs the initialization tasks in dependency order. Only the tasks which need the main thread run on it,
+     * the rest run on the SDK lanes. Lazy tasks run after the SDK is initialized.
+     */
     @VisibleForTesting
-    public static void runBackgroundTasks(
-            InitializationNotifier initializationNotifier,
-            ExecutorService executor
+    public static void runStartupGraph(
+            @NonNull Context applicationContext,
+            @NonNull InitializationNotifier initializationNotifier
     ) {
-        try {
-            Future<String> statusRequesterResult = executor.submit(new StatusRequester());
-            executor.execute(new UserConsentFetcherTask());
-            executor.execute(new UserAgentFetcherTask());
-            executor.execute(AdvertisingIdManager::initAdvertisingId);
-            executor.shutdown();
-
-            boolean terminatedByTimeout = !executor.awaitTermination(10, TimeUnit.SECONDS);
-            if (terminatedByTimeout) {
-                initializationNotifier.initializationFailed("Terminated by timeout.");
-                return;
+        String[] statusRequesterError = new String[1];
+
+        StartupGraph graph = new StartupGraph()
+                // ProviderInstaller must be called on the main thread
+                .add(StartupTask.create(TASK_APP_INFO, null, () -> AppInfoManager.init(applicationContext)).required())
+                // OM SDK must be activated on the main thread
+                .add(StartupTask.create(TASK_OM_SDK, null, () -> OmAdSessionManager.activateOmSdk(applicationContext)).required())
+                .add(StartupTask.create(TASK_JS_LIBRARIES, TaskLane.DISK, () -> JSLibraryManager.getInstance(applicationContext).checkIfScriptsDownloadedAndStartDownloadingIfNot()).required())
+                .add(StartupTask.create(TASK_USER_CONSENT, TaskLane.DISK, new UserConsentFetcherTask()))
+                .add(StartupTask.create(TASK_USER_AGENT, TaskLane.DISK, new UserAgentFetcherTask()))
+                .add(StartupTask.create(TASK_ADVERTISING_ID, TaskLane.NETWORK, AdvertisingIdManager::initAdvertisingId))
+                // The status request is sent with the app user agent
+                .add(StartupTask.createAsync(TASK_STATUS, TaskLane.NETWORK, completion -> StatusRequester.makeRequest(error -> {
+                    statusRequesterError[0] = error;
+                    completion.complete();
+                })).dependsOn(TASK_USER_AGENT, TASK_APP_INFO).required())
+                .add(StartupTask.create(TASK_DEVICE_MANAGERS, TaskLane.DISK, new DeviceManagersWarmUpTask()).lazy());
+
+        lastStartupTrace = graph.getTrace();
+        graph.start(TimeUnit.SECONDS.toMillis(BACKGROUND_TASKS_TIMEOUT_SECONDS), new StartupGraph.Listener() {
+            @Override
+            public void onCompleted(@NonNull StartupTrace trace) {
+                initializationNotifier.initializationCompleted(statusRequesterError[0]);
             }
 
-            String statusRequesterError = statusRequesterResult.get();
-            initializationNotifier.initializationCompleted(statusRequesterError);
-        } catch (Exception exception) {
-            initializationNotifier.initializationFailed("Exception during initialization: " + Log.getStackTraceString(exception));
-        }
+            @Override
+            public void onFailed(@NonNull String error, @NonNull StartupTrace trace) {
+                initializationNotifier.initializationFailed(error);
+            }
+        });
     }
 
     @Nullable
@@ -120,4 +151,19 @@ public class SdkInitializer {
 
     }
 
+    /**
+     * Creates the device managers before the first request needs them.
+     */
+    protected static class DeviceManagersWarmUpTask implements Runnable {
+
+        @Override
+        public void run() {
+            ManagersResolver resolver = ManagersResolver.getInstance();
+            resolver.getDeviceManager();
+            resolver.getNetworkManager();
+            resolver.getLocationManager();
+        }
+
+    }
+
 }
@@ -2,7 +2,9 @@ package org.prebid.mobile.rendering.sdk;
 
 import android.util.Log;
 
-import org.jetbrains.annotations.Nullable;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
@@ -10,20 +12,55 @@ import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.tracking.ServerConnection;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class StatusRequester implements Callable<String> {
 
+    private static final String TAG = StatusRequester.class.getSimpleName();
+
+    public interface Callback {
+
+        /**
+         * @param statusRequesterError null if there is no error.
+         */
+        void onResult(@Nullable String statusRequesterError);
+
+    }
+
     @Override
     public String call() throws Exception {
         return makeRequest();
     }
 
     /**
+     * Blocks the current thread until the response is received, must not be called on the main thread.
+     *
      * @return status request error - must be null if there is no error.
      */
     @Nullable
     public static String makeRequest() {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> result = new AtomicReference<>();
+        makeRequest(error -> {
+            result.set(error);
+            latch.countDown();
+        });
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            LogUtil.debug(TAG, "InterruptedException: " + Log.getStackTraceString(e));
+            Thread.currentThread().interrupt();
+        }
+        return result.get();
+    }
+
+    /**
+     * Sends the status request, the callback receives the result on the main thread
+     * or immediately if the status endpoint is unknown.
+     */
+    public static void makeRequest(@NonNull Callback callback) {
         String statusUrl;
         String customStatusEndpointUrl = PrebidMobile.getCustomStatusEndpoint();
         if (customStatusEndpointUrl != null) {
@@ -34,36 +71,23 @@ public class StatusRequester implements Callable<String> {
                 statusUrl = url.replace("/openrtb2/auction", "/status");
             } else {
                 LogUtil.info("Prebid SDK can't build the /status endpoint. Please, provide the custom /status endpoint using PrebidMobile.setCustomStatusEndpoint().");
-                return null;
+                callback.onResult(null);
+                return;
             }
         }
 
-        ResultHolder resultHolder = new ResultHolder();
-
-        try {
-            ServerConnection.fireStatusRequest(
-                    statusUrl,
-                    getResponseHandler(resultHolder)
-            );
-
-            while (resultHolder.isResultNotAvailableYet()) {
-                Thread.sleep(25);
-            }
-        } catch (InterruptedException e) {
-            LogUtil.debug("StatusRequester", "InterruptedException: " + Log.getStackTraceString(e));
-        }
-        return resultHolder.getStatusRequesterError();
+        ServerConnection.fireStatusRequest(statusUrl, getResponseHandler(callback));
     }
 
-    private static ResponseHandler getResponseHandler(ResultHolder resultHolder) {
+    private static ResponseHandler getResponseHandler(Callback callback) {
         return new ResponseHandler() {
             @Override
             public void onResponse(BaseNetworkTask.GetUrlResult response) {
                 if (response.isOkStatusCode()) {
-                    resultHolder.resultReceived(null);
+                    callback.onResult(null);
                     return;
                 }
-                resultHolder.resultReceived("Server status is not ok!");
+                callback.onResult("Server status is not ok!");
             }
 
             @Override
@@ -71,7 +95,7 @@ public class StatusRequester implements Callable<String> {
                 String msg,
                 long responseTime
             ) {
-                resultHolder.resultReceived("Prebid Server is not responding: " + msg);
+                callback.onResult("Prebid Server is not responding: " + msg);
             }
 
             @Override
@@ -79,31 +103,9 @@ public class StatusRequester implements Callable<String> {
                 Exception exception,
                 long responseTime
             ) {
-                resultHolder.resultReceived("Prebid Server is not responding: " + exception.getMessage());
+                callback.onResult("Prebid Server is not responding: " + exception.getMessage());
             }
         };
     }
 
-    private static class ResultHolder {
-
-        private String statusRequesterError;
-        private final AtomicBoolean resultReceived = new AtomicBoolean(false);
-
-        public ResultHolder() {
-        }
-
-        public Boolean isResultNotAvailableYet() {
-            return !resultReceived.get();
-        }
-
-        public void resultReceived(String statusRequesterError) {
-            this.resultReceived.set(true);
-            this.statusRequesterError = statusRequesterError;
-        }
-
-        public String getStatusRequesterError() {
-            return statusRequesterError;
-        }
-    }
-
 }
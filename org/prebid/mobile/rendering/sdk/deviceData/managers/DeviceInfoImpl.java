@@ -43,7 +43,9 @@ import androidx.annotation.VisibleForTesting;
 import com.gamoshi.app.R;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
 
+import org.prebid.mobile.rendering.networking.transport.HttpTransport;
 import org.prebid.mobile.rendering.sdk.BaseManager;
 import org.prebid.mobile.rendering.sdk.calendar.CalendarEventWrapper;
 import org.prebid.mobile.rendering.sdk.calendar.CalendarFactory;
@@ -219,8 +221,15 @@ public class DeviceInfoImpl extends BaseManager implements DeviceInfoManager {
 
         URL wrappedUrl = new URL(url);
         /* Open a connection to that URL. */
-        URLConnection urlConnection = wrappedUrl.openConnection();
-        writeToFile(outputStream, urlConnection.getInputStream());
+        HttpTransport transport = PrebidMobile.getHttpTransport();
+        URLConnection urlConnection = transport.openConnection(wrappedUrl);
+        boolean downloaded = false;
+        try {
+            writeToFile(outputStream, urlConnection.getInputStream());
+            downloaded = true;
+        } finally {
+            transport.release(urlConnection, downloaded);
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@ import android.util.Log;
 import androidx.annotation.Nullable;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.networking.parameters.RequestSectionCache;
 import org.prebid.mobile.rendering.sdk.BaseManager;
 
 /**
@@ -135,10 +136,26 @@ public class UserConsentManager extends BaseManager {
                 case GPP_SID_KEY:
                     realGppSid = preferences.getString(GPP_SID_KEY, null);
                     break;
+                default:
+                    // Not a consent key, the app shares the default preferences with the SDK
+                    return;
             }
         } catch (Exception e) {
             LogUtil.error(String.format("Failed to update %s %s", key, Log.getStackTraceString(e)));
         }
+        onConsentChanged();
+    }
+
+    /**
+     * Consents are sent in the regs and user sections. The device section depends on them
+     * because of the advertising id.
+     */
+    private void onConsentChanged() {
+        RequestSectionCache.getInstance().invalidate(
+                RequestSectionCache.Section.REGS,
+                RequestSectionCache.Section.USER_CONSENT,
+                RequestSectionCache.Section.DEVICE
+        );
     }
 
 
@@ -149,6 +166,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setSubjectToCoppa(@Nullable Boolean value) {
         prebidCoppaSubject = value;
+        onConsentChanged();
     }
 
     @Nullable
@@ -172,6 +190,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setSubjectToGdpr(@Nullable Boolean value) {
         prebidGdpr2Subject = value;
+        onConsentChanged();
     }
 
     @Nullable
@@ -185,6 +204,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setGdprConsent(@Nullable String consent) {
         prebidGdpr2Consent = consent;
+        onConsentChanged();
     }
 
     @Nullable
@@ -221,6 +241,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setGdprPurposeConsents(@Nullable String consent) {
         prebidGdpr2PurposeConsents = consent;
+        onConsentChanged();
     }
 
     @Nullable
@@ -234,6 +255,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setUsPrivacyString(@Nullable String value) {
         prebidUsPrivacyString = value;
+        onConsentChanged();
     }
 
     @Nullable
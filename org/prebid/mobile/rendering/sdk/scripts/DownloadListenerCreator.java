@@ -1,9 +0,0 @@
-package org.prebid.mobile.rendering.sdk.scripts;
-
-import org.prebid.mobile.rendering.loading.FileDownloadListener;
-
-public interface DownloadListenerCreator {
-
-    FileDownloadListener create(String filePath);
-
-}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Immutable version of a JS library: its bytes, content hash and the validators
+ * (ETag, Last-Modified) used to revalidate it with the server.
+ * The bytes are shared by every creative which uses the library and must not be modified.
+ */
+public class JsScript {
+
+    private final JsScriptData data;
+    private final byte[] bytes;
+    private final String sha256;
+    @Nullable
+    private final String etag;
+    @Nullable
+    private final String lastModified;
+    private final long validatedAtMillis;
+
+    private volatile String text;
+
+    public JsScript(
+            @NonNull JsScriptData data,
+            @NonNull byte[] bytes,
+            @NonNull String sha256,
+            @Nullable String etag,
+            @Nullable String lastModified,
+            long validatedAtMillis
+    ) {
+        this.data = data;
+        this.bytes = bytes;
+        this.sha256 = sha256;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.validatedAtMillis = validatedAtMillis;
+    }
+
+    public static JsScript create(
+            @NonNull JsScriptData data,
+            @NonNull byte[] bytes,
+            @Nullable String etag,
+            @Nullable String lastModified,
+            long validatedAtMillis
+    ) {
+        return new JsScript(data, bytes, sha256(bytes), etag, lastModified, validatedAtMillis);
+    }
+
+    /**
+     * Returns a copy of this version which was confirmed by the server at the given time.
+     */
+    public JsScript revalidated(@Nullable String etag, @Nullable String lastModified, long validatedAtMillis) {
+        JsScript script = new JsScript(data, bytes, sha256, etag, lastModified, validatedAtMillis);
+        script.text = text;
+        return script;
+    }
+
+    public JsScriptData getData() {
+        return data;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    @Nullable
+    public String getEtag() {
+        return etag;
+    }
+
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public long getValidatedAtMillis() {
+        return validatedAtMillis;
+    }
+
+    public int getLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Returns a new stream over the shared bytes, e.g. for a web view resource response.
+     */
+    public InputStream openStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Returns the library as a string. It's decoded once per version.
+     */
+    public String getText() {
+        String result = text;
+        if (result == null) {
+            result = new String(bytes, StandardCharsets.UTF_8);
+            text = result;
+        }
+        return result;
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte value : digest) {
+                builder.append(Character.forDigit((value >> 4) & 0xF, 16));
+                builder.append(Character.forDigit(value & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+}
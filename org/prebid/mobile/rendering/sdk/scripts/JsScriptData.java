@@ -1,5 +1,11 @@
 package org.prebid.mobile.rendering.sdk.scripts;
 
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public class JsScriptData {
 
     public static final JsScriptData openMeasurementData = new JsScriptData(
@@ -11,6 +17,11 @@ public class JsScriptData {
             "https://cdn.jsdelivr.net/gh/prebid/prebid-mobile-android@master/scripts/js/mraid.js"
     );
 
+    public static final List<JsScriptData> ALL = Collections.unmodifiableList(Arrays.asList(
+            openMeasurementData,
+            mraidData
+    ));
+
     private String path;
     private String url;
 
@@ -27,4 +38,20 @@ public class JsScriptData {
         return url;
     }
 
+    /**
+     * Returns the library which is referenced from creatives by the given url.
+     */
+    @Nullable
+    public static JsScriptData forUrl(@Nullable String url) {
+        if (url == null) {
+            return null;
+        }
+        for (JsScriptData data : ALL) {
+            if (data.url.equals(url)) {
+                return data;
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,123 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.errors.ServerWrongStatusCode;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+
+/**
+ * Downloads a JS library into memory. Sends the validators of the cached version,
+ * so an unchanged library costs a 304 response instead of the whole file.
+ */
+class JsScriptDownloadTask extends BaseNetworkTask {
+
+    private static final String TAG = JsScriptDownloadTask.class.getSimpleName();
+
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+
+    private static final int MAX_SCRIPT_SIZE = 5 * 1024 * 1024;
+
+    private final JsScriptData data;
+    @Nullable
+    private final JsScript cached;
+    private final JsScriptRequester.Listener listener;
+
+    private boolean notModified;
+    private byte[] bytes;
+    private String etag;
+    private String lastModified;
+
+    JsScriptDownloadTask(
+            @NonNull JsScriptData data,
+            @Nullable JsScript cached,
+            @NonNull JsScriptRequester.Listener listener
+    ) {
+        super(null);
+        this.data = data;
+        this.cached = cached;
+        this.listener = listener;
+    }
+
+    @Override
+    protected void onPrepareConnection(@NonNull URLConnection connection) {
+        if (cached == null) {
+            return;
+        }
+        if (cached.getEtag() != null) {
+            connection.setRequestProperty(IF_NONE_MATCH_HEADER, cached.getEtag());
+        }
+        if (cached.getLastModified() != null) {
+            connection.setRequestProperty(IF_MODIFIED_SINCE_HEADER, cached.getLastModified());
+        }
+    }
+
+    @Override
+    public GetUrlResult customParser(int code, URLConnection urlConnection) {
+        GetUrlResult result = new GetUrlResult();
+        if (code == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            notModified = true;
+            return result;
+        }
+        if (code != HttpURLConnection.HTTP_OK) {
+            result.setException(new ServerWrongStatusCode(code));
+            return result;
+        }
+        try {
+            bytes = readBytes(urlConnection);
+            etag = urlConnection.getHeaderField(ETAG_HEADER);
+            lastModified = urlConnection.getHeaderField(LAST_MODIFIED_HEADER);
+        } catch (IOException e) {
+            result.setException(new Exception("Script download failed: " + e.getMessage()));
+        }
+        return result;
+    }
+
+    @Override
+    protected void onPostExecute(GetUrlResult urlResult) {
+        if (urlResult == null || urlResult.getException() != null) {
+            String error = urlResult == null ? "Empty result" : String.valueOf(urlResult.getException().getMessage());
+            LogUtil.debug(TAG, () -> "Script request failed: " + data.getUrl() + " " + error);
+            listener.onScriptRequestFailed(data, error);
+        } else if (notModified) {
+            listener.onScriptNotModified(data);
+        } else {
+            listener.onScriptDownloaded(data, bytes, etag, lastModified);
+        }
+        destroy();
+    }
+
+    private static byte[] readBytes(URLConnection connection) throws IOException {
+        int contentLength = connection.getContentLength();
+        if (contentLength > MAX_SCRIPT_SIZE) {
+            throw new IOException("Script is larger than " + MAX_SCRIPT_SIZE);
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(contentLength > 0 ? contentLength : 16384);
+        try (InputStream inputStream = connection.getInputStream()) {
+            byte[] buffer = new byte[16384];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+                if (outputStream.size() > MAX_SCRIPT_SIZE) {
+                    throw new IOException("Script is larger than " + MAX_SCRIPT_SIZE);
+                }
+            }
+        }
+        if (outputStream.size() == 0) {
+            throw new IOException("Script is empty");
+        }
+        return outputStream.toByteArray();
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Injects a reference to a JS library into the creative html as early as possible,
+ * so the library is executed before the creative's own scripts.
+ */
+public class JsScriptInjector {
+
+    private JsScriptInjector() {
+    }
+
+    public static String injectScriptReferenceIntoHtml(@NonNull String scriptUrl, @NonNull String html) {
+        String tag = "<script type=\"text/javascript\" src=\"" + scriptUrl + "\"></script>";
+        int position = findInjectionPosition(html);
+
+        return new StringBuilder(html.length() + tag.length())
+                .append(html, 0, position)
+                .append(tag)
+                .append(html, position, html.length())
+                .toString();
+    }
+
+    private static int findInjectionPosition(String html) {
+        int position = findTagEnd(html, "<head");
+        if (position == -1) {
+            position = findTagEnd(html, "<html");
+        }
+        if (position == -1) {
+            position = findTagEnd(html, "<!doctype");
+        }
+        return position == -1 ? 0 : position;
+    }
+
+    /**
+     * @return the index after the first opening tag with the given name or -1 if there is none.
+     */
+    private static int findTagEnd(String html, String tagStart) {
+        int length = tagStart.length();
+        for (int i = 0; i + length < html.length(); i++) {
+            if (!html.regionMatches(true, i, tagStart, 0, length)) {
+                continue;
+            }
+            char next = html.charAt(i + length);
+            if (next != '>' && !Character.isWhitespace(next)) {
+                continue;
+            }
+            int end = html.indexOf('>', i + length);
+            return end == -1 ? -1 : end + 1;
+        }
+        return -1;
+    }
+
+}
@@ -1,13 +1,28 @@
 package org.prebid.mobile.rendering.sdk.scripts;
 
-import java.io.File;
+import androidx.annotation.Nullable;
 
 public interface JsScriptRequester {
 
-    public void download(
-            File saveToFile,
+    /**
+     * Requests the library. If the cached version is passed, the request is conditional
+     * and the listener is notified with {@link Listener#onScriptNotModified(JsScriptData)}
+     * when the cached version is still up to date.
+     */
+    public void request(
             JsScriptData data,
-            DownloadListenerCreator downloadListener
+            @Nullable JsScript cached,
+            Listener listener
     );
 
+    public interface Listener {
+
+        void onScriptDownloaded(JsScriptData data, byte[] bytes, @Nullable String etag, @Nullable String lastModified);
+
+        void onScriptNotModified(JsScriptData data);
+
+        void onScriptRequestFailed(JsScriptData data, String error);
+
+    }
+
 }
@@ -1,17 +1,21 @@
 package org.prebid.mobile.rendering.sdk.scripts;
 
-import java.io.File;
+import androidx.annotation.Nullable;
 
 public interface JsScriptStorage {
 
-    public File getInnerFile(String path);
+    public boolean hasScript(JsScriptData data);
 
-    public boolean isFileAlreadyDownloaded(File file, String preferencesKey);
+    /**
+     * Reads the saved version of the library. Returns null if there is none or it's corrupted.
+     */
+    @Nullable
+    public JsScript readScript(JsScriptData data);
 
-    public void createParentFolders(File file);
+    public boolean writeScript(JsScript script);
 
-    public void markFileAsDownloadedCompletely(String path);
+    public void markScriptValidated(JsScript script);
 
-    public void fileDownloadingFailed(String path);
+    public void removeScript(JsScriptData data);
 
 }
@@ -4,14 +4,31 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
+import androidx.annotation.Nullable;
+
 import org.prebid.mobile.LogUtil;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
+/**
+ * Keeps each library file in the inner folder. Its content hash and validators are kept in
+ * the preferences; the key of the library path itself marks the file as completely written.
+ */
 public class JsScriptStorageImpl implements JsScriptStorage {
 
     private final static String TAG = "JsScriptsStorage";
 
+    private static final String SHA256_SUFFIX = ".sha256";
+    private static final String ETAG_SUFFIX = ".etag";
+    private static final String LAST_MODIFIED_SUFFIX = ".lastModified";
+    private static final String VALIDATED_AT_SUFFIX = ".validatedAt";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private final SharedPreferences preferences;
     private final File innerFolder;
 
@@ -20,15 +37,107 @@ public class JsScriptStorageImpl implements JsScriptStorage {
         innerFolder = context.getFilesDir();
     }
 
-    public File getInnerFile(String path) {
-        return new File(innerFolder, path);
+    @Override
+    public boolean hasScript(JsScriptData data) {
+        return getInnerFile(data.getPath()).exists() && preferences.contains(data.getPath());
+    }
+
+    @Nullable
+    @Override
+    public JsScript readScript(JsScriptData data) {
+        if (!hasScript(data)) {
+            return null;
+        }
+
+        String path = data.getPath();
+        byte[] bytes;
+        try {
+            bytes = readFile(getInnerFile(path));
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Can't read file: " + path);
+            removeScript(data);
+            return null;
+        }
+
+        String sha256 = JsScript.sha256(bytes);
+        String savedSha256 = preferences.getString(path + SHA256_SUFFIX, null);
+        if (savedSha256 != null && !savedSha256.equals(sha256)) {
+            LogUtil.error(TAG, "Corrupted file removed: " + path);
+            removeScript(data);
+            return null;
+        }
+
+        // Files saved by older versions have no validators and are revalidated right away
+        return new JsScript(
+                data,
+                bytes,
+                sha256,
+                preferences.getString(path + ETAG_SUFFIX, null),
+                preferences.getString(path + LAST_MODIFIED_SUFFIX, null),
+                preferences.getLong(path + VALIDATED_AT_SUFFIX, 0)
+        );
+    }
+
+    @Override
+    public boolean writeScript(JsScript script) {
+        String path = script.getData().getPath();
+        File file = getInnerFile(path);
+        File tempFile = getInnerFile(path + TEMP_FILE_SUFFIX);
+        createParentFolders(file);
+
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+            byte[] buffer = new byte[16384];
+            try (InputStream inputStream = script.openStream()) {
+                int count;
+                while ((count = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, count);
+                }
+            }
+            outputStream.getFD().sync();
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Can't write file: " + path + " (" + exception.getMessage() + ")");
+            removeFile(tempFile);
+            return false;
+        }
+
+        // The marker goes away first, so a crash in between never pairs the new file with old metadata
+        preferences.edit().remove(path).commit();
+        if (!tempFile.renameTo(file)) {
+            LogUtil.error(TAG, "Can't replace file: " + path);
+            removeFile(tempFile);
+            return false;
+        }
+
+        putMetadata(preferences.edit(), script)
+                .putString(path + SHA256_SUFFIX, script.getSha256())
+                .putBoolean(path, true)
+                .apply();
+        return true;
+    }
+
+    @Override
+    public void markScriptValidated(JsScript script) {
+        putMetadata(preferences.edit(), script).apply();
     }
 
-    public boolean isFileAlreadyDownloaded(File file, String preferencesKey) {
-        return file.exists() && preferences.contains(preferencesKey);
+    @Override
+    public void removeScript(JsScriptData data) {
+        String path = data.getPath();
+        preferences.edit()
+                   .remove(path)
+                   .remove(path + SHA256_SUFFIX)
+                   .remove(path + ETAG_SUFFIX)
+                   .remove(path + LAST_MODIFIED_SUFFIX)
+                   .remove(path + VALIDATED_AT_SUFFIX)
+                   .apply();
+        removeFile(getInnerFile(path));
     }
 
-    public void createParentFolders(File file) {
+    private File getInnerFile(String path) {
+        return new File(innerFolder, path);
+    }
+
+    private void createParentFolders(File file) {
         File parentFile = file.getParentFile();
         if (parentFile != null && !parentFile.exists()) {
             boolean foldersCreated = parentFile.mkdirs();
@@ -38,23 +147,41 @@ public class JsScriptStorageImpl implements JsScriptStorage {
         }
     }
 
-    public void markFileAsDownloadedCompletely(String path) {
-        preferences.edit().putBoolean(path, true).apply();
+    private static SharedPreferences.Editor putMetadata(SharedPreferences.Editor editor, JsScript script) {
+        String path = script.getData().getPath();
+        putOrRemove(editor, path + ETAG_SUFFIX, script.getEtag());
+        putOrRemove(editor, path + LAST_MODIFIED_SUFFIX, script.getLastModified());
+        return editor.putLong(path + VALIDATED_AT_SUFFIX, script.getValidatedAtMillis());
     }
 
-    public void fileDownloadingFailed(String path) {
-        preferences.edit().remove(path).apply();
-        removeFile(new File(innerFolder, path));
+    private static void putOrRemove(SharedPreferences.Editor editor, String key, @Nullable String value) {
+        if (value != null) {
+            editor.putString(key, value);
+        } else {
+            editor.remove(key);
+        }
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        long length = file.length();
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File is too large");
+        }
+        byte[] bytes = new byte[(int) length];
+        try (DataInputStream inputStream = new DataInputStream(new FileInputStream(file))) {
+            inputStream.readFully(bytes);
+        }
+        return bytes;
     }
 
     private void removeFile(File file) {
         try {
             boolean isFileRemoved = file.delete();
             if (isFileRemoved) {
-                LogUtil.info(TAG, "Not fully downloaded file removed.");
+                LogUtil.info(TAG, "Script file removed.");
             }
         } catch (Throwable ignore) {
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,366 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.sdk.startup;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs {@link StartupTask}s in dependency order. A task is dispatched to its lane as soon as its last
+ * dependency completes, nothing waits or polls for a result. Every finished task is recorded
+ * in the {@link StartupTrace}, which is logged once all tasks finished.
+ */
+public class StartupGraph {
+
+    private static final String TAG = StartupGraph.class.getSimpleName();
+
+    private static final String MAIN_THREAD = "main";
+
+    public interface Listener {
+
+        /**
+         * Called once all eager tasks completed, lazy tasks may still be running.
+         */
+        void onCompleted(@NonNull StartupTrace trace);
+
+        void onFailed(@NonNull String error, @NonNull StartupTrace trace);
+
+    }
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Node> nodes = new LinkedHashMap<>();
+    private final ArrayList<Node> deferred = new ArrayList<>();
+    private final StartupTrace trace = new StartupTrace();
+
+    private Listener listener;
+    private ScheduledFuture<?> timeout;
+    private long startTime;
+    private int remainingEager;
+    private int finishedCount;
+    private boolean started;
+    private boolean eagerCompleted;
+    private boolean finished;
+    private boolean failed;
+
+    public StartupGraph add(@NonNull StartupTask task) {
+        synchronized (lock) {
+            if (started) {
+                throw new IllegalStateException("Startup graph is already started");
+            }
+            if (nodes.containsKey(task.getName())) {
+                throw new IllegalArgumentException("Duplicate startup task: " + task.getName());
+            }
+            nodes.put(task.getName(), new Node(task));
+        }
+        return this;
+    }
+
+    /**
+     * Starts all tasks without dependencies.
+     *
+     * @param timeoutMillis the run fails if eager tasks don't complete in time, 0 for no timeout.
+     * @throws IllegalStateException if a dependency is unknown or dependencies form a cycle.
+     */
+    public void start(
+            long timeoutMillis,
+            @NonNull Listener listener
+    ) {
+        List<Node> ready = new ArrayList<>();
+        boolean completed;
+        synchronized (lock) {
+            if (started) {
+                throw new IllegalStateException("Startup graph is already started");
+            }
+            link();
+            started = true;
+            this.listener = listener;
+            startTime = SystemClock.elapsedRealtime();
+
+            for (Node node : nodes.values()) {
+                if (node.eager) {
+                    remainingEager++;
+                }
+            }
+            for (Node node : nodes.values()) {
+                if (node.pendingDependencies == 0) {
+                    onReady(node, ready);
+                }
+            }
+
+            completed = remainingEager == 0;
+            if (completed) {
+                onEagerCompleted(ready);
+            } else if (timeoutMillis > 0) {
+                timeout = TasksManager.getInstance().schedule(
+                        () -> notifyFailed("Terminated by timeout."),
+                        timeoutMillis,
+                        TimeUnit.MILLISECONDS
+                );
+            }
+        }
+
+        if (completed) {
+            notifyCompleted();
+        }
+        dispatch(ready);
+    }
+
+    @NonNull
+    public StartupTrace getTrace() {
+        return trace;
+    }
+
+    private void link() {
+        for (Node node : nodes.values()) {
+            for (String dependencyName : node.task.getDependencies()) {
+                Node dependency = nodes.get(dependencyName);
+                if (dependency == null) {
+                    throw new IllegalStateException("Startup task " + node.task.getName() + " depends on unknown task " + dependencyName);
+                }
+                dependency.dependents.add(node);
+                node.dependencies.add(dependency);
+                node.pendingDependencies++;
+            }
+        }
+
+        // Kahn's algorithm, every task is visited only if dependencies don't form a cycle
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            node.unvisitedDependencies = node.pendingDependencies;
+            if (node.unvisitedDependencies == 0) {
+                queue.add(node);
+            }
+        }
+        int visited = 0;
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            visited++;
+            for (Node dependent : node.dependents) {
+                if (--dependent.unvisitedDependencies == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        if (visited != nodes.size()) {
+            throw new IllegalStateException("Startup tasks have cyclic dependencies");
+        }
+
+        for (Node node : nodes.values()) {
+            if (!node.task.isLazy()) {
+                markEager(node);
+            }
+        }
+    }
+
+    /**
+     * Dependencies of an eager task are eager too, even if they are declared lazy.
+     */
+    private void markEager(Node node) {
+        if (node.eager) {
+            return;
+        }
+        node.eager = true;
+        for (Node dependency : node.dependencies) {
+            markEager(dependency);
+        }
+    }
+
+    private void onReady(
+            Node node,
+            List<Node> ready
+    ) {
+        node.readyAt = elapsed();
+        if (node.eager || eagerCompleted) {
+            ready.add(node);
+        } else {
+            deferred.add(node);
+        }
+    }
+
+    private void onEagerCompleted(List<Node> ready) {
+        eagerCompleted = true;
+        trace.setEagerCompletedAt(elapsed());
+        ready.addAll(deferred);
+        deferred.clear();
+    }
+
+    private void dispatch(List<Node> ready) {
+        for (Node node : ready) {
+            synchronized (lock) {
+                if (failed) {
+                    return;
+                }
+            }
+
+            TaskLane lane = node.task.getLane();
+            Runnable runnable = () -> run(node);
+            try {
+                if (lane == null) {
+                    TasksManager.getInstance().executeOnMainThread(runnable);
+                } else {
+                    TasksManager.getInstance().execute(lane, runnable);
+                }
+            } catch (RejectedExecutionException exception) {
+                node.startedAt = elapsed();
+                node.thread = lane != null ? lane.getThreadName() : MAIN_THREAD;
+                onFinished(node, "Rejected by the lane: " + exception.getMessage());
+            }
+        }
+    }
+
+    private void run(Node node) {
+        node.startedAt = elapsed();
+        node.thread = node.task.getLane() == null ? MAIN_THREAD : Thread.currentThread().getName();
+
+        AtomicBoolean done = new AtomicBoolean(false);
+        StartupTask.Completion completion = new StartupTask.Completion() {
+            @Override
+            public void complete() {
+                if (done.compareAndSet(false, true)) {
+                    onFinished(node, null);
+                }
+            }
+
+            @Override
+            public void fail(@NonNull String error) {
+                if (done.compareAndSet(false, true)) {
+                    onFinished(node, error);
+                }
+            }
+        };
+
+        try {
+            node.task.getBody().run(completion);
+        } catch (Throwable throwable) {
+            completion.fail("Exception during initialization: " + throwable.getMessage() + "\n" + Log.getStackTraceString(throwable));
+        }
+    }
+
+    private void onFinished(
+            Node node,
+            String error
+    ) {
+        List<Node> ready = new ArrayList<>();
+        boolean completed = false;
+        boolean allFinished;
+        String failure = null;
+
+        synchronized (lock) {
+            long now = elapsed();
+            String name = node.task.getName();
+            trace.add(new StartupTrace.Entry(name, node.thread, node.readyAt, node.startedAt, now, !node.eager, error));
+
+            if (error != null) {
+                if (node.eager && node.task.isRequired()) {
+                    failure = error;
+                } else {
+                    LogUtil.error(TAG, "Startup task " + name + " failed: " + error);
+                }
+            }
+
+            for (Node dependent : node.dependents) {
+                if (--dependent.pendingDependencies == 0) {
+                    onReady(dependent, ready);
+                }
+            }
+
+            if (node.eager && --remainingEager == 0) {
+                onEagerCompleted(ready);
+                completed = true;
+            }
+            allFinished = ++finishedCount == nodes.size();
+        }
+
+        if (failure != null) {
+            notifyFailed(failure);
+        } else if (completed) {
+            notifyCompleted();
+        }
+        if (allFinished) {
+            LogUtil.debug(TAG, trace::toString);
+        }
+        dispatch(ready);
+    }
+
+    private void notifyCompleted() {
+        synchronized (lock) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            cancelTimeout();
+        }
+        listener.onCompleted(trace);
+    }
+
+    private void notifyFailed(String error) {
+        synchronized (lock) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            failed = true;
+            cancelTimeout();
+        }
+        LogUtil.debug(TAG, trace::toString);
+        listener.onFailed(error, trace);
+    }
+
+    private void cancelTimeout() {
+        if (timeout != null) {
+            timeout.cancel(false);
+            timeout = null;
+        }
+    }
+
+    private long elapsed() {
+        return SystemClock.elapsedRealtime() - startTime;
+    }
+
+    private static class Node {
+
+        private final StartupTask task;
+        private final List<Node> dependencies = new ArrayList<>();
+        private final List<Node> dependents = new ArrayList<>();
+
+        private boolean eager;
+        private int pendingDependencies;
+        private int unvisitedDependencies;
+        private long readyAt;
+        private volatile long startedAt;
+        private volatile String thread = MAIN_THREAD;
+
+        private Node(StartupTask task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.sdk.startup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.tasksmanager.TaskLane;
+
+/**
+ * Step of the SDK initialization in a {@link StartupGraph}.
+ * <p>
+ * A task declares the lane it runs on (or the main thread), the tasks it depends on and whether it is eager.
+ * Eager tasks and their dependencies must complete before the SDK is initialized. Lazy tasks are kept off
+ * the critical path: they run once all eager tasks completed, unless an eager task depends on them.
+ */
+public class StartupTask {
+
+    /**
+     * Body of an asynchronous task. It must call {@link Completion#complete()} or {@link Completion#fail(String)}
+     * exactly once, on any thread.
+     */
+    public interface Body {
+
+        void run(@NonNull Completion completion) throws Exception;
+
+    }
+
+    public interface Completion {
+
+        void complete();
+
+        void fail(@NonNull String error);
+
+    }
+
+    private final String name;
+    @Nullable
+    private final TaskLane lane;
+    private final Body body;
+
+    private String[] dependencies = new String[0];
+    private boolean lazy;
+    private boolean required;
+
+    private StartupTask(
+            @NonNull String name,
+            @Nullable TaskLane lane,
+            @NonNull Body body
+    ) {
+        this.name = name;
+        this.lane = lane;
+        this.body = body;
+    }
+
+    /**
+     * Creates the task which is completed when the runnable returns.
+     *
+     * @param lane lane to run on, null for the main thread.
+     */
+    public static StartupTask create(
+            @NonNull String name,
+            @Nullable TaskLane lane,
+            @NonNull Runnable runnable
+    ) {
+        return new StartupTask(name, lane, completion -> {
+            runnable.run();
+            completion.complete();
+        });
+    }
+
+    /**
+     * Creates the task which is completed by the body through the {@link Completion}.
+     *
+     * @param lane lane to start on, null for the main thread.
+     */
+    public static StartupTask createAsync(
+            @NonNull String name,
+            @Nullable TaskLane lane,
+            @NonNull Body body
+    ) {
+        return new StartupTask(name, lane, body);
+    }
+
+    public StartupTask dependsOn(@NonNull String... dependencies) {
+        this.dependencies = dependencies;
+        return this;
+    }
+
+    public StartupTask lazy() {
+        lazy = true;
+        return this;
+    }
+
+    /**
+     * Failure of a required task fails the initialization, failures of other tasks are only logged.
+     */
+    public StartupTask required() {
+        required = true;
+        return this;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return lane of the task, null if it runs on the main thread.
+     */
+    @Nullable
+    public TaskLane getLane() {
+        return lane;
+    }
+
+    @NonNull
+    public String[] getDependencies() {
+        return dependencies;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    @NonNull
+    Body getBody() {
+        return body;
+    }
+}
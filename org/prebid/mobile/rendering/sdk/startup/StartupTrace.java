@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.sdk.startup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Timeline of a {@link StartupGraph} run. Times are milliseconds since the graph was started.
+ */
+public class StartupTrace {
+
+    public static class Entry {
+
+        private final String name;
+        private final String thread;
+        private final long readyAt;
+        private final long startedAt;
+        private final long finishedAt;
+        private final boolean lazy;
+        @Nullable
+        private final String error;
+
+        Entry(
+                String name,
+                String thread,
+                long readyAt,
+                long startedAt,
+                long finishedAt,
+                boolean lazy,
+                @Nullable String error
+        ) {
+            this.name = name;
+            this.thread = thread;
+            this.readyAt = readyAt;
+            this.startedAt = startedAt;
+            this.finishedAt = finishedAt;
+            this.lazy = lazy;
+            this.error = error;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return "main" or the lane thread name the task started on.
+         */
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return time when all dependencies were completed.
+         */
+        public long getReadyAt() {
+            return readyAt;
+        }
+
+        public long getStartedAt() {
+            return startedAt;
+        }
+
+        public long getFinishedAt() {
+            return finishedAt;
+        }
+
+        /**
+         * @return time the task waited for a thread after its dependencies were completed.
+         */
+        public long getQueuedMillis() {
+            return startedAt - readyAt;
+        }
+
+        public long getDurationMillis() {
+            return finishedAt - startedAt;
+        }
+
+        public boolean isLazy() {
+            return lazy;
+        }
+
+        @Nullable
+        public String getError() {
+            return error;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(
+                    Locale.US,
+                    "%6d ms %6d ms  %-14s %-14s queued %d ms%s%s",
+                    startedAt,
+                    getDurationMillis(),
+                    name,
+                    thread,
+                    getQueuedMillis(),
+                    lazy ? ", lazy" : "",
+                    error != null ? ", failed: " + error : ""
+            );
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private long eagerCompletedAt = -1;
+
+    synchronized void add(Entry entry) {
+        entries.add(entry);
+    }
+
+    synchronized void setEagerCompletedAt(long eagerCompletedAt) {
+        this.eagerCompletedAt = eagerCompletedAt;
+    }
+
+    /**
+     * @return finished tasks in the order they finished.
+     */
+    @NonNull
+    public synchronized List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * @return time when all eager tasks were completed, -1 if they are still running.
+     */
+    public synchronized long getEagerCompletedAt() {
+        return eagerCompletedAt;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder("Startup timeline (start, duration, task, thread):");
+        for (Entry entry : entries) {
+            builder.append('\n').append(entry);
+        }
+        if (eagerCompletedAt >= 0) {
+            builder.append("\nEager tasks completed in ").append(eagerCompletedAt).append(" ms");
+        }
+        return builder.toString();
+    }
+}
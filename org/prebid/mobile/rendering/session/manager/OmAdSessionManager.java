@@ -24,7 +24,6 @@ import android.webkit.WebView;
 import androidx.annotation.Nullable;
 
 import com.iab.omid.library.prebidorg.Omid;
-import com.iab.omid.library.prebidorg.ScriptInjector;
 import com.iab.omid.library.prebidorg.adsession.AdEvents;
 import com.iab.omid.library.prebidorg.adsession.AdSession;
 import com.iab.omid.library.prebidorg.adsession.AdSessionConfiguration;
@@ -47,6 +46,7 @@ import org.prebid.mobile.rendering.models.TrackingEvent;
 import org.prebid.mobile.rendering.models.internal.InternalFriendlyObstruction;
 import org.prebid.mobile.rendering.models.internal.InternalPlayerState;
 import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
 import org.prebid.mobile.rendering.video.VideoAdEvent;
 import org.prebid.mobile.rendering.video.vast.AdVerifications;
 import org.prebid.mobile.rendering.video.vast.Verification;
@@ -108,7 +108,7 @@ public class OmAdSessionManager {
     }
 
     public String injectValidationScriptIntoHtml(String html) {
-        return ScriptInjector.injectScriptContentIntoHtml(jsLibraryManager.getOMSDKScript(), html);
+        return jsLibraryManager.injectScriptReferenceIntoHtml(JsScriptData.openMeasurementData, html);
     }
 
     public void initWebAdSessionManager(WebView adView, String contentUrl) {
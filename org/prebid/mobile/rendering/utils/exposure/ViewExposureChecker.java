@@ -28,25 +28,46 @@ import com.gamoshi.app.R;
 
 import org.prebid.mobile.LogUtil;
 
-
-import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Computes which part of a view is visible on screen.
+ * <p>
+ * The view is clipped by its ancestors and every later drawn sibling view becomes an obstruction. The obstructed
+ * area is the exact union of all obstructions, computed with a sweep over the x edges: within every vertical slab
+ * the covering y intervals are merged. Obstructions, intervals and slabs are kept in reused primitive arrays,
+ * so a pass allocates nothing but the returned {@link ViewExposure}.
+ * <p>
+ * Not thread safe, must be used on the main thread.
+ */
 public class ViewExposureChecker {
 
     private static final String TAG = ViewExposureChecker.class.getSimpleName();
 
-    private WeakReference<View> testedViewWeakReference;
-    private Rect clippedRect;
-    private List<Rect> obstructionList;
+    private static final int INITIAL_CAPACITY = 8;
 
-    public ViewExposureChecker() {
-        obstructionList = new ArrayList<>();
-        clippedRect = new Rect();
-    }
+    private final Rect clippedRect = new Rect();
+    private final Rect visibleRect = new Rect();
+    private final Rect scratchRect = new Rect();
+    private final int[] testedLocation = new int[2];
+    private final int[] location = new int[2];
+
+    // Obstructions clipped to clippedRect, 4 values (left, top, right, bottom) per rectangle
+    private int[] obstructions = new int[INITIAL_CAPACITY * 4];
+    private int obstructionCount;
+
+    // Disjoint rectangles covering all obstructions, 4 values per rectangle
+    private int[] occlusions = new int[INITIAL_CAPACITY * 4];
+    private int occlusionCount;
+
+    private int[] edges = new int[INITIAL_CAPACITY * 2 + 2];
+    private int[] intervals = new int[INITIAL_CAPACITY * 2];
+    private int[] openOcclusions = new int[INITIAL_CAPACITY];
+    private int[] nextOpenOcclusions = new int[INITIAL_CAPACITY];
+
+    private long coveredArea;
 
     public ViewExposure exposure(View view) {
         if (view == null) {
@@ -54,68 +75,249 @@ public class ViewExposureChecker {
             return null;
         }
 
-        testedViewWeakReference = new WeakReference<>(view);
         ViewExposure zeroExposure = new ViewExposure();
+        if (!collectObstructions(view) || !sweep(Double.MAX_VALUE, true)) {
+            return zeroExposure;
+        }
+
+        final float fullArea = view.getWidth() * view.getHeight();
+        final float clipArea = clippedRect.width() * clippedRect.height();
+
+        float exposurePercentage = (clipArea - coveredArea) / fullArea;
+        return new ViewExposure(exposurePercentage, new Rect(visibleRect), buildOcclusionList());
+    }
+
+    /**
+     * Checks whether the exposure of the view is at least {@code minExposure} without building {@link ViewExposure}.
+     * The computation stops as soon as the result is known.
+     *
+     * @param minExposure fraction of the view area from 0 to 1.
+     */
+    public boolean isExposed(View view, float minExposure) {
+        if (view == null) {
+            return false;
+        }
+        if (!collectObstructions(view)) {
+            return minExposure <= 0;
+        }
+
+        final long fullArea = (long) view.getWidth() * view.getHeight();
+        final long clipArea = (long) clippedRect.width() * clippedRect.height();
+        final double allowedCoverage = clipArea - (double) minExposure * fullArea;
+        if (allowedCoverage < 0) {
+            return false;
+        }
+
+        // Sum of the obstruction areas is an upper bound of their union
+        long obstructionArea = 0;
+        for (int i = 0; i < obstructionCount * 4; i += 4) {
+            obstructionArea += (long) (obstructions[i + 2] - obstructions[i]) * (obstructions[i + 3] - obstructions[i + 1]);
+        }
+        if (obstructionArea <= allowedCoverage) {
+            return true;
+        }
+
+        return sweep(allowedCoverage, false);
+    }
+
+    /**
+     * Clips the view by its ancestors and collects obstructions.
+     *
+     * @return false if the view can't be exposed at all.
+     */
+    private boolean collectObstructions(View view) {
         view.getDrawingRect(clippedRect);
-        obstructionList.clear();
+        obstructionCount = 0;
 
         if (!view.isShown() || !view.hasWindowFocus() || isViewTransparent(view)) { // Also checks if view has parent (is attached)
-            return zeroExposure;
+            return false;
         }
 
+        view.getLocationOnScreen(testedLocation);
         boolean visitParent = visitParent(((ViewGroup) view.getParent()), view);
-        boolean collapseBoundingBox = collapseBoundingBox();
+        LogUtil.verbose(TAG, () -> "exposure: visitParent " + visitParent + " obstructions " + obstructionCount);
+        return visitParent && !clippedRect.isEmpty();
+    }
 
-        LogUtil.verbose(TAG, "exposure: visitParent " + visitParent + " collapseBox " + collapseBoundingBox);
-        boolean potentiallyExposed = visitParent && collapseBoundingBox;
-        if (!potentiallyExposed) {
-            return zeroExposure;
+    /**
+     * Computes the area covered by the union of obstructions.
+     * If geometry is requested, also computes the bounding box of the uncovered area into visibleRect
+     * and disjoint rectangles covering the obstructions.
+     *
+     * @param allowedCoverage the sweep stops and returns false once the covered area exceeds it.
+     * @return false if the covered area exceeds allowedCoverage or covers the whole clipped rect.
+     */
+    private boolean sweep(
+        double allowedCoverage,
+        boolean buildGeometry
+    ) {
+        coveredArea = 0;
+        occlusionCount = 0;
+        if (obstructionCount == 0) {
+            visibleRect.set(clippedRect);
+            return true;
         }
 
-        final List<Rect> obstructionsList = buildObstructionsRectList();
-        final float fullArea = view.getWidth() * view.getHeight();
-        final float clipArea = clippedRect.width() * clippedRect.height();
-        float obstructedArea = 0;
+        final int clipTop = clippedRect.top;
+        final int clipBottom = clippedRect.bottom;
+        final int clipHeight = clipBottom - clipTop;
+
+        edges = ensureCapacity(edges, obstructionCount * 2 + 2);
+        intervals = ensureCapacity(intervals, obstructionCount * 2);
+        openOcclusions = ensureCapacity(openOcclusions, obstructionCount);
+        nextOpenOcclusions = ensureCapacity(nextOpenOcclusions, obstructionCount);
+
+        int edgeCount = 0;
+        edges[edgeCount++] = clippedRect.left;
+        edges[edgeCount++] = clippedRect.right;
+        for (int i = 0; i < obstructionCount * 4; i += 4) {
+            edges[edgeCount++] = obstructions[i];
+            edges[edgeCount++] = obstructions[i + 2];
+        }
+        Arrays.sort(edges, 0, edgeCount);
 
-        for (Rect obstruction : obstructionsList) {
-            obstructedArea += obstruction.width() * obstruction.height();
+        int uniqueCount = 1;
+        for (int i = 1; i < edgeCount; i++) {
+            if (edges[i] != edges[uniqueCount - 1]) {
+                edges[uniqueCount++] = edges[i];
+            }
         }
 
-        float exposurePercentage = (clipArea - obstructedArea) / fullArea;
-        return new ViewExposure(exposurePercentage, clippedRect, obstructionsList);
-    }
+        int visibleLeft = Integer.MAX_VALUE;
+        int visibleTop = Integer.MAX_VALUE;
+        int visibleRight = Integer.MIN_VALUE;
+        int visibleBottom = Integer.MIN_VALUE;
+        int openCount = 0;
+
+        for (int slab = 0; slab < uniqueCount - 1; slab++) {
+            final int x0 = edges[slab];
+            final int x1 = edges[slab + 1];
+
+            // y intervals of obstructions spanning the slab, sorted by top
+            int activeCount = 0;
+            for (int i = 0; i < obstructionCount * 4; i += 4) {
+                if (obstructions[i] > x0 || obstructions[i + 2] < x1) {
+                    continue;
+                }
+                final int top = obstructions[i + 1];
+                int j = activeCount * 2;
+                while (j > 0 && intervals[j - 2] > top) {
+                    intervals[j] = intervals[j - 2];
+                    intervals[j + 1] = intervals[j - 1];
+                    j -= 2;
+                }
+                intervals[j] = top;
+                intervals[j + 1] = obstructions[i + 3];
+                activeCount++;
+            }
 
-    private List<Rect> buildObstructionsRectList() {
-        if (obstructionList.isEmpty()) {
-            return new ArrayList<>();
-        }
+            int mergedCount = 0;
+            for (int i = 0; i < activeCount * 2; i += 2) {
+                if (mergedCount > 0 && intervals[i] <= intervals[mergedCount * 2 - 1]) {
+                    intervals[mergedCount * 2 - 1] = Math.max(intervals[mergedCount * 2 - 1], intervals[i + 1]);
+                }
+                else {
+                    intervals[mergedCount * 2] = intervals[i];
+                    intervals[mergedCount * 2 + 1] = intervals[i + 1];
+                    mergedCount++;
+                }
+            }
 
-        List<Rect> currentObstructionList = new ArrayList<>(obstructionList);
-        List<Rect> remainingObstructionList = new ArrayList<>();
-        List<Rect> pickedObstructionList = new ArrayList<>();
+            int coveredHeight = 0;
+            for (int i = 0; i < mergedCount * 2; i += 2) {
+                coveredHeight += intervals[i + 1] - intervals[i];
+            }
+            coveredArea += (long) (x1 - x0) * coveredHeight;
+            if (coveredArea > allowedCoverage) {
+                return false;
+            }
 
-        Comparator<Rect> areaComparator = (rect1, rect2) -> {
-            float area1 = rect1.width() * rect1.height();
-            float area2 = rect2.width() * rect2.height();
+            if (!buildGeometry) {
+                continue;
+            }
 
-            return -Float.compare(area1, area2);
-        };
+            if (coveredHeight < clipHeight) {
+                final int firstUncovered = mergedCount == 0 || intervals[0] > clipTop ? clipTop : intervals[1];
+                final int lastUncovered = mergedCount == 0 || intervals[mergedCount * 2 - 1] < clipBottom
+                                          ? clipBottom
+                                          : intervals[mergedCount * 2 - 2];
+                visibleLeft = Math.min(visibleLeft, x0);
+                visibleRight = Math.max(visibleRight, x1);
+                visibleTop = Math.min(visibleTop, firstUncovered);
+                visibleBottom = Math.max(visibleBottom, lastUncovered);
+            }
 
-        while (currentObstructionList.size() > 0) {
-            Collections.sort(currentObstructionList, areaComparator);
+            openCount = appendOcclusions(x0, x1, mergedCount, openCount);
+        }
 
-            Rect pickedObstruction = currentObstructionList.get(0);
-            pickedObstructionList.add(pickedObstruction);
+        if (buildGeometry) {
+            if (visibleLeft > visibleRight) {
+                visibleRect.setEmpty();
+                return false;
+            }
+            visibleRect.set(visibleLeft, visibleTop, visibleRight, visibleBottom);
+        }
+        return true;
+    }
+
+    /**
+     * Adds merged intervals of the slab as occlusion rectangles. Rectangles of the previous slab
+     * with the same interval are extended instead.
+     *
+     * @return count of occlusions open for extension by the next slab.
+     */
+    private int appendOcclusions(
+        int x0,
+        int x1,
+        int mergedCount,
+        int openCount
+    ) {
+        occlusions = ensureCapacity(occlusions, (occlusionCount + mergedCount) * 4);
 
-            removeRect(pickedObstruction, currentObstructionList, remainingObstructionList, 1);
+        int open = 0;
+        for (int i = 0; i < mergedCount; i++) {
+            final int top = intervals[i * 2];
+            final int bottom = intervals[i * 2 + 1];
+
+            while (open < openCount && occlusions[openOcclusions[open] * 4 + 1] < top) {
+                open++;
+            }
 
-            List<Rect> temp = new ArrayList<>(currentObstructionList);
-            currentObstructionList = remainingObstructionList;
-            remainingObstructionList = temp;
-            remainingObstructionList.clear();
+            int index;
+            if (open < openCount
+                && occlusions[openOcclusions[open] * 4 + 1] == top
+                && occlusions[openOcclusions[open] * 4 + 3] == bottom) {
+                index = openOcclusions[open];
+                occlusions[index * 4 + 2] = x1;
+            }
+            else {
+                index = occlusionCount++;
+                occlusions[index * 4] = x0;
+                occlusions[index * 4 + 1] = top;
+                occlusions[index * 4 + 2] = x1;
+                occlusions[index * 4 + 3] = bottom;
+            }
+            nextOpenOcclusions[i] = index;
         }
 
-        return pickedObstructionList;
+        int[] temp = openOcclusions;
+        openOcclusions = nextOpenOcclusions;
+        nextOpenOcclusions = temp;
+        return mergedCount;
+    }
+
+    /**
+     * @return occlusion rectangles clipped to the visible bounding box.
+     */
+    private List<Rect> buildOcclusionList() {
+        List<Rect> result = new ArrayList<>(occlusionCount);
+        for (int i = 0; i < occlusionCount * 4; i += 4) {
+            Rect occlusion = new Rect(occlusions[i], occlusions[i + 1], occlusions[i + 2], occlusions[i + 3]);
+            if (occlusion.intersect(visibleRect)) {
+                result.add(occlusion);
+            }
+        }
+        return result;
     }
 
     /**
@@ -133,10 +335,9 @@ public class ViewExposureChecker {
         boolean childrenAreClippedToParent = isClippedToBounds(parentView);
 
         if (childrenAreClippedToParent) {
-            Rect bounds = new Rect();
-            parentView.getDrawingRect(bounds);
-            Rect convertRect = convertRect(bounds, parentView, testedViewWeakReference.get());
-            boolean intersect = clippedRect.intersect(convertRect);
+            parentView.getDrawingRect(scratchRect);
+            convertRect(scratchRect, parentView);
+            boolean intersect = clippedRect.intersect(scratchRect);
             if (!intersect) {
                 return false;
             }
@@ -190,133 +391,6 @@ public class ViewExposureChecker {
         }
     }
 
-    private boolean collapseBoundingBox() {
-        final Rect oldRect = new Rect(clippedRect);
-        if (oldRect.isEmpty()) {
-            return false;
-        }
-
-        List<Rect> currentRectList = new ArrayList<>();
-        List<Rect> nextRectList = new ArrayList<>();
-
-        currentRectList.add(clippedRect);
-        for (Rect obstruction : obstructionList) {
-            removeRect(obstruction, currentRectList, nextRectList, 0);
-
-            List<Rect> temp = currentRectList;
-            currentRectList = nextRectList;
-            nextRectList = temp;
-            nextRectList.clear();
-
-            if (currentRectList.isEmpty()) {
-                clippedRect = new Rect();
-                return false;
-            }
-        }
-
-        Rect result = new Rect();
-        for (int i = 0; i < currentRectList.size(); i++) {
-            Rect nextFragment = currentRectList.get(i);
-
-            if (i == 0) {
-                result = nextFragment;
-            }
-            else {
-                result.union(nextFragment);
-            }
-        }
-
-        if (oldRect.equals(result)) {
-            return true;
-        }
-
-        clippedRect = result;
-
-        int removedCount = 0;
-        final int fullCount = obstructionList.size();
-
-        for (int i = 0; i < fullCount; i++) {
-            Rect nextObstruction = obstructionList.get(i);
-            Rect resultIntersectedRect = new Rect(result);
-
-            if (resultIntersectedRect.intersect(nextObstruction)) {
-                if (!result.contains(nextObstruction)) {
-                    obstructionList.set(i - removedCount, resultIntersectedRect);
-                }
-                else if (removedCount > 0) {
-                    obstructionList.set(i - removedCount, nextObstruction);
-                }
-            }
-            else {
-                removedCount++;
-            }
-        }
-        if (removedCount > 0) {
-            int fromIndex = fullCount - removedCount;
-            obstructionList.subList(fromIndex, fromIndex + removedCount).clear();
-        }
-
-        return true;
-    }
-
-    private void removeRect(Rect aroundRect, List<Rect> srcList, List<Rect> destList, int firstIndex) {
-        for (int i = firstIndex, n = srcList.size(); i < n; i++) {
-            fragmentize(srcList.get(i), aroundRect, destList);
-        }
-    }
-
-    private void fragmentize(Rect valueRect, Rect aroundRect, List<Rect> destList) {
-        if (!Rect.intersects(valueRect, aroundRect)) {
-            destList.add(valueRect);
-            return;
-        }
-
-        if (aroundRect.contains(valueRect)) {
-            return;
-        }
-
-        Rect trimmedRect = new Rect(aroundRect);
-        boolean isRectTrimmed = trimmedRect.intersect(valueRect);
-
-        if (!isRectTrimmed) {
-            LogUtil.debug(TAG, "fragmentize: Error. Rect is not trimmed");
-            return;
-        }
-
-        Rect[] subRectArray = {
-            // left
-            new Rect(valueRect.left,
-                     valueRect.top,
-                     valueRect.left + (trimmedRect.left - valueRect.left),
-                     valueRect.top + valueRect.height()),
-
-            // mid / top
-            new Rect(trimmedRect.left,
-                     valueRect.top,
-                     trimmedRect.right,
-                     valueRect.top + (trimmedRect.top - valueRect.top)),
-
-            // mid / bottom
-            new Rect(trimmedRect.left,
-                     trimmedRect.bottom,
-                     trimmedRect.right,
-                     valueRect.bottom),
-
-            // right
-            new Rect(trimmedRect.right,
-                     valueRect.top,
-                     valueRect.right,
-                valueRect.top + valueRect.height()
-            )
-        };
-
-        for (Rect rect : subRectArray) {
-            if (!rect.isEmpty()) {
-                destList.add(rect);
-            }
-        }
-    }
-
     /**
      * Returns whether ViewGroup's children are clipped to their bounds.
      * <p>
@@ -329,41 +403,45 @@ public class ViewExposureChecker {
         return false;
     }
 
-    private Rect convertRect(
-        Rect fromRect,
-        View fromView,
-        View toView
+    /**
+     * Converts the rect from the coordinates of the view to the coordinates of the tested view in place.
+     */
+    private void convertRect(
+        Rect rect,
+        View fromView
     ) {
-        if (fromRect == null || fromView == null || toView == null) {
-            LogUtil.debug(TAG, "convertRect: Failed. One of the provided param is null. Returning empty rect.");
-            return new Rect();
-        }
-
-        int[] fromCoord = new int[2];
-        int[] toCoord = new int[2];
-        fromView.getLocationOnScreen(fromCoord);
-        toView.getLocationOnScreen(toCoord);
+        fromView.getLocationOnScreen(location);
 
-        int xShift = fromCoord[0] - toCoord[0] - fromView.getScrollX();
-        int yShift = fromCoord[1] - toCoord[1] - fromView.getScrollY();
-
-        return new Rect(fromRect.left + xShift,
-                        fromRect.top + yShift,
-                        fromRect.right + xShift,
-                        fromRect.bottom + yShift);
+        int xShift = location[0] - testedLocation[0] - fromView.getScrollX();
+        int yShift = location[1] - testedLocation[1] - fromView.getScrollY();
+        rect.offset(xShift, yShift);
     }
 
     private void testForObstructing(View view) {
-        Rect viewBounds = new Rect();
-        view.getDrawingRect(viewBounds);
+        view.getDrawingRect(scratchRect);
+        convertRect(scratchRect, view);
+
+        if (!Rect.intersects(clippedRect, scratchRect)) {
+            return;
+        }
 
-        Rect testRect = convertRect(viewBounds, view, testedViewWeakReference.get());
+        obstructions = ensureCapacity(obstructions, (obstructionCount + 1) * 4);
+        int i = obstructionCount * 4;
+        obstructions[i] = Math.max(clippedRect.left, scratchRect.left);
+        obstructions[i + 1] = Math.max(clippedRect.top, scratchRect.top);
+        obstructions[i + 2] = Math.min(clippedRect.right, scratchRect.right);
+        obstructions[i + 3] = Math.min(clippedRect.bottom, scratchRect.bottom);
+        obstructionCount++;
+    }
 
-        Rect obstructionRect = new Rect(clippedRect);
-        boolean isObstruction = obstructionRect.intersect(testRect);
-        if (isObstruction) {
-            obstructionList.add(obstructionRect);
+    private static int[] ensureCapacity(
+        int[] array,
+        int size
+    ) {
+        if (array.length >= size) {
+            return array;
         }
+        return Arrays.copyOf(array, Math.max(size, array.length * 2));
     }
 
     private boolean isViewTransparent(View view) {
@@ -0,0 +1,218 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.utils.exposure;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.views.webview.mraid.Views;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.WeakHashMap;
+
+/**
+ * Samples visibility of all tracked views of one window in a single pass.
+ * <p>
+ * A pass runs in a {@link Choreographer} frame callback after the window was redrawn, but not more
+ * often than {@link #SAMPLE_INTERVAL_MILLIS}. Without redraws the window is sampled every
+ * {@link #IDLE_SAMPLE_INTERVAL_MILLIS}, unless a client needs continuous sampling. Exposure of a view
+ * is computed once per pass, no matter how many clients track it.
+ * <p>
+ * All methods must be called on the main thread.
+ */
+@MainThread
+public class VisibilityEngine {
+
+    private static final String TAG = VisibilityEngine.class.getSimpleName();
+
+    public static final long SAMPLE_INTERVAL_MILLIS = 200;
+    public static final long IDLE_SAMPLE_INTERVAL_MILLIS = 1000;
+
+    private static final WeakHashMap<View, VisibilityEngine> engines = new WeakHashMap<>();
+
+    public interface Client {
+
+        /**
+         * @return tracked view or null if it's gone.
+         */
+        @Nullable
+        View getTrackedView();
+
+        /**
+         * @return true if samples are needed every {@link #SAMPLE_INTERVAL_MILLIS} even if nothing is redrawn,
+         * e.g. to measure how long the view has been visible.
+         */
+        boolean needsContinuousSampling();
+
+        void onSample(@NonNull VisibilitySample sample);
+    }
+
+    private final WeakReference<View> rootView;
+    private final ArrayList<Client> clients = new ArrayList<>();
+    private final ViewExposureChecker exposureChecker = new ViewExposureChecker();
+
+    private WeakReference<ViewTreeObserver> observer = new WeakReference<>(null);
+    private final ViewTreeObserver.OnPreDrawListener preDrawListener = () -> {
+        scheduleSample(false);
+        return true;
+    };
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> sample();
+
+    private boolean scheduled;
+    private long scheduledAt;
+    private long lastSampleAt;
+
+    @VisibleForTesting
+    VisibilityEngine(@NonNull View rootView) {
+        this.rootView = new WeakReference<>(rootView);
+    }
+
+    /**
+     * @return engine of the window the view belongs to, null if the window can't be determined.
+     */
+    @Nullable
+    public static VisibilityEngine getInstance(@Nullable Context context, @NonNull View view) {
+        View rootView = Views.getTopmostView(context, view);
+        if (rootView == null) {
+            LogUtil.debug(TAG, "Unable to track visibility due to no available root view.");
+            return null;
+        }
+
+        VisibilityEngine engine = engines.get(rootView);
+        if (engine == null) {
+            engine = new VisibilityEngine(rootView);
+            engines.put(rootView, engine);
+        }
+        return engine;
+    }
+
+    public void register(@NonNull Client client) {
+        if (clients.contains(client)) {
+            return;
+        }
+        clients.add(client);
+        attachObserver();
+        scheduleSample(true);
+    }
+
+    public void unregister(@NonNull Client client) {
+        clients.remove(client);
+        if (clients.isEmpty()) {
+            release();
+        }
+    }
+
+    private void sample() {
+        scheduled = false;
+        lastSampleAt = SystemClock.uptimeMillis();
+        attachObserver();
+
+        // Clients can unregister themselves while handling the sample
+        ArrayList<Client> currentClients = new ArrayList<>(clients);
+        IdentityHashMap<View, VisibilitySample> samples = new IdentityHashMap<>();
+        for (Client client : currentClients) {
+            View view = client.getTrackedView();
+            VisibilitySample sample = view != null ? samples.get(view) : null;
+            if (sample == null) {
+                sample = new VisibilitySample(view, exposureChecker);
+                if (view != null) {
+                    samples.put(view, sample);
+                }
+            }
+            client.onSample(sample);
+        }
+
+        if (!clients.isEmpty()) {
+            scheduleSample(false, needsContinuousSampling() ? SAMPLE_INTERVAL_MILLIS : IDLE_SAMPLE_INTERVAL_MILLIS);
+        }
+    }
+
+    private void scheduleSample(boolean immediately) {
+        long delay = immediately ? 0 : Math.max(0, lastSampleAt + SAMPLE_INTERVAL_MILLIS - SystemClock.uptimeMillis());
+        scheduleSample(immediately, delay);
+    }
+
+    private void scheduleSample(boolean immediately, long delayMillis) {
+        long time = SystemClock.uptimeMillis() + delayMillis;
+        if (scheduled) {
+            if (!immediately && scheduledAt <= time) {
+                return;
+            }
+            Choreographer.getInstance().removeFrameCallback(frameCallback);
+        }
+        scheduled = true;
+        scheduledAt = time;
+        Choreographer.getInstance().postFrameCallbackDelayed(frameCallback, delayMillis);
+    }
+
+    private boolean needsContinuousSampling() {
+        for (Client client : clients) {
+            if (client.needsContinuousSampling()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void attachObserver() {
+        ViewTreeObserver current = observer.get();
+        if (current != null && current.isAlive()) {
+            return;
+        }
+
+        View root = rootView.get();
+        if (root == null) {
+            return;
+        }
+        ViewTreeObserver viewTreeObserver = root.getViewTreeObserver();
+        if (!viewTreeObserver.isAlive()) {
+            LogUtil.debug(TAG, "Root view tree observer is not alive");
+            return;
+        }
+        viewTreeObserver.addOnPreDrawListener(preDrawListener);
+        observer = new WeakReference<>(viewTreeObserver);
+    }
+
+    private void release() {
+        if (scheduled) {
+            Choreographer.getInstance().removeFrameCallback(frameCallback);
+            scheduled = false;
+        }
+
+        ViewTreeObserver viewTreeObserver = observer.get();
+        if (viewTreeObserver != null && viewTreeObserver.isAlive()) {
+            viewTreeObserver.removeOnPreDrawListener(preDrawListener);
+        }
+        observer.clear();
+
+        View root = rootView.get();
+        if (root != null) {
+            engines.remove(root);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.utils.exposure;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Visibility data of one view in a {@link VisibilityEngine} pass, shared by all clients tracking the view.
+ * Exposure is calculated on first request.
+ */
+public class VisibilitySample {
+
+    @Nullable
+    private final View view;
+    private final ViewExposureChecker exposureChecker;
+
+    private ViewExposure exposure;
+    private boolean exposureCalculated;
+
+    VisibilitySample(
+            @Nullable View view,
+            @NonNull ViewExposureChecker exposureChecker
+    ) {
+        this.view = view;
+        this.exposureChecker = exposureChecker;
+    }
+
+    /**
+     * @return tracked view, null if it was garbage collected.
+     */
+    @Nullable
+    public View getView() {
+        return view;
+    }
+
+    @Nullable
+    public ViewExposure getExposure() {
+        if (!exposureCalculated) {
+            exposure = view != null ? exposureChecker.exposure(view) : null;
+            exposureCalculated = true;
+        }
+        return exposure;
+    }
+
+    /**
+     * Checks exposure against a threshold. Unless the full exposure was already calculated,
+     * the check stops as soon as the result is known.
+     *
+     * @param minExposure fraction of the view area from 0 to 1.
+     */
+    public boolean isExposed(float minExposure) {
+        if (exposureCalculated) {
+            return exposure != null && exposure.getExposurePercentage() >= minExposure;
+        }
+        return view != null && exposureChecker.isExposed(view, minExposure);
+    }
+}
@@ -20,6 +20,7 @@ import android.content.Context;
 import android.os.AsyncTask;
 import android.os.Handler;
 import android.os.Looper;
+import android.text.TextUtils;
 import android.util.Log;
 
 import androidx.annotation.Nullable;
@@ -29,8 +30,11 @@ import com.google.android.gms.common.ConnectionResult;
 import com.google.android.gms.common.GoogleApiAvailability;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.networking.parameters.RequestSectionCache;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.UserConsentManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.lang.ref.WeakReference;
 
@@ -69,7 +73,7 @@ public class AdvertisingIdManager {
         try {
             lastStartTime = System.currentTimeMillis();
             final FetchTask fetchTask = new FetchTask();
-            fetchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            fetchTask.executeOnExecutor(TasksManager.getInstance().getLaneExecutor(TaskLane.NETWORK));
             runCancelAfterTimeoutTask(fetchTask);
         } catch (Throwable throwable) {
             LogUtil.error(TAG, "Failed to init Google advertising id: " + Log.getStackTraceString(throwable) + "\nDid you add necessary dependencies?");
@@ -93,6 +97,18 @@ public class AdvertisingIdManager {
         return advertisingId != null && advertisingId.isLimitAdTrackingEnabled();
     }
 
+    private static void setAdvertisingId(@Nullable AdvertisingId id) {
+        AdvertisingId previous = advertisingId;
+        advertisingId = id;
+
+        boolean changed = previous == null || id == null
+                ? previous != id
+                : !TextUtils.equals(previous.getId(), id.getId()) || previous.isLimitAdTrackingEnabled() != id.isLimitAdTrackingEnabled();
+        if (changed) {
+            RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.DEVICE);
+        }
+    }
+
     private static boolean didFetchingRecently() {
         long timeSinceLastLaunch = System.currentTimeMillis() - lastStartTime;
         if (timeSinceLastLaunch < RESTART_TIMEOUT_MS) {
@@ -108,7 +124,7 @@ public class AdvertisingIdManager {
             if (fetchTask.getStatus() != AsyncTask.Status.FINISHED) {
                 LogUtil.debug(TAG, "Canceling advertising id fetching due to timeout.");
                 fetchTask.cancel(true);
-                advertisingId = null;
+                setAdvertisingId(null);
             }
         }, FETCH_TIMEOUT_MS);
     }
@@ -145,7 +161,7 @@ public class AdvertisingIdManager {
 
         @Override
         protected void onPostExecute(@Nullable AdvertisingId id) {
-            advertisingId = id;
+            setAdvertisingId(id);
         }
 
         /**
@@ -28,6 +28,7 @@ import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.security.ProviderInstaller;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.networking.parameters.RequestSectionCache;
 
 public class AppInfoManager {
     private static final String TAG = AppInfoManager.class.getSimpleName();
@@ -40,6 +41,7 @@ public class AppInfoManager {
     public static void init(Context context) {
         initPackageInfo(context);
         patchSecurityProviderIfNeeded(context);
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.APP);
     }
 
     public static String getAppName() {
@@ -61,15 +63,18 @@ public class AppInfoManager {
     @VisibleForTesting
     public static void setAppName(String appName) {
         sAppName = appName;
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.APP);
     }
 
     @VisibleForTesting
     public static void setPackageName(String packageName) {
         sPackageName = packageName;
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.APP);
     }
 
     public static void setUserAgent(String userAgent) {
         sUserAgent = userAgent;
+        RequestSectionCache.getInstance().invalidate(RequestSectionCache.Section.DEVICE);
     }
 
     private static void initPackageInfo(Context context) {
@@ -0,0 +1,189 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.utils.helpers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creative or URL split into literal parts and macros, so all macros are expanded in one pass.
+ * <p>
+ * Recognized macros: {@code %%PATTERN:name%%}, {@code ${AUCTION_name}} and {@code {AUCTION_name}}.
+ * Templates aren't cached: the markup and URLs of a bid are expanded once, so a cache would only keep
+ * creatives in memory.
+ */
+public class MacroTemplate {
+
+    public enum MacroType {
+        /**
+         * {@code %%PATTERN:name%%}
+         */
+        PATTERN,
+        /**
+         * {@code ${AUCTION_name}}
+         */
+        AUCTION,
+        /**
+         * {@code {AUCTION_name}} without the dollar sign.
+         */
+        AUCTION_BARE
+    }
+
+    public interface MacroResolver {
+
+        /**
+         * @return the value of the macro or null to keep the macro text as is.
+         */
+        @Nullable
+        String resolve(MacroType type, String name);
+
+    }
+
+    private static final String PATTERN_PREFIX = "%%PATTERN:";
+    private static final String PATTERN_POSTFIX = "%%";
+    private static final String AUCTION_PREFIX = "AUCTION_";
+
+    private final String source;
+    /**
+     * Macros in the order of appearance. Everything between them is literal text.
+     */
+    private final List<Macro> macros;
+
+    private MacroTemplate(String source, List<Macro> macros) {
+        this.source = source;
+        this.macros = macros;
+    }
+
+    @NonNull
+    public static MacroTemplate compile(@NonNull String source) {
+        return new MacroTemplate(source, tokenize(source));
+    }
+
+    public boolean hasMacros() {
+        return !macros.isEmpty();
+    }
+
+    /**
+     * Expands the macros. Unresolved macros are kept as is, unless {@code unresolvedPatternValue} is set:
+     * then unresolved {@code %%PATTERN%%} macros are replaced with it together with the quotes around them.
+     */
+    @NonNull
+    public String expand(@NonNull MacroResolver resolver, @Nullable String unresolvedPatternValue) {
+        if (macros.isEmpty()) {
+            return source;
+        }
+
+        String[] values = new String[macros.size()];
+        int length = source.length();
+        for (int i = 0; i < values.length; i++) {
+            Macro macro = macros.get(i);
+            String value = resolver.resolve(macro.type, macro.name);
+            if (value != null) {
+                values[i] = value;
+                length += value.length() - (macro.end - macro.start);
+            }
+        }
+
+        StringBuilder result = new StringBuilder(Math.max(length, 0));
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            Macro macro = macros.get(i);
+            String value = values[i];
+            int start = macro.start;
+            int end = macro.end;
+            if (value == null && macro.type == MacroType.PATTERN && unresolvedPatternValue != null) {
+                value = unresolvedPatternValue;
+                if (start > position && source.charAt(start - 1) == '"') {
+                    start--;
+                }
+                if (end < source.length() && source.charAt(end) == '"') {
+                    end++;
+                }
+            }
+
+            if (value == null) {
+                continue;
+            }
+            result.append(source, position, start).append(value);
+            position = end;
+        }
+        result.append(source, position, source.length());
+        return result.toString();
+    }
+
+    private static List<Macro> tokenize(String source) {
+        List<Macro> macros = new ArrayList<>();
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            int end = -1;
+            if (c == '%' && source.startsWith(PATTERN_PREFIX, i)) {
+                int nameStart = i + PATTERN_PREFIX.length();
+                int close = source.indexOf(PATTERN_POSTFIX, nameStart);
+                if (close > nameStart && isName(source, nameStart, close)) {
+                    end = close + PATTERN_POSTFIX.length();
+                    macros.add(new Macro(MacroType.PATTERN, source.substring(nameStart, close), i, end));
+                }
+            } else if (c == '{' && source.startsWith(AUCTION_PREFIX, i + 1)) {
+                int close = source.indexOf('}', i + 1);
+                if (close > i + 1 && isName(source, i + 1, close)) {
+                    boolean dollar = i > 0 && source.charAt(i - 1) == '$';
+                    int start = dollar ? i - 1 : i;
+                    end = close + 1;
+                    MacroType type = dollar ? MacroType.AUCTION : MacroType.AUCTION_BARE;
+                    macros.add(new Macro(type, source.substring(i + 1, close), start, end));
+                }
+            }
+            i = end > 0 ? end : i + 1;
+        }
+        return macros;
+    }
+
+    /**
+     * Macro names don't contain whitespace, quotes or markup, which keeps the tokenizer
+     * from joining two unrelated percent signs or braces far away from each other.
+     */
+    private static boolean isName(String source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c) || c == '"' || c == '<' || c == '>' || c == '%' || c == '{') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Macro {
+
+        private final MacroType type;
+        private final String name;
+        private final int start;
+        private final int end;
+
+        private Macro(MacroType type, String name, int start, int end) {
+            this.type = type;
+            this.name = name;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+}
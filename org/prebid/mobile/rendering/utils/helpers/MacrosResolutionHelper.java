@@ -16,71 +16,128 @@
 
 package org.prebid.mobile.rendering.utils.helpers;
 
+import android.util.Base64;
+
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.models.internal.MacrosModel;
+import org.prebid.mobile.rendering.utils.helpers.MacroTemplate.MacroType;
 
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Expands macros in creatives and URLs with {@link MacroTemplate}, all macros in one pass.
+ */
 public class MacrosResolutionHelper {
     private static final String TAG = MacrosResolutionHelper.class.getSimpleName();
 
-    private static final String MACROS_TARGETING_MAP_KEY = "%%PATTERN:TARGETINGMAP%%";
-    private static final String MACROS_PATTERN_PREFIX = "%%PATTERN:";
-    private static final String MACROS_PATTERN_POSTFIX = "%%";
-
-    private static final String REGEX_NON_RESOLVED_MACROS = "\"?" + MACROS_PATTERN_PREFIX + ".*" + MACROS_PATTERN_POSTFIX + "\"?";
+    private static final String MACROS_TARGETING_MAP_NAME = "TARGETINGMAP";
+    private static final String MACROS_AUCTION_PRICE_NAME = "AUCTION_PRICE";
+    private static final String MACROS_AUCTION_PRICE_BASE_64_NAME = "AUCTION_PRICE:B64";
+    private static final String MACROS_NON_RESOLVED_VALUE = "null";
+    private static final String AUCTION_MACROS_PREFIX = "${AUCTION_";
 
     private MacrosResolutionHelper() {
 
     }
 
+    /**
+     * Replaces {@code %%PATTERN:key%%} macros with the targeting values and {@code %%PATTERN:TARGETINGMAP%%}
+     * with the whole map as JSON. Other pattern macros, with the quotes around them, are replaced with null.
+     */
     public static String resolveTargetingMarcos(String creative, Map<String, String> targetingMap) {
         if (targetingMap == null) {
             LogUtil.error(TAG, "resolveMacros: Failed. Targeting map is null.");
             return creative;
         }
-
-        String targetingMapJson = new JSONObject(targetingMap).toString();
-        creative = replace(MACROS_TARGETING_MAP_KEY, creative, targetingMapJson);
-
-        for (Map.Entry<String, String> entry : targetingMap.entrySet()) {
-            String macros = MACROS_PATTERN_PREFIX + entry.getKey() + MACROS_PATTERN_POSTFIX;
-            creative = replace(macros, creative, entry.getValue());
+        if (isEmpty(creative)) {
+            return "";
         }
 
-        creative = replace(REGEX_NON_RESOLVED_MACROS, creative, "null");
-
-        return creative;
+        return MacroTemplate.compile(creative).expand((type, name) -> {
+            if (type != MacroType.PATTERN) {
+                return null;
+            }
+            if (MACROS_TARGETING_MAP_NAME.equals(name)) {
+                return new JSONObject(targetingMap).toString();
+            }
+            return targetingMap.get(name);
+        }, MACROS_NON_RESOLVED_VALUE);
     }
 
+    /**
+     * Replaces {@code ${AUCTION_*}} macros in one pass, other keys are replaced as literal text. The keys of the map
+     * are the macros escaped for regex, see {@link MacrosModel#MACROS_AUCTION_PRICE}.
+     */
     public static String resolveAuctionMacros(String target, Map<String, MacrosModel> replaceMacrosMap) {
         if (replaceMacrosMap == null || replaceMacrosMap.isEmpty()) {
             LogUtil.error(TAG, "resolveAuctionMacros: Failed. Macros map is null or empty.");
             return target;
         }
+        if (isEmpty(target)) {
+            return "";
+        }
 
+        Map<String, String> values = new HashMap<>();
         for (Map.Entry<String, MacrosModel> modelEntry : replaceMacrosMap.entrySet()) {
-            String macrosKey = modelEntry.getKey();
-            String replaceValue = modelEntry.getValue().getReplaceValue();
-
-            target = replace(macrosKey, target, replaceValue);
+            String macros = modelEntry.getKey().replace("\\", "");
+            if (macros.startsWith(AUCTION_MACROS_PREFIX) && macros.endsWith("}")) {
+                values.put(macros.substring(2, macros.length() - 1), modelEntry.getValue().getValue());
+            } else {
+                target = target.replace(macros, modelEntry.getValue().getValue());
+            }
         }
 
-        return target;
+        return MacroTemplate.compile(target).expand(
+                (type, name) -> type == MacroType.AUCTION ? values.get(name) : null,
+                null
+        );
     }
 
-    private static String replace(String macros, String input, String replacement) {
-        if (input == null || input.isEmpty()) {
-            LogUtil.error(TAG, "replace: Failed. Input string is null or empty.");
-            return "";
-        }
+    /**
+     * Replaces {@code ${AUCTION_PRICE}} and {@code ${AUCTION_PRICE:B64}} macros of the bid markup and URLs.
+     */
+    public static String resolveAuctionPrice(String target, String price) {
+        return resolvePrice(target, price, false);
+    }
 
-        if (replacement == null) {
-            LogUtil.error(TAG, "replace: Failed. Replacement string is null. Maybe you need to use NativeAdConfiguration.setNativeStylesCreative");
+    /**
+     * Same as {@link #resolveAuctionPrice(String, String)}, but also replaces {@code {AUCTION_PRICE}}
+     * without the dollar sign, which is used by native trackers.
+     */
+    public static String resolveNativeAuctionPrice(String target, String price) {
+        return resolvePrice(target, price, true);
+    }
+
+    private static String resolvePrice(String target, String price, boolean includeBareMacros) {
+        if (isEmpty(target)) {
             return "";
         }
+        MacroTemplate template = MacroTemplate.compile(target);
+        if (!template.hasMacros()) {
+            return target;
+        }
+
+        return template.expand((type, name) -> {
+            if (type == MacroType.PATTERN || (type == MacroType.AUCTION_BARE && !includeBareMacros)) {
+                return null;
+            }
+            if (MACROS_AUCTION_PRICE_NAME.equals(name)) {
+                return price;
+            }
+            if (MACROS_AUCTION_PRICE_BASE_64_NAME.equals(name)) {
+                return Base64.encodeToString(price.getBytes(), Base64.NO_WRAP);
+            }
+            return null;
+        }, null);
+    }
 
-        return input.replaceAll(macros, replacement);
+    private static boolean isEmpty(String input) {
+        if (input == null || input.isEmpty()) {
+            LogUtil.error(TAG, "replace: Failed. Input string is null or empty.");
+            return true;
+        }
+        return false;
     }
 }
@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.utils.helpers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves classes and methods of the ad server SDKs once and keeps them.
+ * Misses are cached too, so a missing SDK costs one failed lookup.
+ */
+public final class ReflectionCache {
+
+    private static final String TAG = ReflectionCache.class.getSimpleName();
+
+    private static final Object MISSING = new Object();
+
+    private static final ConcurrentHashMap<String, Object> classes = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<MethodKey, Object> methods = new ConcurrentHashMap<>();
+
+    private ReflectionCache() {
+    }
+
+    @Nullable
+    public static Class<?> getClass(@NonNull String className) {
+        Object cached = classes.get(className);
+        if (cached == null) {
+            try {
+                cached = Class.forName(className);
+            } catch (ClassNotFoundException | LinkageError exception) {
+                cached = MISSING;
+            }
+            classes.put(className, cached);
+        }
+        return cached != MISSING ? (Class<?>) cached : null;
+    }
+
+    /**
+     * Public method of the class, see {@link Class#getMethod(String, Class[])}.
+     */
+    @Nullable
+    public static Method getMethod(@NonNull Class<?> owner, @NonNull String name, Class<?>... parameterTypes) {
+        MethodKey key = new MethodKey(owner, name, parameterTypes);
+        Object cached = methods.get(key);
+        if (cached == null) {
+            try {
+                cached = owner.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException | SecurityException exception) {
+                cached = MISSING;
+            }
+            methods.put(key, cached);
+        }
+        return cached != MISSING ? (Method) cached : null;
+    }
+
+    /**
+     * Calls the public method with the parameter types equal to the classes of the parameters.
+     *
+     * @return the result of the method or null if it can't be called.
+     */
+    @Nullable
+    public static Object invoke(@NonNull Object target, @NonNull String methodName, Object... params) {
+        Class<?>[] parameterTypes = new Class[params.length];
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] == null) {
+                LogUtil.error(TAG, "Can't call method: " + methodName + "() with null parameter");
+                return null;
+            }
+            parameterTypes[i] = params[i].getClass();
+        }
+
+        Method method = getMethod(target.getClass(), methodName, parameterTypes);
+        if (method == null) {
+            LogUtil.error(TAG, "Can't call method: " + methodName + "() on object " + target.getClass());
+            return null;
+        }
+        return invoke(target, method, params);
+    }
+
+    @Nullable
+    public static Object invoke(@NonNull Object target, @NonNull Method method, Object... params) {
+        try {
+            return method.invoke(target, params);
+        } catch (Exception exception) {
+            LogUtil.error(TAG, "Can't call method: " + method.getName() + "() on object " + target.getClass());
+            return null;
+        }
+    }
+
+    private static final class MethodKey {
+
+        private final Class<?> owner;
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hash;
+
+        private MethodKey(Class<?> owner, String name, Class<?>[] parameterTypes) {
+            this.owner = owner;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            hash = 31 * (31 * owner.hashCode() + name.hashCode()) + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MethodKey)) return false;
+
+            MethodKey other = (MethodKey) o;
+            return owner == other.owner && name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
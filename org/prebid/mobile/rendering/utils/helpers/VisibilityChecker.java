@@ -25,6 +25,7 @@ import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.models.internal.VisibilityTrackerOption;
 import org.prebid.mobile.rendering.utils.exposure.ViewExposure;
 import org.prebid.mobile.rendering.utils.exposure.ViewExposureChecker;
+import org.prebid.mobile.rendering.utils.exposure.VisibilitySample;
 
 import static org.prebid.mobile.rendering.models.ntv.NativeEventTracker.EventType.IMPRESSION;
 import static org.prebid.mobile.rendering.models.ntv.NativeEventTracker.EventType.OMID;
@@ -67,17 +68,12 @@ public class VisibilityChecker {
         return SystemClock.uptimeMillis() - visibilityTrackerOption.getStartTimeMillis() >= visibilityTrackerOption.getMinimumVisibleMillis();
     }
 
-    public boolean isVisible(View trackedView, ViewExposure viewExposure) {
+    public boolean isVisible(View trackedView, VisibilitySample sample) {
         if (visibilityTrackerOption.isType(IMPRESSION) || visibilityTrackerOption.isType(OMID)) {
             return isVisible(trackedView);
         }
 
-        if (viewExposure == null) {
-            return false;
-        }
-
-        final float exposurePercentage = viewExposure.getExposurePercentage() * 100;
-        return exposurePercentage >= visibilityTrackerOption.getMinVisibilityPercentage();
+        return sample.isExposed(visibilityTrackerOption.getMinVisibilityPercentage() / 100f);
     }
 
     public boolean isVisible(
@@ -133,7 +129,7 @@ public class VisibilityChecker {
         }
 
         ViewExposure exposure = viewExposureChecker.exposure(view);
-        LogUtil.verbose(TAG, exposure != null ? exposure.toString() : "null exposure");
+        LogUtil.verbose(TAG, () -> exposure != null ? exposure.toString() : "null exposure");
         return exposure;
     }
 
@@ -18,7 +18,6 @@ package org.prebid.mobile.rendering.utils.url;
 
 import android.content.Context;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -27,6 +26,8 @@ import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.mraid.methods.network.UrlResolutionTask;
 import org.prebid.mobile.rendering.networking.tracking.TrackingManager;
 import org.prebid.mobile.rendering.utils.url.action.*;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.util.HashSet;
 import java.util.List;
@@ -210,7 +211,7 @@ public class UrlHandler {
     @VisibleForTesting
     void performUrlResolutionRequest(String url, UrlResolutionTask.UrlResolutionListener urlResolutionListener) {
         UrlResolutionTask urlResolutionTask = new UrlResolutionTask(urlResolutionListener);
-        urlResolutionTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, url);
+        urlResolutionTask.executeOnExecutor(TasksManager.getInstance().getLaneExecutor(TaskLane.NETWORK), url);
         taskPending = true;
     }
 
@@ -38,7 +38,7 @@ public class ExoPlayerView extends PlayerView implements VideoPlayerView {
     public static final float DEFAULT_INITIAL_VIDEO_VOLUME = 1.0f;
 
     @NonNull private final VideoCreativeViewListener videoCreativeViewListener;
-    private AdViewProgressUpdateTask adViewProgressUpdateTask;
+    private VideoProgressTracker videoProgressTracker;
     private AdUnitConfiguration config;
     private ExoPlayer player;
 
@@ -76,10 +76,31 @@ public class ExoPlayerView extends PlayerView implements VideoPlayerView {
                     initUpdateTask();
                     break;
                 case Player.STATE_ENDED:
+                    if (videoProgressTracker != null) {
+                        videoProgressTracker.onPlaybackEnded();
+                    }
                     videoCreativeViewListener.onDisplayCompleted();
                     break;
             }
         }
+
+        @Override
+        public void onIsPlayingChanged(boolean isPlaying) {
+            if (videoProgressTracker != null) {
+                videoProgressTracker.onPlayingChanged(isPlaying);
+            }
+        }
+
+        @Override
+        public void onPositionDiscontinuity(
+                @NonNull Player.PositionInfo oldPosition,
+                @NonNull Player.PositionInfo newPosition,
+                int reason
+        ) {
+            if (videoProgressTracker != null) {
+                videoProgressTracker.onPositionChanged();
+            }
+        }
     };
 
     @Override
@@ -209,19 +230,20 @@ public class ExoPlayerView extends PlayerView implements VideoPlayerView {
     }
 
     private void initUpdateTask() {
-        if (adViewProgressUpdateTask != null) {
-            LogUtil.debug(TAG, "initUpdateTask: AdViewProgressUpdateTask is already initialized. Skipping.");
+        if (videoProgressTracker != null) {
+            LogUtil.debug(TAG, "initUpdateTask: VideoProgressTracker is already initialized. Skipping.");
             return;
         }
 
         try {
-            adViewProgressUpdateTask = new AdViewProgressUpdateTask(
+            videoProgressTracker = new VideoProgressTracker(
                     videoCreativeViewListener,
+                    this,
                     (int) player.getDuration(),
+                    vastVideoDuration,
                     config
             );
-            adViewProgressUpdateTask.setVastVideoDuration(vastVideoDuration);
-            adViewProgressUpdateTask.execute();
+            videoProgressTracker.onPlayingChanged(player.isPlaying());
         }
         catch (AdException e) {
             e.printStackTrace();
@@ -251,9 +273,9 @@ public class ExoPlayerView extends PlayerView implements VideoPlayerView {
 
     private void killUpdateTask() {
         LogUtil.debug(TAG, "killUpdateTask() called");
-        if (adViewProgressUpdateTask != null) {
-            adViewProgressUpdateTask.cancel(true);
-            adViewProgressUpdateTask = null;
+        if (videoProgressTracker != null) {
+            videoProgressTracker.stop();
+            videoProgressTracker = null;
         }
     }
 
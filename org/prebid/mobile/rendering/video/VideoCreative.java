@@ -18,13 +18,14 @@ package org.prebid.mobile.rendering.video;
 
 import android.content.Context;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.text.TextUtils;
 import android.view.View;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.ContentObject;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.interstitial.InterstitialManagerVideoDelegate;
@@ -53,7 +54,9 @@ public class VideoCreative extends VideoCreativeProtocol
 
     @VisibleForTesting VideoCreativeView videoCreativeView;
 
-    private AsyncTask videoDownloadTask;
+    private BaseNetworkTask videoDownloadTask;
+    @Nullable
+    private VideoDiskCache.Entry cacheEntry;
 
     private String preloadedVideoFilePath;
 
@@ -82,11 +85,14 @@ public class VideoCreative extends VideoCreativeProtocol
         Context context = contextReference.get();
         if (context != null) {
             AdUnitConfiguration adConfiguration = model.getAdConfiguration();
-            String shortenedPath = LruController.getShortenedPath(params.url);
-            File file = new File(context.getFilesDir(), shortenedPath);
-            VideoDownloadTask videoDownloadTask = new VideoDownloadTask(context, file,
+            VideoDiskCache.Entry entry = VideoDiskCache.getInstance(context).getEntry(params.url);
+            // Kept in the cache until the creative is destroyed
+            entry.pin();
+            cacheEntry = entry;
+            VideoDownloadTask videoDownloadTask = new VideoDownloadTask(context, entry,
                                                                         new VideoCreativeVideoPreloadListener(this), adConfiguration);
-            this.videoDownloadTask = videoDownloadTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+            this.videoDownloadTask = videoDownloadTask;
+            PrebidMobile.getHttpTransport().execute(videoDownloadTask, params);
         }
     }
 
@@ -234,6 +240,7 @@ public class VideoCreative extends VideoCreativeProtocol
         VisibilityTrackerOption visibilityTrackerOption = new VisibilityTrackerOption(NativeEventTracker.EventType.IMPRESSION);
 
         creativeVisibilityTracker = new CreativeVisibilityTracker(getCreativeView(), visibilityTrackerOption);
+        creativeVisibilityTracker.setReportExposure(false);
         creativeVisibilityTracker.setVisibilityTrackerListener((result) -> {
             if (result.isVisible() && result.shouldFireImpression()) {
                 model.trackVideoEvent(VideoAdEvent.Event.AD_IMPRESSION);
@@ -255,6 +262,11 @@ public class VideoCreative extends VideoCreativeProtocol
         if (videoDownloadTask != null) {
             videoDownloadTask.cancel(true);
         }
+
+        if (cacheEntry != null) {
+            cacheEntry.unpin();
+            cacheEntry = null;
+        }
     }
 
     @Override
@@ -268,12 +280,12 @@ public class VideoCreative extends VideoCreativeProtocol
     }
 
     /**
-     * @return true if {@link #preloadedVideoFilePath} is not empty and file exists in filesDir, false otherwise.
+     * @return true if {@link #preloadedVideoFilePath} is not empty and file exists in the video cache, false otherwise.
      */
     @Override
     public boolean isResolved() {
         if (contextReference.get() != null && !TextUtils.isEmpty(preloadedVideoFilePath)) {
-            File file = new File(contextReference.get().getFilesDir(), preloadedVideoFilePath);
+            File file = new File(preloadedVideoFilePath);
             return file.exists();
         }
         return false;
@@ -332,8 +344,8 @@ public class VideoCreative extends VideoCreativeProtocol
             videoCreativeView = new VideoCreativeView(context, this, adConfiguration);
             videoCreativeView.setBroadcastId(adConfiguration.getBroadcastId());
 
-            // Get the preloaded video from device file storage
-            videoUri = Uri.fromFile(new File(context.getFilesDir() + (model.getMediaUrl())));
+            // Get the preloaded video from the video cache
+            videoUri = Uri.fromFile(new File(model.getMediaUrl()));
         }
 
         // Show call-to-action overlay right away if click through url is available & end card is not available
@@ -438,15 +450,15 @@ public class VideoCreative extends VideoCreativeProtocol
         }
 
         @Override
-        public void onFileDownloaded(String shortenedPath) {
+        public void onFileDownloaded(String path) {
             VideoCreative videoCreative = weakVideoCreative.get();
             if (videoCreative == null) {
                 LogUtil.warning(TAG, "VideoCreative is null");
                 return;
             }
 
-            videoCreative.preloadedVideoFilePath = shortenedPath;
-            videoCreative.model.setMediaUrl(shortenedPath);
+            videoCreative.preloadedVideoFilePath = path;
+            videoCreative.model.setMediaUrl(path);
             videoCreative.loadContinued();
         }
 
@@ -66,9 +66,9 @@ public class VideoCreativeModel extends CreativeModel {
             return;
         }
 
-        trackingManager.fireEventTrackingURLs(urls);
+        trackingManager.fireEventTrackingURLs(urls, videoEvent.name());
 
-        LogUtil.info(TAG, "Video event '" + videoEvent.name() + "' was fired with urls: " + urls.toString());
+        LogUtil.info(TAG, () -> "Video event '" + videoEvent.name() + "' was fired with urls: " + urls.toString());
     }
 
     public void trackPlayerStateChange(InternalPlayerState changedPlayerState) {
@@ -0,0 +1,494 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.video;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.LogUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Disk cache for video creatives.
+ * <p>
+ * Files are addressed by the hash of the media url and are filled by streaming downloads
+ * (see {@link VideoDownloadTask}). An interrupted download is kept as a partial file and resumed
+ * with a range request. Freshness is driven by the HTTP cache headers (Cache-Control, Expires)
+ * and stale files are revalidated with ETag / Last-Modified. The cache is bounded by the total size
+ * of the files, the least recently used ones are removed first. Videos of loaded creatives are pinned
+ * and never removed.
+ */
+public class VideoDiskCache {
+
+    private static final String TAG = VideoDiskCache.class.getSimpleName();
+
+    public static final long DEFAULT_MAX_BYTES = 100 * 1024 * 1024;
+
+    private static final String DIRECTORY_NAME = "prebid_video_cache";
+    private static final String VIDEO_EXTENSION = ".video";
+    private static final String PARTIAL_EXTENSION = ".part";
+    private static final String METADATA_EXTENSION = ".meta";
+
+    private static final String KEY_URL = "url";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_EXPIRES_AT = "expiresAt";
+
+    /**
+     * Used when the server sends neither freshness information nor validators.
+     */
+    private static final long HEURISTIC_FRESHNESS_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static VideoDiskCache instance;
+    private static long maxBytes = DEFAULT_MAX_BYTES;
+
+    private final File directory;
+    /**
+     * Directory of the videos saved by the previous cache (LruController), see {@link #deleteLegacyFile(String)}.
+     */
+    @Nullable
+    private final File legacyDirectory;
+    private final Map<String, DownloadLock> locks = new HashMap<>();
+    private final Map<String, Integer> pins = new HashMap<>();
+
+    @VisibleForTesting
+    VideoDiskCache(
+            @NonNull File directory,
+            @Nullable File legacyDirectory
+    ) {
+        this.directory = directory;
+        this.legacyDirectory = legacyDirectory;
+        if (!directory.exists() && !directory.mkdirs()) {
+            LogUtil.error(TAG, "Can't create video cache directory");
+        }
+    }
+
+    public static synchronized VideoDiskCache getInstance(@NonNull Context context) {
+        if (instance == null) {
+            Context applicationContext = context.getApplicationContext();
+            instance = new VideoDiskCache(
+                    new File(applicationContext.getCacheDir(), DIRECTORY_NAME),
+                    applicationContext.getFilesDir()
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the total size of cached videos. Default is {@link #DEFAULT_MAX_BYTES}.
+     */
+    public static void setMaxBytes(long maxBytes) {
+        VideoDiskCache.maxBytes = maxBytes;
+    }
+
+    public static long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @NonNull
+    public Entry getEntry(@NonNull String url) {
+        String key = getKey(url);
+        Entry entry = new Entry(
+                url,
+                key,
+                new File(directory, key + VIDEO_EXTENSION),
+                new File(directory, key + PARTIAL_EXTENSION),
+                new File(directory, key + METADATA_EXTENSION)
+        );
+        entry.readMetadata();
+        deleteLegacyFile(url);
+        return entry;
+    }
+
+    /**
+     * Returns the lock that serializes downloads of the same url. It must be released with
+     * {@link #releaseLock(Entry, Object)}, the lock is forgotten when no download holds it.
+     */
+    @NonNull
+    Object acquireLock(@NonNull Entry entry) {
+        synchronized (locks) {
+            DownloadLock lock = locks.get(entry.key);
+            if (lock == null) {
+                lock = new DownloadLock();
+                locks.put(entry.key, lock);
+            }
+            lock.holders++;
+            return lock;
+        }
+    }
+
+    void releaseLock(
+            @NonNull Entry entry,
+            @NonNull Object lock
+    ) {
+        synchronized (locks) {
+            DownloadLock downloadLock = (DownloadLock) lock;
+            if (--downloadLock.holders == 0) {
+                locks.remove(entry.key);
+            }
+        }
+    }
+
+    private boolean isPinned(String key) {
+        synchronized (pins) {
+            return pins.containsKey(key);
+        }
+    }
+
+    /**
+     * The previous cache saved videos to the files directory, named by the last segment of the url
+     * without extension. That directory belongs to the app, so only the file the previous cache would have
+     * used for this url is deleted, and only if it holds a video.
+     */
+    private void deleteLegacyFile(@NonNull String url) {
+        if (legacyDirectory == null) {
+            return;
+        }
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        int extensionIndex = name.lastIndexOf('.');
+        if (extensionIndex != -1) {
+            name = name.substring(0, extensionIndex);
+        }
+        if (name.isEmpty()) {
+            return;
+        }
+
+        File legacyFile = new File(legacyDirectory, name);
+        if (legacyFile.isFile() && isVideoContainer(legacyFile) && legacyFile.delete()) {
+            LogUtil.debug(TAG, "Deleted video of the previous cache: " + name);
+        }
+    }
+
+    /**
+     * Checks the signature of MP4 / 3GP / MOV (ftyp box) and WebM / Matroska (EBML header) files.
+     */
+    private static boolean isVideoContainer(File file) {
+        byte[] header = new byte[8];
+        try (InputStream inputStream = new FileInputStream(file)) {
+            if (inputStream.read(header) < header.length) {
+                return false;
+            }
+        } catch (IOException exception) {
+            return false;
+        }
+        boolean ftyp = header[4] == 'f' && header[5] == 't' && header[6] == 'y' && header[7] == 'p';
+        boolean ebml = (header[0] & 0xFF) == 0x1A && (header[1] & 0xFF) == 0x45
+                       && (header[2] & 0xFF) == 0xDF && (header[3] & 0xFF) == 0xA3;
+        return ftyp || ebml;
+    }
+
+    /**
+     * Removes least recently used videos until the cache fits {@link #getMaxBytes()}.
+     */
+    void trim() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        List<File> videos = new ArrayList<>();
+        long total = 0;
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(VIDEO_EXTENSION) || name.endsWith(PARTIAL_EXTENSION)) {
+                total += file.length();
+                if (!isPinned(name.substring(0, name.lastIndexOf('.')))) {
+                    videos.add(file);
+                }
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+
+        Collections.sort(videos, (first, second) -> Long.compare(first.lastModified(), second.lastModified()));
+        for (File video : videos) {
+            if (total <= maxBytes) {
+                break;
+            }
+            long length = video.length();
+            if (video.delete()) {
+                total -= length;
+                String name = video.getName();
+                String key = name.substring(0, name.lastIndexOf('.'));
+                File metadata = new File(directory, key + METADATA_EXTENSION);
+                if (!new File(directory, key + VIDEO_EXTENSION).exists() && !new File(directory, key + PARTIAL_EXTENSION).exists()) {
+                    metadata.delete();
+                }
+                LogUtil.debug(TAG, "Video evicted from cache: " + name);
+            }
+        }
+    }
+
+    @NonNull
+    static String getKey(@NonNull String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                builder.append(String.format(Locale.US, "%02x", b));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            return Integer.toHexString(url.hashCode());
+        }
+    }
+
+    private static class DownloadLock {
+
+        private int holders;
+    }
+
+    public class Entry {
+
+        private final String url;
+        private final String key;
+        private final File file;
+        private final File partialFile;
+        private final File metadataFile;
+
+        @Nullable
+        private String etag;
+        @Nullable
+        private String lastModified;
+        private long expiresAt;
+
+        private Entry(
+                String url,
+                String key,
+                File file,
+                File partialFile,
+                File metadataFile
+        ) {
+            this.url = url;
+            this.key = key;
+            this.file = file;
+            this.partialFile = partialFile;
+            this.metadataFile = metadataFile;
+        }
+
+        @NonNull
+        public File getFile() {
+            return file;
+        }
+
+        @NonNull
+        File getPartialFile() {
+            return partialFile;
+        }
+
+        public boolean isComplete() {
+            return file.exists() && file.length() > 0;
+        }
+
+        public boolean isFresh() {
+            return isComplete() && System.currentTimeMillis() < expiresAt;
+        }
+
+        boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+
+        @Nullable
+        String getEtag() {
+            return etag;
+        }
+
+        @Nullable
+        String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * @return size of the partially downloaded file that can be resumed, 0 otherwise.
+         */
+        long getResumableLength() {
+            return partialFile.exists() && hasValidators() ? partialFile.length() : 0;
+        }
+
+        /**
+         * Marks the video as recently used.
+         */
+        void touch() {
+            file.setLastModified(System.currentTimeMillis());
+        }
+
+        /**
+         * Keeps the video from being evicted until {@link #unpin()}, while a creative uses it.
+         */
+        public void pin() {
+            synchronized (pins) {
+                Integer count = pins.get(key);
+                pins.put(key, count != null ? count + 1 : 1);
+            }
+        }
+
+        public void unpin() {
+            synchronized (pins) {
+                Integer count = pins.get(key);
+                if (count == null || count <= 1) {
+                    pins.remove(key);
+                } else {
+                    pins.put(key, count - 1);
+                }
+            }
+        }
+
+        /**
+         * Stores validators of the response before the body is downloaded, so the
+         * download can be resumed if it's interrupted. A full response replaces the cached video,
+         * so it's deleted first: the stored metadata describes the new one.
+         */
+        void onResponseStarted(@NonNull URLConnection connection, boolean partialContent) {
+            if (!partialContent) {
+                if (file.exists() && !file.delete()) {
+                    LogUtil.warning(TAG, "Can't delete outdated video");
+                }
+                readHeaders(connection);
+                writeMetadata();
+            }
+        }
+
+        void onNotModified(@NonNull URLConnection connection) {
+            String newEtag = connection.getHeaderField("ETag");
+            if (newEtag != null) {
+                etag = newEtag;
+            }
+            expiresAt = getExpirationTime(connection);
+            writeMetadata();
+            touch();
+        }
+
+        /**
+         * Moves the completely downloaded file to the cache.
+         */
+        boolean commit() {
+            if (file.exists() && !file.delete()) {
+                LogUtil.error(TAG, "Can't replace cached video");
+                return false;
+            }
+            if (!partialFile.renameTo(file)) {
+                LogUtil.error(TAG, "Can't move downloaded video to cache");
+                return false;
+            }
+            touch();
+            trim();
+            return true;
+        }
+
+        void discard() {
+            file.delete();
+            partialFile.delete();
+            metadataFile.delete();
+            etag = null;
+            lastModified = null;
+            expiresAt = 0;
+        }
+
+        private void readHeaders(URLConnection connection) {
+            etag = connection.getHeaderField("ETag");
+            lastModified = connection.getHeaderField("Last-Modified");
+            expiresAt = getExpirationTime(connection);
+        }
+
+        private long getExpirationTime(URLConnection connection) {
+            long now = System.currentTimeMillis();
+            String cacheControl = connection.getHeaderField("Cache-Control");
+            if (cacheControl != null) {
+                for (String directive : cacheControl.toLowerCase(Locale.US).split(",")) {
+                    directive = directive.trim();
+                    if (directive.equals("no-cache") || directive.equals("no-store")) {
+                        return now;
+                    }
+                    if (directive.startsWith("max-age=")) {
+                        try {
+                            return now + TimeUnit.SECONDS.toMillis(Long.parseLong(directive.substring(8).trim()));
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                }
+            }
+
+            long expires = connection.getExpiration();
+            if (expires > 0) {
+                return expires;
+            }
+
+            // Without freshness information the validators are checked on every use
+            return etag != null || lastModified != null ? now : now + HEURISTIC_FRESHNESS_MILLIS;
+        }
+
+        private void readMetadata() {
+            if (!metadataFile.exists()) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (InputStream inputStream = new FileInputStream(metadataFile)) {
+                properties.load(inputStream);
+                if (!url.equals(properties.getProperty(KEY_URL))) {
+                    return;
+                }
+                etag = properties.getProperty(KEY_ETAG);
+                lastModified = properties.getProperty(KEY_LAST_MODIFIED);
+                expiresAt = Long.parseLong(properties.getProperty(KEY_EXPIRES_AT, "0"));
+            } catch (IOException | NumberFormatException exception) {
+                LogUtil.warning(TAG, "Can't read video cache metadata: " + exception.getMessage());
+            }
+        }
+
+        private void writeMetadata() {
+            Properties properties = new Properties();
+            properties.setProperty(KEY_URL, url);
+            if (etag != null) {
+                properties.setProperty(KEY_ETAG, etag);
+            }
+            if (lastModified != null) {
+                properties.setProperty(KEY_LAST_MODIFIED, lastModified);
+            }
+            properties.setProperty(KEY_EXPIRES_AT, String.valueOf(expiresAt));
+
+            try (OutputStream outputStream = new FileOutputStream(metadataFile)) {
+                properties.store(outputStream, null);
+            } catch (IOException exception) {
+                LogUtil.warning(TAG, "Can't write video cache metadata: " + exception.getMessage());
+            }
+        }
+    }
+}
@@ -20,38 +20,59 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.media.MediaMetadataRetriever;
 import android.net.Uri;
+import android.util.Log;
+
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.errors.ServerWrongStatusCode;
 import org.prebid.mobile.rendering.loading.FileDownloadListener;
 import org.prebid.mobile.rendering.loading.FileDownloadTask;
 
-import java.io.*;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.net.URLConnection;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * Downloads a video creative into {@link VideoDiskCache}.
+ * <p>
+ * Fresh cached videos are served without network. Stale ones are revalidated with a conditional
+ * request, and partially downloaded ones are resumed with a range request. The response is streamed
+ * straight to disk.
+ */
 @SuppressLint("StaticFieldLeak")
 public class VideoDownloadTask extends FileDownloadTask {
 
     private static final String TAG = VideoDownloadTask.class.getSimpleName();
+
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
     private Context applicationContext;
     private AdUnitConfiguration adConfiguration;
+    private final VideoDiskCache cache;
+    private final VideoDiskCache.Entry entry;
+
+    private long resumeFrom;
 
     public VideoDownloadTask(
             Context context,
-            File file,
+            VideoDiskCache.Entry entry,
             FileDownloadListener fileDownloadListener,
             AdUnitConfiguration adConfiguration
     ) {
-        super(fileDownloadListener, file);
+        super(fileDownloadListener, entry.getPartialFile());
         if (context == null) {
             String contextIsNull = "Context is null";
             fileDownloadListener.onFileDownloadError(contextIsNull);
             throw new NullPointerException(contextIsNull);
         }
         this.adConfiguration = adConfiguration;
+        this.entry = entry;
         applicationContext = context.getApplicationContext();
+        cache = VideoDiskCache.getInstance(applicationContext);
     }
 
     @Override
@@ -59,111 +80,161 @@ public class VideoDownloadTask extends FileDownloadTask {
         LogUtil.debug(TAG, "url: " + param.url);
         LogUtil.debug(TAG, "queryParams: " + param.queryParams);
 
-        return createResult(param);
+        // Concurrent loads of the same video wait for the first download and reuse its file
+        Object lock = cache.acquireLock(entry);
+        try {
+            synchronized (lock) {
+                if (entry.isFresh()) {
+                    if (isVideoFileValid(applicationContext, entry.getFile())) {
+                        LogUtil.debug(TAG, "Video is served from cache");
+                        entry.touch();
+                        result = new GetUrlResult();
+                        result.statusCode = HttpURLConnection.HTTP_OK;
+                        return result;
+                    }
+                    LogUtil.debug(TAG, "Cached video is broken. Downloading a new one");
+                    entry.discard();
+                }
+
+                resumeFrom = entry.isComplete() ? 0 : entry.getResumableLength();
+                return super.sendRequest(param);
+            }
+        } finally {
+            cache.releaseLock(entry, lock);
+        }
     }
 
-    private String getShortenedPath() {
-        String path = file.getPath();
-        int beginIndex = path.lastIndexOf("/");
-        return beginIndex != -1 ? path.substring(beginIndex) : path;
+    @Override
+    protected void onPrepareConnection(URLConnection connection) {
+        String etag = entry.getEtag();
+        String lastModified = entry.getLastModified();
+        if (entry.isComplete()) {
+            if (etag != null) {
+                connection.setRequestProperty("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                connection.setRequestProperty("If-Modified-Since", lastModified);
+            }
+        } else if (resumeFrom > 0) {
+            connection.setRequestProperty("Range", "bytes=" + resumeFrom + "-");
+            connection.setRequestProperty("If-Range", etag != null ? etag : lastModified);
+        }
     }
 
     @Override
-    protected void processData(URLConnection connection, GetUrlResult result) throws IOException {
-        String shortenedPath = getShortenedPath();
-        if (file.exists() && !LruController.isAlreadyCached(shortenedPath)) {
-            LogUtil.debug(TAG, "Video saved to cache");
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            readAndWriteData(connection, result, outputStream, false);
-            LruController.putVideoCache(shortenedPath, outputStream.toByteArray());
-        } else {
-            LogUtil.debug(TAG, "Video saved to file: " + shortenedPath);
-            readAndWriteData(connection, result, new FileOutputStream(file), true);
+    public GetUrlResult customParser(int code, URLConnection urlConnection) {
+        GetUrlResult result = new GetUrlResult();
+        try {
+            if (code == HttpURLConnection.HTTP_NOT_MODIFIED && entry.isComplete()) {
+                LogUtil.debug(TAG, "Cached video is not modified");
+                entry.onNotModified(urlConnection);
+                return result;
+            }
+
+            boolean partialContent = code == HttpURLConnection.HTTP_PARTIAL && resumeFrom > 0;
+            if (code != HttpURLConnection.HTTP_OK && !partialContent) {
+                if (code == HTTP_RANGE_NOT_SATISFIABLE) {
+                    entry.discard();
+                }
+                result.setException(new ServerWrongStatusCode(code));
+                return result;
+            }
+
+            long offset = partialContent ? resumeFrom : 0;
+            long contentLength = urlConnection.getContentLength();
+            if (contentLength > 0 && offset + contentLength > getMaxFileSize()) {
+                result.setException(new Exception("FileDownloader encountered a file larger than SDK cap of " + getMaxFileSize()));
+                return result;
+            }
+
+            entry.onResponseStarted(urlConnection, partialContent);
+            if (!writeData(urlConnection, offset, contentLength, result)) {
+                return result;
+            }
+
+            if (!isVideoFileValid(applicationContext, entry.getPartialFile())) {
+                entry.discard();
+                result.setException(new Exception("Downloaded video is broken"));
+                return result;
+            }
+            if (!entry.commit()) {
+                result.setException(new Exception("Can't save video to cache"));
+                return result;
+            }
+            LogUtil.debug(TAG, "Video saved to cache: " + entry.getFile().getName());
         }
+        catch (IOException e) {
+            LogUtil.error(TAG, "download of media failed: " + Log.getStackTraceString(e));
+            result.setException(new Exception("download of media failed " + e.getMessage()));
+        }
+        return result;
     }
 
-    private void readAndWriteData(URLConnection in, GetUrlResult result, OutputStream out,
-                                  boolean deleteOnAbort) throws IOException {
-        int length = in.getContentLength();
-        InputStream is = in.getInputStream();
+    /**
+     * @return false if the download was cancelled. The partial file is kept, so it can be resumed.
+     */
+    private boolean writeData(
+            URLConnection connection,
+            long offset,
+            long contentLength,
+            GetUrlResult result
+    ) throws IOException {
+        long length = contentLength > 0 ? offset + contentLength : -1;
+        long total = offset;
         byte[] data = new byte[16384];
-        long total = 0;
         int count;
-        try {
+        try (InputStream is = connection.getInputStream();
+             OutputStream out = new FileOutputStream(entry.getPartialFile(), offset > 0)) {
             while ((count = is.read(data)) != -1) {
                 // allow canceling with back button
                 if (isCancelled()) {
-                    if (deleteOnAbort) {
-                        if (file.exists()) {
-                            file.delete();
-                        }
-                    }
                     result.setException(null);
-                    return;
+                    return false;
                 }
                 total += count;
+                if (total > getMaxFileSize()) {
+                    throw new IOException("FileDownloader encountered a file larger than SDK cap of " + getMaxFileSize());
+                }
                 // publishing the progress....
-                if (length > 0) // only if total length is known
-                {
+                if (length > 0) {
                     publishProgress((int) (total * 100 / length));
                 }
                 out.write(data, 0, count);
             }
         }
-        catch (IOException e) {
-            throw e;
-        }
-        finally {
-            try {
-
-                if (is != null) {
-                    is.close();
-                }
-                if (out != null) {
-                    out.close();
-                }
-            }
-            catch (Exception ignored) {
-            }
-        }
+        return true;
     }
 
-    private GetUrlResult createResult(GetUrlParams param)
-    throws Exception {
-        result = new GetUrlResult();
-        String shortenedPath = getShortenedPath();
-        if (file.exists()) {
-            LogUtil.debug(TAG, "File exists: " + shortenedPath);
-            if (isVideoFileExpired(file) || !isVideoFileValid(applicationContext, file)) {
-                LogUtil.debug(TAG, "File " + shortenedPath + " is expired or broken. Downloading a new one");
-                file.delete();
-                result = super.sendRequest(param);
-            } else if (!LruController.isAlreadyCached(shortenedPath)) {
-                result = super.sendRequest(param);
+    @Override
+    protected void onPostExecute(GetUrlResult urlResult) {
+        if (urlResult.getException() != null) {
+            LogUtil.debug(TAG, "download of media failed" + urlResult.getException());
+            if (listener != null) {
+                listener.onFileDownloadError(urlResult.getException().getMessage());
             }
+            return;
         }
-        else {
-            result = super.sendRequest(param);
+        if (listener != null) {
+            listener.onFileDownloaded(entry.getFile().getAbsolutePath());
         }
-        return result;
-    }
-
-    private boolean isVideoFileExpired(File file) {
-        Date lastModDate = new Date(file.lastModified());
-        Date currentDate = Calendar.getInstance().getTime();
-        long diff = currentDate.getTime() - lastModDate.getTime();
-        return diff > TimeUnit.HOURS.toMillis(1);
     }
 
     private boolean isVideoFileValid(Context context, File file) {
+        MediaMetadataRetriever retriever = new MediaMetadataRetriever();
         try {
-            MediaMetadataRetriever retriever = new MediaMetadataRetriever();
             retriever.setDataSource(context, Uri.fromFile(file));
             String hasVideo = retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_HAS_VIDEO);
-            return hasVideo.equals("yes");
+            return "yes".equals(hasVideo);
         }
         catch (Exception e) {
             return false;
         }
+        finally {
+            try {
+                retriever.release();
+            }
+            catch (Exception ignored) {
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,268 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.video;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.api.exceptions.AdException;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.interstitial.rewarded.RewardedClosingRules;
+import org.prebid.mobile.rendering.interstitial.rewarded.RewardedCompletionRules;
+import org.prebid.mobile.rendering.interstitial.rewarded.RewardedExt;
+import org.prebid.mobile.rendering.listeners.VideoCreativeViewListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tracks video progress by the player clock. Quartiles, reward, auto close and VAST duration are
+ * scheduled as one-shot deadlines on the main thread while the video is playing. A deadline that
+ * comes early (e.g. buffering or a seek moved the clock) is rescheduled with the remaining time.
+ */
+@MainThread
+public class VideoProgressTracker {
+
+    private static final String TAG = VideoProgressTracker.class.getSimpleName();
+
+    // Deadlines closer than one frame are handled together.
+    private static final long MIN_DELAY_MILLIS = 16;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable deadlineRunnable = this::onDeadline;
+
+    private final VideoCreativeViewListener trackEventListener;
+    private final VideoPlayerView videoPlayerView;
+    private final AdUnitConfiguration config;
+    private final long videoDuration;
+    private final List<Threshold> thresholds = new ArrayList<>();
+
+    private boolean playing;
+    private boolean stopped;
+
+    public VideoProgressTracker(
+            VideoCreativeViewListener trackEventListener,
+            @NonNull VideoPlayerView videoPlayerView,
+            int videoDuration,
+            long vastVideoDuration,
+            AdUnitConfiguration config
+    ) throws AdException {
+        if (trackEventListener == null) {
+            throw new AdException(AdException.INTERNAL_ERROR, "VideoViewListener is null");
+        }
+        this.trackEventListener = trackEventListener;
+        this.videoPlayerView = videoPlayerView;
+        this.videoDuration = videoDuration;
+        this.config = config;
+        createThresholds(vastVideoDuration);
+    }
+
+    /**
+     * Must be called when the player starts or stops advancing the position.
+     */
+    public void onPlayingChanged(boolean isPlaying) {
+        playing = isPlaying;
+        scheduleNextDeadline();
+    }
+
+    /**
+     * Must be called when the position jumps, e.g. after seek.
+     */
+    public void onPositionChanged() {
+        scheduleNextDeadline();
+    }
+
+    /**
+     * Fires all progress events which are still pending when the video ends.
+     */
+    public void onPlaybackEnded() {
+        if (stopped) {
+            return;
+        }
+        playing = false;
+        mainHandler.removeCallbacks(deadlineRunnable);
+        fireReached(videoDuration, true);
+    }
+
+    public void stop() {
+        stopped = true;
+        playing = false;
+        mainHandler.removeCallbacks(deadlineRunnable);
+        thresholds.clear();
+    }
+
+    private void onDeadline() {
+        long position = videoPlayerView.getCurrentPosition();
+        if (position < 0) {
+            return;
+        }
+        fireReached(position + MIN_DELAY_MILLIS, false);
+        scheduleNextDeadline();
+    }
+
+    private void fireReached(long position, boolean completed) {
+        while (!stopped && !thresholds.isEmpty()) {
+            Threshold threshold = thresholds.get(0);
+            if (threshold.positionMillis > position) {
+                return;
+            }
+            thresholds.remove(0);
+            if (completed && threshold.stopsPlayback) {
+                continue;
+            }
+            threshold.action.run();
+        }
+    }
+
+    private void scheduleNextDeadline() {
+        mainHandler.removeCallbacks(deadlineRunnable);
+        if (stopped || !playing || thresholds.isEmpty()) {
+            return;
+        }
+
+        long position = videoPlayerView.getCurrentPosition();
+        if (position < 0) {
+            return;
+        }
+        long delay = Math.max(MIN_DELAY_MILLIS, thresholds.get(0).positionMillis - position);
+        mainHandler.postDelayed(deadlineRunnable, delay);
+    }
+
+    private void createThresholds(long vastVideoDuration) {
+        if (videoDuration > 0) {
+            addThreshold(videoDuration * 25 / 100, false, () -> trackQuartile(VideoAdEvent.Event.AD_FIRSTQUARTILE));
+            addThreshold(videoDuration * 50 / 100, false, () -> trackQuartile(VideoAdEvent.Event.AD_MIDPOINT));
+            addThreshold(videoDuration * 75 / 100, false, () -> trackQuartile(VideoAdEvent.Event.AD_THIRDQUARTILE));
+
+            Integer percentageForReward = getVideoLengthPercentageForReward((int) videoDuration, config);
+            if (percentageForReward != null) {
+                addThreshold(videoDuration * percentageForReward / 100, false, () -> config.getRewardManager().notifyRewardListener());
+            }
+        }
+
+        Integer autoCloseTime = getAutoCloseTime();
+        if (autoCloseTime != null) {
+            addThreshold(autoCloseTime, true, () -> {
+                LogUtil.debug("Auto close time reached. Auto close time: " + autoCloseTime + " ms");
+                videoPlayerView.forceStop();
+            });
+        }
+
+        if (vastVideoDuration != -1 && vastVideoDuration < videoDuration) {
+            addThreshold(vastVideoDuration, true, () -> {
+                LogUtil.debug(
+                        VideoCreativeView.class.getName(),
+                        "VAST duration reached, video interrupted. VAST duration:" + vastVideoDuration + " ms, Video duration: " + videoDuration + " ms"
+                );
+                videoPlayerView.forceStop();
+            });
+        }
+
+        // Stable sort keeps tracking events before the ones stopping the playback.
+        Collections.sort(thresholds, (first, second) -> Long.compare(first.positionMillis, second.positionMillis));
+    }
+
+    private void addThreshold(long positionMillis, boolean stopsPlayback, Runnable action) {
+        thresholds.add(new Threshold(positionMillis, stopsPlayback, action));
+    }
+
+    private void trackQuartile(VideoAdEvent.Event event) {
+        LogUtil.debug(TAG, event + ": " + videoPlayerView.getCurrentPosition() + " of " + videoDuration + " ms");
+        trackEventListener.onEvent(event);
+    }
+
+    /**
+     * Returns video length percentage for receiving reward.
+     */
+    @Nullable
+    protected static Integer getVideoLengthPercentageForReward(int videoDuration, AdUnitConfiguration config) {
+        boolean hasEndCard = !config.isRewarded() || config.getHasEndCard();
+        if (hasEndCard) {
+            return null;
+        }
+
+        RewardedExt rewardedExt = config.getRewardManager().getRewardedExt();
+        RewardedCompletionRules.PlaybackEvent playbackEvent = rewardedExt.getCompletionRules().getVideoEvent();
+        if (playbackEvent != null) {
+            if (playbackEvent == RewardedCompletionRules.PlaybackEvent.COMPLETE) {
+                return 100;
+            } else if (playbackEvent == RewardedCompletionRules.PlaybackEvent.THIRD_QUARTILE) {
+                return 75;
+            } else if (playbackEvent == RewardedCompletionRules.PlaybackEvent.MIDPOINT) {
+                return 50;
+            } else if (playbackEvent == RewardedCompletionRules.PlaybackEvent.FIRST_QUARTILE) {
+                return 25;
+            } else if (playbackEvent == RewardedCompletionRules.PlaybackEvent.START) {
+                return 1;
+            }
+        }
+
+        Integer secondsToReward = rewardedExt.getCompletionRules().getVideoTime();
+        if (secondsToReward != null && videoDuration != 0) {
+            int percentage = (int) (secondsToReward * 1000 / ((double) videoDuration) * 100);
+            if (percentage > 100 || percentage < 0) {
+                percentage = 100;
+            }
+            return percentage;
+        }
+
+        return null;
+    }
+
+    private Integer getAutoCloseTime() {
+        boolean hasEndCard = !config.isRewarded() || config.getHasEndCard();
+        if (hasEndCard) {
+            return null;
+        }
+
+        RewardedExt rewardedExt = config.getRewardManager().getRewardedExt();
+        RewardedClosingRules.Action action = rewardedExt.getClosingRules().getAction();
+        if (action != RewardedClosingRules.Action.AUTO_CLOSE) {
+            return null;
+        }
+
+        Integer percentageForReward = getVideoLengthPercentageForReward((int) videoDuration, config);
+        if (percentageForReward == null) {
+            return null;
+        }
+
+        int postRewardTime = rewardedExt.getClosingRules().getPostRewardTime() * 1000;
+        double autoCloseTime = percentageForReward / 100.0 * videoDuration + postRewardTime;
+        if (autoCloseTime > videoDuration) {
+            return null;
+        }
+
+        return (int) autoCloseTime;
+    }
+
+    private static class Threshold {
+
+        private final long positionMillis;
+        private final boolean stopsPlayback;
+        private final Runnable action;
+
+        private Threshold(long positionMillis, boolean stopsPlayback, Runnable action) {
+            this.positionMillis = positionMillis;
+            this.stopsPlayback = stopsPlayback;
+            this.action = action;
+        }
+    }
+}
@@ -57,10 +57,9 @@ public AdWebViewClient getAdWebViewClient(){
         return null;
     }
 
-    public void setMraidAdAssetsLoadListener(AdAssetsLoadedListener adAssetsLoadedListener,
-                                             String mraidScript) {
+    public void setMraidAdAssetsLoadListener(AdAssetsLoadedListener adAssetsLoadedListener) {
         if (adWebViewClient == null) {
-            adWebViewClient = new MraidWebViewClient(adAssetsLoadedListener, mraidScript);
+            adWebViewClient = new MraidWebViewClient(adAssetsLoadedListener);
         }
         setWebViewClient(adWebViewClient);
     }
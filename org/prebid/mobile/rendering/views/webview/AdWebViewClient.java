@@ -23,9 +23,13 @@ import android.os.Looper;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.KeyEvent;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+import org.prebid.mobile.rendering.sdk.scripts.JsScript;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -33,8 +37,6 @@ import java.util.HashSet;
 import static android.webkit.WebView.HitTestResult.SRC_ANCHOR_TYPE;
 import static android.webkit.WebView.HitTestResult.SRC_IMAGE_ANCHOR_TYPE;
 
-import com.gamoshi.app.ActivityMain;
-
 public class AdWebViewClient extends WebViewClient {
 
     private static final String TAG = AdWebViewClient.class.getSimpleName();
@@ -109,6 +111,23 @@ public class AdWebViewClient extends WebViewClient {
         }
     }
 
+    /**
+     * Serves the JS libraries referenced by creatives from memory. If the library isn't available,
+     * the request goes to the network.
+     */
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, String url) {
+        JsScriptData scriptData = JsScriptData.forUrl(url);
+        if (view != null && scriptData != null) {
+            JsScript script = JSLibraryManager.getInstance(view.getContext()).awaitScript(scriptData);
+            if (script != null) {
+                return new WebResourceResponse("text/javascript", "UTF-8", script.openStream());
+            }
+            LogUtil.warning(TAG, "JS library is not loaded, requesting it from the network: " + url);
+        }
+        return super.shouldInterceptRequest(view, url);
+    }
+
     @Override
     public void onLoadResource(WebView view, String url) {
         if (view == null) {
@@ -26,11 +26,11 @@ import com.gamoshi.app.R;
 
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.api.data.AdFormat;
 import org.prebid.mobile.api.exceptions.AdException;
 
 import org.prebid.mobile.rendering.models.internal.MraidVariableContainer;
 import org.prebid.mobile.rendering.mraid.handler.FetchPropertiesHandler;
-import org.prebid.mobile.rendering.sdk.JSLibraryManager;
 import org.prebid.mobile.rendering.views.interstitial.InterstitialManager;
 import org.prebid.mobile.rendering.views.webview.mraid.Views;
 
@@ -93,9 +93,8 @@ public class PrebidWebViewBanner extends PrebidWebViewBase
         mraidWebView = new WebViewBanner(context, this, this);
         mraidWebView.setJSName("twopart");
 
-        String script = JSLibraryManager.getInstance(mraidWebView.getContext()).getMRAIDScript();
         //inject mraid.js
-        mraidWebView.setMraidAdAssetsLoadListener(mraidWebView, script);
+        mraidWebView.setMraidAdAssetsLoadListener(mraidWebView);
 
         mraidWebView.loadUrl(url);
     }
@@ -111,7 +110,7 @@ public class PrebidWebViewBanner extends PrebidWebViewBase
         this.width = width;
         this.height = height;
         //A null context can crash with an exception in webView creation through WebViewBanner. Catch it
-        webView = new WebViewBanner(context, html, width, height, this, this);
+        webView = WebViewPool.getInstance().obtain(AdFormat.BANNER, context, html, width, height, this, this);
         webView.setJSName("1part");
 //        webView.initContainsIFrame(creative.getCreativeModel().getHtml());
   //      webView.setTargetUrl(creative.getCreativeModel().getTargetUrl());
@@ -77,6 +77,7 @@ public class PrebidWebViewBase extends FrameLayout implements PreloadManager.Pre
         this.interstitialManager = interstitialManager;
         screenVisibility = getVisibility();
         handler = new Handler(Looper.getMainLooper());
+        WebViewPool.getInstance().prewarm(context);
     }
 
     public void initTwoPartAndLoad(String url) {
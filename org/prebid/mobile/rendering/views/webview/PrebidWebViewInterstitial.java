@@ -18,6 +18,7 @@ package org.prebid.mobile.rendering.views.webview;
 
 import android.content.Context;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.api.data.AdFormat;
 import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.rendering.views.interstitial.InterstitialManager;
 
@@ -38,7 +39,7 @@ public class PrebidWebViewInterstitial extends PrebidWebViewBase
         this.width = width;
         this.height = height;
         //A null context can crash with an exception in webView creation through WebViewBanner. Catch it
-        webView = new WebViewInterstitial(context, html, width, height, this, this);
+        webView = WebViewPool.getInstance().obtain(AdFormat.INTERSTITIAL, context, html, width, height, this, this);
         webView.setJSName("WebViewInterstitial");
         webView.initContainsIFrame(creative.getCreativeModel().getHtml());
         webView.setTargetUrl(creative.getCreativeModel().getTargetUrl());
@@ -17,6 +17,7 @@
 package org.prebid.mobile.rendering.views.webview;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
@@ -24,7 +25,6 @@ import android.view.ViewParent;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.interstitial.AdBaseDialog;
 import org.prebid.mobile.rendering.models.internal.MraidVariableContainer;
-import org.prebid.mobile.rendering.sdk.JSLibraryManager;
 import org.prebid.mobile.rendering.views.webview.mraid.BaseJSInterface;
 
 import java.util.regex.Matcher;
@@ -53,6 +53,9 @@ public class WebViewBase extends AdWebView implements AdAssetsLoadedListener {
 
     private String targetUrl;
 
+    private boolean pooled;
+    private long loadStartedAtMillis = -1;
+
     public WebViewBase(
             Context context,
             String html,
@@ -90,6 +93,10 @@ public class WebViewBase extends AdWebView implements AdAssetsLoadedListener {
 
     @Override
     public void adAssetsLoaded() {
+        if (loadStartedAtMillis >= 0) {
+            WebViewPool.getInstance().getStats().onFirstRender(pooled, SystemClock.uptimeMillis() - loadStartedAtMillis);
+            loadStartedAtMillis = -1;
+        }
 
         if (isMRAID) {
             getMRAIDInterface().prepareAndSendReady();
@@ -121,6 +128,8 @@ public class WebViewBase extends AdWebView implements AdAssetsLoadedListener {
     }
 
     public void loadAd() {
+        loadStartedAtMillis = SystemClock.uptimeMillis();
+
         //inject MRAID here
         initLoad();
 
@@ -145,6 +154,26 @@ public class WebViewBase extends AdWebView implements AdAssetsLoadedListener {
         loadDataWithBaseURL(PrebidMobile.SCHEME_HTTPS + "://" + domain + "/", adHTML, "text/html", "utf-8", null);
     }
 
+    /**
+     * Binds the web view prepared by {@link WebViewPool} to the ad, as if it was created with the ad's parameters.
+     */
+    void bindPooled(
+            String html,
+            int width,
+            int height,
+            PreloadManager.PreloadedListener preloadedListener,
+            MraidEventsManager.MraidListener mraidListener
+    ) {
+        this.width = width;
+        this.height = height;
+        adHTML = html;
+        this.preloadedListener = preloadedListener;
+        this.mraidListener = mraidListener;
+        pooled = true;
+        clearHistory();
+        initWebView();
+    }
+
     public void setJSName(String name) {
         MRAIDBridgeName = name;
     }
@@ -258,9 +287,7 @@ public class WebViewBase extends AdWebView implements AdAssetsLoadedListener {
         }
 
         //IMPORTANT: sets the webviewclient to get callbacks on webview
-        final String mraidScript = JSLibraryManager.getInstance(getContext()).getMRAIDScript();
-        setMraidAdAssetsLoadListener(this,
-                                     mraidScript);
+        setMraidAdAssetsLoadListener(this);
         /*
          * Keep this for development purposes...very handy!
          */
@@ -0,0 +1,287 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.views.webview;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+
+/**
+ * Pool of ready-to-use creative web views.
+ * <p>
+ * Creating the first {@link android.webkit.WebView} in a process takes hundreds of milliseconds of the main thread.
+ * The pool creates web views for banners and interstitials one by one while the main thread is idle
+ * ({@link MessageQueue.IdleHandler}), starts their renderer with a blank page and loads MRAID and OM SDK scripts
+ * into memory, so the next creative only has to load its HTML. Web views use the activity as context, the
+ * pool is dropped when the activity is destroyed or the system asks to trim memory.
+ */
+@MainThread
+public class WebViewPool {
+
+    private static final String TAG = WebViewPool.class.getSimpleName();
+
+    public static final int DEFAULT_POOL_SIZE = 1;
+    private static final String BLANK_PAGE = "about:blank";
+
+    private static WebViewPool instance;
+
+    private final EnumMap<AdFormat, Integer> poolSizes = new EnumMap<>(AdFormat.class);
+    private final EnumMap<AdFormat, ArrayDeque<WebViewBase>> pools = new EnumMap<>(AdFormat.class);
+    private final WebViewPoolStats stats = new WebViewPoolStats();
+    private final LifecycleCallbacks lifecycleCallbacks = new LifecycleCallbacks();
+
+    private WeakReference<Activity> activityReference = new WeakReference<>(null);
+    private boolean idleHandlerRegistered;
+    private boolean callbacksRegistered;
+    private boolean disabled;
+
+    private final MessageQueue.IdleHandler idleHandler = () -> {
+        Activity activity = activityReference.get();
+        AdFormat format = getFormatToPrewarm();
+        if (activity == null || activity.isFinishing() || format == null) {
+            idleHandlerRegistered = false;
+            return false;
+        }
+
+        createPooledView(format, activity);
+        idleHandlerRegistered = !disabled && getFormatToPrewarm() != null;
+        return idleHandlerRegistered;
+    };
+
+    private WebViewPool() {
+        poolSizes.put(AdFormat.BANNER, DEFAULT_POOL_SIZE);
+        poolSizes.put(AdFormat.INTERSTITIAL, DEFAULT_POOL_SIZE);
+        pools.put(AdFormat.BANNER, new ArrayDeque<>());
+        pools.put(AdFormat.INTERSTITIAL, new ArrayDeque<>());
+    }
+
+    public static WebViewPool getInstance() {
+        if (instance == null) {
+            instance = new WebViewPool();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the number of prepared web views for {@link AdFormat#BANNER} or {@link AdFormat#INTERSTITIAL}.
+     * 0 disables the pool for the format.
+     */
+    public void setPoolSize(@NonNull AdFormat format, int size) {
+        ArrayDeque<WebViewBase> pool = pools.get(format);
+        if (pool == null) {
+            LogUtil.warning(TAG, "Web views aren't pooled for " + format);
+            return;
+        }
+
+        int newSize = Math.max(0, size);
+        poolSizes.put(format, newSize);
+        int trimmed = 0;
+        while (pool.size() > newSize) {
+            pool.pollLast().destroy();
+            trimmed++;
+        }
+        stats.onTrimmed(trimmed);
+    }
+
+    /**
+     * Starts preparing web views for the activity while the main thread is idle.
+     * Web views prepared for another activity are destroyed.
+     */
+    public void prewarm(@Nullable Context context) {
+        if (!(context instanceof Activity) || disabled || Looper.myLooper() != Looper.getMainLooper()) {
+            return;
+        }
+
+        Activity activity = (Activity) context;
+        if (activity.isFinishing()) {
+            return;
+        }
+        if (activityReference.get() != activity) {
+            clear();
+            activityReference = new WeakReference<>(activity);
+        }
+        registerCallbacks(activity.getApplication());
+        JSLibraryManager.getInstance(activity).startScriptReadingTask();
+
+        if (!idleHandlerRegistered && getFormatToPrewarm() != null) {
+            Looper.myQueue().addIdleHandler(idleHandler);
+            idleHandlerRegistered = true;
+        }
+    }
+
+    /**
+     * Destroys all prepared web views.
+     */
+    public void clear() {
+        int trimmed = 0;
+        for (ArrayDeque<WebViewBase> pool : pools.values()) {
+            WebViewBase webView;
+            while ((webView = pool.poll()) != null) {
+                webView.destroy();
+                trimmed++;
+            }
+        }
+        stats.onTrimmed(trimmed);
+        if (idleHandlerRegistered) {
+            Looper.myQueue().removeIdleHandler(idleHandler);
+            idleHandlerRegistered = false;
+        }
+    }
+
+    @NonNull
+    public WebViewPoolStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @return prepared web view bound to the ad or a new one if the pool is empty.
+     */
+    @NonNull
+    WebViewBase obtain(
+            @NonNull AdFormat format,
+            Context context,
+            String html,
+            int width,
+            int height,
+            PreloadManager.PreloadedListener preloadedListener,
+            MraidEventsManager.MraidListener mraidListener
+    ) {
+        WebViewBase webView = poll(format, context);
+        if (webView != null) {
+            stats.onHit();
+            webView.bindPooled(html, width, height, preloadedListener, mraidListener);
+        } else {
+            stats.onMiss();
+            webView = format == AdFormat.INTERSTITIAL
+                      ? new WebViewInterstitial(context, html, width, height, preloadedListener, mraidListener)
+                      : new WebViewBanner(context, html, width, height, preloadedListener, mraidListener);
+        }
+
+        // Refill the pool for the next creative
+        prewarm(context);
+        return webView;
+    }
+
+    @Nullable
+    private WebViewBase poll(AdFormat format, Context context) {
+        ArrayDeque<WebViewBase> pool = pools.get(format);
+        if (pool == null || context == null || activityReference.get() != context) {
+            return null;
+        }
+        return pool.poll();
+    }
+
+    @Nullable
+    private AdFormat getFormatToPrewarm() {
+        for (AdFormat format : pools.keySet()) {
+            if (pools.get(format).size() < poolSizes.get(format)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private void createPooledView(AdFormat format, Activity activity) {
+        WebViewBase webView;
+        try {
+            webView = format == AdFormat.INTERSTITIAL
+                      ? new WebViewInterstitial(activity, null, 0, 0, null, null)
+                      : new WebViewBanner(activity, null, 0, 0, null, null);
+        } catch (Throwable throwable) {
+            // E.g. WebView package is being updated or missing
+            LogUtil.error(TAG, "Failed to create pooled web view: " + throwable.getMessage());
+            disabled = true;
+            return;
+        }
+
+        // Starts the renderer so that the creative doesn't wait for it
+        webView.loadUrl(BLANK_PAGE);
+        pools.get(format).add(webView);
+        stats.onPrewarmed();
+    }
+
+    private void registerCallbacks(Application application) {
+        if (callbacksRegistered || application == null) {
+            return;
+        }
+        application.registerComponentCallbacks(lifecycleCallbacks);
+        application.registerActivityLifecycleCallbacks(lifecycleCallbacks);
+        callbacksRegistered = true;
+    }
+
+    private class LifecycleCallbacks implements ComponentCallbacks2, Application.ActivityLifecycleCallbacks {
+
+        @Override
+        public void onTrimMemory(int level) {
+            if (level >= TRIM_MEMORY_RUNNING_LOW) {
+                LogUtil.debug(TAG, "Trimming web view pool, memory level: " + level);
+                clear();
+            }
+        }
+
+        @Override
+        public void onLowMemory() {
+            clear();
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+        @Override
+        public void onActivityDestroyed(@NonNull Activity activity) {
+            if (activityReference.get() == activity) {
+                clear();
+                activityReference.clear();
+            }
+        }
+
+        @Override
+        public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {}
+
+        @Override
+        public void onActivityStarted(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityResumed(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityPaused(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityStopped(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {}
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.views.webview;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit rate of the {@link WebViewPool} and time from loading the creative to its first render
+ * ({@link WebViewBase#adAssetsLoaded()}) for pooled and newly created web views.
+ */
+public class WebViewPoolStats {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong prewarmed = new AtomicLong();
+    private final AtomicLong trimmed = new AtomicLong();
+
+    private final AtomicLong pooledRenders = new AtomicLong();
+    private final AtomicLong pooledRenderMillis = new AtomicLong();
+    private final AtomicLong createdRenders = new AtomicLong();
+    private final AtomicLong createdRenderMillis = new AtomicLong();
+
+    void onHit() {
+        hits.incrementAndGet();
+    }
+
+    void onMiss() {
+        misses.incrementAndGet();
+    }
+
+    void onPrewarmed() {
+        prewarmed.incrementAndGet();
+    }
+
+    void onTrimmed(int count) {
+        trimmed.addAndGet(count);
+    }
+
+    void onFirstRender(boolean pooled, long durationMillis) {
+        if (pooled) {
+            pooledRenders.incrementAndGet();
+            pooledRenderMillis.addAndGet(durationMillis);
+        } else {
+            createdRenders.incrementAndGet();
+            createdRenderMillis.addAndGet(durationMillis);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return share of web views taken from the pool, 0 if none were requested.
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public long getPrewarmedCount() {
+        return prewarmed.get();
+    }
+
+    /**
+     * @return number of pooled web views destroyed without use, e.g. on low memory.
+     */
+    public long getTrimmedCount() {
+        return trimmed.get();
+    }
+
+    public long getAveragePooledTimeToFirstRenderMillis() {
+        return average(pooledRenderMillis, pooledRenders);
+    }
+
+    public long getAverageCreatedTimeToFirstRenderMillis() {
+        return average(createdRenderMillis, createdRenders);
+    }
+
+    private static long average(AtomicLong totalMillis, AtomicLong count) {
+        long renders = count.get();
+        return renders == 0 ? 0 : totalMillis.get() / renders;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WebViewPoolStats{" +
+                "hitRate=" + getHitRate() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", prewarmed=" + prewarmed +
+                ", trimmed=" + trimmed +
+                ", pooledFirstRenderMs=" + getAveragePooledTimeToFirstRenderMillis() +
+                ", createdFirstRenderMs=" + getAverageCreatedTimeToFirstRenderMillis() +
+                '}';
+    }
+}
@@ -34,6 +34,7 @@ import androidx.annotation.VisibleForTesting;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.models.HTMLCreative;
 import org.prebid.mobile.rendering.models.internal.MraidEvent;
 import org.prebid.mobile.rendering.models.internal.MraidVariableContainer;
@@ -80,7 +81,7 @@ public class BaseJSInterface implements JSInterface {
     @NonNull @VisibleForTesting final MraidScreenMetrics screenMetrics;
     @NonNull final ScreenMetricsWaiter screenMetricsWaiter;
 
-    private AsyncTask redirectedUrlAsyncTask;
+    private BaseNetworkTask redirectedUrlAsyncTask;
     private LayoutParams defaultLayoutParams;
 
     private MraidOrientationBroadcastReceiver orientationBroadcastReceiver = new MraidOrientationBroadcastReceiver(this);
@@ -429,7 +430,8 @@ public class BaseJSInterface implements JSInterface {
         params.userAgent = AppInfoManager.getUserAgent();
 
         GetOriginalUrlTask redirectTask = new GetOriginalUrlTask(new OriginalUrlResponseCallBack(listener));
-        redirectedUrlAsyncTask = redirectTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        redirectedUrlAsyncTask = redirectTask;
+        PrebidMobile.getHttpTransport().execute(redirectTask, params);
     }
 
     public void setDefaultLayoutParams(LayoutParams originalParentLayoutParams) {
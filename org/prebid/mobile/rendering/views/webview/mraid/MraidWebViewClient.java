@@ -22,11 +22,15 @@ import android.webkit.WebView;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.mraid.MraidEnv;
-import org.prebid.mobile.rendering.utils.helpers.Utils;
+import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+import org.prebid.mobile.rendering.sdk.scripts.JsScript;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
 import org.prebid.mobile.rendering.views.webview.AdWebViewClient;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 /**
@@ -36,18 +40,15 @@ public class MraidWebViewClient extends AdWebViewClient {
     private static String TAG = MraidWebViewClient.class.getSimpleName();
     private static final String MRAID_JS = "mraid.js";
 
-    private String mraidInjectionJavascript;
-
-    public MraidWebViewClient(AdAssetsLoadedListener adAssetsLoadedListener, String mraidScript) {
+    public MraidWebViewClient(AdAssetsLoadedListener adAssetsLoadedListener) {
         super(adAssetsLoadedListener);
-        mraidInjectionJavascript = "javascript:" + MraidEnv.getWindowMraidEnv() + mraidScript;
     }
 
     @Override
     public WebResourceResponse shouldInterceptRequest(final WebView view, final String url) {
 
         if (matchesInjectionUrl(url)) {
-            return createMraidInjectionResponse();
+            return createMraidInjectionResponse(view);
         }
         else {
             return super.shouldInterceptRequest(view, url);
@@ -60,10 +61,15 @@ public class MraidWebViewClient extends AdWebViewClient {
         return MRAID_JS.equals(uri.getLastPathSegment());
     }
 
-    private WebResourceResponse createMraidInjectionResponse() {
-        if (Utils.isNotBlank(mraidInjectionJavascript)) {
+    private WebResourceResponse createMraidInjectionResponse(WebView view) {
+        JsScript mraidScript = view != null
+                               ? JSLibraryManager.getInstance(view.getContext()).awaitScript(JsScriptData.mraidData)
+                               : null;
+        if (mraidScript != null) {
             adAssetsLoadedListener.notifyMraidScriptInjected();
-            InputStream data = new ByteArrayInputStream(mraidInjectionJavascript.getBytes());
+            // Only the environment is built per ad, the script bytes are shared
+            byte[] environment = ("javascript:" + MraidEnv.getWindowMraidEnv()).getBytes(StandardCharsets.UTF_8);
+            InputStream data = new SequenceInputStream(new ByteArrayInputStream(environment), mraidScript.openStream());
             return new WebResourceResponse("text/javascript", "UTF-8", data);
         } else {
             LogUtil.error(TAG, "Failed to inject mraid.js into twoPart mraid webview");
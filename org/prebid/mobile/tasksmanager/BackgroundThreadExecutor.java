@@ -24,8 +24,6 @@ public class BackgroundThreadExecutor implements CancellableExecutor {
 
     private Handler handler;
     private boolean running = false;
-    private final int HANDLER_COUNT = 3;
-    private int index = 0;
 
     BackgroundThreadExecutor() {
         HandlerThread backgroundThread = new HandlerThread("BackgroundThread");
@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2020-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.tasksmanager;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of one {@link TaskLane}.
+ * <p>
+ * When the queue is full, a background thread outside of the lanes runs the task itself, which slows down
+ * the producer. A worker of the same lane does the same. The task is rejected with {@link RejectedExecutionException}
+ * if it's submitted from the main thread, which must never block, or from another lane, whose work
+ * (e.g. timers) must not be stalled by it.
+ */
+class LaneExecutor extends ThreadPoolExecutor {
+
+    private static final String TAG = LaneExecutor.class.getSimpleName();
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final LaneStats stats;
+
+    LaneExecutor(@NonNull TaskLane lane) {
+        super(
+                lane.getThreads(),
+                lane.getThreads(),
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                createQueue(lane.getQueueCapacity()),
+                new LaneThreadFactory(lane)
+        );
+        allowCoreThreadTimeOut(true);
+        stats = new LaneStats(lane, () -> getQueue().size());
+        setRejectedExecutionHandler(new BackPressurePolicy(stats));
+    }
+
+    @NonNull
+    LaneStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        stats.onSubmitted();
+        super.execute(new TimedTask(command));
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        if (runnable instanceof TimedTask) {
+            ((TimedTask) runnable).startedAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        if (runnable instanceof TimedTask) {
+            TimedTask timedTask = (TimedTask) runnable;
+            timedTask.onFinished(stats);
+            if (throwable == null) {
+                throwable = getFailure(timedTask.task);
+            }
+        }
+        if (throwable != null) {
+            LogUtil.error(TAG, "Task failed on " + stats.getLane() + " lane: " + throwable.getMessage());
+        }
+    }
+
+    /**
+     * Tasks from {@link #submit} catch their exception into the future, it's unwrapped to be logged.
+     */
+    @Nullable
+    private static Throwable getFailure(Runnable task) {
+        if (!(task instanceof Future) || !((Future<?>) task).isDone()) {
+            return null;
+        }
+        try {
+            ((Future<?>) task).get();
+        } catch (CancellationException exception) {
+            // Cancelled by the caller, not a failure
+        } catch (ExecutionException exception) {
+            return exception.getCause();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int capacity) {
+        return capacity == Integer.MAX_VALUE ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static class TimedTask implements Runnable {
+
+        private final Runnable task;
+        private final long submittedAt = System.nanoTime();
+        private long startedAt;
+
+        private TimedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        private void onFinished(LaneStats stats) {
+            long now = System.nanoTime();
+            long start = startedAt != 0 ? startedAt : now;
+            stats.onCompleted(start - submittedAt, now - start);
+        }
+    }
+
+    private static class BackPressurePolicy implements RejectedExecutionHandler {
+
+        private final LaneStats stats;
+
+        private BackPressurePolicy(LaneStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                stats.onRejected();
+                throw new RejectedExecutionException(stats.getLane() + " lane is shut down");
+            }
+
+            TaskLane callerLane = LaneThreadFactory.currentLane();
+            boolean otherLane = callerLane != null && callerLane != stats.getLane();
+            if (otherLane || Looper.myLooper() == Looper.getMainLooper()) {
+                stats.onRejected();
+                LogUtil.error(TAG, stats.getLane() + " lane is overloaded, task from " + (otherLane ? callerLane + " lane" : "main thread") + " rejected");
+                throw new RejectedExecutionException(stats.getLane() + " lane is overloaded");
+            }
+
+            stats.onCallerRuns();
+            long start = System.nanoTime();
+            runnable.run();
+            stats.onCompleted(0, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2020-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.tasksmanager;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of one {@link TaskLane}. Latency is the time a task waited in the queue
+ * (for timers: how late it started), run time is the time it was executing.
+ */
+public class LaneStats {
+
+    private final TaskLane lane;
+    private final QueueDepthProvider queueDepthProvider;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalRunNanos = new AtomicLong();
+
+    LaneStats(
+            @NonNull TaskLane lane,
+            @NonNull QueueDepthProvider queueDepthProvider
+    ) {
+        this.lane = lane;
+        this.queueDepthProvider = queueDepthProvider;
+    }
+
+    @NonNull
+    public TaskLane getLane() {
+        return lane;
+    }
+
+    public int getQueueDepth() {
+        return queueDepthProvider.getQueueDepth();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Tasks dropped because the lane queue was full and the caller was the main thread.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Tasks executed on the submitting thread because the lane queue was full.
+     */
+    public long getCallerRunsCount() {
+        return callerRuns.get();
+    }
+
+    public long getAverageWaitMillis() {
+        long count = completed.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count);
+    }
+
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    public long getAverageRunMillis() {
+        long count = completed.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalRunNanos.get() / count);
+    }
+
+    void onSubmitted() {
+        submitted.incrementAndGet();
+    }
+
+    void onRejected() {
+        rejected.incrementAndGet();
+    }
+
+    void onCallerRuns() {
+        callerRuns.incrementAndGet();
+    }
+
+    void onCompleted(long waitNanos, long runNanos) {
+        long wait = Math.max(0, waitNanos);
+        totalWaitNanos.addAndGet(wait);
+        totalRunNanos.addAndGet(Math.max(0, runNanos));
+        long max;
+        do {
+            max = maxWaitNanos.get();
+        } while (wait > max && !maxWaitNanos.compareAndSet(max, wait));
+        completed.incrementAndGet();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LaneStats{" +
+               "lane=" + lane +
+               ", queueDepth=" + getQueueDepth() +
+               ", submitted=" + getSubmittedCount() +
+               ", completed=" + getCompletedCount() +
+               ", rejected=" + getRejectedCount() +
+               ", callerRuns=" + getCallerRunsCount() +
+               ", averageWaitMillis=" + getAverageWaitMillis() +
+               ", maxWaitMillis=" + getMaxWaitMillis() +
+               ", averageRunMillis=" + getAverageRunMillis() +
+               '}';
+    }
+
+    interface QueueDepthProvider {
+
+        int getQueueDepth();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2020-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.tasksmanager;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LaneThreadFactory implements ThreadFactory {
+
+    private final TaskLane lane;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    LaneThreadFactory(@NonNull TaskLane lane) {
+        this.lane = lane;
+    }
+
+    @Override
+    public Thread newThread(@NonNull Runnable runnable) {
+        Runnable backgroundRunnable = () -> {
+            // Keep SDK work from competing with the UI thread for CPU
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        };
+        Thread thread = new LaneThread(lane, backgroundRunnable, lane.getThreadName() + "-" + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * @return lane of the current thread, null if it's not a lane thread.
+     */
+    @Nullable
+    static TaskLane currentLane() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof LaneThread ? ((LaneThread) thread).lane : null;
+    }
+
+    private static class LaneThread extends Thread {
+
+        private final TaskLane lane;
+
+        private LaneThread(TaskLane lane, Runnable runnable, String name) {
+            super(runnable, name);
+            this.lane = lane;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2020-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.tasksmanager;
+
+/**
+ * Lanes of the SDK scheduler. Every lane has its own bounded pool, so slow network requests
+ * can't delay parsing or disk work and the total number of SDK threads stays fixed.
+ */
+public enum TaskLane {
+
+    /**
+     * Blocking network I/O.
+     */
+    NETWORK("PrebidNetwork", 6, 128),
+    /**
+     * CPU-bound work: response parsing, JSON building.
+     */
+    PARSING("PrebidParsing", 2, 64),
+    /**
+     * File and preferences I/O.
+     */
+    DISK("PrebidDisk", 1, 64),
+    /**
+     * Delayed and periodic tasks. Timer tasks must be short and hand heavy work to another lane.
+     */
+    TIMER("PrebidTimer", 1, Integer.MAX_VALUE);
+
+    private final String threadName;
+    private final int threads;
+    private final int queueCapacity;
+
+    TaskLane(
+            String threadName,
+            int threads,
+            int queueCapacity
+    ) {
+        this.threadName = threadName;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+}
@@ -16,30 +16,49 @@
 
 package org.prebid.mobile.tasksmanager;
 
+import androidx.annotation.NonNull;
+
+import java.util.EnumMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * The SDK scheduler. Besides the main and the ordered background thread it owns
+ * the {@link TaskLane} pools, all SDK work should be executed on them instead of creating threads.
+ */
 public class TasksManager {
 
-    private static TasksManager instance = null;
     public Executor mainThreadExecutor;
     public Executor backgroundThreadExecutor;
 
+    private final EnumMap<TaskLane, LaneExecutor> laneExecutors = new EnumMap<>(TaskLane.class);
+    private final TimerLaneExecutor timerExecutor;
+
     private TasksManager() {
         mainThreadExecutor = new MainThreadExecutor();
         backgroundThreadExecutor = new BackgroundThreadExecutor();
+
+        for (TaskLane lane : TaskLane.values()) {
+            if (lane != TaskLane.TIMER) {
+                laneExecutors.put(lane, new LaneExecutor(lane));
+            }
+        }
+        timerExecutor = new TimerLaneExecutor();
     }
 
     /**
      * Factory method to obtain the Singleton instance of the TasksManager
      * */
-    public synchronized static TasksManager getInstance() {
-        if (instance == null) {
-            synchronized (TasksManager.class) {
-                instance = new TasksManager();
-            }
+    public static TasksManager getInstance() {
+        return TasksManagerHolder.instance;
+    }
 
-        }
-        return instance;
+    private static class TasksManagerHolder {
+        public static final TasksManager instance = new TasksManager();
     }
 
     /**
@@ -74,4 +93,61 @@ public class TasksManager {
         ((CancellableExecutor) backgroundThreadExecutor).cancel(task);
 
     }
+
+    /**
+     * @return executor of the lane, e.g. to run an {@code AsyncTask} on it.
+     */
+    @NonNull
+    public ExecutorService getLaneExecutor(@NonNull TaskLane lane) {
+        if (lane == TaskLane.TIMER) {
+            return timerExecutor;
+        }
+        return laneExecutors.get(lane);
+    }
+
+    /**
+     * Executes the task on the lane.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the lane is overloaded and it's called on the main thread.
+     */
+    public void execute(@NonNull TaskLane lane, @NonNull Runnable task) {
+        getLaneExecutor(lane).execute(task);
+    }
+
+    @NonNull
+    public <T> Future<T> submit(@NonNull TaskLane lane, @NonNull Callable<T> task) {
+        return getLaneExecutor(lane).submit(task);
+    }
+
+    /**
+     * Runs the task on the {@link TaskLane#TIMER} lane after the delay.
+     */
+    @NonNull
+    public ScheduledFuture<?> schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return timerExecutor.schedule(task, delay, unit);
+    }
+
+    /**
+     * Runs the task periodically on the {@link TaskLane#TIMER} lane until the returned future is cancelled.
+     */
+    @NonNull
+    public ScheduledFuture<?> scheduleAtFixedRate(
+            @NonNull Runnable task,
+            long initialDelay,
+            long period,
+            @NonNull TimeUnit unit
+    ) {
+        return timerExecutor.scheduleAtFixedRate(task, initialDelay, period, unit);
+    }
+
+    /**
+     * @return queue depth and latency metrics of the lane.
+     */
+    @NonNull
+    public LaneStats getLaneStats(@NonNull TaskLane lane) {
+        if (lane == TaskLane.TIMER) {
+            return timerExecutor.getStats();
+        }
+        return laneExecutors.get(lane).getStats();
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2020-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.tasksmanager;
+
+import androidx.annotation.NonNull;
+
+import org.prebid.mobile.LogUtil;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor of the {@link TaskLane#TIMER} lane. Latency of a timer task is how late it was started.
+ */
+class TimerLaneExecutor extends ScheduledThreadPoolExecutor {
+
+    private static final String TAG = TimerLaneExecutor.class.getSimpleName();
+
+    private final LaneStats stats;
+    private final ThreadLocal<long[]> startInfo = new ThreadLocal<>();
+
+    TimerLaneExecutor() {
+        super(TaskLane.TIMER.getThreads(), new LaneThreadFactory(TaskLane.TIMER));
+        setRemoveOnCancelPolicy(true);
+        setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        stats = new LaneStats(TaskLane.TIMER, () -> getQueue().size());
+    }
+
+    @NonNull
+    LaneStats getStats() {
+        return stats;
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        stats.onSubmitted();
+        long lateness = 0;
+        if (runnable instanceof Delayed) {
+            // Delay of a due task is negative: it's the time passed since it had to start
+            lateness = -((Delayed) runnable).getDelay(TimeUnit.NANOSECONDS);
+        }
+        startInfo.set(new long[]{System.nanoTime(), lateness});
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        long[] info = startInfo.get();
+        if (info != null) {
+            stats.onCompleted(info[1], System.nanoTime() - info[0]);
+            startInfo.remove();
+        }
+
+        if (runnable instanceof Future) {
+            Future<?> future = (Future<?>) runnable;
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    future.get();
+                } catch (Exception exception) {
+                    LogUtil.error(TAG, "Timer task failed: " + exception.getMessage());
+                }
+            }
+        }
+    }
+}